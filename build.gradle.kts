@@ -10,6 +10,7 @@ plugins {
     id("io.spring.dependency-management")
     id("org.hibernate.orm")
     id("org.graalvm.buildtools.native")
+    id("me.champeau.jmh")
     kotlin("jvm")
     kotlin("plugin.spring")
     kotlin("plugin.jpa")
@@ -217,16 +218,51 @@ tasks.withType<Test> {
     // Test 유형의 모든 테스트 task 공통 configure 용
 }
 tasks.named<Test>("test") {
-    useJUnitPlatform()
+    useJUnitPlatform {
+        // 성능 측정용 테스트는 ./gradlew benchmark 로만 실행
+        excludeTags("benchmark")
+    }
     maxParallelForks = Runtime.getRuntime().availableProcessors()
     testLogging {
         events("passed", "skipped", "failed")
     }
 }
+// 경합/처리량 측정 테스트(@Tag("benchmark")) 실행용 태스크
+// 측정값이 흔들리지 않도록 병렬 fork 없이 한 JVM에서 순서대로 실행
+tasks.register<Test>("benchmark") {
+    description = "Runs @Tag(\"benchmark\") contention and throughput measurements."
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    maxParallelForks = 1
+    outputs.upToDateWhen { false }
+    testLogging {
+        events("passed", "skipped", "failed")
+        showStandardStreams = true
+    }
+}
 tasks.named("processTestAot").configure {
     enabled = false
 }
 
+// JMH 마이크로벤치마크(src/jmh/java) 실행: ./gradlew jmh
+// 일부만 실행하려면 -Pjmh.includes=<클래스 또는 메서드 정규식> (예: -Pjmh.includes=ActivityWindowBenchmark)
+jmh {
+    jmhVersion.set(providers.gradleProperty("jmhVersion"))
+    // 연산당 할당량(gc.alloc.rate.norm)과 GC 횟수를 함께 보고
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    jvmArgs.addAll("-Xms2g", "-Xmx2g")
+    failOnError.set(true)
+    providers.gradleProperty("jmh.includes").orNull?.let { includes.add(it) }
+    // KAPT + annotationProcessor 병행 시 중복 클래스 처리
+    duplicateClassesStrategy.set(DuplicatesStrategy.EXCLUDE)
+}
+
 kotlin {
     jvmToolchain {
         languageVersion.set(JavaLanguageVersion.of(javaVersion))
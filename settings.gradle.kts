@@ -8,6 +8,7 @@ pluginManagement {
     val kspVersion = providers.gradleProperty("kspVersion").get()
     val dependencyManageVer = providers.gradleProperty("dependencyManageVer").get()
     val nativeBuildVersion = providers.gradleProperty("nativeBuildVersion").get()
+    val jmhPluginVersion = providers.gradleProperty("jmhPluginVersion").get()
 
 
     // ✅ 플러그인 저장소 지정 (필수!)
@@ -27,5 +28,6 @@ pluginManagement {
         id("io.spring.dependency-management") version dependencyManageVer
         id("org.hibernate.orm") version hibernateVersion
         id("org.graalvm.buildtools.native") version nativeBuildVersion
+        id("me.champeau.jmh") version jmhPluginVersion
     }
 }
\ No newline at end of file
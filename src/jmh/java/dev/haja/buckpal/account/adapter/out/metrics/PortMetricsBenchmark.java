@@ -0,0 +1,130 @@
+package dev.haja.buckpal.account.adapter.out.metrics;
+
+import dev.haja.buckpal.account.application.port.in.FanOutTransferCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+import dev.haja.buckpal.account.application.port.out.LoadAccountPort;
+import dev.haja.buckpal.account.domain.Account;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Activity;
+import dev.haja.buckpal.account.domain.ActivityWindow;
+import dev.haja.buckpal.account.domain.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포트 계측의 호출당 비용.
+ * 미리 만들어 둔 계좌를 돌려주는 포트를 직접 부를 때, 어드바이스 없는 프록시로 부를 때,
+ * {@link PortMetricsInterceptor}로 계측해 부를 때를 비교한다.
+ * 계측한 계좌 읽기에는 활동 윈도우 크기 기록과 {@value PortMetricsInterceptor#BALANCE_SAMPLE_RATE}번에 한 번의 잔액 계산이 더해진다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PortMetricsBenchmark {
+
+    private static final AccountId ACCOUNT_ID = new AccountId(1L);
+    private static final AccountId OTHER_ACCOUNT_ID = new AccountId(2L);
+
+    @Param({"10", "1000"})
+    public int windowSize;
+
+    private LoadAccountPort direct;
+    private LoadAccountPort proxied;
+    private LoadAccountPort instrumented;
+    private SendMoneyUseCase directUseCase;
+    private SendMoneyUseCase instrumentedUseCase;
+    private LocalDateTime baselineDate;
+    private SendMoneyCommand command;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        baselineDate = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<Activity> activities = new ArrayList<>(windowSize);
+        for (int i = 0; i < windowSize; i++) {
+            boolean deposit = i % 2 == 0;
+            activities.add(new Activity(
+                    new Activity.ActivityId((long) i),
+                    ACCOUNT_ID,
+                    deposit ? OTHER_ACCOUNT_ID : ACCOUNT_ID,
+                    deposit ? ACCOUNT_ID : OTHER_ACCOUNT_ID,
+                    baselineDate.plusMinutes(i),
+                    Money.of(1L + i % 1_000)));
+        }
+        Account account = Account.withId(ACCOUNT_ID, Money.of(1_000L), new ActivityWindow(activities));
+        direct = new FixedLoadAccountPort(account);
+        proxied = (LoadAccountPort) new ProxyFactory(direct).getProxy();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        instrumented = (LoadAccountPort) PortMetricsInterceptor.proxy(
+                direct, Set.of(LoadAccountPort.class), meterRegistry);
+        directUseCase = new AlwaysSucceedingSendMoneyUseCase();
+        instrumentedUseCase = (SendMoneyUseCase) PortMetricsInterceptor.proxy(
+                directUseCase, Set.of(SendMoneyUseCase.class), meterRegistry);
+        command = new SendMoneyCommand(ACCOUNT_ID, OTHER_ACCOUNT_ID, Money.of(100L));
+    }
+
+    @Benchmark
+    public Account loadAccountDirect() {
+        return direct.loadAccount(ACCOUNT_ID, baselineDate);
+    }
+
+    @Benchmark
+    public Account loadAccountProxied() {
+        return proxied.loadAccount(ACCOUNT_ID, baselineDate);
+    }
+
+    @Benchmark
+    public Account loadAccountInstrumented() {
+        return instrumented.loadAccount(ACCOUNT_ID, baselineDate);
+    }
+
+    @Benchmark
+    public boolean sendMoneyDirect() {
+        return directUseCase.sendMoney(command);
+    }
+
+    @Benchmark
+    public boolean sendMoneyInstrumented() {
+        return instrumentedUseCase.sendMoney(command);
+    }
+
+    private record FixedLoadAccountPort(Account account) implements LoadAccountPort {
+        @Override
+        public Account loadAccount(AccountId accountId, LocalDateTime baselineDate) {
+            return account;
+        }
+    }
+
+    private static final class AlwaysSucceedingSendMoneyUseCase implements SendMoneyUseCase {
+        @Override
+        public boolean sendMoney(SendMoneyCommand command) {
+            return true;
+        }
+
+        @Override
+        public boolean sendMoneyToMany(FanOutTransferCommand command) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package dev.haja.buckpal.account.application.port.in;
+
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SendMoneyCommand} 생성.
+ * 생성자는 Bean Validation으로 자기 자신을 검증하므로, 같은 값 객체만 만드는 {@link #values()}와 비교해 검증 비용을 가늠한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SendMoneyCommandBenchmark {
+
+    private long sourceAccountId = 1L;
+    private long targetAccountId = 2L;
+    private long amount = 500L;
+
+    @Benchmark
+    public SendMoneyCommand construct() {
+        return new SendMoneyCommand(new AccountId(sourceAccountId), new AccountId(targetAccountId), Money.of(amount));
+    }
+
+    @Benchmark
+    public Object[] values() {
+        return new Object[]{new AccountId(sourceAccountId), new AccountId(targetAccountId), Money.of(amount)};
+    }
+}
@@ -0,0 +1,61 @@
+package dev.haja.buckpal.account.domain;
+
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Account}의 출금과 입금.
+ * 출금은 잔액을 확인하느라 활동 윈도우 전체를 훑고, 입금은 활동 하나만 덧붙인다.
+ * 측정이 반복되어도 윈도우 크기가 그대로이도록, 덧붙은 활동은 매번 바로 떼어 낸다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AccountBenchmark {
+
+    private static final AccountId OTHER_ACCOUNT_ID = new AccountId(2L);
+
+    private Account account;
+    private List<Activity> activities;
+    private Money amount;
+
+    @Setup(Level.Trial)
+    public void setUp(ActivityWindowState state) {
+        // 생성한 윈도우의 잔액과 관계없이 출금이 늘 성공하도록 기준 잔액을 넉넉히 둔다.
+        account = Account.withId(ActivityWindowState.ACCOUNT_ID, Money.of(1_000_000_000_000L), state.window);
+        activities = state.activities;
+        amount = Money.of(100L);
+    }
+
+    @Benchmark
+    public boolean withdraw() {
+        boolean withdrawn = account.withdraw(amount, OTHER_ACCOUNT_ID);
+        if (withdrawn) {
+            activities.removeLast();
+        }
+        return withdrawn;
+    }
+
+    @Benchmark
+    public boolean deposit() {
+        boolean deposited = account.deposit(amount, OTHER_ACCOUNT_ID);
+        activities.removeLast();
+        return deposited;
+    }
+}
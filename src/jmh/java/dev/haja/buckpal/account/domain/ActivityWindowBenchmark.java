@@ -0,0 +1,39 @@
+package dev.haja.buckpal.account.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ActivityWindow}의 잔액 계산과 시작·끝 시각 조회.
+ * 세 연산 모두 윈도우 전체를 훑으므로 윈도우 크기에 비례해 느려진다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActivityWindowBenchmark {
+
+    @Benchmark
+    public Money calculateBalance(ActivityWindowState state) {
+        return state.window.calculateBalance(ActivityWindowState.ACCOUNT_ID);
+    }
+
+    @Benchmark
+    public LocalDateTime getStartTimestamp(ActivityWindowState state) {
+        return state.window.getStartTimestamp();
+    }
+
+    @Benchmark
+    public LocalDateTime getEndTimestamp(ActivityWindowState state) {
+        return state.window.getEndTimestamp();
+    }
+}
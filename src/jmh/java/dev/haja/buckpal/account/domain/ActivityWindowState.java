@@ -0,0 +1,75 @@
+package dev.haja.buckpal.account.domain;
+
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 활동 윈도우.
+ * 계좌 1,000개 사이의 활동을 고정된 시드로 만들어, 같은 매개변수면 실행마다 같은 윈도우가 된다.
+ * <ul>
+ *     <li>{@code uniform}: 출금·입금 계좌를 고르게 고른다. 측정 계좌({@link #ACCOUNT_ID})가 낀 활동은 드물다.</li>
+ *     <li>{@code hot}: 활동의 90%가 측정 계좌에서 나가거나 들어온다.</li>
+ * </ul>
+ * 타임스탬프는 30일 안에서 순서 없이 흩어 둔다.
+ */
+@State(Scope.Thread)
+public class ActivityWindowState {
+
+    static final AccountId ACCOUNT_ID = new AccountId(1L);
+    private static final int ACCOUNTS = 1_000;
+    private static final LocalDateTime WINDOW_START = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final int WINDOW_SECONDS = 30 * 24 * 60 * 60;
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int windowSize;
+
+    @Param({"uniform", "hot"})
+    public String distribution;
+
+    List<Activity> activities;
+    ActivityWindow window;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        activities = new ArrayList<>(windowSize + 1);
+        for (int i = 0; i < windowSize; i++) {
+            AccountId source;
+            AccountId target;
+            if (isHot(random)) {
+                AccountId other = new AccountId(2L + random.nextInt(ACCOUNTS - 1));
+                boolean outgoing = random.nextBoolean();
+                source = outgoing ? ACCOUNT_ID : other;
+                target = outgoing ? other : ACCOUNT_ID;
+            } else {
+                long sourceId = 1L + random.nextInt(ACCOUNTS);
+                source = new AccountId(sourceId);
+                target = new AccountId(1L + (sourceId + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS);
+            }
+            activities.add(new Activity(
+                    source,
+                    source,
+                    target,
+                    WINDOW_START.plusSeconds(random.nextInt(WINDOW_SECONDS)),
+                    Money.of(1L + random.nextInt(1_000))));
+        }
+        window = new ActivityWindow(activities);
+    }
+
+    private boolean isHot(SplittableRandom random) {
+        return switch (distribution) {
+            case "uniform" -> false;
+            case "hot" -> random.nextInt(10) < 9;
+            default -> throw new IllegalArgumentException("unknown distribution: " + distribution);
+        };
+    }
+}
@@ -0,0 +1,61 @@
+package dev.haja.buckpal.account.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Money} 생성과 산술·비교 연산.
+ * 모든 연산이 {@link java.math.BigInteger}를 새로 만들므로 GC 프로파일러의 연산당 할당량을 함께 본다.
+ * 값은 상수 접기를 막기 위해 필드에서 읽는다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoneyBenchmark {
+
+    private long amount = 123_456_789L;
+    private Money a = Money.of(987_654_321L);
+    private Money b = Money.of(123_456_789L);
+
+    @Benchmark
+    public Money of() {
+        return Money.of(amount);
+    }
+
+    @Benchmark
+    public Money plus() {
+        return a.plus(b);
+    }
+
+    @Benchmark
+    public Money minus() {
+        return a.minus(b);
+    }
+
+    @Benchmark
+    public Money add() {
+        return Money.add(a, b);
+    }
+
+    @Benchmark
+    public Money negate() {
+        return a.negate();
+    }
+
+    @Benchmark
+    public boolean isGreaterThan() {
+        return a.isGreaterThan(b);
+    }
+}
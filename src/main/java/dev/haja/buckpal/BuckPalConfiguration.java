@@ -1,10 +1,38 @@
 package dev.haja.buckpal;
 
+import dev.haja.buckpal.account.application.port.in.FanOutTransferUseCase;
+import dev.haja.buckpal.account.application.port.in.GetAccountBalanceQuery;
+import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+import dev.haja.buckpal.account.application.port.out.ConnectionPoolStatusPort;
+import dev.haja.buckpal.account.application.port.out.LoadAccountBalancesPort;
+import dev.haja.buckpal.account.application.port.out.LoadAccountPort;
+import dev.haja.buckpal.account.application.service.AdaptiveConcurrencySendMoneyService;
+import dev.haja.buckpal.account.application.service.BatchingGetAccountBalanceService;
+import dev.haja.buckpal.account.application.service.BulkheadSendMoneyService;
+import dev.haja.buckpal.account.application.service.CoalescingGetAccountBalanceService;
+import dev.haja.buckpal.account.application.service.GetAccountBalanceService;
+import dev.haja.buckpal.account.application.service.GroupCommitSendMoneyService;
 import dev.haja.buckpal.account.application.service.MoneyTransferProperties;
+import dev.haja.buckpal.account.application.service.NettingSendMoneyService;
+import dev.haja.buckpal.account.application.service.OptimisticRetrySendMoneyService;
+import dev.haja.buckpal.account.application.service.QueuedTransferService;
+import dev.haja.buckpal.account.application.service.RateLimitedSendMoneyService;
+import dev.haja.buckpal.account.application.service.SendMoneyService;
+import dev.haja.buckpal.account.application.service.ShardedSendMoneyService;
 import dev.haja.buckpal.account.domain.Money;
+import dev.haja.buckpal.common.RateLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import java.util.concurrent.ThreadFactory;
 
 @Configuration
 @EnableConfigurationProperties(BuckPalConfigurationProperties.class)
@@ -18,4 +46,284 @@ public class BuckPalConfiguration {
     public MoneyTransferProperties moneyTransferProperties(BuckPalConfigurationProperties buckPalConfigurationProperties){
         return new MoneyTransferProperties(Money.of(buckPalConfigurationProperties.getTransferThreshold()));
     }
+
+    /**
+     * 잔액 조회 사용 사례를 등록합니다.
+     * 같은 계좌에 대한 동시 조회는 {@link CoalescingGetAccountBalanceService}가 하나의 로드로 합치고,
+     * 배치 조회가 켜져 있으면 서로 다른 계좌의 조회는 {@link BatchingGetAccountBalanceService}가 모아서 읽습니다.
+     */
+    @Bean
+    @Primary
+    public GetAccountBalanceQuery getAccountBalanceQuery(
+            LoadAccountPort loadAccountPort,
+            ObjectProvider<BatchingGetAccountBalanceService> batchingGetAccountBalanceService,
+            BuckPalConfigurationProperties buckPalConfigurationProperties) {
+        BuckPalConfigurationProperties.Balance balance = buckPalConfigurationProperties.getBalance();
+        GetAccountBalanceQuery loader = batchingGetAccountBalanceService.getIfAvailable(
+                () -> new GetAccountBalanceService(loadAccountPort));
+        return new CoalescingGetAccountBalanceService(
+                loader,
+                balance.getStalenessTolerance(),
+                balance.getMaxCachedEntries());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "buckpal.balance", name = "batching-enabled", havingValue = "true")
+    public BatchingGetAccountBalanceService batchingGetAccountBalanceService(
+            LoadAccountBalancesPort loadAccountBalancesPort,
+            BuckPalConfigurationProperties buckPalConfigurationProperties,
+            Environment environment) {
+        BuckPalConfigurationProperties.Balance balance = buckPalConfigurationProperties.getBalance();
+        return new BatchingGetAccountBalanceService(
+                loadAccountBalancesPort,
+                balance.getBatchWindow(),
+                balance.getMaxBatchSize(),
+                balance.getMaxConcurrentBatches(),
+                threadFactory(environment, "balance-batch-"));
+    }
+
+    /**
+     * 송금 사용 사례를 등록합니다.
+     * 낙관적 모드에서는 {@link SendMoneyService}의 트랜잭션 바깥을 {@link OptimisticRetrySendMoneyService}로 감싸
+     * 계좌 버전 충돌 시 트랜잭션 전체를 다시 실행하고,
+     * 샤딩 모드에서는 {@link ShardedSendMoneyService}가 계좌별 레인에서 이체를 하나씩 실행합니다.
+     * 두 모드 모두 계좌 잠금을 쓰지 않습니다.
+     * 어느 모드든 {@link BulkheadSendMoneyService}로 감싸 동시에 실행되는 송금 수를 제한하고,
+     * 적응형 제한이 켜져 있으면 그 대신 {@link AdaptiveConcurrencySendMoneyService}가 부하에 맞춰 한도를 조절합니다.
+     * 묶음 커밋이 켜져 있으면 그 바깥의 {@link GroupCommitSendMoneyService}가 송금을 모아 묶음마다 한 자리만 차지하고,
+     * 상계가 켜져 있으면 그 바깥의 {@link NettingSendMoneyService}가 같은 계좌 쌍의 송금을 합산해 정산합니다.
+     * 출금 계좌별 빈도 제한이 켜져 있으면 가장 바깥의 {@link RateLimitedSendMoneyService}가 계좌를 읽기 전에 초과 요청을 거절합니다.
+     * 여러 계좌로 보내는 송금도 {@link SendMoneyService}까지 같은 사슬을 거칩니다.
+     * 동시 실행 한도만큼의 송금이 커넥션 풀을 다 써도 모자라지 않는지 먼저 확인합니다.
+     */
+    @Bean
+    @Primary
+    public SendMoneyUseCase sendMoneyUseCase(
+            SendMoneyService sendMoneyService,
+            ObjectProvider<ShardedSendMoneyService> shardedSendMoneyService,
+            ObjectProvider<AdaptiveConcurrencySendMoneyService> adaptiveConcurrencySendMoneyService,
+            LoadAccountBalancesPort loadAccountBalancesPort,
+            ConnectionPoolStatusPort connectionPoolStatusPort,
+            MoneyTransferProperties moneyTransferProperties,
+            BuckPalConfigurationProperties buckPalConfigurationProperties,
+            Environment environment) {
+        checkConnectionPool(buckPalConfigurationProperties, connectionPoolStatusPort);
+        BuckPalConfigurationProperties.Transfer transfer = buckPalConfigurationProperties.getTransfer();
+        BuckPalConfigurationProperties.Bulkhead bulkhead = transfer.getBulkhead();
+        SendMoneyUseCase bulkheaded = adaptiveConcurrencySendMoneyService.getIfAvailable(
+                () -> new BulkheadSendMoneyService(
+                        concurrencyControlled(sendMoneyService, shardedSendMoneyService, buckPalConfigurationProperties),
+                        bulkhead.getMaxConcurrent(),
+                        bulkhead.getMaxWait()));
+        SendMoneyUseCase grouped = groupCommitted(bulkheaded, moneyTransferProperties, transfer, environment);
+        BuckPalConfigurationProperties.Netting netting = transfer.getNetting();
+        SendMoneyUseCase netted = !netting.isEnabled() ? grouped : new NettingSendMoneyService(
+                grouped,
+                loadAccountBalancesPort,
+                moneyTransferProperties,
+                netting.getSettlementInterval(),
+                threadFactory(environment, "transfer-netting-"));
+        BuckPalConfigurationProperties.RateLimit rateLimit = transfer.getRateLimit();
+        BuckPalConfigurationProperties.Limit perAccount = rateLimit.getPerAccount();
+        if (!perAccount.isEnabled()) {
+            return netted;
+        }
+        return new RateLimitedSendMoneyService(
+                netted,
+                new RateLimiter<>(perAccount.getPermitsPerSecond(), perAccount.getBurst(), rateLimit.getMaxTrackedKeys()));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "buckpal.transfer.adaptive-limit", name = "enabled", havingValue = "true")
+    public AdaptiveConcurrencySendMoneyService adaptiveConcurrencySendMoneyService(
+            SendMoneyService sendMoneyService,
+            ObjectProvider<ShardedSendMoneyService> shardedSendMoneyService,
+            ConnectionPoolStatusPort connectionPoolStatusPort,
+            BuckPalConfigurationProperties buckPalConfigurationProperties) {
+        BuckPalConfigurationProperties.AdaptiveLimit adaptiveLimit =
+                buckPalConfigurationProperties.getTransfer().getAdaptiveLimit();
+        return new AdaptiveConcurrencySendMoneyService(
+                concurrencyControlled(sendMoneyService, shardedSendMoneyService, buckPalConfigurationProperties),
+                connectionPoolStatusPort,
+                adaptiveLimit.getInitialLimit(),
+                adaptiveLimit.getMinLimit(),
+                adaptiveLimit.getMaxLimit(),
+                adaptiveLimit.getTargetLatency(),
+                adaptiveLimit.getBackoffRatio());
+    }
+
+    /**
+     * 여러 계좌로 보내는 송금 사용 사례를 등록합니다.
+     * {@link #sendMoneyUseCase}를 거쳐 실행되므로 동시 실행 제한, 빈도 제한과 동시성 모드를 그대로 따릅니다.
+     */
+    @Bean
+    @Primary
+    public FanOutTransferUseCase fanOutTransferUseCase(SendMoneyUseCase sendMoneyUseCase) {
+        return sendMoneyUseCase::sendMoneyToMany;
+    }
+
+    /**
+     * 적응형 제한의 현재 한도와 실행 중인 송금 수를 {@code buckpal.transfer.concurrency.limit},
+     * {@code buckpal.transfer.concurrency.in-flight} 게이지로 내보냅니다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "buckpal.transfer.adaptive-limit", name = "enabled", havingValue = "true")
+    public MeterBinder transferConcurrencyMetrics(AdaptiveConcurrencySendMoneyService adaptiveConcurrencySendMoneyService) {
+        return registry -> {
+            Gauge.builder("buckpal.transfer.concurrency.limit", adaptiveConcurrencySendMoneyService,
+                            AdaptiveConcurrencySendMoneyService::limit)
+                    .description("동시에 실행할 수 있는 송금 수의 현재 한도")
+                    .register(registry);
+            Gauge.builder("buckpal.transfer.concurrency.in-flight", adaptiveConcurrencySendMoneyService,
+                            AdaptiveConcurrencySendMoneyService::inFlight)
+                    .description("실행 중인 송금 수")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * 송금 하나가 트랜잭션의 커넥션을 쥔 채 다른 커넥션을 더 쓰는 설정에서, 동시 실행 한도만큼의 송금이 모두 그렇게 쓸 때
+     * 풀이 모자라면 시작하지 않습니다. 첫 커넥션을 쥔 송금들이 서로의 커넥션을 기다리며 커넥션 대기 시간이 지날 때까지 멈추기 때문입니다.
+     * 동시 읽기는 두 계좌를 각자의 커넥션에서 읽어 3개까지, 임대 잠금은 임대 행을 별도의 커넥션에서 바꿔 2개까지 씁니다.
+     * 잠금은 읽기 전에 끝나므로 둘 다 켜져 있어도 3개입니다.
+     */
+    private static void checkConnectionPool(
+            BuckPalConfigurationProperties buckPalConfigurationProperties,
+            ConnectionPoolStatusPort connectionPoolStatusPort) {
+        int poolSize = connectionPoolStatusPort.maximumPoolSize();
+        if (poolSize <= 0) {
+            return;
+        }
+        int connectionsPerTransfer;
+        String reason;
+        if (buckPalConfigurationProperties.getAccount().isConcurrentLoading()) {
+            connectionsPerTransfer = 3;
+            reason = "buckpal.account.concurrent-loading=true";
+        } else if (buckPalConfigurationProperties.getLock().getType() == BuckPalConfigurationProperties.LockType.LEASE) {
+            connectionsPerTransfer = 2;
+            reason = "buckpal.lock.type=lease";
+        } else {
+            return;
+        }
+        BuckPalConfigurationProperties.Transfer transfer = buckPalConfigurationProperties.getTransfer();
+        String limitProperty;
+        int limit;
+        if (transfer.getAdaptiveLimit().isEnabled()) {
+            limitProperty = "buckpal.transfer.adaptive-limit.max-limit";
+            limit = transfer.getAdaptiveLimit().getMaxLimit();
+        } else {
+            limitProperty = "buckpal.transfer.bulkhead.max-concurrent";
+            limit = transfer.getBulkhead().getMaxConcurrent();
+        }
+        if ((long) limit * connectionsPerTransfer > poolSize) {
+            throw new IllegalStateException(String.format(
+                    "%s=%d needs up to %d connections with %s (%d per transfer), but the connection pool has %d",
+                    limitProperty, limit, (long) limit * connectionsPerTransfer, reason, connectionsPerTransfer, poolSize));
+        }
+    }
+
+    private SendMoneyUseCase groupCommitted(
+            SendMoneyUseCase bulkheaded,
+            MoneyTransferProperties moneyTransferProperties,
+            BuckPalConfigurationProperties.Transfer transfer,
+            Environment environment) {
+        BuckPalConfigurationProperties.GroupCommit groupCommit = transfer.getGroupCommit();
+        if (!groupCommit.isEnabled()) {
+            return bulkheaded;
+        }
+        if (transfer.getConcurrencyMode() == BuckPalConfigurationProperties.ConcurrencyMode.SHARDED) {
+            // 샤딩 모드의 묶음 실행은 송금을 하나씩 레인에 보내므로 묶어도 커밋이 줄지 않는다.
+            throw new IllegalStateException(
+                    "buckpal.transfer.group-commit.enabled=true is not supported with concurrency-mode=sharded");
+        }
+        return new GroupCommitSendMoneyService(
+                bulkheaded,
+                moneyTransferProperties,
+                groupCommit.getWindow(),
+                groupCommit.getMaxBatchSize(),
+                groupCommit.getMaxConcurrentBatches(),
+                threadFactory(environment, "transfer-group-commit-"));
+    }
+
+    private SendMoneyUseCase concurrencyControlled(
+            SendMoneyService sendMoneyService,
+            ObjectProvider<ShardedSendMoneyService> shardedSendMoneyService,
+            BuckPalConfigurationProperties buckPalConfigurationProperties) {
+        BuckPalConfigurationProperties.Transfer transfer = buckPalConfigurationProperties.getTransfer();
+        BuckPalConfigurationProperties.ConcurrencyMode mode = transfer.getConcurrencyMode();
+        if (mode == BuckPalConfigurationProperties.ConcurrencyMode.LOCK) {
+            return sendMoneyService;
+        }
+        if (buckPalConfigurationProperties.getLock().getType() != BuckPalConfigurationProperties.LockType.NOOP) {
+            throw new IllegalStateException(
+                    "buckpal.transfer.concurrency-mode=" + mode.name().toLowerCase()
+                            + " requires buckpal.lock.type=noop, but was: "
+                            + buckPalConfigurationProperties.getLock().getType());
+        }
+        return switch (mode) {
+            case OPTIMISTIC -> {
+                BuckPalConfigurationProperties.Retry retry = transfer.getRetry();
+                yield new OptimisticRetrySendMoneyService(
+                        sendMoneyService,
+                        retry.getMaxAttempts(),
+                        retry.getInitialBackoff(),
+                        retry.getMaxBackoff());
+            }
+            case SHARDED -> shardedSendMoneyService.getObject();
+            case LOCK -> sendMoneyService;
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "buckpal.transfer", name = "concurrency-mode", havingValue = "sharded")
+    public ShardedSendMoneyService shardedSendMoneyService(
+            SendMoneyService sendMoneyService,
+            BuckPalConfigurationProperties buckPalConfigurationProperties,
+            Environment environment) {
+        return new ShardedSendMoneyService(
+                sendMoneyService,
+                buckPalConfigurationProperties.getTransfer().getSharding().getLanes(),
+                buckPalConfigurationProperties.getTransfer().getSharding().getQueueCapacity(),
+                threadFactory(environment, "transfer-lane-"));
+    }
+
+    /**
+     * 비동기 송금 접수 사용 사례를 등록합니다.
+     * 접수한 송금은 {@link #sendMoneyUseCase}를 거쳐 실행되므로 동시 실행 제한과 동시성 모드를 그대로 따릅니다.
+     */
+    @Bean
+    public QueuedTransferService queuedTransferService(
+            SendMoneyUseCase sendMoneyUseCase,
+            BuckPalConfigurationProperties buckPalConfigurationProperties,
+            Environment environment) {
+        BuckPalConfigurationProperties.Async async = buckPalConfigurationProperties.getTransfer().getAsync();
+        return new QueuedTransferService(
+                sendMoneyUseCase,
+                async.getWorkers(),
+                async.getQueueCapacity(),
+                async.getStatusRetention(),
+                async.getMaxRetainedStatuses(),
+                threadFactory(environment, "transfer-async-"));
+    }
+
+    /**
+     * 비동기 송금 대기열의 길이를 {@code buckpal.transfer.queue.depth} 게이지로 내보냅니다.
+     */
+    @Bean
+    public MeterBinder transferQueueMetrics(QueuedTransferService queuedTransferService) {
+        return registry -> Gauge.builder("buckpal.transfer.queue.depth", queuedTransferService, QueuedTransferService::queueDepth)
+                .description("실행을 기다리는 비동기 송금 수")
+                .register(registry);
+    }
+
+    /**
+     * 애플리케이션이 직접 만드는 실행기의 스레드를 만듭니다.
+     * {@code spring.threads.virtual.enabled}가 켜져 있으면 Tomcat, 비동기 작업과 같이 가상 스레드를 씁니다.
+     */
+    private static ThreadFactory threadFactory(Environment environment, String namePrefix) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Thread.ofVirtual().name(namePrefix, 0).factory();
+        }
+        return Thread.ofPlatform().name(namePrefix, 0).daemon().factory();
+    }
 }
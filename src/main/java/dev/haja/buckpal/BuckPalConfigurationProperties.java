@@ -1,21 +1,42 @@
 package dev.haja.buckpal;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+import java.time.Duration;
+import java.util.List;
 
 @ConfigurationProperties(prefix = "buckpal")
 public record BuckPalConfigurationProperties(
         Long transferThreshold,
-        Account account
+        Account account,
+        Balance balance,
+        Lock lock,
+        Transfer transfer
 ) {
+    @ConstructorBinding
     public BuckPalConfigurationProperties {
         if (transferThreshold == null) {
             transferThreshold = Long.MAX_VALUE;
         }
         if (account == null) {
-            account = new Account(null);
+            account = new Account(null, null);
+        }
+        if (balance == null) {
+            balance = new Balance(null, null, null, null, null, null, null);
+        }
+        if (lock == null) {
+            lock = new Lock(null, null, null, null, null);
+        }
+        if (transfer == null) {
+            transfer = new Transfer(null, null, null, null, null, null, null, null, null);
         }
     }
 
+    public BuckPalConfigurationProperties(Long transferThreshold, Account account) {
+        this(transferThreshold, account, null, null, null);
+    }
+
     public long getTransferThreshold() {
         return transferThreshold;
     }
@@ -24,15 +45,636 @@ public record BuckPalConfigurationProperties(
         return account;
     }
 
-    public record Account(Integer historyLookbackDays) {
+    public Balance getBalance() {
+        return balance;
+    }
+
+    public Lock getLock() {
+        return lock;
+    }
+
+    public Transfer getTransfer() {
+        return transfer;
+    }
+
+    /**
+     * 계좌 설정.
+     *
+     * @param historyLookbackDays 활동 창으로 읽어 오는 기간(일)
+     * @param concurrentLoading   송금할 때 두 계좌를 각자의 커넥션에서 동시에 읽을지 여부
+     */
+    public record Account(Integer historyLookbackDays, Boolean concurrentLoading) {
         public Account {
             if (historyLookbackDays == null) {
                 historyLookbackDays = 10;
             }
+            if (concurrentLoading == null) {
+                concurrentLoading = false;
+            }
+        }
+
+        public Account(Integer historyLookbackDays) {
+            this(historyLookbackDays, null);
         }
 
         public int getHistoryLookbackDays() {
             return historyLookbackDays;
         }
+
+        public boolean isConcurrentLoading() {
+            return concurrentLoading;
+        }
+    }
+
+    /**
+     * 잔액 조회 설정.
+     *
+     * @param stalenessTolerance   완료된 조회 결과를 재사용할 수 있는 시간. 0이면 진행 중인 조회만 공유한다.
+     * @param maxCachedEntries     재사용을 위해 보관하는 계좌 수의 상한
+     * @param batchingEnabled      여러 계좌의 조회를 모아 한 번에 읽을지 여부
+     * @param batchWindow          조회를 모으는 최대 시간
+     * @param maxBatchSize         한 번에 읽는 최대 계좌 수
+     * @param maxConcurrentBatches 동시에 읽는 최대 배치 수. 같은 수만큼 차례를 기다리고, 넘으면 조회를 거절한다
+     * @param bulkChunkSize        대량 잔액 조회에서 한 번의 집계 쿼리로 읽는 계좌 수
+     */
+    public record Balance(
+            Duration stalenessTolerance,
+            Integer maxCachedEntries,
+            Boolean batchingEnabled,
+            Duration batchWindow,
+            Integer maxBatchSize,
+            Integer maxConcurrentBatches,
+            Integer bulkChunkSize) {
+        public Balance {
+            if (stalenessTolerance == null) {
+                stalenessTolerance = Duration.ZERO;
+            }
+            if (stalenessTolerance.isNegative()) {
+                throw new IllegalArgumentException("stalenessTolerance must not be negative, but was: " + stalenessTolerance);
+            }
+            if (maxCachedEntries == null) {
+                maxCachedEntries = 10_000;
+            }
+            if (batchingEnabled == null) {
+                batchingEnabled = false;
+            }
+            if (batchWindow == null) {
+                batchWindow = Duration.ofMillis(1);
+            }
+            if (maxBatchSize == null) {
+                maxBatchSize = 100;
+            }
+            if (maxConcurrentBatches == null) {
+                maxConcurrentBatches = 4;
+            }
+            if (bulkChunkSize == null) {
+                bulkChunkSize = 1_000;
+            }
+            if (bulkChunkSize <= 0) {
+                throw new IllegalArgumentException("bulkChunkSize must be positive, but was: " + bulkChunkSize);
+            }
+        }
+
+        public Duration getStalenessTolerance() {
+            return stalenessTolerance;
+        }
+
+        public int getMaxCachedEntries() {
+            return maxCachedEntries;
+        }
+
+        public boolean isBatchingEnabled() {
+            return batchingEnabled;
+        }
+
+        public Duration getBatchWindow() {
+            return batchWindow;
+        }
+
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public int getMaxConcurrentBatches() {
+            return maxConcurrentBatches;
+        }
+
+        public int getBulkChunkSize() {
+            return bulkChunkSize;
+        }
+    }
+
+    /**
+     * 계좌 잠금 설정.
+     *
+     * @param type            잠금 구현
+     * @param stripes         스트라이프 잠금의 잠금 개수 (2의 거듭제곱으로 올림)
+     * @param timeout         잠금을 기다리는 최대 시간
+     * @param leaseTtl        임대 잠금의 유효 시간. 갱신되지 않으면 이 시간 뒤 다른 인스턴스가 가져갈 수 있다.
+     * @param leaseRetryDelay 임대 잠금을 다시 시도하기 전 대기 시간의 상한
+     */
+    public record Lock(LockType type, Integer stripes, Duration timeout, Duration leaseTtl, Duration leaseRetryDelay) {
+        public Lock {
+            if (type == null) {
+                type = LockType.NOOP;
+            }
+            if (stripes == null) {
+                stripes = 1024;
+            }
+            if (timeout == null) {
+                timeout = Duration.ofSeconds(5);
+            }
+            if (leaseTtl == null) {
+                leaseTtl = Duration.ofSeconds(10);
+            }
+            if (leaseRetryDelay == null) {
+                leaseRetryDelay = Duration.ofMillis(5);
+            }
+        }
+
+        public LockType getType() {
+            return type;
+        }
+
+        public int getStripes() {
+            return stripes;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public Duration getLeaseTtl() {
+            return leaseTtl;
+        }
+
+        public Duration getLeaseRetryDelay() {
+            return leaseRetryDelay;
+        }
+    }
+
+    public enum LockType {
+        /** 잠그지 않음 */
+        NOOP,
+        /** JVM 안의 스트라이프 잠금 */
+        STRIPED,
+        /** DB 임대 테이블을 이용한 여러 인스턴스 간 잠금 */
+        LEASE
+    }
+
+    /**
+     * 송금 설정.
+     *
+     * @param concurrencyMode 같은 계좌에 대한 동시 이체를 다루는 방식
+     * @param retry           낙관적 모드에서 버전 충돌 시 재시도 설정
+     * @param sharding        샤딩 모드의 레인 설정
+     * @param bulkhead        동시에 실행되는 송금 수 제한
+     * @param adaptiveLimit   지연 시간과 커넥션 대기에 맞춰 동시 실행 수를 조절하는 설정. 켜면 {@code bulkhead} 대신 쓴다
+     * @param async           비동기 송금 접수 설정
+     * @param groupCommit     동시에 들어온 송금을 한 트랜잭션으로 묶는 설정
+     * @param netting         같은 계좌 쌍 사이의 송금을 합산해 정산하는 설정
+     * @param rateLimit       출금 계좌별, 클라이언트별 송금 요청 빈도 제한
+     */
+    public record Transfer(
+            ConcurrencyMode concurrencyMode,
+            Retry retry,
+            Sharding sharding,
+            Bulkhead bulkhead,
+            AdaptiveLimit adaptiveLimit,
+            Async async,
+            GroupCommit groupCommit,
+            Netting netting,
+            RateLimit rateLimit) {
+        public Transfer {
+            if (concurrencyMode == null) {
+                concurrencyMode = ConcurrencyMode.LOCK;
+            }
+            if (retry == null) {
+                retry = new Retry(null, null, null);
+            }
+            if (sharding == null) {
+                sharding = new Sharding(null, null);
+            }
+            if (bulkhead == null) {
+                bulkhead = new Bulkhead(null, null);
+            }
+            if (adaptiveLimit == null) {
+                adaptiveLimit = new AdaptiveLimit(null, null, null, null, null, null);
+            }
+            if (async == null) {
+                async = new Async(null, null, null, null, null);
+            }
+            if (groupCommit == null) {
+                groupCommit = new GroupCommit(null, null, null, null);
+            }
+            if (netting == null) {
+                netting = new Netting(null, null);
+            }
+            if (rateLimit == null) {
+                rateLimit = new RateLimit(null, null, null, null, null);
+            }
+        }
+
+        public ConcurrencyMode getConcurrencyMode() {
+            return concurrencyMode;
+        }
+
+        public Retry getRetry() {
+            return retry;
+        }
+
+        public Sharding getSharding() {
+            return sharding;
+        }
+
+        public Bulkhead getBulkhead() {
+            return bulkhead;
+        }
+
+        public AdaptiveLimit getAdaptiveLimit() {
+            return adaptiveLimit;
+        }
+
+        public Async getAsync() {
+            return async;
+        }
+
+        public GroupCommit getGroupCommit() {
+            return groupCommit;
+        }
+
+        public Netting getNetting() {
+            return netting;
+        }
+
+        public RateLimit getRateLimit() {
+            return rateLimit;
+        }
+    }
+
+    /**
+     * 버전 충돌 재시도 설정.
+     *
+     * @param maxAttempts    첫 시도를 포함한 최대 시도 횟수
+     * @param initialBackoff 첫 재시도 전 대기 시간의 상한
+     * @param maxBackoff     재시도 전 대기 시간 상한의 최댓값
+     */
+    public record Retry(Integer maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+        public Retry {
+            if (maxAttempts == null) {
+                maxAttempts = 5;
+            }
+            if (initialBackoff == null) {
+                initialBackoff = Duration.ofMillis(5);
+            }
+            if (maxBackoff == null) {
+                maxBackoff = Duration.ofMillis(100);
+            }
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public Duration getInitialBackoff() {
+            return initialBackoff;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+    }
+
+    /**
+     * 샤딩 모드 설정.
+     *
+     * @param lanes         이체를 실행하는 레인 수 (기본값은 가용 프로세서 수)
+     * @param queueCapacity 레인마다 차례를 기다릴 수 있는 이체 수. 가득 차면 이체를 거절한다
+     */
+    public record Sharding(Integer lanes, Integer queueCapacity) {
+        public Sharding {
+            if (lanes == null) {
+                lanes = Runtime.getRuntime().availableProcessors();
+            }
+            if (queueCapacity == null) {
+                queueCapacity = 1000;
+            }
+        }
+
+        public int getLanes() {
+            return lanes;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+    }
+
+    /**
+     * 송금 동시 실행 제한 설정.
+     *
+     * @param maxConcurrent 동시에 실행되는 최대 송금 수 (커넥션 풀 크기에 맞춘다)
+     * @param maxWait       자리가 나기를 기다리는 최대 시간. 넘으면 거절한다.
+     */
+    public record Bulkhead(Integer maxConcurrent, Duration maxWait) {
+        public Bulkhead {
+            if (maxConcurrent == null) {
+                maxConcurrent = 10;
+            }
+            if (maxWait == null) {
+                maxWait = Duration.ofSeconds(1);
+            }
+        }
+
+        public int getMaxConcurrent() {
+            return maxConcurrent;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+    }
+
+    /**
+     * 송금 동시 실행 수의 적응형 제한 설정.
+     * 송금이 끝날 때마다 걸린 시간과 커넥션 풀 대기를 보고, 여유가 있으면 한도를 하나씩 늘리고
+     * 목표 지연 시간을 넘었거나 커넥션을 기다리는 스레드가 있으면 한도를 비율만큼 줄인다 (AIMD).
+     *
+     * @param enabled       적응형 제한을 쓸지 여부
+     * @param initialLimit  처음 한도
+     * @param minLimit      줄일 수 있는 최소 한도
+     * @param maxLimit      늘릴 수 있는 최대 한도
+     * @param targetLatency 송금 하나가 이보다 오래 걸리면 과부하로 본다
+     * @param backoffRatio  과부하일 때 한도에 곱하는 비율 (0보다 크고 1보다 작다)
+     */
+    public record AdaptiveLimit(
+            Boolean enabled,
+            Integer initialLimit,
+            Integer minLimit,
+            Integer maxLimit,
+            Duration targetLatency,
+            Double backoffRatio) {
+        public AdaptiveLimit {
+            if (enabled == null) {
+                enabled = false;
+            }
+            if (initialLimit == null) {
+                initialLimit = 10;
+            }
+            if (minLimit == null) {
+                minLimit = 2;
+            }
+            if (maxLimit == null) {
+                maxLimit = 50;
+            }
+            if (targetLatency == null) {
+                targetLatency = Duration.ofMillis(100);
+            }
+            if (backoffRatio == null) {
+                backoffRatio = 0.9;
+            }
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public Duration getTargetLatency() {
+            return targetLatency;
+        }
+
+        public double getBackoffRatio() {
+            return backoffRatio;
+        }
+    }
+
+    /**
+     * 비동기 송금 접수 설정.
+     *
+     * @param workers             대기열에서 송금을 꺼내 실행하는 스레드 수
+     * @param queueCapacity       실행을 기다릴 수 있는 송금 수. 가득 차면 접수를 거절한다
+     * @param statusRetention     끝난 송금의 상태를 조회할 수 있게 남겨 두는 시간
+     * @param deferredTimeout     결과를 기다리는 요청이 접수 응답으로 돌아가기까지의 시간
+     * @param maxRetainedStatuses 남겨 두는 끝난 송금 상태의 최대 수. 넘으면 오래된 것부터 지운다
+     */
+    public record Async(
+            Integer workers,
+            Integer queueCapacity,
+            Duration statusRetention,
+            Duration deferredTimeout,
+            Integer maxRetainedStatuses) {
+        public Async {
+            if (workers == null) {
+                workers = 4;
+            }
+            if (queueCapacity == null) {
+                queueCapacity = 1000;
+            }
+            if (statusRetention == null) {
+                statusRetention = Duration.ofMinutes(10);
+            }
+            if (deferredTimeout == null) {
+                deferredTimeout = Duration.ofSeconds(30);
+            }
+            if (maxRetainedStatuses == null) {
+                maxRetainedStatuses = 100_000;
+            }
+        }
+
+        public int getWorkers() {
+            return workers;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public Duration getStatusRetention() {
+            return statusRetention;
+        }
+
+        public Duration getDeferredTimeout() {
+            return deferredTimeout;
+        }
+
+        public int getMaxRetainedStatuses() {
+            return maxRetainedStatuses;
+        }
+    }
+
+    /**
+     * 묶음 커밋 설정.
+     *
+     * @param enabled              동시에 들어온 송금을 모아 한 트랜잭션에서 커밋할지 여부
+     * @param window               첫 송금이 들어온 뒤 묶음을 닫기까지 기다리는 시간
+     * @param maxBatchSize         한 묶음의 최대 송금 수. 다 차면 기다리지 않고 커밋한다
+     * @param maxConcurrentBatches 동시에 커밋하는 최대 묶음 수. 같은 수만큼 차례를 기다리고, 넘으면 송금을 거절한다
+     */
+    public record GroupCommit(Boolean enabled, Duration window, Integer maxBatchSize, Integer maxConcurrentBatches) {
+        public GroupCommit {
+            if (enabled == null) {
+                enabled = false;
+            }
+            if (window == null) {
+                window = Duration.ofMillis(2);
+            }
+            if (maxBatchSize == null) {
+                maxBatchSize = 64;
+            }
+            if (maxConcurrentBatches == null) {
+                maxConcurrentBatches = 4;
+            }
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public Duration getWindow() {
+            return window;
+        }
+
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public int getMaxConcurrentBatches() {
+            return maxConcurrentBatches;
+        }
+    }
+
+    /**
+     * 송금 상계 설정.
+     *
+     * @param enabled            같은 계좌 쌍 사이의 송금을 모아 합계로 한 번 이체할지 여부
+     * @param settlementInterval 모은 송금을 정산하는 주기. 송금 결과도 정산 뒤에 돌아온다
+     */
+    public record Netting(Boolean enabled, Duration settlementInterval) {
+        public Netting {
+            if (enabled == null) {
+                enabled = false;
+            }
+            if (settlementInterval == null) {
+                settlementInterval = Duration.ofSeconds(1);
+            }
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public Duration getSettlementInterval() {
+            return settlementInterval;
+        }
+    }
+
+    /**
+     * 송금 요청 빈도 제한 설정.
+     * 한도를 넘는 요청은 계좌를 읽기 전에 429로 거절한다.
+     *
+     * @param perAccount     출금 계좌별 한도
+     * @param perClient      클라이언트별 한도
+     * @param clientIdHeader 클라이언트를 구분하는 요청 헤더. {@code trustedProxies}에서 온 요청의 헤더만 믿는다
+     * @param trustedProxies 클라이언트 헤더를 채워 주는 프록시의 원격 주소. 프록시는 클라이언트가 보낸 같은 헤더를 지워야 한다
+     * @param maxTrackedKeys 한도마다 기억하는 계좌 또는 클라이언트 수. 넘으면 오래 쉰 것부터 잊는다
+     */
+    public record RateLimit(
+            Limit perAccount, Limit perClient, String clientIdHeader, List<String> trustedProxies,
+            Integer maxTrackedKeys) {
+        public RateLimit {
+            if (perAccount == null) {
+                perAccount = new Limit(null, null, null);
+            }
+            if (perClient == null) {
+                perClient = new Limit(null, 200, null);
+            }
+            if (trustedProxies == null) {
+                trustedProxies = List.of();
+            }
+            if (maxTrackedKeys == null) {
+                maxTrackedKeys = 100_000;
+            }
+            if (maxTrackedKeys <= 0) {
+                throw new IllegalArgumentException("maxTrackedKeys must be positive, but was: " + maxTrackedKeys);
+            }
+        }
+
+        public Limit getPerAccount() {
+            return perAccount;
+        }
+
+        public Limit getPerClient() {
+            return perClient;
+        }
+
+        public String getClientIdHeader() {
+            return clientIdHeader;
+        }
+
+        public List<String> getTrustedProxies() {
+            return trustedProxies;
+        }
+
+        public int getMaxTrackedKeys() {
+            return maxTrackedKeys;
+        }
+    }
+
+    /**
+     * 요청 빈도 한도.
+     *
+     * @param enabled          한도를 적용할지 여부
+     * @param permitsPerSecond 초당 허용하는 평균 요청 수
+     * @param burst            쉬고 있다가 한꺼번에 들어와도 허용하는 요청 수 (기본값은 초당 허용 수의 두 배)
+     */
+    public record Limit(Boolean enabled, Integer permitsPerSecond, Integer burst) {
+        public Limit {
+            if (enabled == null) {
+                enabled = false;
+            }
+            if (permitsPerSecond == null) {
+                permitsPerSecond = 50;
+            }
+            if (burst == null) {
+                burst = permitsPerSecond * 2;
+            }
+            if (permitsPerSecond <= 0 || burst <= 0) {
+                throw new IllegalArgumentException(
+                        "permitsPerSecond and burst must be positive, but were: " + permitsPerSecond + ", " + burst);
+            }
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public int getPermitsPerSecond() {
+            return permitsPerSecond;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+    }
+
+    public enum ConcurrencyMode {
+        /** 계좌를 잠근 뒤 읽고 쓴다 ({@code buckpal.lock.type}으로 잠금 구현 선택) */
+        LOCK,
+        /** 잠그지 않고 커밋 시 계좌 버전으로 충돌을 감지해 재시도한다 */
+        OPTIMISTIC,
+        /** 계좌별 단일 스레드 레인에서 이체를 차례로 실행한다 */
+        SHARDED
     }
 }
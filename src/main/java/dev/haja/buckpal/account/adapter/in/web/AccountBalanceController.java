@@ -0,0 +1,48 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import dev.haja.buckpal.account.application.port.in.GetVersionedAccountBalanceQuery;
+import dev.haja.buckpal.account.application.port.in.VersionedBalance;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
+
+@RestController
+@RequiredArgsConstructor
+class AccountBalanceController {
+    private final GetVersionedAccountBalanceQuery getVersionedAccountBalanceQuery;
+
+    /**
+     * 계좌 잔액을 조회한다.
+     * ETag는 계좌 버전이므로, {@code If-None-Match}가 현재 버전과 같으면 잔액을 계산하지 않고 304로 응답한다.
+     * 없는 계좌면 404로 응답한다.
+     */
+    @GetMapping(path = "/accounts/{accountId}/balance")
+    ResponseEntity<AccountBalanceResDto> getAccountBalance(
+            @PathVariable("accountId") Long accountId,
+            WebRequest request) {
+        AccountId id = new AccountId(accountId);
+        Optional<Long> version = getVersionedAccountBalanceQuery.getAccountVersion(id);
+        if (version.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (request.checkNotModified(eTag(version.get()))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag(version.get())).build();
+        }
+
+        VersionedBalance balance = getVersionedAccountBalanceQuery.getVersionedAccountBalance(id, version.get());
+        return ResponseEntity.ok()
+                .eTag(eTag(balance.version()))
+                .body(AccountBalanceResDto.of(accountId, balance));
+    }
+
+    private static String eTag(long version) {
+        return "\"" + version + "\"";
+    }
+}
@@ -0,0 +1,12 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import dev.haja.buckpal.account.application.port.in.VersionedBalance;
+
+public record AccountBalanceResDto(
+    Long accountId,
+    Long balance) {
+
+    static AccountBalanceResDto of(Long accountId, VersionedBalance versionedBalance) {
+        return new AccountBalanceResDto(accountId, versionedBalance.balance().getAmount().longValueExact());
+    }
+}
@@ -0,0 +1,43 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import dev.haja.buckpal.account.application.port.in.ActivityCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 활동 이력 위치를 URL에 그대로 넣을 수 있는 불투명한 문자열로 바꾼다.
+ * 클라이언트는 내용을 해석하지 않고 받은 그대로 돌려준다.
+ */
+final class ActivityCursorToken {
+
+    private static final char SEPARATOR = '|';
+
+    private ActivityCursorToken() {
+    }
+
+    static String encode(ActivityCursor cursor) {
+        String raw = cursor.timestamp().toString() + SEPARATOR + cursor.activityId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 이 클래스가 만든 토큰이 아니면
+     */
+    static ActivityCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            return new ActivityCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
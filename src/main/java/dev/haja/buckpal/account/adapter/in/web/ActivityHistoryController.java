@@ -0,0 +1,51 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import dev.haja.buckpal.account.application.port.in.ActivityCursor;
+import dev.haja.buckpal.account.application.port.in.ActivityPage;
+import dev.haja.buckpal.account.application.port.in.GetActivityHistoryQuery;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Optional;
+
+@RestController
+@RequiredArgsConstructor
+class ActivityHistoryController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final GetActivityHistoryQuery getActivityHistoryQuery;
+
+    /**
+     * 계좌의 활동 이력을 최신 활동부터 한 페이지씩 내려준다.
+     * OFFSET 없이 이전 페이지의 마지막 위치부터 읽으므로, 몇 번째 페이지든 응답 시간은 같다.
+     * 커서가 잘못되었거나 페이지 크기가 범위를 벗어나면 400, 없는 계좌면 404로 응답한다.
+     */
+    @GetMapping(path = "/accounts/{accountId}/activities")
+    ResponseEntity<ActivityPageResDto> getActivities(
+            @PathVariable("accountId") Long accountId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        Optional<ActivityCursor> after;
+        try {
+            after = Optional.ofNullable(cursor).map(ActivityCursorToken::decode);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Optional<ActivityPage> page = getActivityHistoryQuery.getActivities(new AccountId(accountId), after, size);
+        return page
+                .map(activityPage -> ResponseEntity.ok(new ActivityPageResDto(
+                        activityPage.activities().stream().map(ActivityResDto::from).toList(),
+                        activityPage.next().map(ActivityCursorToken::encode).orElse(null))))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
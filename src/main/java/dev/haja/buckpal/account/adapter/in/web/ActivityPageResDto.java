@@ -0,0 +1,11 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import java.util.List;
+
+/**
+ * 활동 이력 한 페이지. {@code nextCursor}를 다음 요청의 {@code cursor}로 넘기면 이어서 읽는다.
+ * 더 읽을 활동이 없으면 {@code nextCursor}는 {@code null}이다.
+ */
+public record ActivityPageResDto(
+    List<ActivityResDto> activities,
+    String nextCursor) {}
@@ -0,0 +1,22 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import dev.haja.buckpal.account.domain.Activity;
+
+import java.time.LocalDateTime;
+
+public record ActivityResDto(
+    Long activityId,
+    Long sourceAccountId,
+    Long targetAccountId,
+    LocalDateTime timestamp,
+    Long amount) {
+
+    static ActivityResDto from(Activity activity) {
+        return new ActivityResDto(
+            activity.getId().getValue(),
+            activity.getSourceAccountId().getValue(),
+            activity.getTargetAccountId().getValue(),
+            activity.getTimestamp(),
+            activity.getMoney().getAmount().longValueExact());
+    }
+}
@@ -0,0 +1,91 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import dev.haja.buckpal.account.application.port.in.AccountBalance;
+import dev.haja.buckpal.account.application.port.in.StreamAccountBalancesQuery;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 많은 계좌의 잔액을 NDJSON으로 내려준다. 한 줄에 계좌 하나이며, 읽는 대로 응답에 쓴다.
+ */
+@RestController
+class BulkBalanceController {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final StreamAccountBalancesQuery streamAccountBalancesQuery;
+    private final ObjectWriter lineWriter;
+
+    BulkBalanceController(StreamAccountBalancesQuery streamAccountBalancesQuery, ObjectMapper objectMapper) {
+        this.streamAccountBalancesQuery = streamAccountBalancesQuery;
+        this.lineWriter = objectMapper.writerFor(AccountBalanceResDto.class);
+    }
+
+    /**
+     * ID가 {@code fromId}부터 {@code toId}까지인 계좌의 잔액을 ID 순으로 내려준다.
+     */
+    @GetMapping(path = "/accounts/balances", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> streamBalances(
+            @RequestParam("fromId") long fromId,
+            @RequestParam("toId") long toId) {
+        if (fromId < 1 || fromId > toId) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ndjson(sink -> streamAccountBalancesQuery.streamBalances(
+                new AccountId(fromId), new AccountId(toId), sink));
+    }
+
+    /**
+     * 주어진 계좌들의 잔액을 요청한 순서대로 내려준다. 없는 계좌는 건너뛴다.
+     */
+    @PostMapping(path = "/accounts/balances", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> streamBalances(@Valid @RequestBody BulkBalanceReqDto dto) {
+        List<AccountId> accountIds = dto.accountIds().stream()
+                .map(AccountId::new)
+                .toList();
+        return ndjson(sink -> streamAccountBalancesQuery.streamBalances(accountIds, sink));
+    }
+
+    private ResponseEntity<StreamingResponseBody> ndjson(Consumer<Consumer<AccountBalance>> query) {
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+            try {
+                query.accept(balance -> writeLine(out, balance));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            out.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private void writeLine(OutputStream out, AccountBalance balance) {
+        try {
+            out.write(lineWriter.writeValueAsBytes(new AccountBalanceResDto(
+                    balance.accountId().getValue(),
+                    balance.balance().getAmount().longValueExact())));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkBalanceReqDto(
+    @NotEmpty(message = "계좌 ID 목록은 비어 있을 수 없습니다")
+    @Size(max = 200_000, message = "한 번에 최대 200000개 계좌를 조회할 수 있습니다")
+    List<@NotNull Long> accountIds) {}
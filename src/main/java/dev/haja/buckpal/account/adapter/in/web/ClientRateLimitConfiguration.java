@@ -0,0 +1,33 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import dev.haja.buckpal.BuckPalConfigurationProperties;
+import dev.haja.buckpal.common.RateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Set;
+
+/**
+ * 송금 요청 경로에 {@link ClientRateLimitInterceptor}를 등록한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "buckpal.transfer.rate-limit.per-client", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+class ClientRateLimitConfiguration implements WebMvcConfigurer {
+
+    private final BuckPalConfigurationProperties buckPalConfigurationProperties;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        BuckPalConfigurationProperties.RateLimit rateLimit = buckPalConfigurationProperties.getTransfer().getRateLimit();
+        BuckPalConfigurationProperties.Limit perClient = rateLimit.getPerClient();
+        RateLimiter<String> rateLimiter = new RateLimiter<>(
+                perClient.getPermitsPerSecond(), perClient.getBurst(), rateLimit.getMaxTrackedKeys());
+        registry.addInterceptor(new ClientRateLimitInterceptor(
+                        rateLimiter, rateLimit.getClientIdHeader(), Set.copyOf(rateLimit.getTrustedProxies())))
+                .addPathPatterns("/accounts/send", "/accounts/send/**");
+    }
+}
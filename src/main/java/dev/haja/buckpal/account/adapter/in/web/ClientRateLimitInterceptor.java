@@ -0,0 +1,77 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import dev.haja.buckpal.common.RateLimiter;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 클라이언트별로 송금 요청 빈도를 제한하는 인터셉터.
+ * 요청 본문을 읽거나 사용 사례를 부르기 전에 판정하고, 한도를 넘는 요청은 바로 {@code 429 Too Many Requests}로 돌려보낸다.
+ * 클라이언트는 인증된 사용자로 구분하고, 인증되지 않은 요청은 원격 주소로 구분한다.
+ * 클라이언트가 보낸 헤더를 그대로 믿으면 값을 바꿔 가며 새 한도를 얻고 다른 클라이언트의 기록을 밀어낼 수 있으므로,
+ * 클라이언트 헤더는 신뢰하는 프록시에서 온 요청에서만 쓴다. 프록시는 클라이언트가 보낸 같은 이름의 헤더를 지우고 새로 채워야 한다.
+ */
+class ClientRateLimitInterceptor implements HandlerInterceptor {
+
+    private static final byte[] REJECTED_BODY = "{\"message\":\"요청이 너무 많습니다. 잠시 뒤 다시 시도해 주세요.\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final RateLimiter<String> rateLimiter;
+    private final String clientIdHeader;
+    private final Set<String> trustedProxies;
+
+    ClientRateLimitInterceptor(RateLimiter<String> rateLimiter, String clientIdHeader, Set<String> trustedProxies) {
+        this.rateLimiter = rateLimiter;
+        this.clientIdHeader = clientIdHeader;
+        this.trustedProxies = trustedProxies;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            // 비동기 처리 결과를 돌려주는 재디스패치는 이미 센 요청이다.
+            return true;
+        }
+        Duration retryAfter = rateLimiter.tryAcquire(clientId(request));
+        if (retryAfter.isZero()) {
+            return true;
+        }
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER,
+                String.valueOf(Math.max(1L, (retryAfter.toMillis() + 999) / 1000)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getOutputStream().write(REJECTED_BODY);
+        return false;
+    }
+
+    /**
+     * 종류마다 접두어를 붙여, 사용자 이름이나 헤더 값이 다른 클라이언트의 주소와 같은 한도를 나눠 쓰지 않게 한다.
+     */
+    private String clientId(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "principal:" + principal.getName();
+        }
+        String remoteAddress = request.getRemoteAddr();
+        if (clientIdHeader != null && trustedProxies.contains(remoteAddress)) {
+            String clientId = request.getHeader(clientIdHeader);
+            if (clientId != null && !clientId.isBlank()) {
+                return "client:" + clientId;
+            }
+        }
+        return "address:" + remoteAddress;
+    }
+}
@@ -0,0 +1,33 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import dev.haja.buckpal.account.application.port.in.FanOutTransferCommand;
+import dev.haja.buckpal.account.application.port.in.FanOutTransferUseCase;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+class FanOutTransferController {
+    private final FanOutTransferUseCase fanOutTransferUseCase;
+
+    /**
+     * 한 계좌에서 여러 계좌로 한 번에 송금한다.
+     * 입금 계좌가 중복되거나 출금 계좌와 같으면, 또는 잔액이 합계에 모자라면 아무것도 기록하지 않고 400으로 응답한다.
+     */
+    @PostMapping(path = "/accounts/send/fan-out")
+    ResponseEntity<Void> sendMoneyToMany(@Valid @RequestBody FanOutTransferReqDto dto) {
+        FanOutTransferCommand command;
+        try {
+            command = dto.toCommand();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!fanOutTransferUseCase.sendMoneyToMany(command))
+            return ResponseEntity.badRequest().build();
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,37 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import dev.haja.buckpal.account.application.port.in.FanOutTransferCommand;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record FanOutTransferReqDto(
+    @NotNull(message = "출금 계좌 ID는 필수입니다")
+    Long sourceAccountId,
+
+    @NotEmpty(message = "송금 목록은 비어 있을 수 없습니다")
+    @Size(max = 1000, message = "한 번에 최대 1000개 계좌로 송금할 수 있습니다")
+    List<@Valid Leg> legs) {
+
+    public record Leg(
+        @NotNull(message = "입금 계좌 ID는 필수입니다")
+        Long targetAccountId,
+
+        @NotNull(message = "금액은 필수입니다")
+        @Positive(message = "금액은 양수여야 합니다")
+        Long amount) {}
+
+    FanOutTransferCommand toCommand() {
+        return new FanOutTransferCommand(
+            new AccountId(sourceAccountId),
+            legs.stream()
+                .map(leg -> new FanOutTransferCommand.Leg(new AccountId(leg.targetAccountId()), Money.of(leg.amount())))
+                .toList());
+    }
+}
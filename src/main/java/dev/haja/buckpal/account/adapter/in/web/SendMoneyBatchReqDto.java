@@ -0,0 +1,12 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record SendMoneyBatchReqDto(
+    @NotEmpty(message = "송금 목록은 비어 있을 수 없습니다")
+    @Size(max = 1000, message = "한 번에 최대 1000건까지 송금할 수 있습니다")
+    List<@Valid SendMoneyReqDto> transfers) {}
@@ -0,0 +1,20 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import dev.haja.buckpal.account.application.port.in.SendMoneyResult;
+
+import java.util.List;
+
+/**
+ * 일괄 송금 응답. {@code results}는 요청한 송금과 같은 순서다.
+ */
+public record SendMoneyBatchResDto(
+    int completed,
+    List<SendMoneyResult> results) {
+
+    static SendMoneyBatchResDto of(List<SendMoneyResult> results) {
+        int completed = (int) results.stream()
+            .filter(result -> result == SendMoneyResult.COMPLETED)
+            .count();
+        return new SendMoneyBatchResDto(completed, results);
+    }
+}
@@ -1,9 +1,8 @@
 package dev.haja.buckpal.account.adapter.in.web;
 
 import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyResult;
 import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
-import dev.haja.buckpal.account.domain.Account.AccountId;
-import dev.haja.buckpal.account.domain.Money;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -12,6 +11,8 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 class SendMoneyController {
@@ -19,14 +20,24 @@ class SendMoneyController {
 
     @PostMapping(path = "/accounts/send")
     ResponseEntity<Void> sendMoney(@Valid @RequestBody SendMoneyReqDto dto) {
-        SendMoneyCommand command = new SendMoneyCommand(
-                new AccountId(dto.sourceAccountId()),
-                new AccountId(dto.targetAccountId()),
-                Money.of(dto.amount()));
+        SendMoneyCommand command = dto.toCommand();
         boolean success = sendMoneyUseCase.sendMoney(command);
         
         if (!success)
             return ResponseEntity.badRequest().build();
         return ResponseEntity.ok().build();
     }
+
+    /**
+     * 여러 송금을 한 번에 실행한다.
+     * 일부 건이 잔액 부족이나 한도 초과로 건너뛰어져도 요청 자체는 성공이며, 건별 결과는 본문으로 알려준다.
+     */
+    @PostMapping(path = "/accounts/send/batch")
+    ResponseEntity<SendMoneyBatchResDto> sendMoneyBatch(@Valid @RequestBody SendMoneyBatchReqDto dto) {
+        List<SendMoneyCommand> commands = dto.transfers().stream()
+                .map(SendMoneyReqDto::toCommand)
+                .toList();
+        List<SendMoneyResult> results = sendMoneyUseCase.sendMoneyBatch(commands);
+        return ResponseEntity.ok(SendMoneyBatchResDto.of(results));
+    }
 }
\ No newline at end of file
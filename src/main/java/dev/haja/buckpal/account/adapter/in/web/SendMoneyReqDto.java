@@ -1,5 +1,8 @@
 package dev.haja.buckpal.account.adapter.in.web;
 
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
@@ -12,4 +15,12 @@ public record SendMoneyReqDto(
 
     @NotNull(message = "금액은 필수입니다")
     @Positive(message = "금액은 양수여야 합니다")
-    Long amount) {}
\ No newline at end of file
+    Long amount) {
+
+    SendMoneyCommand toCommand() {
+        return new SendMoneyCommand(
+            new AccountId(sourceAccountId),
+            new AccountId(targetAccountId),
+            Money.of(amount));
+    }
+}
@@ -0,0 +1,68 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import dev.haja.buckpal.BuckPalConfigurationProperties;
+import dev.haja.buckpal.account.application.port.in.SubmitTransferUseCase;
+import dev.haja.buckpal.account.application.port.in.SubmittedTransfer;
+import dev.haja.buckpal.account.application.port.in.TransferStatus;
+import dev.haja.buckpal.account.application.port.in.TransferStatus.State;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * 송금을 접수만 하고 돌아오는 API.
+ * 접수한 송금은 {@code /accounts/transfers/{transferId}}에서 상태를 조회한다.
+ */
+@RestController
+@RequiredArgsConstructor
+class SubmitTransferController {
+    private final SubmitTransferUseCase submitTransferUseCase;
+    private final BuckPalConfigurationProperties buckPalConfigurationProperties;
+
+    /**
+     * 송금을 접수하고 바로 {@code 202 Accepted}로 돌아온다.
+     */
+    @PostMapping(path = "/accounts/send/async")
+    ResponseEntity<TransferStatusResDto> submit(@Valid @RequestBody SendMoneyReqDto dto) {
+        SubmittedTransfer submitted = submitTransferUseCase.submit(dto.toCommand());
+        return accepted(new TransferStatus(submitted.transferId(), State.QUEUED));
+    }
+
+    /**
+     * 송금을 접수하고, 서블릿 스레드를 놓은 채 끝나기를 기다린다.
+     * 끝나면 마지막 상태를 {@code 200}으로, 대기 시간 안에 끝나지 않으면 그때의 상태를 {@code 202}로 돌려준다.
+     */
+    @PostMapping(path = "/accounts/send/deferred")
+    DeferredResult<ResponseEntity<TransferStatusResDto>> submitAndWait(@Valid @RequestBody SendMoneyReqDto dto) {
+        SubmittedTransfer submitted = submitTransferUseCase.submit(dto.toCommand());
+        UUID transferId = submitted.transferId();
+        DeferredResult<ResponseEntity<TransferStatusResDto>> result = new DeferredResult<>(
+                buckPalConfigurationProperties.getTransfer().getAsync().getDeferredTimeout().toMillis(),
+                () -> accepted(submitTransferUseCase.findStatus(transferId)
+                        .orElseGet(() -> new TransferStatus(transferId, State.QUEUED))));
+        submitted.completion().thenAccept(status -> result.setResult(ResponseEntity.ok(TransferStatusResDto.from(status))));
+        return result;
+    }
+
+    @GetMapping(path = "/accounts/transfers/{transferId}")
+    ResponseEntity<TransferStatusResDto> getStatus(@PathVariable("transferId") UUID transferId) {
+        return submitTransferUseCase.findStatus(transferId)
+                .map(status -> ResponseEntity.ok(TransferStatusResDto.from(status)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private static ResponseEntity<TransferStatusResDto> accepted(TransferStatus status) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/accounts/transfers/" + status.transferId()))
+                .body(TransferStatusResDto.from(status));
+    }
+}
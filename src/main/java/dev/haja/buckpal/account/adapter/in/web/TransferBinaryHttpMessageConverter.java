@@ -0,0 +1,105 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 송금 요청의 고정 길이 바이너리 형식.
+ * {@code Content-Type: application/x-buckpal-transfer}로 보내면 JSON 대신 이 형식으로 읽는다.
+ * <ul>
+ *     <li>단건 ({@link SendMoneyReqDto}): 출금 계좌 ID, 입금 계좌 ID, 금액을 빅 엔디언 long 세 개로 (24바이트)</li>
+ *     <li>일괄 ({@link SendMoneyBatchReqDto}): 송금 수를 빅 엔디언 int로 쓰고, 이어서 단건 형식을 그 수만큼</li>
+ * </ul>
+ * 스트림에서 바로 DTO를 만들며 중간 트리를 만들지 않는다. 길이가 맞지 않으면 400으로 응답한다.
+ */
+@Component
+class TransferBinaryHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    static final MediaType MEDIA_TYPE = new MediaType("application", "x-buckpal-transfer");
+
+    private static final int TRANSFER_BYTES = 3 * Long.BYTES;
+    /**
+     * 일괄 요청의 최대 송금 수. 검증보다 먼저 목록을 만들므로, 선언된 수만 보고 큰 목록을 잡지 않게 여기서도 막는다.
+     */
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    TransferBinaryHttpMessageConverter() {
+        super(MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == SendMoneyReqDto.class || clazz == SendMoneyBatchReqDto.class;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(inputMessage.getBody()));
+        try {
+            Object result = clazz == SendMoneyReqDto.class ? readTransfer(in) : readBatch(in, inputMessage);
+            if (in.read() != -1) {
+                throw new HttpMessageNotReadableException("Unexpected trailing bytes in transfer body", inputMessage);
+            }
+            return result;
+        } catch (EOFException e) {
+            throw new HttpMessageNotReadableException("Truncated transfer body", e, inputMessage);
+        }
+    }
+
+    private SendMoneyBatchReqDto readBatch(DataInputStream in, HttpInputMessage inputMessage) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > MAX_BATCH_SIZE) {
+            throw new HttpMessageNotReadableException("Invalid transfer count: " + count, inputMessage);
+        }
+        List<SendMoneyReqDto> transfers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            transfers.add(readTransfer(in));
+        }
+        return new SendMoneyBatchReqDto(transfers);
+    }
+
+    private static SendMoneyReqDto readTransfer(DataInputStream in) throws IOException {
+        return new SendMoneyReqDto(in.readLong(), in.readLong(), in.readLong());
+    }
+
+    @Override
+    protected Long getContentLength(Object object, MediaType contentType) {
+        if (object instanceof SendMoneyBatchReqDto batch) {
+            return (long) Integer.BYTES + (long) batch.transfers().size() * TRANSFER_BYTES;
+        }
+        return (long) TRANSFER_BYTES;
+    }
+
+    @Override
+    protected void writeInternal(Object object, HttpOutputMessage outputMessage) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputMessage.getBody()));
+        if (object instanceof SendMoneyBatchReqDto batch) {
+            out.writeInt(batch.transfers().size());
+            for (SendMoneyReqDto transfer : batch.transfers()) {
+                writeTransfer(out, transfer);
+            }
+        } else {
+            writeTransfer(out, (SendMoneyReqDto) object);
+        }
+        out.flush();
+    }
+
+    private static void writeTransfer(DataOutputStream out, SendMoneyReqDto transfer) throws IOException {
+        out.writeLong(transfer.sourceAccountId());
+        out.writeLong(transfer.targetAccountId());
+        out.writeLong(transfer.amount());
+    }
+}
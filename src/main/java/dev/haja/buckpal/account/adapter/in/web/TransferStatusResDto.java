@@ -0,0 +1,16 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import dev.haja.buckpal.account.application.port.in.TransferStatus;
+import dev.haja.buckpal.account.application.port.in.TransferStatus.State;
+
+import java.util.UUID;
+
+public record TransferStatusResDto(
+    UUID transferId,
+    State state,
+    String message) {
+
+    static TransferStatusResDto from(TransferStatus status) {
+        return new TransferStatusResDto(status.transferId(), status.state(), status.message());
+    }
+}
@@ -0,0 +1,246 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyResult;
+import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+import dev.haja.buckpal.account.application.service.ThresholdExceededException;
+import dev.haja.buckpal.account.application.service.TransferRejectedException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 한 요청 본문으로 들어오는 NDJSON 송금 스트림을 처리한다.
+ * 읽기 스레드가 줄마다 DTO로 읽고 검증해 대기열에 넣으면, 응답 스레드가 쌓인 만큼 꺼내 한 번의 일괄 송금으로 저장하고
+ * 결과를 요청 순서대로 한 줄씩 쓴다. 저장이 밀리면 묶음이 커지고, 대기열이 차면 읽기가 멈춰 클라이언트 전송도 늦춰진다.
+ */
+@Slf4j
+@RestController
+class TransferStreamController {
+
+    /**
+     * 한 번의 일괄 송금으로 저장하는 최대 건수.
+     */
+    static final int MAX_BATCH_SIZE = 500;
+    private static final int QUEUE_CAPACITY = 4 * MAX_BATCH_SIZE;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final SendMoneyUseCase sendMoneyUseCase;
+    private final Validator validator;
+    private final ObjectReader lineReader;
+    private final ObjectWriter lineWriter;
+
+    TransferStreamController(SendMoneyUseCase sendMoneyUseCase, Validator validator, ObjectMapper objectMapper) {
+        this.sendMoneyUseCase = sendMoneyUseCase;
+        this.validator = validator;
+        this.lineReader = objectMapper.readerFor(SendMoneyReqDto.class);
+        this.lineWriter = objectMapper.writerFor(TransferStreamResultDto.class);
+    }
+
+    @PostMapping(
+            path = "/accounts/send/stream",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<StreamingResponseBody> sendMoneyStream(InputStream body) {
+        StreamingResponseBody response = outputStream -> {
+            BlockingQueue<Item> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+            Thread reader = Thread.ofVirtual()
+                    .name("transfer-stream-reader")
+                    .start(() -> read(body, queue));
+            try {
+                persist(queue, new BufferedOutputStream(outputStream, BUFFER_SIZE));
+            } finally {
+                // 클라이언트가 끊겨 쓰기가 실패하면 읽기도 멈춘다.
+                reader.interrupt();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.APPLICATION_NDJSON, StandardCharsets.UTF_8))
+                .body(response);
+    }
+
+    /**
+     * 본문을 한 줄씩 읽어 큐에 넣는다.
+     * 어떻게 끝나든 마지막에 {@link Item#END}를 넣어, 쓰는 쪽이 끝을 기다리며 멈추지 않게 한다.
+     */
+    private void read(InputStream body, BlockingQueue<Item> queue) {
+        long index = 0;
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                queue.put(parse(index++, line));
+            }
+        } catch (IOException e) {
+            log.debug("송금 스트림을 읽다가 끊겼습니다. {}건까지 처리합니다.", index, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("송금 스트림을 읽다가 실패했습니다. {}건까지 처리합니다.", index, e);
+        } finally {
+            // 쓰는 쪽이 먼저 멈춰 인터럽트된 경우에는 곧바로 돌아온다.
+            putEnd(queue);
+        }
+    }
+
+    private Item parse(long index, String line) {
+        SendMoneyReqDto dto;
+        try {
+            dto = lineReader.readValue(line);
+        } catch (JacksonException e) {
+            return Item.invalid(index, Map.of("body", "JSON 형식이 아닙니다"));
+        }
+        if (dto == null) {
+            return Item.invalid(index, Map.of("body", "송금 요청이 비어 있습니다"));
+        }
+        Set<ConstraintViolation<SendMoneyReqDto>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            Map<String, String> errors = new LinkedHashMap<>();
+            violations.forEach(violation -> errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+            return Item.invalid(index, errors);
+        }
+        try {
+            return Item.valid(index, dto.toCommand());
+        } catch (RuntimeException e) {
+            return Item.invalid(index, Map.of("body",
+                    e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage()));
+        }
+    }
+
+    private void persist(BlockingQueue<Item> queue, OutputStream out) throws IOException {
+        List<Item> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        boolean end = false;
+        while (!end) {
+            batch.clear();
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+            if (batch.getLast() == Item.END) {
+                batch.removeLast();
+                end = true;
+            }
+            for (TransferStreamResultDto result : execute(batch)) {
+                out.write(lineWriter.writeValueAsBytes(result));
+                out.write('\n');
+            }
+            out.flush();
+        }
+    }
+
+    private List<TransferStreamResultDto> execute(List<Item> batch) {
+        List<Item> valid = batch.stream()
+                .filter(item -> item.command != null)
+                .toList();
+        List<TransferStreamResultDto> executed = valid.isEmpty() ? List.of() : executeBatch(valid);
+
+        List<TransferStreamResultDto> output = new ArrayList<>(batch.size());
+        int next = 0;
+        for (Item item : batch) {
+            if (item.command == null) {
+                output.add(new TransferStreamResultDto(item.index, TransferStreamResultDto.INVALID, item.errors));
+            } else {
+                output.add(executed.get(next++));
+            }
+        }
+        return output;
+    }
+
+    /**
+     * 유효한 송금을 한 번의 일괄 송금으로 저장한다.
+     * 묶음이 실패하면 어느 송금 때문인지 알 수 없으므로 하나씩 다시 실행해, 실패한 송금만 FAILED가 되게 한다.
+     * 거절은 송금 내용과 상관없으므로 다시 실행하지 않는다.
+     */
+    private List<TransferStreamResultDto> executeBatch(List<Item> valid) {
+        try {
+            List<SendMoneyResult> results = sendMoneyUseCase.sendMoneyBatch(
+                    valid.stream().map(item -> item.command).toList());
+            List<TransferStreamResultDto> executed = new ArrayList<>(valid.size());
+            for (int i = 0; i < valid.size(); i++) {
+                executed.add(new TransferStreamResultDto(valid.get(i).index, results.get(i).name(), null));
+            }
+            return executed;
+        } catch (RuntimeException e) {
+            if (valid.size() == 1 || e instanceof TransferRejectedException) {
+                log.debug("송금 스트림의 묶음 {}건이 실패했습니다.", valid.size(), e);
+                return valid.stream().map(item -> failed(item, e)).toList();
+            }
+            log.debug("송금 스트림의 묶음이 실패해 송금 {}건을 하나씩 다시 실행합니다.", valid.size(), e);
+            return valid.stream().map(this::executeAlone).toList();
+        }
+    }
+
+    private TransferStreamResultDto executeAlone(Item item) {
+        SendMoneyResult result;
+        try {
+            result = sendMoneyUseCase.sendMoney(item.command)
+                    ? SendMoneyResult.COMPLETED
+                    : SendMoneyResult.INSUFFICIENT_BALANCE;
+        } catch (ThresholdExceededException e) {
+            result = SendMoneyResult.THRESHOLD_EXCEEDED;
+        } catch (RuntimeException e) {
+            log.debug("송금 스트림의 {}번째 송금이 실패했습니다.", item.index, e);
+            return failed(item, e);
+        }
+        return new TransferStreamResultDto(item.index, result.name(), null);
+    }
+
+    /**
+     * 예외 메시지는 내부 구현을 드러낼 수 있으므로 응답에는 정해 둔 오류 코드만 쓴다.
+     */
+    private static TransferStreamResultDto failed(Item item, RuntimeException e) {
+        String code = e instanceof TransferRejectedException
+                ? TransferStreamResultDto.REJECTED
+                : TransferStreamResultDto.TRANSFER_FAILED;
+        return new TransferStreamResultDto(item.index, TransferStreamResultDto.FAILED, Map.of("code", code));
+    }
+
+    private static void putEnd(BlockingQueue<Item> queue) {
+        try {
+            queue.put(Item.END);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Item(long index, SendMoneyCommand command, Map<String, String> errors) {
+        private static final Item END = new Item(-1, null, null);
+
+        static Item valid(long index, SendMoneyCommand command) {
+            return new Item(index, command, null);
+        }
+
+        static Item invalid(long index, Map<String, String> errors) {
+            return new Item(index, null, errors);
+        }
+    }
+}
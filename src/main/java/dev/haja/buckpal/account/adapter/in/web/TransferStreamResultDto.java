@@ -0,0 +1,26 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+/**
+ * 스트림 송금의 한 건 결과. {@code index}는 요청 스트림에서의 줄 번호(0부터)다.
+ *
+ * @param index  요청 줄 번호
+ * @param result COMPLETED, INSUFFICIENT_BALANCE, THRESHOLD_EXCEEDED, INVALID, FAILED 중 하나
+ * @param errors INVALID면 필드별 오류, FAILED면 {@code code}(REJECTED 또는 TRANSFER_FAILED)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TransferStreamResultDto(
+    long index,
+    String result,
+    Map<String, String> errors) {
+
+    static final String INVALID = "INVALID";
+    static final String FAILED = "FAILED";
+    /** 처리할 여유가 없어 실행하지 않은 송금. 다시 보내도 된다. */
+    static final String REJECTED = "REJECTED";
+    /** 실행 중 실패한 송금. */
+    static final String TRANSFER_FAILED = "TRANSFER_FAILED";
+}
@@ -0,0 +1,49 @@
+package dev.haja.buckpal.account.adapter.out.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 잠금을 가장 오래 기다린 계좌를 보여주는 actuator 엔드포인트 ({@code /actuator/accountlocks}).
+ * 계좌 ID를 메트릭 태그로 달면 시계열이 계좌 수만큼 늘어나므로, 상위 계좌 목록은 엔드포인트로 따로 내보낸다.
+ */
+@Component
+@Endpoint(id = "accountlocks")
+class AccountLockContentionEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final ContentionSketch contentionSketch;
+
+    AccountLockContentionEndpoint(ContentionSketch contentionSketch) {
+        this.contentionSketch = contentionSketch;
+    }
+
+    @ReadOperation
+    public ContentionReport contention(@Nullable Integer limit) {
+        int size = limit == null || limit <= 0 ? DEFAULT_LIMIT : limit;
+        return new ContentionReport(contentionSketch.top(size).stream()
+                .map(entry -> new ContendedAccount(entry.getKey(), entry.getValue() / 1_000_000.0))
+                .toList());
+    }
+
+    @DeleteOperation
+    public void reset() {
+        contentionSketch.reset();
+    }
+
+    public record ContentionReport(List<ContendedAccount> topContended) {
+    }
+
+    /**
+     * @param accountId        계좌 ID
+     * @param totalWaitMillis  잠금을 기다린 누적 시간의 추정값 (실제보다 작지 않다)
+     */
+    public record ContendedAccount(long accountId, double totalWaitMillis) {
+    }
+}
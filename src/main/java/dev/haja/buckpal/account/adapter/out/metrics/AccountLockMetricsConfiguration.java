@@ -0,0 +1,16 @@
+package dev.haja.buckpal.account.adapter.out.metrics;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+class AccountLockMetricsConfiguration {
+
+    /**
+     * 카운터 2048개 x 4행(64KiB), 후보 계좌 100개.
+     */
+    @Bean
+    ContentionSketch accountLockContentionSketch() {
+        return new ContentionSketch(2048, 100);
+    }
+}
@@ -0,0 +1,38 @@
+package dev.haja.buckpal.account.adapter.out.metrics;
+
+import dev.haja.buckpal.account.application.port.out.AccountLock;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 등록된 {@link AccountLock}을 {@link InstrumentedAccountLock}으로 감싼다.
+ * 잠금 구현은 설정에 따라 바뀌므로, 구현마다 계측 코드를 넣는 대신 컨테이너에서 한 번에 감싼다.
+ * 후처리기는 다른 빈보다 먼저 만들어지므로 의존하는 빈은 실제로 감쌀 때 꺼낸다.
+ */
+@Component
+class AccountLockMetricsPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectProvider<ContentionSketch> contentionSketch;
+
+    AccountLockMetricsPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            ObjectProvider<ContentionSketch> contentionSketch) {
+        this.meterRegistry = meterRegistry;
+        this.contentionSketch = contentionSketch;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof AccountLock accountLock && !(bean instanceof InstrumentedAccountLock)) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) {
+                return bean;
+            }
+            return new InstrumentedAccountLock(accountLock, registry, contentionSketch.getObject());
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,177 @@
+package dev.haja.buckpal.account.adapter.out.metrics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 계좌별 누적 대기 시간을 근사하는 Count-Min 스케치와, 가장 많이 기다린 계좌 후보 목록.
+ * 카운터는 {@link AtomicLongArray}에 원자적으로 더하므로 잠금 없이 갱신되고, 계좌 수와 무관하게 메모리가 일정하다.
+ * 추정값은 실제보다 작아지지 않으며, 해시 충돌만큼 커질 수 있다.
+ *
+ * <p>후보 목록은 용량 크기의 최소 힙이며, 추정값이 힙의 최솟값보다 큰 계좌만 받아들이고 가득 차 있으면 최솟값을 내보낸다.
+ * 갱신은 목록 크기의 로그에 비례하고 용량을 넘지 않는다. 잠금 경로에서 불리므로 다른 스레드가 목록을 갱신하고 있으면 기다리지 않고 건너뛴다.
+ * 건너뛴 계좌는 카운터에는 더해졌으므로 다음에 더할 때 목록에 반영되며, 어느 계좌를 나눌지 판단하는 데는 충분하다.
+ */
+final class ContentionSketch {
+
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+    };
+
+    private final int width;
+    private final int mask;
+    private final AtomicLongArray counters;
+    private final int capacity;
+    private final ReentrantLock heavyHittersLock = new ReentrantLock();
+    private final long[] heapAccountIds;
+    private final long[] heapEstimates;
+    private final Map<Long, Integer> heapPositions = new HashMap<>();
+    private int heapSize;
+    private volatile long admissionThreshold;
+
+    /**
+     * @param width    행마다의 카운터 수 (2의 거듭제곱으로 올림)
+     * @param capacity 후보 목록에 남기는 계좌 수
+     */
+    ContentionSketch(int width, int capacity) {
+        if (width <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("width and capacity must be positive, but were: " + width + ", " + capacity);
+        }
+        this.width = Integer.highestOneBit(width) == width ? width : Integer.highestOneBit(width) << 1;
+        this.mask = this.width - 1;
+        this.counters = new AtomicLongArray(this.width * SEEDS.length);
+        this.capacity = capacity;
+        this.heapAccountIds = new long[capacity];
+        this.heapEstimates = new long[capacity];
+    }
+
+    void add(long accountId, long weight) {
+        if (weight <= 0) {
+            return;
+        }
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < SEEDS.length; row++) {
+            estimate = Math.min(estimate, counters.addAndGet(row * width + indexOf(accountId, row), weight));
+        }
+        // 목록에 있는 계좌의 값은 최솟값 이상이고 추정값은 줄지 않으므로, 최솟값 이하면 목록에 있더라도 바뀔 것이 없다.
+        if (estimate <= admissionThreshold || !heavyHittersLock.tryLock()) {
+            return;
+        }
+        try {
+            offer(accountId, estimate);
+        } finally {
+            heavyHittersLock.unlock();
+        }
+    }
+
+    long estimate(long accountId) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < SEEDS.length; row++) {
+            estimate = Math.min(estimate, counters.get(row * width + indexOf(accountId, row)));
+        }
+        return estimate;
+    }
+
+    /**
+     * 추정 누적값이 큰 순서로 최대 {@code limit}개의 계좌를 돌려준다.
+     */
+    List<Map.Entry<Long, Long>> top(int limit) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(capacity);
+        heavyHittersLock.lock();
+        try {
+            for (int i = 0; i < heapSize; i++) {
+                entries.add(Map.entry(heapAccountIds[i], heapEstimates[i]));
+            }
+        } finally {
+            heavyHittersLock.unlock();
+        }
+        return entries.stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    void reset() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0L);
+        }
+        heavyHittersLock.lock();
+        try {
+            heapPositions.clear();
+            heapSize = 0;
+            admissionThreshold = 0L;
+        } finally {
+            heavyHittersLock.unlock();
+        }
+    }
+
+    private void offer(long accountId, long estimate) {
+        Integer position = heapPositions.get(accountId);
+        if (position != null) {
+            heapEstimates[position] = Math.max(heapEstimates[position], estimate);
+            siftDown(position);
+        } else if (heapSize < capacity) {
+            heapAccountIds[heapSize] = accountId;
+            heapEstimates[heapSize] = estimate;
+            heapPositions.put(accountId, heapSize);
+            siftUp(heapSize++);
+        } else if (estimate > heapEstimates[0]) {
+            heapPositions.remove(heapAccountIds[0]);
+            heapAccountIds[0] = accountId;
+            heapEstimates[0] = estimate;
+            heapPositions.put(accountId, 0);
+            siftDown(0);
+        }
+        admissionThreshold = heapSize == capacity ? heapEstimates[0] : 0L;
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (heapEstimates[parent] <= heapEstimates[position]) {
+                return;
+            }
+            swap(parent, position);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int smallest = position;
+            int left = 2 * position + 1;
+            int right = left + 1;
+            if (left < heapSize && heapEstimates[left] < heapEstimates[smallest]) {
+                smallest = left;
+            }
+            if (right < heapSize && heapEstimates[right] < heapEstimates[smallest]) {
+                smallest = right;
+            }
+            if (smallest == position) {
+                return;
+            }
+            swap(smallest, position);
+            position = smallest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        long accountId = heapAccountIds[i];
+        long estimate = heapEstimates[i];
+        heapAccountIds[i] = heapAccountIds[j];
+        heapEstimates[i] = heapEstimates[j];
+        heapAccountIds[j] = accountId;
+        heapEstimates[j] = estimate;
+        heapPositions.put(heapAccountIds[i], i);
+        heapPositions.put(heapAccountIds[j], j);
+    }
+
+    private int indexOf(long accountId, int row) {
+        long hash = accountId * SEEDS[row];
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
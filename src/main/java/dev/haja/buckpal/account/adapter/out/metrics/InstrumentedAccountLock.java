@@ -0,0 +1,238 @@
+package dev.haja.buckpal.account.adapter.out.metrics;
+
+import dev.haja.buckpal.account.application.port.out.AccountLock;
+import dev.haja.buckpal.account.application.port.out.AccountLockTimeoutException;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잠금 대기와 보유 시간을 기록하는 {@link AccountLock}.
+ * <ul>
+ *     <li>{@code buckpal.account.lock.acquire}: 잠금을 얻기까지 걸린 시간 (result=acquired|timeout|failed)</li>
+ *     <li>{@code buckpal.account.lock.hold}: 잠금을 얻은 뒤 해제할 때까지의 시간</li>
+ *     <li>{@code buckpal.account.lock.timeouts}: 대기 시간 초과 횟수</li>
+ * </ul>
+ * 계좌별 대기 시간은 {@link ContentionSketch}에 더해 가장 많이 기다린 계좌를 고를 수 있게 한다.
+ * 잠금과 해제는 같은 스레드에서 짝을 이루므로, 보유 시작 시각은 스레드별 배열에 보관한다.
+ * 감싼 잠금이 자원을 가지고 있으면 컨테이너가 이 객체를 닫을 때 함께 닫는다.
+ */
+class InstrumentedAccountLock implements AccountLock, AutoCloseable {
+
+    private final AccountLock delegate;
+    private final ContentionSketch contentionSketch;
+    private final Timer acquired;
+    private final Timer timedOut;
+    private final Timer failed;
+    private final Timer hold;
+    private final Counter timeouts;
+    private final ThreadLocal<HeldLocks> heldLocks = ThreadLocal.withInitial(HeldLocks::new);
+
+    InstrumentedAccountLock(AccountLock delegate, MeterRegistry meterRegistry, ContentionSketch contentionSketch) {
+        this.delegate = delegate;
+        this.contentionSketch = contentionSketch;
+        this.acquired = acquireTimer(meterRegistry, "acquired");
+        this.timedOut = acquireTimer(meterRegistry, "timeout");
+        this.failed = acquireTimer(meterRegistry, "failed");
+        this.hold = Timer.builder("buckpal.account.lock.hold")
+                .description("계좌 잠금을 보유한 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.timeouts = Counter.builder("buckpal.account.lock.timeouts")
+                .description("계좌 잠금 대기 시간 초과 횟수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void lockAccount(AccountId accountId) {
+        long startedAt = System.nanoTime();
+        try {
+            delegate.lockAccount(accountId);
+        } catch (RuntimeException e) {
+            long waitNanos = recordFailure(e, startedAt);
+            contentionSketch.add(accountId.getValue(), waitNanos);
+            throw e;
+        }
+        long acquiredAt = System.nanoTime();
+        long waitNanos = recordAcquired(startedAt, acquiredAt);
+        HeldLocks held = heldLocks.get();
+        recordHeld(held, accountId, waitNanos, acquiredAt);
+    }
+
+    @Override
+    public void releaseAccount(AccountId accountId) {
+        delegate.releaseAccount(accountId);
+        recordReleased(heldLocks.get(), System.nanoTime(), accountId);
+    }
+
+    @Override
+    public void lockAccounts(AccountId first, AccountId second) {
+        long startedAt = System.nanoTime();
+        try {
+            delegate.lockAccounts(first, second);
+        } catch (RuntimeException e) {
+            long waitNanos = recordFailure(e, startedAt);
+            contentionSketch.add(first.getValue(), waitNanos);
+            if (!first.equals(second)) {
+                contentionSketch.add(second.getValue(), waitNanos);
+            }
+            throw e;
+        }
+        long acquiredAt = System.nanoTime();
+        long waitNanos = recordAcquired(startedAt, acquiredAt);
+        HeldLocks held = heldLocks.get();
+        recordHeld(held, first, waitNanos, acquiredAt);
+        recordHeld(held, second, waitNanos, acquiredAt);
+    }
+
+    @Override
+    public void releaseAccounts(AccountId first, AccountId second) {
+        delegate.releaseAccounts(first, second);
+        long releasedAt = System.nanoTime();
+        HeldLocks held = heldLocks.get();
+        recordReleased(held, releasedAt, first);
+        recordReleased(held, releasedAt, second);
+    }
+
+    /**
+     * 호출자는 중복 없는 {@link Set}을 넘기므로, 그 밖의 컬렉션일 때만 중복을 걸러 낸 사본을 만든다.
+     */
+    @Override
+    public void lockAccounts(Collection<AccountId> accountIds) {
+        Collection<AccountId> distinct = accountIds instanceof Set<AccountId> ? accountIds : new LinkedHashSet<>(accountIds);
+        long startedAt = System.nanoTime();
+        try {
+            delegate.lockAccounts(accountIds);
+        } catch (RuntimeException e) {
+            long waitNanos = recordFailure(e, startedAt);
+            for (AccountId accountId : distinct) {
+                contentionSketch.add(accountId.getValue(), waitNanos);
+            }
+            throw e;
+        }
+        long acquiredAt = System.nanoTime();
+        long waitNanos = recordAcquired(startedAt, acquiredAt);
+        HeldLocks held = heldLocks.get();
+        for (AccountId accountId : distinct) {
+            recordHeld(held, accountId, waitNanos, acquiredAt);
+        }
+    }
+
+    @Override
+    public void releaseAccounts(Collection<AccountId> accountIds) {
+        delegate.releaseAccounts(accountIds);
+        long releasedAt = System.nanoTime();
+        HeldLocks held = heldLocks.get();
+        for (AccountId accountId : accountIds) {
+            // 이미 지운 계좌는 찾지 못하므로 중복이 있어도 한 번만 기록된다.
+            recordReleased(held, releasedAt, accountId);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private long recordAcquired(long startedAt, long acquiredAt) {
+        long waitNanos = acquiredAt - startedAt;
+        acquired.record(waitNanos, TimeUnit.NANOSECONDS);
+        return waitNanos;
+    }
+
+    private void recordHeld(HeldLocks held, AccountId accountId, long waitNanos, long acquiredAt) {
+        long id = accountId.getValue();
+        if (held.put(id, acquiredAt)) {
+            contentionSketch.add(id, waitNanos);
+        }
+    }
+
+    private long recordFailure(RuntimeException e, long startedAt) {
+        long waitNanos = System.nanoTime() - startedAt;
+        if (e instanceof AccountLockTimeoutException) {
+            timedOut.record(waitNanos, TimeUnit.NANOSECONDS);
+            timeouts.increment();
+        } else {
+            failed.record(waitNanos, TimeUnit.NANOSECONDS);
+        }
+        return waitNanos;
+    }
+
+    private void recordReleased(HeldLocks held, long releasedAt, AccountId accountId) {
+        long acquiredAt = held.remove(accountId.getValue());
+        if (acquiredAt != HeldLocks.ABSENT) {
+            hold.record(releasedAt - acquiredAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer acquireTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("buckpal.account.lock.acquire")
+                .description("계좌 잠금을 얻기까지 기다린 시간")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 한 스레드가 보유한 계좌 잠금과 얻은 시각.
+     * 한 번에 보유하는 잠금은 몇 개뿐이므로 배열을 차례로 훑고, 계좌 ID와 시각을 박싱하지 않는다.
+     * 스레드가 끝날 때까지 배열을 다시 쓰므로 잠글 때마다 새로 만드는 객체가 없다.
+     */
+    private static final class HeldLocks {
+        private static final long ABSENT = Long.MIN_VALUE;
+
+        private long[] accountIds = new long[4];
+        private long[] acquiredAt = new long[4];
+        private int size;
+
+        /**
+         * 새로 보유한 계좌면 {@code true}. 이미 보유한 계좌면 시각을 바꾸지 않는다.
+         */
+        boolean put(long accountId, long at) {
+            if (indexOf(accountId) >= 0) {
+                return false;
+            }
+            if (size == accountIds.length) {
+                accountIds = Arrays.copyOf(accountIds, size * 2);
+                acquiredAt = Arrays.copyOf(acquiredAt, size * 2);
+            }
+            accountIds[size] = accountId;
+            acquiredAt[size] = at;
+            size++;
+            return true;
+        }
+
+        /**
+         * 보유를 끝내고 얻은 시각을 돌려준다. 보유하지 않은 계좌면 {@link #ABSENT}.
+         */
+        long remove(long accountId) {
+            int index = indexOf(accountId);
+            if (index < 0) {
+                return ABSENT;
+            }
+            long at = acquiredAt[index];
+            size--;
+            accountIds[index] = accountIds[size];
+            acquiredAt[index] = acquiredAt[size];
+            return at;
+        }
+
+        private int indexOf(long accountId) {
+            for (int i = 0; i < size; i++) {
+                if (accountIds[i] == accountId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package dev.haja.buckpal.account.adapter.out.metrics;
+
+import dev.haja.buckpal.account.application.port.out.LoadAccountPort;
+import dev.haja.buckpal.account.application.port.out.UpdateAccountStatePort;
+import dev.haja.buckpal.account.domain.Account;
+import dev.haja.buckpal.account.domain.Activity;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포트 호출 시간과 계좌 도메인 지표를 기록한다.
+ * <ul>
+ *     <li>{@code buckpal.port.calls}: 포트 메서드 호출 시간 (port, method, result=succeeded|failed).
+ *     비동기 메서드는 돌려준 결과가 완료될 때까지 잰다</li>
+ *     <li>{@code buckpal.account.window.size}: 읽은 계좌의 활동 윈도우 크기</li>
+ *     <li>{@code buckpal.account.balance.compute}: 읽은 계좌의 잔액 계산 시간.
+ *     계산을 한 번 더 하게 되므로 {@value #BALANCE_SAMPLE_RATE}개 중 하나만 잰다</li>
+ *     <li>{@code buckpal.transfer.activities.persisted}: 커밋된 트랜잭션 하나가 저장한 새 활동 수.
+ *     트랜잭션 밖에서 저장하면 호출마다 기록한다</li>
+ * </ul>
+ * 백분위수는 애플리케이션에서 계산하지 않고 히스토그램 버킷으로 내보내, 기록 비용을 버킷 카운터 증가로 줄이고
+ * 인스턴스 사이에서 합칠 수 있게 한다. 미터는 메서드마다 처음 호출할 때 한 번 찾아 둔다.
+ */
+class PortMetricsInterceptor implements MethodInterceptor {
+
+    static final int BALANCE_SAMPLE_RATE = 16;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, PortMethod> portMethods = new ConcurrentHashMap<>();
+    private final DistributionSummary windowSize;
+    private final Timer balanceCompute;
+    private final DistributionSummary persistedActivities;
+
+    PortMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.windowSize = DistributionSummary.builder("buckpal.account.window.size")
+                .description("읽은 계좌의 활동 윈도우에 담긴 활동 수")
+                .baseUnit("activities")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(1_000_000.0)
+                .register(meterRegistry);
+        this.balanceCompute = Timer.builder("buckpal.account.balance.compute")
+                .description("읽은 계좌의 잔액을 계산하는 데 걸린 시간 (표본)")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.persistedActivities = DistributionSummary.builder("buckpal.transfer.activities.persisted")
+                .description("커밋된 송금 트랜잭션 하나가 저장한 새 활동 수")
+                .baseUnit("activities")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(10_000.0)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대상이 구현한 인터페이스로 프록시를 만들어, 주어진 포트에 선언된 메서드만 계측한다.
+     * 나머지 메서드는 어드바이스 없이 대상으로 바로 넘어간다.
+     */
+    static Object proxy(Object target, Set<Class<?>> ports, MeterRegistry meterRegistry) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addAdvisor(new DefaultPointcutAdvisor(new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return ports.contains(method.getDeclaringClass());
+            }
+        }, new PortMetricsInterceptor(meterRegistry)));
+        return proxyFactory.getProxy();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        PortMethod portMethod = portMethods.computeIfAbsent(invocation.getMethod(), this::portMethod);
+        // 저장한 계좌의 활동 ID는 저장 후에도 비어 있지만, 어댑터가 바꿀 수 있으므로 호출 전에 센다.
+        int newActivities = portMethod.kind() == Kind.PERSIST ? countNewActivities(invocation.getArguments()) : 0;
+        long startedAt = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            portMethod.failed().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        if (result instanceof CompletableFuture<?> future) {
+            future.whenComplete((value, failure) -> (failure == null ? portMethod.succeeded() : portMethod.failed())
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS));
+            return result;
+        }
+        portMethod.succeeded().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        switch (portMethod.kind()) {
+            case LOAD -> recordLoaded(result);
+            case PERSIST -> recordPersisted(newActivities);
+            case NONE -> { }
+        }
+        return result;
+    }
+
+    private PortMethod portMethod(Method method) {
+        return new PortMethod(
+                callTimer(method, "succeeded"),
+                callTimer(method, "failed"),
+                kindOf(method));
+    }
+
+    private Timer callTimer(Method method, String result) {
+        return Timer.builder("buckpal.port.calls")
+                .description("포트 메서드를 호출해 결과를 받기까지 걸린 시간")
+                .tag("port", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 입금용으로 읽은 계좌는 활동 윈도우를 비워 두므로 도메인 지표에서 뺀다.
+     */
+    private static Kind kindOf(Method method) {
+        if (method.getDeclaringClass() == LoadAccountPort.class && !method.getName().equals("loadAccountsForDeposit")) {
+            return Kind.LOAD;
+        }
+        if (method.getDeclaringClass() == UpdateAccountStatePort.class) {
+            return Kind.PERSIST;
+        }
+        return Kind.NONE;
+    }
+
+    private void recordLoaded(Object result) {
+        if (result instanceof Account account) {
+            recordLoaded(account);
+        } else if (result instanceof Map<?, ?> accounts) {
+            for (Object account : accounts.values()) {
+                if (account instanceof Account loaded) {
+                    recordLoaded(loaded);
+                }
+            }
+        }
+    }
+
+    private void recordLoaded(Account account) {
+        windowSize.record(account.getActivityWindow().getActivities().size());
+        if (ThreadLocalRandom.current().nextInt(BALANCE_SAMPLE_RATE) == 0) {
+            long startedAt = System.nanoTime();
+            account.calculateBalance();
+            balanceCompute.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static int countNewActivities(Object[] arguments) {
+        int count = 0;
+        for (Object argument : arguments) {
+            if (argument instanceof Account account) {
+                count += countNewActivities(account);
+            } else if (argument instanceof Collection<?> accounts) {
+                for (Object element : accounts) {
+                    if (element instanceof Account account) {
+                        count += countNewActivities(account);
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    private static int countNewActivities(Account account) {
+        int count = 0;
+        for (Activity activity : account.getActivityWindow().getActivities()) {
+            if (activity.getId() == null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 송금은 출금 계좌와 입금 계좌를 따로 저장하기도 하므로, 트랜잭션이 있으면 커밋할 때 합계를 한 번 기록한다.
+     */
+    private void recordPersisted(int newActivities) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            persistedActivities.record(newActivities);
+            return;
+        }
+        PersistedActivities pending = (PersistedActivities) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PersistedActivities();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.count += newActivities;
+    }
+
+    private enum Kind {
+        LOAD,
+        PERSIST,
+        NONE
+    }
+
+    private record PortMethod(Timer succeeded, Timer failed, Kind kind) {}
+
+    private final class PersistedActivities implements TransactionSynchronization {
+        private int count;
+
+        @Override
+        public void afterCommit() {
+            persistedActivities.record(count);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PortMetricsInterceptor.this);
+        }
+    }
+}
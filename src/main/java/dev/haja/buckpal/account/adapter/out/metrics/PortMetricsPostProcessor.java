@@ -0,0 +1,75 @@
+package dev.haja.buckpal.account.adapter.out.metrics;
+
+import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+import dev.haja.buckpal.account.application.port.out.LoadAccountPort;
+import dev.haja.buckpal.account.application.port.out.UpdateAccountStatePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 계좌 읽기, 활동 저장, 송금 포트를 구현한 빈을 {@link PortMetricsInterceptor}로 감싼다.
+ * 영속성 어댑터는 여러 포트를 한 빈으로 구현하므로 포트 하나만 구현한 데코레이터 대신 인터페이스 프록시로 감싸,
+ * 다른 포트로 주입받는 곳은 그대로 동작하게 한다. 계좌 잠금은 {@link AccountLockMetricsPostProcessor}가 따로 계측한다.
+ *
+ * <p>송금 사용 사례는 여러 구현이 서로를 감싸므로, 호출자가 주입받는 {@code @Primary} 빈만 잰다.
+ * 이미 AOP 프록시인 빈(트랜잭션이 걸린 {@code SendMoneyService} 등)은 감싸지 않는다.
+ */
+@Component
+class PortMetricsPostProcessor implements BeanPostProcessor, BeanFactoryAware {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private ConfigurableListableBeanFactory beanFactory;
+
+    PortMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        this.beanFactory = (ConfigurableListableBeanFactory) beanFactory;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (AopUtils.isAopProxy(bean)) {
+            return bean;
+        }
+        Set<Class<?>> ports = instrumentedPorts(bean, beanName);
+        if (ports.isEmpty()) {
+            return bean;
+        }
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return bean;
+        }
+        return PortMetricsInterceptor.proxy(bean, ports, registry);
+    }
+
+    private Set<Class<?>> instrumentedPorts(Object bean, String beanName) {
+        Set<Class<?>> ports = new LinkedHashSet<>();
+        if (bean instanceof LoadAccountPort) {
+            ports.add(LoadAccountPort.class);
+        }
+        if (bean instanceof UpdateAccountStatePort) {
+            ports.add(UpdateAccountStatePort.class);
+        }
+        if (bean instanceof SendMoneyUseCase && isPrimary(beanName)) {
+            ports.add(SendMoneyUseCase.class);
+        }
+        return ports;
+    }
+
+    private boolean isPrimary(String beanName) {
+        return beanFactory.containsBeanDefinition(beanName)
+                && beanFactory.getMergedBeanDefinition(beanName).isPrimary();
+    }
+}
@@ -1,9 +1,11 @@
 package dev.haja.buckpal.account.adapter.out.persistence;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.*;
 
 @Entity @Data
@@ -14,4 +16,12 @@ import lombok.*;
 public class AccountJpaEntity {
     @Id @GeneratedValue
     private Long id;
-}
\ No newline at end of file
+
+    /**
+     * 계좌에 새 활동이 기록될 때마다 증가하는 버전.
+     * 출금이 포함된 갱신은 읽을 때의 버전과 비교해 조건부로 증가시킨다.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+}
@@ -0,0 +1,28 @@
+package dev.haja.buckpal.account.adapter.out.persistence;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 임대 잠금 테이블. 행이 있고 만료되지 않았으면 {@code ownerId} 인스턴스가 그 계좌를 잠그고 있다.
+ * 행은 {@link LeaseAccountLock}이 JDBC로 직접 읽고 쓰며, 이 엔티티는 스키마를 정의하는 데만 쓴다.
+ */
+@Entity @Data
+@Table(name = "account_lease",
+        indexes = @Index(name = "idx_account_lease_expires_at", columnList = "expires_at"))
+@EqualsAndHashCode(of = {"accountId"})
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AccountLeaseJpaEntity {
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Column(name = "owner_id", nullable = false, length = 64)
+    private String ownerId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -1,26 +1,48 @@
 package dev.haja.buckpal.account.adapter.out.persistence;
 
+import dev.haja.buckpal.account.adapter.out.persistence.ActivityRepository.AccountBalanceView;
+import dev.haja.buckpal.account.application.port.out.LoadAccountBalancesPort;
 import dev.haja.buckpal.account.application.port.out.LoadAccountPort;
+import dev.haja.buckpal.account.application.port.out.LoadAccountVersionPort;
+import dev.haja.buckpal.account.application.port.out.LoadActivityHistoryPort;
 import dev.haja.buckpal.account.application.port.out.UpdateAccountStatePort;
 import dev.haja.buckpal.account.domain.Account;
 import dev.haja.buckpal.account.domain.Account.AccountId;
 import dev.haja.buckpal.account.domain.Activity;
+import dev.haja.buckpal.account.domain.Money;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 
 @Component
 @RequiredArgsConstructor
 class AccountPersistenceAdapter implements
         LoadAccountPort,
+        LoadAccountBalancesPort,
+        LoadAccountVersionPort,
+        LoadActivityHistoryPort,
         UpdateAccountStatePort {
 
     private final AccountRepository accountRepository;
     private final ActivityRepository activityRepository;
     private final AccountMapper accountMapper;
+    private final EntityManager entityManager;
+    private final ObjectProvider<ConcurrentLoader> concurrentLoader;
 
     @Override
     public Account loadAccount(
@@ -31,19 +53,80 @@ class AccountPersistenceAdapter implements
                 accountRepository.findById(accountId.getValue())
                         .orElseThrow(EntityNotFoundException::new);
 
+        return loadActivities(account, baselineDate);
+    }
+
+    /**
+     * 여러 계좌를 읽는다.
+     * 계좌 엔티티는 호출한 트랜잭션에서 먼저 읽어, 이후 버전 비교가 이 시점의 버전을 기준으로 하게 한다.
+     * 동시 읽기가 켜져 있으면 계좌별 활동은 {@link ConcurrentLoader}가 각자의 커넥션에서 동시에 읽고,
+     * 그렇지 않으면 모든 계좌의 활동과 기준 잔액을 계좌 수와 무관하게 두 번의 조회로 읽는다.
+     */
+    @Override
+    public Map<AccountId, Account> loadAccounts(
+            Collection<AccountId> accountIds,
+            LocalDateTime baselineDate) {
+        List<Long> ids = accountIds.stream()
+                .map(AccountId::getValue)
+                .distinct()
+                .toList();
+        Map<Long, AccountJpaEntity> found = new HashMap<>();
+        for (AccountJpaEntity account : accountRepository.findAllById(ids)) {
+            found.put(account.getId(), account);
+        }
+        List<AccountJpaEntity> accounts = ids.stream()
+                .map(id -> Optional.ofNullable(found.get(id)).orElseThrow(EntityNotFoundException::new))
+                .toList();
+
+        ConcurrentLoader loader = concurrentLoader.getIfAvailable();
+        if (loader == null) {
+            return loadActivities(accounts, baselineDate);
+        }
+        Map<AccountId, Account> result = new LinkedHashMap<>();
+        Map<AccountJpaEntity, Account> loaded =
+                loader.loadAll(accounts, account -> loadActivities(account, baselineDate));
+        for (AccountJpaEntity account : accounts) {
+            result.put(new AccountId(account.getId()), loaded.get(account));
+        }
+        return result;
+    }
+
+    /**
+     * 계좌 엔티티만 읽고 활동과 기준 잔액 조회는 건너뛴다.
+     * 읽은 엔티티는 영속성 컨텍스트에 남으므로, 활동을 저장한 뒤 버전을 올릴 때 다시 조회하지 않는다.
+     */
+    @Override
+    public Map<AccountId, Account> loadAccountsForDeposit(Collection<AccountId> accountIds) {
+        List<Long> ids = accountIds.stream()
+                .map(AccountId::getValue)
+                .distinct()
+                .toList();
+        Map<Long, AccountJpaEntity> found = new HashMap<>();
+        for (AccountJpaEntity account : accountRepository.findAllById(ids)) {
+            found.put(account.getId(), account);
+        }
+        Map<AccountId, Account> result = new LinkedHashMap<>();
+        for (Long id : ids) {
+            AccountJpaEntity account = Optional.ofNullable(found.get(id)).orElseThrow(EntityNotFoundException::new);
+            result.put(new AccountId(id), accountMapper.mapToDomainEntity(account, List.of(), 0L, 0L));
+        }
+        return result;
+    }
+
+    private Account loadActivities(AccountJpaEntity account, LocalDateTime baselineDate) {
         List<ActivityJpaEntity> activities =
                 activityRepository.findByOwnerSince(
-                        accountId.getValue(),
+                        account.getId(),
                         baselineDate);
 
         Long withdrawalBalance = orZero(
                 activityRepository.getWithdrawalBalanceUntil(
-                        accountId.getValue(),
+                        account.getId(),
                         baselineDate));
 
         Long depositBalance = orZero(
                 activityRepository.getDepositBalanceUntil(
-                        accountId.getValue(),
+                        account.getId(),
                         baselineDate));
 
         return accountMapper.mapToDomainEntity(
@@ -53,16 +136,153 @@ class AccountPersistenceAdapter implements
                 depositBalance);
     }
 
+    private Map<AccountId, Account> loadActivities(List<AccountJpaEntity> accounts, LocalDateTime baselineDate) {
+        List<Long> ids = accounts.stream()
+                .map(AccountJpaEntity::getId)
+                .toList();
+        Map<Long, List<ActivityJpaEntity>> activities = new HashMap<>();
+        for (ActivityJpaEntity activity : activityRepository.findByOwnersSince(ids, baselineDate)) {
+            activities.computeIfAbsent(activity.getOwnerAccountId(), id -> new ArrayList<>()).add(activity);
+        }
+        Map<Long, Long> baselineBalances = new HashMap<>();
+        for (AccountBalanceView view : activityRepository.getBalancesUntil(ids, baselineDate)) {
+            baselineBalances.put(view.getAccountId(), orZero(view.getBalance()));
+        }
+
+        Map<AccountId, Account> result = new LinkedHashMap<>();
+        for (AccountJpaEntity account : accounts) {
+            // 기준 잔액은 입금 합계에서 출금 합계를 뺀 값으로 이미 계산되어 있다.
+            result.put(new AccountId(account.getId()), accountMapper.mapToDomainEntity(
+                    account,
+                    activities.getOrDefault(account.getId(), List.of()),
+                    0L,
+                    baselineBalances.getOrDefault(account.getId(), 0L)));
+        }
+        return result;
+    }
+
+    @Override
+    public Map<AccountId, Money> loadBalances(Collection<AccountId> accountIds) {
+        if (accountIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = accountIds.stream()
+                .map(AccountId::getValue)
+                .distinct()
+                .toList();
+
+        Map<AccountId, Money> balances = new HashMap<>();
+        for (AccountJpaEntity account : accountRepository.findAllById(ids)) {
+            balances.put(new AccountId(account.getId()), Money.ZERO);
+        }
+        for (AccountBalanceView view : activityRepository.getBalancesOf(ids)) {
+            balances.computeIfPresent(
+                    new AccountId(view.getAccountId()),
+                    (accountId, zero) -> Money.of(orZero(view.getBalance())));
+        }
+        return balances;
+    }
+
+    /**
+     * 범위의 계좌 ID를 먼저 읽고, 그 첫 ID와 마지막 ID 사이의 활동을 한 번의 GROUP BY로 집계한다.
+     * IN 목록 없이 범위 조건만 쓰므로, 한 번에 읽는 계좌 수가 많아도 쿼리 크기는 같다.
+     */
+    @Override
+    public Map<AccountId, Money> loadBalancesInRange(AccountId afterId, AccountId lastId, int limit) {
+        List<Long> ids = accountRepository.findIdsInRange(afterId.getValue(), lastId.getValue(), Limit.of(limit));
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<AccountId, Money> balances = new LinkedHashMap<>();
+        for (Long id : ids) {
+            balances.put(new AccountId(id), Money.ZERO);
+        }
+        for (AccountBalanceView view : activityRepository.getBalancesBetween(ids.getFirst(), ids.getLast())) {
+            balances.computeIfPresent(
+                    new AccountId(view.getAccountId()),
+                    (accountId, zero) -> Money.of(orZero(view.getBalance())));
+        }
+        return balances;
+    }
+
+    /**
+     * 계좌 행의 버전만 읽는다. 활동 테이블은 보지 않는다.
+     */
+    @Override
+    public Optional<Long> loadVersion(AccountId accountId) {
+        return accountRepository.findVersionById(accountId.getValue());
+    }
+
+    @Override
+    public List<Activity> loadLatestActivities(AccountId ownerAccountId, int limit) {
+        return accountMapper.mapToActivityWindow(
+                activityRepository.findLatestByOwner(ownerAccountId.getValue(), Limit.of(limit)))
+                .getActivities();
+    }
+
+    @Override
+    public List<Activity> loadActivitiesBefore(
+            AccountId ownerAccountId,
+            LocalDateTime timestamp,
+            long activityId,
+            int limit) {
+        return accountMapper.mapToActivityWindow(
+                activityRepository.findByOwnerBefore(ownerAccountId.getValue(), timestamp, activityId, Limit.of(limit)))
+                .getActivities();
+    }
+
     private Long orZero(Long value) {
         return value == null ? 0L : value;
     }
 
     @Override
     public void updateActivities(Account account) {
-        for (Activity activity : account.getActivityWindow().getActivities()) {
-            if (activity.getId() == null) {
-                activityRepository.save(accountMapper.mapToJpaEntity(activity));
+        updateActivities(List.of(account));
+    }
+
+    /**
+     * 모든 계좌의 새 활동을 한 번에 저장한 뒤 계좌 버전을 계좌 ID 순서로 올린다.
+     * 활동 ID는 시퀀스에서 미리 받아 두므로, INSERT는 flush 때 JDBC 배치로 묶여 나간다.
+     */
+    @Override
+    public void updateActivities(Collection<Account> accounts) {
+        List<ActivityJpaEntity> newActivities = new ArrayList<>();
+        Map<AccountId, Boolean> hasNewWithdrawal = new TreeMap<>(Comparator.comparing(AccountId::getValue));
+        for (Account account : accounts) {
+            for (Activity activity : account.getActivityWindow().getActivities()) {
+                if (activity.getId() == null) {
+                    newActivities.add(accountMapper.mapToJpaEntity(activity));
+                    boolean withdrawal = activity.getSourceAccountId().equals(activity.getOwnerAccountId());
+                    account.getId().ifPresent(accountId -> hasNewWithdrawal.merge(accountId, withdrawal, Boolean::logicalOr));
+                }
+            }
+        }
+        if (newActivities.isEmpty()) {
+            return;
+        }
+        activityRepository.saveAll(newActivities);
+        hasNewWithdrawal.forEach(this::bumpVersion);
+    }
+
+    /**
+     * 계좌 버전을 곧바로 올린다. 계좌 행은 이때부터 커밋까지 잠기므로, 트랜잭션마다 계좌 ID 순서로 올려야 교착되지 않는다.
+     * 출금은 읽은 잔액을 전제로 하므로, 이 트랜잭션에서 읽은 버전과 같을 때만 올린다.
+     * 그 사이 다른 트랜잭션이 버전을 올렸다면 {@link ObjectOptimisticLockingFailureException}으로 실패한다.
+     * 입금만 있는 경우는 잔액 검사가 없으므로 비교 없이 올린다.
+     */
+    private void bumpVersion(AccountId accountId, boolean hasWithdrawal) {
+        AccountJpaEntity account = accountRepository.findById(accountId.getValue()).orElse(null);
+        if (account == null) {
+            return;
+        }
+        if (hasWithdrawal) {
+            if (accountRepository.incrementVersion(accountId.getValue(), account.getVersion()) == 0) {
+                throw new ObjectOptimisticLockingFailureException(AccountJpaEntity.class, accountId.getValue());
             }
+        } else {
+            accountRepository.incrementVersion(accountId.getValue());
         }
+        // 영속성 컨텍스트의 엔티티는 이전 버전을 들고 있으므로, 이후 조회가 올린 버전을 다시 읽도록 분리한다.
+        entityManager.detach(account);
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,38 @@
 package dev.haja.buckpal.account.adapter.out.persistence;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
 
 interface AccountRepository
-        extends JpaRepository<AccountJpaEntity, Long> {}
\ No newline at end of file
+        extends JpaRepository<AccountJpaEntity, Long> {
+
+    @Modifying
+    @Query("UPDATE AccountJpaEntity a " +
+            "SET a.version = a.version + 1 " +
+            "WHERE a.id = :accountId")
+    int incrementVersion(@Param("accountId") Long accountId);
+
+    @Modifying
+    @Query("UPDATE AccountJpaEntity a " +
+            "SET a.version = a.version + 1 " +
+            "WHERE a.id = :accountId AND a.version = :version")
+    int incrementVersion(@Param("accountId") Long accountId, @Param("version") Long version);
+
+    @Query("SELECT a.version FROM AccountJpaEntity a " +
+            "WHERE a.id = :accountId")
+    Optional<Long> findVersionById(@Param("accountId") Long accountId);
+
+    @Query("SELECT a.id FROM AccountJpaEntity a " +
+            "WHERE a.id > :afterId AND a.id <= :lastId " +
+            "ORDER BY a.id")
+    List<Long> findIdsInRange(
+            @Param("afterId") Long afterId,
+            @Param("lastId") Long lastId,
+            Limit limit);
+}
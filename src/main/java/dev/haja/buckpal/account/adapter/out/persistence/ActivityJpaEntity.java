@@ -6,7 +6,11 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity @Data
-@Table(name = "Activity")
+@Table(name = "Activity", indexes = {
+        // 계좌별 활동 조회와 계좌 범위 집계가 활동 테이블 전체를 훑지 않게 하고,
+        // 활동 이력은 (timestamp, id) 순서를 그대로 따라 읽어 페이지 위치와 무관하게 정렬 없이 끝난다.
+        @Index(name = "idx_activity_owner_timestamp_id", columnList = "owner_account_id, timestamp, id")
+})
 @EqualsAndHashCode(of = {"id"})
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
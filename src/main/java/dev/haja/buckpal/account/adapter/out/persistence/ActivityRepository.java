@@ -1,10 +1,12 @@
 package dev.haja.buckpal.account.adapter.out.persistence;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 interface ActivityRepository extends JpaRepository<ActivityJpaEntity, Long> {
@@ -16,6 +18,30 @@ interface ActivityRepository extends JpaRepository<ActivityJpaEntity, Long> {
             @Param("ownerAccountId") Long ownerAccountId,
             @Param("since") LocalDateTime since);
 
+    @Query("SELECT a FROM ActivityJpaEntity a " +
+            "WHERE a.ownerAccountId IN :ownerAccountIds " +
+            "AND a.timestamp >= :since")
+    List<ActivityJpaEntity> findByOwnersSince(
+            @Param("ownerAccountIds") Collection<Long> ownerAccountIds,
+            @Param("since") LocalDateTime since);
+
+    @Query("SELECT a FROM ActivityJpaEntity a " +
+            "WHERE a.ownerAccountId = :ownerAccountId " +
+            "ORDER BY a.timestamp DESC, a.id DESC")
+    List<ActivityJpaEntity> findLatestByOwner(
+            @Param("ownerAccountId") Long ownerAccountId,
+            Limit limit);
+
+    @Query("SELECT a FROM ActivityJpaEntity a " +
+            "WHERE a.ownerAccountId = :ownerAccountId " +
+            "AND (a.timestamp < :timestamp OR (a.timestamp = :timestamp AND a.id < :activityId)) " +
+            "ORDER BY a.timestamp DESC, a.id DESC")
+    List<ActivityJpaEntity> findByOwnerBefore(
+            @Param("ownerAccountId") Long ownerAccountId,
+            @Param("timestamp") LocalDateTime timestamp,
+            @Param("activityId") Long activityId,
+            Limit limit);
+
     @Query("SELECT SUM(a.amount) FROM ActivityJpaEntity a " +
             "WHERE a.targetAccountId = :accountId " +
             "AND a.ownerAccountId = :accountId " +
@@ -32,4 +58,40 @@ interface ActivityRepository extends JpaRepository<ActivityJpaEntity, Long> {
             @Param("accountId") Long accountId,
             @Param("until") LocalDateTime until);
 
+    @Query("SELECT a.ownerAccountId AS accountId, " +
+            "SUM(CASE WHEN a.targetAccountId = a.ownerAccountId THEN a.amount ELSE 0L END) - " +
+            "SUM(CASE WHEN a.sourceAccountId = a.ownerAccountId THEN a.amount ELSE 0L END) AS balance " +
+            "FROM ActivityJpaEntity a " +
+            "WHERE a.ownerAccountId IN :accountIds " +
+            "GROUP BY a.ownerAccountId")
+    List<AccountBalanceView> getBalancesOf(
+            @Param("accountIds") Collection<Long> accountIds);
+
+    @Query("SELECT a.ownerAccountId AS accountId, " +
+            "SUM(CASE WHEN a.targetAccountId = a.ownerAccountId THEN a.amount ELSE 0L END) - " +
+            "SUM(CASE WHEN a.sourceAccountId = a.ownerAccountId THEN a.amount ELSE 0L END) AS balance " +
+            "FROM ActivityJpaEntity a " +
+            "WHERE a.ownerAccountId BETWEEN :firstId AND :lastId " +
+            "GROUP BY a.ownerAccountId")
+    List<AccountBalanceView> getBalancesBetween(
+            @Param("firstId") Long firstId,
+            @Param("lastId") Long lastId);
+
+    @Query("SELECT a.ownerAccountId AS accountId, " +
+            "SUM(CASE WHEN a.targetAccountId = a.ownerAccountId THEN a.amount ELSE 0L END) - " +
+            "SUM(CASE WHEN a.sourceAccountId = a.ownerAccountId THEN a.amount ELSE 0L END) AS balance " +
+            "FROM ActivityJpaEntity a " +
+            "WHERE a.ownerAccountId IN :accountIds " +
+            "AND a.timestamp < :until " +
+            "GROUP BY a.ownerAccountId")
+    List<AccountBalanceView> getBalancesUntil(
+            @Param("accountIds") Collection<Long> accountIds,
+            @Param("until") LocalDateTime until);
+
+    interface AccountBalanceView {
+        Long getAccountId();
+
+        Long getBalance();
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+package dev.haja.buckpal.account.adapter.out.persistence;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * 여러 읽기를 가상 스레드에서 동시에 실행한다.
+ * 각 읽기는 자기 스레드에서 새 읽기 전용 트랜잭션을 열므로 커넥션을 하나씩 따로 쓴다.
+ * 호출한 스레드의 트랜잭션에는 참여하지 않으므로, 버전처럼 쓰기 트랜잭션에서 확인해야 하는 값은 호출자가 먼저 읽어 둔다.
+ *
+ * <p>읽기들의 수명은 {@link #loadAll} 호출 안으로 한정된다. 하나가 실패하면 나머지를 인터럽트로 취소하고,
+ * 모두 끝난 뒤 첫 번째 실패를 호출자에게 다시 던진다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "buckpal.account", name = "concurrent-loading", havingValue = "true")
+class ConcurrentLoader {
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    ConcurrentLoader(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    <K, V> Map<K, V> loadAll(List<K> keys, Function<K, V> loader) {
+        if (keys.size() == 1) {
+            K key = keys.getFirst();
+            return Map.of(key, loader.apply(key));
+        }
+        Map<K, V> results = new HashMap<>();
+        try (ExecutorService scope = Executors.newVirtualThreadPerTaskExecutor()) {
+            ExecutorCompletionService<Map.Entry<K, V>> completion = new ExecutorCompletionService<>(scope);
+            List<Future<Map.Entry<K, V>>> subtasks = new ArrayList<>(keys.size());
+            for (K key : keys) {
+                subtasks.add(completion.submit(() -> Map.entry(key, readOnlyTransaction.execute(status -> loader.apply(key)))));
+            }
+            for (int i = 0; i < keys.size(); i++) {
+                Map.Entry<K, V> entry = awaitNext(completion, subtasks);
+                results.put(entry.getKey(), entry.getValue());
+            }
+        }
+        Map<K, V> ordered = new LinkedHashMap<>();
+        for (K key : keys) {
+            ordered.put(key, results.get(key));
+        }
+        return ordered;
+    }
+
+    private static <T> T awaitNext(ExecutorCompletionService<T> completion, List<Future<T>> subtasks) {
+        try {
+            return completion.take().get();
+        } catch (InterruptedException e) {
+            subtasks.forEach(subtask -> subtask.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("계좌를 동시에 읽는 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException | CancellationException e) {
+            subtasks.forEach(subtask -> subtask.cancel(true));
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
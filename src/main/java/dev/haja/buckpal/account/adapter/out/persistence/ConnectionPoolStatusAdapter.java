@@ -0,0 +1,45 @@
+package dev.haja.buckpal.account.adapter.out.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import dev.haja.buckpal.account.application.port.out.ConnectionPoolStatusPort;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Hikari 커넥션 풀의 크기와 대기 스레드 수를 읽는 어댑터.
+ * 데이터 소스가 Hikari가 아니거나 풀이 아직 시작되지 않았으면 대기가 없는 것으로 본다.
+ */
+@Component
+class ConnectionPoolStatusAdapter implements ConnectionPoolStatusPort {
+
+    private final HikariDataSource hikariDataSource;
+
+    ConnectionPoolStatusAdapter(DataSource dataSource) {
+        this.hikariDataSource = unwrap(dataSource);
+    }
+
+    @Override
+    public int pendingConnections() {
+        if (hikariDataSource == null) {
+            return 0;
+        }
+        HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getThreadsAwaitingConnection();
+    }
+
+    @Override
+    public int maximumPoolSize() {
+        return hikariDataSource == null ? 0 : hikariDataSource.getMaximumPoolSize();
+    }
+
+    private static HikariDataSource unwrap(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
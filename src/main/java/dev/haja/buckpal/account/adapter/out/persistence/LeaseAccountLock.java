@@ -0,0 +1,344 @@
+package dev.haja.buckpal.account.adapter.out.persistence;
+
+import dev.haja.buckpal.BuckPalConfigurationProperties;
+import dev.haja.buckpal.account.application.port.out.AccountLock;
+import dev.haja.buckpal.account.application.port.out.AccountLockTimeoutException;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.support.SQLExceptionSubclassTranslator;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 인스턴스가 함께 쓰는 {@link AccountLock}.
+ * {@code account_lease} 테이블에 계좌별 임대 행을 두고, 행의 소유자와 만료 시각으로 잠금을 표현한다.
+ * <ul>
+ *     <li>잠금: 행이 없거나, 만료됐거나, 이미 이 인스턴스의 것이면 차지하는 MERGE 한 문장. 바뀐 행이 없으면 다른 인스턴스가 잡고 있다.</li>
+ *     <li>해제: 이 인스턴스가 소유한 행을 지우는 DELETE 한 문장.</li>
+ *     <li>갱신: 백그라운드 스레드가 유효 시간의 1/3마다 이 인스턴스가 잡고 있는 행의 만료 시각을 묶어서 늦춘다.</li>
+ *     <li>정리: 같은 스레드가 유효 시간마다 만료된 행을 지운다. 만료된 행은 정리 전에도 잠금 시 바로 넘겨받는다.</li>
+ * </ul>
+ * 같은 인스턴스 안의 스레드끼리는 {@link StripedAccountLock}으로 먼저 배제하므로, 소유자는 인스턴스 단위로 충분하다.
+ * 임대 행은 계좌 ID 순서로 잡아 인스턴스 사이에서도 기다림이 순환하지 않는다.
+ *
+ * <p>임대 문장은 송금 트랜잭션과 별도의 커넥션에서 바로 커밋된다. 송금 트랜잭션에 묶이면 커밋 전까지 다른 인스턴스가 행을 볼 수 없다.
+ * 만료 시각은 인스턴스의 시계로 계산하므로, 인스턴스 간 시계 차이는 유효 시간보다 충분히 작아야 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "buckpal.lock", name = "type", havingValue = "lease")
+public class LeaseAccountLock implements AccountLock, AutoCloseable {
+
+    private static final String ACQUIRE = """
+            MERGE INTO account_lease l
+            USING (SELECT CAST(? AS BIGINT) AS account_id) s
+            ON (l.account_id = s.account_id)
+            WHEN MATCHED AND (l.owner_id = ? OR l.expires_at < ?) THEN
+                UPDATE SET owner_id = ?, expires_at = ?
+            WHEN NOT MATCHED THEN
+                INSERT (account_id, owner_id, expires_at) VALUES (s.account_id, ?, ?)
+            """;
+    private static final String RELEASE = "DELETE FROM account_lease WHERE account_id = ? AND owner_id = ?";
+    private static final String REAP = "DELETE FROM account_lease WHERE expires_at < ?";
+    private static final int RENEW_BATCH_SIZE = 500;
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private final DataSource dataSource;
+    private final String ownerId;
+    private final StripedAccountLock localLock;
+    private final Duration timeout;
+    private final Duration leaseTtl;
+    private final long retryDelayNanos;
+    private final Set<Long> heldAccountIds = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService maintenance;
+    private final SQLExceptionTranslator exceptionTranslator = new SQLExceptionSubclassTranslator();
+
+    @Autowired
+    public LeaseAccountLock(DataSource dataSource, BuckPalConfigurationProperties buckPalConfigurationProperties) {
+        this(dataSource,
+                UUID.randomUUID().toString(),
+                buckPalConfigurationProperties.getLock().getStripes(),
+                buckPalConfigurationProperties.getLock().getTimeout(),
+                buckPalConfigurationProperties.getLock().getLeaseTtl(),
+                buckPalConfigurationProperties.getLock().getLeaseRetryDelay());
+    }
+
+    public LeaseAccountLock(
+            DataSource dataSource,
+            String ownerId,
+            int stripes,
+            Duration timeout,
+            Duration leaseTtl,
+            Duration retryDelay) {
+        if (leaseTtl.compareTo(Duration.ofMillis(3)) < 0) {
+            throw new IllegalArgumentException("leaseTtl must be at least 3ms, but was: " + leaseTtl);
+        }
+        this.dataSource = dataSource;
+        this.ownerId = ownerId;
+        this.localLock = new StripedAccountLock(stripes, timeout);
+        this.timeout = timeout;
+        this.leaseTtl = leaseTtl;
+        this.retryDelayNanos = retryDelay.toNanos();
+        this.maintenance = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("account-lease-maintenance").daemon().factory());
+        long renewMillis = Math.max(1L, leaseTtl.toMillis() / 3);
+        this.maintenance.scheduleWithFixedDelay(this::renewQuietly, renewMillis, renewMillis, TimeUnit.MILLISECONDS);
+        this.maintenance.scheduleWithFixedDelay(this::reapQuietly,
+                leaseTtl.toMillis(), leaseTtl.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void lockAccount(AccountId accountId) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        localLock.lockAccount(accountId);
+        try {
+            acquireLease(accountId, deadline);
+        } catch (RuntimeException e) {
+            localLock.releaseAccount(accountId);
+            throw e;
+        }
+    }
+
+    @Override
+    public void releaseAccount(AccountId accountId) {
+        try {
+            releaseLease(accountId);
+        } finally {
+            localLock.releaseAccount(accountId);
+        }
+    }
+
+    @Override
+    public void lockAccounts(AccountId first, AccountId second) {
+        if (first.equals(second)) {
+            lockAccount(first);
+            return;
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        localLock.lockAccounts(first, second);
+        AccountId lower = first.getValue() < second.getValue() ? first : second;
+        AccountId higher = lower == first ? second : first;
+        try {
+            acquireLease(lower, deadline);
+            try {
+                acquireLease(higher, deadline);
+            } catch (RuntimeException e) {
+                releaseLease(lower);
+                throw e;
+            }
+        } catch (RuntimeException e) {
+            localLock.releaseAccounts(first, second);
+            throw e;
+        }
+    }
+
+    @Override
+    public void releaseAccounts(AccountId first, AccountId second) {
+        try {
+            releaseLease(first);
+            if (!first.equals(second)) {
+                releaseLease(second);
+            }
+        } finally {
+            localLock.releaseAccounts(first, second);
+        }
+    }
+
+    @Override
+    public void lockAccounts(Collection<AccountId> accountIds) {
+        List<AccountId> ordered = accountIds.stream()
+                .distinct()
+                .sorted(Comparator.comparing(AccountId::getValue))
+                .toList();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        localLock.lockAccounts(ordered);
+        List<AccountId> leased = new ArrayList<>(ordered.size());
+        try {
+            for (AccountId accountId : ordered) {
+                acquireLease(accountId, deadline);
+                leased.add(accountId);
+            }
+        } catch (RuntimeException e) {
+            try {
+                leased.reversed().forEach(this::releaseLease);
+            } finally {
+                localLock.releaseAccounts(ordered);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void releaseAccounts(Collection<AccountId> accountIds) {
+        List<AccountId> distinct = accountIds.stream().distinct().toList();
+        try {
+            distinct.forEach(this::releaseLease);
+        } finally {
+            localLock.releaseAccounts(distinct);
+        }
+    }
+
+    String ownerId() {
+        return ownerId;
+    }
+
+    private void acquireLease(AccountId accountId, long deadline) {
+        while (!tryAcquireLease(accountId.getValue())) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new AccountLockTimeoutException(accountId, timeout);
+            }
+            long delay = Math.min(remaining, ThreadLocalRandom.current().nextLong(retryDelayNanos + 1));
+            try {
+                Thread.sleep(Duration.ofNanos(delay));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("계좌 임대 잠금 대기 중 인터럽트되었습니다: " + accountId.getValue(), e);
+            }
+        }
+        heldAccountIds.add(accountId.getValue());
+    }
+
+    private boolean tryAcquireLease(long accountId) {
+        Instant now = Instant.now();
+        Timestamp expiresAt = Timestamp.from(now.plus(leaseTtl));
+        try {
+            return execute(ACQUIRE, statement -> {
+                statement.setLong(1, accountId);
+                statement.setString(2, ownerId);
+                statement.setTimestamp(3, Timestamp.from(now));
+                statement.setString(4, ownerId);
+                statement.setTimestamp(5, expiresAt);
+                statement.setString(6, ownerId);
+                statement.setTimestamp(7, expiresAt);
+            }) == 1;
+        } catch (DuplicateLeaseException e) {
+            // 다른 인스턴스가 같은 계좌의 행을 동시에 넣었다. 그쪽이 잡은 것으로 보고 다시 시도한다.
+            return false;
+        }
+    }
+
+    private void releaseLease(AccountId accountId) {
+        heldAccountIds.remove(accountId.getValue());
+        execute(RELEASE, statement -> {
+            statement.setLong(1, accountId.getValue());
+            statement.setString(2, ownerId);
+        });
+    }
+
+    /**
+     * 이 인스턴스가 잡고 있는 임대의 만료 시각을 늦춘다.
+     * 늦추지 못한 행이 있다면 이미 만료되어 다른 인스턴스가 가져간 것이므로 경고를 남긴다.
+     */
+    void renew() {
+        List<Long> held = new ArrayList<>(heldAccountIds);
+        Timestamp expiresAt = Timestamp.from(Instant.now().plus(leaseTtl));
+        for (int from = 0; from < held.size(); from += RENEW_BATCH_SIZE) {
+            List<Long> batch = held.subList(from, Math.min(from + RENEW_BATCH_SIZE, held.size()));
+            String sql = "UPDATE account_lease SET expires_at = ? WHERE owner_id = ? AND account_id IN ("
+                    + String.join(", ", Collections.nCopies(batch.size(), "?")) + ")";
+            int renewed = execute(sql, statement -> {
+                statement.setTimestamp(1, expiresAt);
+                statement.setString(2, ownerId);
+                for (int i = 0; i < batch.size(); i++) {
+                    statement.setLong(i + 3, batch.get(i));
+                }
+            });
+            if (renewed < batch.size()) {
+                log.warn("계좌 임대 {}건 중 {}건만 갱신했습니다. 만료된 임대는 다른 인스턴스가 가져갔을 수 있습니다.",
+                        batch.size(), renewed);
+            }
+        }
+    }
+
+    /**
+     * 만료된 임대 행을 지운다.
+     */
+    int reap() {
+        return execute(REAP, statement -> statement.setTimestamp(1, Timestamp.from(Instant.now())));
+    }
+
+    private void renewQuietly() {
+        try {
+            renew();
+        } catch (RuntimeException e) {
+            log.warn("계좌 임대 갱신에 실패했습니다.", e);
+        }
+    }
+
+    private void reapQuietly() {
+        try {
+            reap();
+        } catch (RuntimeException e) {
+            log.warn("만료된 계좌 임대 정리에 실패했습니다.", e);
+        }
+    }
+
+    private int execute(String sql, StatementBinder binder) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            binder.bind(statement);
+            int updated = statement.executeUpdate();
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+            return updated;
+        } catch (SQLException e) {
+            if (UNIQUE_VIOLATION.equals(e.getSQLState())) {
+                throw new DuplicateLeaseException(e);
+            }
+            DataAccessException translated = exceptionTranslator.translate("account lease", sql, e);
+            throw translated != null ? translated : new UncategorizedSQLException("account lease", sql, e);
+        }
+    }
+
+    /**
+     * 임대를 모두 놓고 백그라운드 스레드를 멈춘다.
+     */
+    @Override
+    public void close() {
+        maintenance.shutdownNow();
+        for (Long accountId : List.copyOf(heldAccountIds)) {
+            try {
+                releaseLease(new AccountId(accountId));
+            } catch (RuntimeException e) {
+                log.warn("종료 중 계좌 {}의 임대를 놓지 못했습니다. 유효 시간이 지나면 정리됩니다.", accountId, e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface StatementBinder {
+        void bind(PreparedStatement statement) throws SQLException;
+    }
+
+    private static final class DuplicateLeaseException extends RuntimeException {
+        private DuplicateLeaseException(SQLException cause) {
+            super(cause);
+        }
+    }
+}
@@ -2,9 +2,11 @@ package dev.haja.buckpal.account.adapter.out.persistence;
 
 import dev.haja.buckpal.account.application.port.out.AccountLock;
 import dev.haja.buckpal.account.domain.Account;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 @Component
+@ConditionalOnProperty(prefix = "buckpal.lock", name = "type", havingValue = "noop", matchIfMissing = true)
 public class NoOpsAccountLock implements AccountLock {
     @Override
     public void lockAccount(Account.AccountId accountId) {
@@ -0,0 +1,129 @@
+package dev.haja.buckpal.account.adapter.out.persistence;
+
+import dev.haja.buckpal.BuckPalConfigurationProperties;
+import dev.haja.buckpal.account.application.port.out.AccountLock;
+import dev.haja.buckpal.account.application.port.out.AccountLockTimeoutException;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JVM 안에서 계좌를 잠그는 {@link AccountLock}.
+ * 계좌 ID를 해시해 고정된 개수의 {@link ReentrantLock} 중 하나(스트라이프)에 대응시키므로,
+ * 계좌 수와 무관하게 메모리가 일정하고 잠금을 얻을 때 객체를 만들지 않는다.
+ * 두 계좌를 잠글 때는 스트라이프 번호 순서로 잠가 교착 상태를 막는다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "buckpal.lock", name = "type", havingValue = "striped")
+public class StripedAccountLock implements AccountLock {
+
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private final ReentrantLock[] stripes;
+    private final int shift;
+    private final Duration timeout;
+    private final long timeoutNanos;
+
+    @Autowired
+    public StripedAccountLock(BuckPalConfigurationProperties buckPalConfigurationProperties) {
+        this(buckPalConfigurationProperties.getLock().getStripes(),
+                buckPalConfigurationProperties.getLock().getTimeout());
+    }
+
+    public StripedAccountLock(int stripes, Duration timeout) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripes must be positive, but was: " + stripes);
+        }
+        int size = Integer.highestOneBit(stripes) == stripes ? stripes : Integer.highestOneBit(stripes) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.shift = 64 - Integer.numberOfTrailingZeros(size);
+        this.timeout = timeout;
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    @Override
+    public void lockAccount(AccountId accountId) {
+        acquire(stripeOf(accountId), accountId);
+    }
+
+    @Override
+    public void releaseAccount(AccountId accountId) {
+        stripes[stripeOf(accountId)].unlock();
+    }
+
+    @Override
+    public void lockAccounts(AccountId first, AccountId second) {
+        if (first.equals(second)) {
+            lockAccount(first);
+            return;
+        }
+        int firstStripe = stripeOf(first);
+        int secondStripe = stripeOf(second);
+        // 같은 스트라이프라면 재진입으로 두 번 잠그고, 해제도 두 번 한다.
+        boolean firstIsLower = firstStripe <= secondStripe;
+        acquire(firstIsLower ? firstStripe : secondStripe, firstIsLower ? first : second);
+        try {
+            acquire(firstIsLower ? secondStripe : firstStripe, firstIsLower ? second : first);
+        } catch (RuntimeException e) {
+            stripes[firstIsLower ? firstStripe : secondStripe].unlock();
+            throw e;
+        }
+    }
+
+    /**
+     * 스트라이프 번호 순서로 잠근다. 같은 스트라이프의 계좌는 재진입으로 여러 번 잠그고, 해제도 계좌마다 한다.
+     */
+    @Override
+    public void lockAccounts(Collection<AccountId> accountIds) {
+        List<AccountId> ordered = accountIds.stream()
+                .distinct()
+                .sorted(Comparator.comparingInt(this::stripeOf).thenComparing(AccountId::getValue))
+                .toList();
+        List<AccountId> locked = new ArrayList<>(ordered.size());
+        try {
+            for (AccountId accountId : ordered) {
+                lockAccount(accountId);
+                locked.add(accountId);
+            }
+        } catch (RuntimeException e) {
+            locked.reversed().forEach(this::releaseAccount);
+            throw e;
+        }
+    }
+
+    int stripeCount() {
+        return stripes.length;
+    }
+
+    private int stripeOf(AccountId accountId) {
+        if (shift == 64) {
+            return 0;
+        }
+        return (int) ((accountId.getValue() * GOLDEN_RATIO) >>> shift);
+    }
+
+    private void acquire(int stripe, AccountId accountId) {
+        boolean acquired;
+        try {
+            acquired = stripes[stripe].tryLock(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("계좌 잠금 대기 중 인터럽트되었습니다: " + accountId.getValue(), e);
+        }
+        if (!acquired) {
+            throw new AccountLockTimeoutException(accountId, timeout);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package dev.haja.buckpal.account.application.port.in;
+
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+
+/**
+ * 대량 잔액 조회의 한 건.
+ *
+ * @param accountId 계좌 ID
+ * @param balance   잔액
+ */
+public record AccountBalance(AccountId accountId, Money balance) {}
@@ -0,0 +1,12 @@
+package dev.haja.buckpal.account.application.port.in;
+
+import java.time.LocalDateTime;
+
+/**
+ * 활동 이력에서 마지막으로 읽은 위치.
+ * 다음 페이지는 이 위치보다 오래된 활동, 즉 (timestamp, id)가 더 작은 활동부터 시작한다.
+ *
+ * @param timestamp  마지막으로 읽은 활동의 타임스탬프
+ * @param activityId 마지막으로 읽은 활동의 ID
+ */
+public record ActivityCursor(LocalDateTime timestamp, long activityId) {}
@@ -0,0 +1,14 @@
+package dev.haja.buckpal.account.application.port.in;
+
+import dev.haja.buckpal.account.domain.Activity;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 활동 이력의 한 페이지. 최신 활동부터 담긴다.
+ *
+ * @param activities 활동 목록
+ * @param next       다음 페이지의 위치. 더 읽을 활동이 없으면 비어 있다.
+ */
+public record ActivityPage(List<Activity> activities, Optional<ActivityCursor> next) {}
@@ -0,0 +1,74 @@
+package dev.haja.buckpal.account.application.port.in;
+
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import dev.haja.buckpal.common.SelfValidating;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Value;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한 계좌에서 여러 계좌로 보내는 송금.
+ * 같은 입금 계좌가 두 번 나오거나 출금 계좌가 입금 계좌에 섞여 있으면 만들 수 없다.
+ */
+@Getter
+@EqualsAndHashCode(callSuper = false)
+public class FanOutTransferCommand extends SelfValidating<FanOutTransferCommand> {
+
+    @NotNull private final AccountId sourceAccountId;
+    @NotEmpty private final List<@Valid @NotNull Leg> legs;
+
+    public FanOutTransferCommand(AccountId sourceAccountId, List<Leg> legs) {
+        this.sourceAccountId = sourceAccountId;
+        this.legs = List.copyOf(legs);
+        Set<AccountId> targets = new HashSet<>();
+        for (Leg leg : this.legs) {
+            if (!leg.getMoney().isPositiveOrZero()) {
+                throw new IllegalArgumentException(
+                    "The money amount must be greater than or equal to zero");
+            }
+            if (leg.getTargetAccountId().equals(sourceAccountId)) {
+                throw new IllegalArgumentException(
+                    "The source account must not be one of the target accounts");
+            }
+            if (!targets.add(leg.getTargetAccountId())) {
+                throw new IllegalArgumentException(
+                    "Duplicate target account: " + leg.getTargetAccountId().getValue());
+            }
+        }
+        validateSelf();
+    }
+
+    /**
+     * 입금 계좌별 금액. 순서는 주어진 송금 순서를 따른다.
+     */
+    public Map<AccountId, Money> amountsByTarget() {
+        Map<AccountId, Money> amounts = new LinkedHashMap<>();
+        legs.forEach(leg -> amounts.put(leg.getTargetAccountId(), leg.getMoney()));
+        return amounts;
+    }
+
+    /**
+     * 모든 송금의 합계.
+     */
+    public Money totalMoney() {
+        return legs.stream()
+                .map(Leg::getMoney)
+                .reduce(Money.ZERO, Money::add);
+    }
+
+    @Value
+    public static class Leg {
+        @NotNull AccountId targetAccountId;
+        @NotNull Money money;
+    }
+}
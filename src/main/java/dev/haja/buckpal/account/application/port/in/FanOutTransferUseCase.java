@@ -0,0 +1,12 @@
+package dev.haja.buckpal.account.application.port.in;
+
+public interface FanOutTransferUseCase {
+    /**
+     * 한 계좌에서 여러 계좌로 한 번에 송금한다.
+     * 모든 송금이 함께 기록되거나, 출금 계좌의 잔액이 합계에 모자라면 아무것도 기록되지 않는다.
+     *
+     * @param command 출금 계좌와 입금 계좌별 금액
+     * @return 송금 성공 여부. 잔액이 부족하면 {@code false}
+     */
+    boolean sendMoneyToMany(FanOutTransferCommand command);
+}
@@ -0,0 +1,18 @@
+package dev.haja.buckpal.account.application.port.in;
+
+import dev.haja.buckpal.account.domain.Account.AccountId;
+
+import java.util.Optional;
+
+public interface GetActivityHistoryQuery {
+    /**
+     * 계좌의 활동 이력을 최신 활동부터 한 페이지 읽는다.
+     * 위치 이후의 활동만 인덱스로 찾아 읽으므로, 이력의 얼마나 뒤쪽을 읽든 페이지 비용은 같다.
+     *
+     * @param accountId 계좌 ID
+     * @param after     이전 페이지가 돌려준 위치. 비어 있으면 첫 페이지를 읽는다.
+     * @param size      페이지 크기
+     * @return 한 페이지. 없는 계좌면 비어 있다.
+     */
+    Optional<ActivityPage> getActivities(AccountId accountId, Optional<ActivityCursor> after, int size);
+}
@@ -0,0 +1,31 @@
+package dev.haja.buckpal.account.application.port.in;
+
+import dev.haja.buckpal.account.domain.Account.AccountId;
+
+import java.util.Optional;
+
+/**
+ * 버전이 붙은 잔액 조회.
+ * 클라이언트가 이미 가진 잔액이 최신인지는 {@link #getAccountVersion(AccountId)}만으로 판단할 수 있다.
+ */
+public interface GetVersionedAccountBalanceQuery {
+
+    /**
+     * 계좌의 현재 버전을 조회한다. 잔액은 계산하지 않는다.
+     *
+     * @param accountId 계좌 ID
+     * @return 계좌 버전. 없는 계좌면 비어 있다.
+     */
+    Optional<Long> getAccountVersion(AccountId accountId);
+
+    /**
+     * 이미 읽은 계좌 버전에 잔액을 붙인다. 버전은 다시 읽지 않는다.
+     * 잔액은 {@link GetAccountBalanceQuery}로 읽으므로 같은 계좌의 동시 조회와 합쳐질 수 있고,
+     * 그만큼 버전보다 조금 늦은 잔액일 수 있다.
+     *
+     * @param accountId 계좌 ID
+     * @param version   {@link #getAccountVersion(AccountId)}로 읽은 계좌 버전
+     * @return 버전이 붙은 잔액
+     */
+    VersionedBalance getVersionedAccountBalance(AccountId accountId, long version);
+}
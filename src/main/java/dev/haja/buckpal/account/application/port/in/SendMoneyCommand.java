@@ -7,6 +7,8 @@ import jakarta.validation.constraints.NotNull;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
+import java.util.UUID;
+
 
 @Getter
 @EqualsAndHashCode(callSuper = false)
@@ -15,15 +17,28 @@ public class SendMoneyCommand extends SelfValidating<SendMoneyCommand> {
     @NotNull private final AccountId sourceAccountId;
     @NotNull private final AccountId targetAccountId;
     @NotNull private final Money money;
+    /**
+     * 호출자가 받은 송금 ID. 접수한 송금처럼 호출자에게 ID를 돌려주는 경로에서만 있고, 같은 송금인지 비교할 때는 보지 않는다.
+     */
+    @EqualsAndHashCode.Exclude private final UUID transferId;
 
     public SendMoneyCommand(AccountId sourceAccountId, AccountId targetAccountId, Money money) {
+        this(sourceAccountId, targetAccountId, money, null);
+    }
+
+    public SendMoneyCommand(AccountId sourceAccountId, AccountId targetAccountId, Money money, UUID transferId) {
         this.sourceAccountId = sourceAccountId;
         this.targetAccountId = targetAccountId;
         this.money = money;
+        this.transferId = transferId;
         if (!money.isPositiveOrZero()) {
             throw new IllegalArgumentException(
                 "The money amount must be greater than or equal to zero");
         }
         validateSelf();
     }
+
+    public SendMoneyCommand withTransferId(UUID transferId) {
+        return new SendMoneyCommand(sourceAccountId, targetAccountId, money, transferId);
+    }
 }
\ No newline at end of file
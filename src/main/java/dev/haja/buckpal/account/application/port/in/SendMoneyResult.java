@@ -0,0 +1,13 @@
+package dev.haja.buckpal.account.application.port.in;
+
+/**
+ * 일괄 송금에서 한 건의 처리 결과.
+ */
+public enum SendMoneyResult {
+    /** 출금과 입금을 기록했다. */
+    COMPLETED,
+    /** 출금 계좌의 잔액이 부족해 기록하지 않았다. */
+    INSUFFICIENT_BALANCE,
+    /** 송금 한도를 넘어 기록하지 않았다. */
+    THRESHOLD_EXCEEDED
+}
@@ -1,5 +1,41 @@
 package dev.haja.buckpal.account.application.port.in;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public interface SendMoneyUseCase {
     boolean sendMoney(SendMoneyCommand command);
+
+    /**
+     * 송금을 비동기로 요청한다.
+     * 기본 구현은 호출한 스레드에서 {@link #sendMoney(SendMoneyCommand)}를 실행하고 완료된 결과를 돌려준다.
+     */
+    default CompletableFuture<Boolean> sendMoneyAsync(SendMoneyCommand command) {
+        try {
+            return CompletableFuture.completedFuture(sendMoney(command));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 여러 송금을 주어진 순서대로 실행하고, 같은 순서로 건별 결과를 돌려준다.
+     * 기본 구현은 {@link #sendMoney(SendMoneyCommand)}를 차례로 호출하므로 건마다 별도로 커밋되며,
+     * 한 건에서 예외가 나면 그 뒤의 건은 실행하지 않는다.
+     */
+    default List<SendMoneyResult> sendMoneyBatch(List<SendMoneyCommand> commands) {
+        List<SendMoneyResult> results = new ArrayList<>(commands.size());
+        for (SendMoneyCommand command : commands) {
+            results.add(sendMoney(command) ? SendMoneyResult.COMPLETED : SendMoneyResult.INSUFFICIENT_BALANCE);
+        }
+        return results;
+    }
+
+    /**
+     * 한 계좌에서 여러 계좌로 한 번에 송금한다. 의미는 {@link FanOutTransferUseCase#sendMoneyToMany}와 같다.
+     * 송금 데코레이터는 이 요청도 다른 송금과 같은 동시 실행 제한, 빈도 제한, 동시성 모드를 거쳐 넘긴다.
+     * 데코레이터가 넘기기를 빠뜨리지 않도록 기본 구현을 두지 않는다.
+     */
+    boolean sendMoneyToMany(FanOutTransferCommand command);
 }
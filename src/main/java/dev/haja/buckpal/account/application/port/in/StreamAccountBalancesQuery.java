@@ -0,0 +1,31 @@
+package dev.haja.buckpal.account.application.port.in;
+
+import dev.haja.buckpal.account.domain.Account.AccountId;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 많은 계좌의 잔액을 나눠 읽어 한 건씩 넘겨주는 조회.
+ * 전체 결과를 메모리에 모으지 않으므로, 호출한 쪽은 받은 잔액을 바로 내보내야 한다.
+ * 묶음마다 따로 읽으므로 서로 다른 묶음의 잔액은 같은 시점의 값이 아닐 수 있다.
+ */
+public interface StreamAccountBalancesQuery {
+
+    /**
+     * 주어진 계좌들의 잔액을 요청한 순서대로 넘긴다. 같은 ID는 한 번만 넘기고, 없는 계좌는 건너뛴다.
+     *
+     * @param accountIds 조회할 계좌 ID 목록
+     * @param sink       잔액을 받을 곳
+     */
+    void streamBalances(List<AccountId> accountIds, Consumer<AccountBalance> sink);
+
+    /**
+     * ID가 {@code firstId}부터 {@code lastId}까지인 계좌의 잔액을 ID 순으로 넘긴다.
+     *
+     * @param firstId 첫 계좌 ID (포함)
+     * @param lastId  마지막 계좌 ID (포함)
+     * @param sink    잔액을 받을 곳
+     */
+    void streamBalances(AccountId firstId, AccountId lastId, Consumer<AccountBalance> sink);
+}
@@ -0,0 +1,28 @@
+package dev.haja.buckpal.account.application.port.in;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 송금을 접수만 하고 바로 돌아오는 사용 사례.
+ * 접수한 송금은 나중에 실행되며, 진행 상태는 송금 ID로 조회한다.
+ */
+public interface SubmitTransferUseCase {
+
+    /**
+     * 송금을 접수한다.
+     * 실행을 기다리는 송금이 너무 많으면 접수하지 않고 예외를 던진다.
+     *
+     * @param command 송금 명령
+     * @return 송금 ID와, 송금이 끝나면 완료되는 결과
+     */
+    SubmittedTransfer submit(SendMoneyCommand command);
+
+    /**
+     * 접수한 송금의 현재 상태를 조회한다.
+     *
+     * @param transferId 송금 ID
+     * @return 상태. 모르는 ID이거나 보관 기간이 지났으면 비어 있다.
+     */
+    Optional<TransferStatus> findStatus(UUID transferId);
+}
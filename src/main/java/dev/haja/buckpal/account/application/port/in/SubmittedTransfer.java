@@ -0,0 +1,12 @@
+package dev.haja.buckpal.account.application.port.in;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 접수된 송금.
+ *
+ * @param transferId 송금 ID
+ * @param completion 송금이 끝나면 마지막 상태로 완료된다
+ */
+public record SubmittedTransfer(UUID transferId, CompletableFuture<TransferStatus> completion) {}
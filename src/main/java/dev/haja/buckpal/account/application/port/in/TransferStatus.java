@@ -0,0 +1,41 @@
+package dev.haja.buckpal.account.application.port.in;
+
+import java.util.UUID;
+
+/**
+ * 접수된 송금의 상태.
+ *
+ * @param transferId 송금 ID
+ * @param state      진행 단계
+ * @param message    실패했을 때의 오류 코드. 그 밖에는 {@code null}
+ */
+public record TransferStatus(UUID transferId, State state, String message) {
+
+    /** 처리할 여유가 없어 실행하지 않았다. 다시 접수해도 된다. */
+    public static final String REJECTED = "REJECTED";
+    /** 송금 한도를 넘었다. */
+    public static final String THRESHOLD_EXCEEDED = "THRESHOLD_EXCEEDED";
+    /** 그 밖의 예외로 실행하지 못했다. */
+    public static final String TRANSFER_FAILED = "TRANSFER_FAILED";
+
+    public TransferStatus(UUID transferId, State state) {
+        this(transferId, state, null);
+    }
+
+    public boolean isFinished() {
+        return state != State.QUEUED && state != State.RUNNING;
+    }
+
+    public enum State {
+        /** 실행을 기다리는 중 */
+        QUEUED,
+        /** 실행 중 */
+        RUNNING,
+        /** 출금과 입금을 기록했다 */
+        COMPLETED,
+        /** 출금 계좌의 잔액이 부족해 기록하지 않았다 */
+        INSUFFICIENT_BALANCE,
+        /** 예외로 실행하지 못했다 */
+        FAILED
+    }
+}
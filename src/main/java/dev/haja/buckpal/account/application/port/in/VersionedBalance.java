@@ -0,0 +1,11 @@
+package dev.haja.buckpal.account.application.port.in;
+
+import dev.haja.buckpal.account.domain.Money;
+
+/**
+ * 계좌 잔액과, 그 잔액이 적어도 반영하고 있는 계좌 버전.
+ *
+ * @param balance 잔액
+ * @param version 잔액을 읽기 전에 읽은 계좌 버전
+ */
+public record VersionedBalance(Money balance, long version) {}
@@ -2,9 +2,87 @@ package dev.haja.buckpal.account.application.port.out;
 
 import dev.haja.buckpal.account.domain.Account.AccountId;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
 public interface AccountLock {
 
     void lockAccount(AccountId accountId);
 
     void releaseAccount(AccountId accountId);
+
+    /**
+     * 두 계좌를 교착 상태 없이 잠근다.
+     * 모든 호출자가 같은 순서로 잠금을 얻도록, 기본 구현은 계좌 ID가 작은 쪽부터 잠근다.
+     * 두 ID가 같으면 한 번만 잠근다.
+     *
+     * @param first  잠글 계좌
+     * @param second 잠글 계좌
+     */
+    default void lockAccounts(AccountId first, AccountId second) {
+        if (first.equals(second)) {
+            lockAccount(first);
+            return;
+        }
+        boolean firstIsLower = first.getValue() < second.getValue();
+        AccountId lower = firstIsLower ? first : second;
+        AccountId higher = firstIsLower ? second : first;
+        lockAccount(lower);
+        try {
+            lockAccount(higher);
+        } catch (RuntimeException e) {
+            releaseAccount(lower);
+            throw e;
+        }
+    }
+
+    /**
+     * {@link #lockAccounts(AccountId, AccountId)}로 얻은 잠금을 해제한다.
+     *
+     * @param first  해제할 계좌
+     * @param second 해제할 계좌
+     */
+    default void releaseAccounts(AccountId first, AccountId second) {
+        releaseAccount(first);
+        if (!first.equals(second)) {
+            releaseAccount(second);
+        }
+    }
+
+    /**
+     * 여러 계좌를 교착 상태 없이 잠근다.
+     * {@link #lockAccounts(AccountId, AccountId)}와 같은 순서 규칙을 따라야 두 방식의 호출이 섞여도 기다림이 순환하지 않는다.
+     * 기본 구현은 중복을 뺀 계좌를 ID가 작은 쪽부터 잠그고, 도중에 실패하면 이미 잡은 잠금을 해제한다.
+     *
+     * @param accountIds 잠글 계좌
+     */
+    default void lockAccounts(Collection<AccountId> accountIds) {
+        List<AccountId> ordered = accountIds.stream()
+                .distinct()
+                .sorted(Comparator.comparing(AccountId::getValue))
+                .toList();
+        List<AccountId> locked = new ArrayList<>(ordered.size());
+        try {
+            for (AccountId accountId : ordered) {
+                lockAccount(accountId);
+                locked.add(accountId);
+            }
+        } catch (RuntimeException e) {
+            locked.reversed().forEach(this::releaseAccount);
+            throw e;
+        }
+    }
+
+    /**
+     * {@link #lockAccounts(Collection)}로 얻은 잠금을 해제한다.
+     *
+     * @param accountIds 해제할 계좌
+     */
+    default void releaseAccounts(Collection<AccountId> accountIds) {
+        accountIds.stream()
+                .distinct()
+                .forEach(this::releaseAccount);
+    }
 }
@@ -0,0 +1,11 @@
+package dev.haja.buckpal.account.application.port.out;
+
+import dev.haja.buckpal.account.domain.Account.AccountId;
+
+import java.time.Duration;
+
+public class AccountLockTimeoutException extends RuntimeException {
+    public AccountLockTimeoutException(AccountId accountId, Duration timeout) {
+        super(String.format("계좌 잠금 대기 시간 초과: 계좌 %s, 대기 시간 %s", accountId.getValue(), timeout));
+    }
+}
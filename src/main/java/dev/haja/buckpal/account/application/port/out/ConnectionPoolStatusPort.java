@@ -0,0 +1,20 @@
+package dev.haja.buckpal.account.application.port.out;
+
+public interface ConnectionPoolStatusPort {
+    /**
+     * 커넥션 풀에서 커넥션이 나기를 기다리고 있는 스레드 수를 읽는다.
+     * 0보다 크면 풀이 포화되어 요청이 커넥션을 기다리며 쌓이고 있다는 뜻이다.
+     *
+     * @return 커넥션을 기다리는 스레드 수. 알 수 없으면 0
+     */
+    int pendingConnections();
+
+    /**
+     * 커넥션 풀의 최대 커넥션 수를 읽는다.
+     *
+     * @return 최대 커넥션 수. 알 수 없으면 0
+     */
+    default int maximumPoolSize() {
+        return 0;
+    }
+}
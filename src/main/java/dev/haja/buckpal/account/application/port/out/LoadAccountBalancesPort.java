@@ -0,0 +1,29 @@
+package dev.haja.buckpal.account.application.port.out;
+
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface LoadAccountBalancesPort {
+    /**
+     * 여러 계좌의 현재 잔액을 한 번에 조회한다.
+     * 존재하지 않는 계좌는 결과에 포함되지 않는다.
+     *
+     * @param accountIds 조회할 계좌 ID 목록
+     * @return 계좌 ID별 잔액
+     */
+    Map<AccountId, Money> loadBalances(Collection<AccountId> accountIds);
+
+    /**
+     * 계좌 ID 순으로 {@code afterId} 다음부터 {@code lastId}까지의 계좌 잔액을 최대 {@code limit}개 읽는다.
+     * 결과는 계좌 ID 오름차순이며, 마지막 계좌 ID를 다음 호출의 {@code afterId}로 넘겨 이어 읽는다.
+     *
+     * @param afterId 이 ID보다 큰 계좌부터 읽는다
+     * @param lastId  이 ID까지 읽는다
+     * @param limit   읽을 최대 계좌 수
+     * @return 계좌 ID별 잔액. 더 읽을 계좌가 없으면 비어 있다.
+     */
+    Map<AccountId, Money> loadBalancesInRange(AccountId afterId, AccountId lastId, int limit);
+}
@@ -2,7 +2,11 @@ package dev.haja.buckpal.account.application.port.out;
 
 import dev.haja.buckpal.account.domain.Account;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static dev.haja.buckpal.account.domain.Account.AccountId;
 
@@ -10,4 +14,28 @@ public interface LoadAccountPort {
     Account loadAccount(
             AccountId accountId,
             LocalDateTime baselineDate);
-}
\ No newline at end of file
+
+    /**
+     * 여러 계좌를 한 번에 읽는다. 같은 ID는 한 번만 읽으며, 결과는 요청한 순서를 따른다.
+     * 기본 구현은 {@link #loadAccount(AccountId, LocalDateTime)}를 차례로 호출한다.
+     */
+    default Map<AccountId, Account> loadAccounts(
+            Collection<AccountId> accountIds,
+            LocalDateTime baselineDate) {
+        Map<AccountId, Account> accounts = new LinkedHashMap<>();
+        for (AccountId accountId : accountIds) {
+            accounts.computeIfAbsent(accountId, id -> loadAccount(id, baselineDate));
+        }
+        return accounts;
+    }
+
+    /**
+     * 입금만 받을 계좌를 활동 없이 읽는다.
+     * 입금은 잔액을 확인하지 않으므로 계좌가 있는지만 확인하면 되고, 읽은 계좌의 잔액은 의미가 없다.
+     * 없는 계좌가 있으면 {@link #loadAccount(AccountId, LocalDateTime)}와 같은 예외로 실패한다.
+     * 기본 구현은 오늘 이후의 활동만 포함해 {@link #loadAccounts(Collection, LocalDateTime)}로 읽는다.
+     */
+    default Map<AccountId, Account> loadAccountsForDeposit(Collection<AccountId> accountIds) {
+        return loadAccounts(accountIds, LocalDate.now().atStartOfDay());
+    }
+}
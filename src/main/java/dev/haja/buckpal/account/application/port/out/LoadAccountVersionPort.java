@@ -0,0 +1,15 @@
+package dev.haja.buckpal.account.application.port.out;
+
+import dev.haja.buckpal.account.domain.Account.AccountId;
+
+import java.util.Optional;
+
+public interface LoadAccountVersionPort {
+    /**
+     * 계좌의 현재 버전을 읽는다. 버전은 계좌에 새 활동이 기록될 때마다 증가한다.
+     *
+     * @param accountId 계좌 ID
+     * @return 계좌 버전. 없는 계좌면 비어 있다.
+     */
+    Optional<Long> loadVersion(AccountId accountId);
+}
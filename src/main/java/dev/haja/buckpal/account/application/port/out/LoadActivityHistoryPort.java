@@ -0,0 +1,29 @@
+package dev.haja.buckpal.account.application.port.out;
+
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Activity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface LoadActivityHistoryPort {
+    /**
+     * 계좌가 소유한 가장 최근 활동을 (timestamp, id) 내림차순으로 최대 {@code limit}개 읽는다.
+     *
+     * @param ownerAccountId 활동을 소유한 계좌 ID
+     * @param limit          읽을 최대 활동 수
+     * @return 활동 목록
+     */
+    List<Activity> loadLatestActivities(AccountId ownerAccountId, int limit);
+
+    /**
+     * 계좌가 소유한 활동 중 (timestamp, id)가 주어진 위치보다 작은 활동을 내림차순으로 최대 {@code limit}개 읽는다.
+     *
+     * @param ownerAccountId 활동을 소유한 계좌 ID
+     * @param timestamp      위치의 타임스탬프
+     * @param activityId     위치의 활동 ID
+     * @param limit          읽을 최대 활동 수
+     * @return 활동 목록
+     */
+    List<Activity> loadActivitiesBefore(AccountId ownerAccountId, LocalDateTime timestamp, long activityId, int limit);
+}
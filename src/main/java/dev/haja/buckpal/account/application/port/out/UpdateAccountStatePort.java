@@ -2,6 +2,16 @@ package dev.haja.buckpal.account.application.port.out;
 
 import dev.haja.buckpal.account.domain.Account;
 
+import java.util.Collection;
+
 public interface UpdateAccountStatePort {
     void updateActivities(Account account);
+
+    /**
+     * 여러 계좌의 새 활동을 기록한다.
+     * 기본 구현은 계좌마다 {@link #updateActivities(Account)}를 호출한다.
+     */
+    default void updateActivities(Collection<Account> accounts) {
+        accounts.forEach(this::updateActivities);
+    }
 }
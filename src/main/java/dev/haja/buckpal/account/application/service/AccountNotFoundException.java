@@ -0,0 +1,9 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.account.domain.Account.AccountId;
+
+public class AccountNotFoundException extends RuntimeException {
+    public AccountNotFoundException(AccountId accountId) {
+        super(String.format("계좌를 찾을 수 없습니다: %s", accountId.getValue()));
+    }
+}
@@ -0,0 +1,166 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.account.application.port.in.FanOutTransferCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyResult;
+import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+import dev.haja.buckpal.account.application.port.out.ConnectionPoolStatusPort;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 동시에 실행되는 송금 수를 부하에 맞춰 조절하는 사용 사례.
+ * {@link BulkheadSendMoneyService}처럼 한도만큼만 안으로 들여보내지만, 자리를 기다리지 않고 바로
+ * {@link TransferRejectedException}으로 거절해 넘치는 요청이 지연 시간을 끌어올리지 않게 한다.
+ *
+ * <p>한도는 송금이 끝날 때마다 AIMD로 조절한다.
+ * 목표 지연 시간을 넘었거나 커넥션을 기다리는 스레드가 있으면 한도에 {@code backoffRatio}를 곱하고,
+ * 그렇지 않으면서 한도의 절반 이상이 쓰이고 있으면 하나 늘린다.
+ * 한 번 줄인 뒤에는 그 전에 시작한 송금의 결과로 다시 줄이지 않아, 과부하 한 번에 한도가 바닥까지 떨어지지 않는다.
+ */
+public class AdaptiveConcurrencySendMoneyService implements SendMoneyUseCase {
+
+    private final SendMoneyUseCase delegate;
+    private final ConnectionPoolStatusPort connectionPoolStatusPort;
+    private final int minLimit;
+    private final int maxLimit;
+    private final Duration targetLatency;
+    private final double backoffRatio;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong lastDecreasedAt;
+
+    public AdaptiveConcurrencySendMoneyService(
+            SendMoneyUseCase delegate,
+            ConnectionPoolStatusPort connectionPoolStatusPort,
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            Duration targetLatency,
+            double backoffRatio) {
+        this(delegate, connectionPoolStatusPort, initialLimit, minLimit, maxLimit, targetLatency, backoffRatio,
+                System::nanoTime);
+    }
+
+    AdaptiveConcurrencySendMoneyService(
+            SendMoneyUseCase delegate,
+            ConnectionPoolStatusPort connectionPoolStatusPort,
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            Duration targetLatency,
+            double backoffRatio,
+            LongSupplier nanoClock) {
+        if (minLimit <= 0 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("limits must satisfy 0 < minLimit <= initialLimit <= maxLimit, but were: "
+                    + minLimit + ", " + initialLimit + ", " + maxLimit);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio must be between 0 and 1, but was: " + backoffRatio);
+        }
+        this.delegate = delegate;
+        this.connectionPoolStatusPort = connectionPoolStatusPort;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatency = targetLatency;
+        this.backoffRatio = backoffRatio;
+        this.nanoClock = nanoClock;
+        this.limit = new AtomicInteger(initialLimit);
+        this.lastDecreasedAt = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    @Override
+    public boolean sendMoney(SendMoneyCommand command) {
+        long startedAt = acquire();
+        try {
+            return delegate.sendMoney(command);
+        } finally {
+            release(startedAt);
+        }
+    }
+
+    /**
+     * 일괄 송금은 트랜잭션 하나로 실행되므로 한 자리만 차지한다.
+     */
+    @Override
+    public List<SendMoneyResult> sendMoneyBatch(List<SendMoneyCommand> commands) {
+        long startedAt = acquire();
+        try {
+            return delegate.sendMoneyBatch(commands);
+        } finally {
+            release(startedAt);
+        }
+    }
+
+    /**
+     * 여러 계좌로 보내는 송금도 트랜잭션 하나이므로 한 자리만 차지한다.
+     */
+    @Override
+    public boolean sendMoneyToMany(FanOutTransferCommand command) {
+        long startedAt = acquire();
+        try {
+            return delegate.sendMoneyToMany(command);
+        } finally {
+            release(startedAt);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> sendMoneyAsync(SendMoneyCommand command) {
+        long startedAt;
+        try {
+            startedAt = acquire();
+        } catch (TransferRejectedException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<Boolean> result;
+        try {
+            result = delegate.sendMoneyAsync(command);
+        } catch (RuntimeException e) {
+            release(startedAt);
+            throw e;
+        }
+        return result.whenComplete((success, failure) -> release(startedAt));
+    }
+
+    public int limit() {
+        return limit.get();
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private long acquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                throw new TransferRejectedException("처리 중인 송금이 많아 요청을 받지 않았습니다.", targetLatency);
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return nanoClock.getAsLong();
+            }
+        }
+    }
+
+    private void release(long startedAt) {
+        long finishedAt = nanoClock.getAsLong();
+        int running = inFlight.getAndDecrement();
+        boolean overloaded = finishedAt - startedAt > targetLatency.toNanos()
+                || connectionPoolStatusPort.pendingConnections() > 0;
+        if (overloaded) {
+            long decreasedAt = lastDecreasedAt.get();
+            if (startedAt - decreasedAt >= 0 && lastDecreasedAt.compareAndSet(decreasedAt, finishedAt)) {
+                limit.updateAndGet(current -> Math.max(minLimit, (int) (current * backoffRatio)));
+            }
+        } else if (running * 2 >= limit.get()) {
+            limit.updateAndGet(current -> Math.min(maxLimit, current + 1));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.account.application.port.in.GetAccountBalanceQuery;
+import dev.haja.buckpal.account.application.port.out.LoadAccountBalancesPort;
+import dev.haja.buckpal.account.application.service.MicroBatcher.BatchedCall;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 여러 계좌에 대한 동시 잔액 조회를 모아 {@link LoadAccountBalancesPort}로 한 번에 조회하는 {@link GetAccountBalanceQuery}.
+ * 호출자는 최대 {@code batchWindow}만큼 더 기다리는 대신 DB 왕복 횟수가 배치 크기만큼 줄어든다.
+ */
+public class BatchingGetAccountBalanceService implements GetAccountBalanceQuery, AutoCloseable {
+
+    private final LoadAccountBalancesPort loadAccountBalancesPort;
+    private final MicroBatcher<AccountId, Money> batcher;
+
+    public BatchingGetAccountBalanceService(
+            LoadAccountBalancesPort loadAccountBalancesPort,
+            Duration batchWindow,
+            int maxBatchSize,
+            int maxConcurrentBatches,
+            ThreadFactory threadFactory) {
+        this.loadAccountBalancesPort = loadAccountBalancesPort;
+        this.batcher = new MicroBatcher<>(
+                "balance-batch", batchWindow, maxBatchSize, maxConcurrentBatches, this::loadBatch, threadFactory);
+    }
+
+    @Override
+    public Money getAccountBalance(AccountId accountId) {
+        return Futures.join(batcher.submit(accountId));
+    }
+
+    private void loadBatch(List<BatchedCall<AccountId, Money>> calls) {
+        Set<AccountId> accountIds = new LinkedHashSet<>();
+        for (BatchedCall<AccountId, Money> call : calls) {
+            accountIds.add(call.request());
+        }
+        Map<AccountId, Money> balances = loadAccountBalancesPort.loadBalances(accountIds);
+        for (BatchedCall<AccountId, Money> call : calls) {
+            Money balance = balances.get(call.request());
+            if (balance == null) {
+                call.result().completeExceptionally(new AccountNotFoundException(call.request()));
+            } else {
+                call.result().complete(balance);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        batcher.close();
+    }
+}
@@ -0,0 +1,104 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.account.application.port.in.FanOutTransferCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyResult;
+import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시에 실행되는 송금 수를 제한하는 사용 사례.
+ * 가상 스레드에서는 요청마다 스레드가 생기므로, 커넥션 풀보다 훨씬 많은 요청이 커넥션을 기다리며 쌓일 수 있다.
+ * 허용 수만큼만 안으로 들여보내고, {@code maxWait} 안에 자리가 나지 않으면 {@link TransferRejectedException}으로 거절한다.
+ * {@link Semaphore}는 {@code synchronized}를 쓰지 않으므로 기다리는 가상 스레드가 캐리어 스레드를 붙잡지 않는다.
+ */
+public class BulkheadSendMoneyService implements SendMoneyUseCase {
+
+    private final SendMoneyUseCase delegate;
+    private final Semaphore permits;
+    private final Duration maxWait;
+
+    public BulkheadSendMoneyService(SendMoneyUseCase delegate, int maxConcurrent, Duration maxWait) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("maxConcurrent must be positive, but was: " + maxConcurrent);
+        }
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxWait = maxWait;
+    }
+
+    @Override
+    public boolean sendMoney(SendMoneyCommand command) {
+        acquire();
+        try {
+            return delegate.sendMoney(command);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 일괄 송금은 트랜잭션 하나로 실행되므로 한 자리만 차지한다.
+     */
+    @Override
+    public List<SendMoneyResult> sendMoneyBatch(List<SendMoneyCommand> commands) {
+        acquire();
+        try {
+            return delegate.sendMoneyBatch(commands);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 여러 계좌로 보내는 송금도 트랜잭션 하나이므로 한 자리만 차지한다.
+     */
+    @Override
+    public boolean sendMoneyToMany(FanOutTransferCommand command) {
+        acquire();
+        try {
+            return delegate.sendMoneyToMany(command);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> sendMoneyAsync(SendMoneyCommand command) {
+        try {
+            acquire();
+        } catch (TransferRejectedException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<Boolean> result;
+        try {
+            result = delegate.sendMoneyAsync(command);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        return result.whenComplete((success, failure) -> permits.release());
+    }
+
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire() {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("송금 실행 대기 중 인터럽트되었습니다.", e);
+        }
+        if (!acquired) {
+            throw new TransferRejectedException("동시에 처리 중인 송금이 많아 요청을 받지 않았습니다.", maxWait);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.account.application.port.in.GetAccountBalanceQuery;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 같은 계좌에 대한 동시 잔액 조회를 하나의 로드로 합치는(single-flight) {@link GetAccountBalanceQuery}.
+ * 먼저 도착한 호출이 위임 대상에서 잔액을 읽고, 그 사이에 도착한 호출은 같은 결과를 공유한다.
+ * {@code stalenessTolerance}가 0보다 크면 완료된 결과도 그 시간 동안 재사용한다.
+ * 완료된 결과는 {@code maxCachedEntries}개까지만 남기고, 오래된 결과를 지워도 자리가 없으면 새 결과는 남기지 않는다.
+ */
+public class CoalescingGetAccountBalanceService implements GetAccountBalanceQuery {
+
+    private final GetAccountBalanceQuery delegate;
+    private final long stalenessToleranceNanos;
+    private final int maxCachedEntries;
+    private final ConcurrentHashMap<AccountId, Flight> flights = new ConcurrentHashMap<>();
+    private volatile long nextEvictionNanos;
+
+    public CoalescingGetAccountBalanceService(
+            GetAccountBalanceQuery delegate,
+            Duration stalenessTolerance,
+            int maxCachedEntries) {
+        if (stalenessTolerance.isNegative()) {
+            throw new IllegalArgumentException("stalenessTolerance must not be negative, but was: " + stalenessTolerance);
+        }
+        if (maxCachedEntries <= 0) {
+            throw new IllegalArgumentException("maxCachedEntries must be positive, but was: " + maxCachedEntries);
+        }
+        this.delegate = delegate;
+        this.stalenessToleranceNanos = stalenessTolerance.toNanos();
+        this.maxCachedEntries = maxCachedEntries;
+        this.nextEvictionNanos = System.nanoTime();
+    }
+
+    @Override
+    public Money getAccountBalance(AccountId accountId) {
+        Flight candidate = new Flight();
+        Flight flight = flights.compute(accountId, (id, current) ->
+                current != null && current.isReusable(System.nanoTime(), stalenessToleranceNanos)
+                        ? current
+                        : candidate);
+        if (flight == candidate) {
+            load(accountId, flight);
+        }
+        return flight.await();
+    }
+
+    private void load(AccountId accountId, Flight flight) {
+        Money balance;
+        try {
+            balance = delegate.getAccountBalance(accountId);
+        } catch (Throwable e) {
+            // 실패한 결과는 재사용하지 않는다. 다음 호출이 새로 로드한다.
+            flights.remove(accountId, flight);
+            flight.fail(e);
+            return;
+        }
+        flight.succeed(balance);
+        if (stalenessToleranceNanos == 0) {
+            flights.remove(accountId, flight);
+        } else if (flights.size() > maxCachedEntries && !evictStaleFlights()) {
+            flights.remove(accountId, flight);
+        }
+    }
+
+    /**
+     * 재사용할 수 없게 된 결과를 지우고, 상한 아래로 내려갔는지 돌려준다.
+     * 남은 결과가 모두 허용 지연 안이면 그만큼 지나기 전에는 다시 훑어도 지울 것이 거의 없으므로,
+     * 그동안은 훑지 않고 새 결과를 남기지 않는다.
+     */
+    private boolean evictStaleFlights() {
+        long now = System.nanoTime();
+        if (now - nextEvictionNanos < 0) {
+            return false;
+        }
+        nextEvictionNanos = now + stalenessToleranceNanos;
+        flights.values().removeIf(flight -> !flight.isReusable(now, stalenessToleranceNanos));
+        return flights.size() <= maxCachedEntries;
+    }
+
+    /**
+     * 한 계좌에 대한 진행 중이거나 완료된 잔액 로드.
+     */
+    private static final class Flight {
+        private final CompletableFuture<Money> result = new CompletableFuture<>();
+        private volatile long completedAtNanos;
+
+        void succeed(Money balance) {
+            completedAtNanos = System.nanoTime();
+            result.complete(balance);
+        }
+
+        void fail(Throwable cause) {
+            result.completeExceptionally(cause);
+        }
+
+        boolean isReusable(long now, long stalenessToleranceNanos) {
+            if (!result.isDone()) {
+                return true;
+            }
+            return !result.isCompletedExceptionally()
+                    && now - completedAtNanos <= stalenessToleranceNanos;
+        }
+
+        Money await() {
+            return Futures.join(result);
+        }
+    }
+}
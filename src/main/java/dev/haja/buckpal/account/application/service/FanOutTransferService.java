@@ -0,0 +1,74 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.BuckPalConfigurationProperties;
+import dev.haja.buckpal.account.application.port.in.FanOutTransferCommand;
+import dev.haja.buckpal.account.application.port.in.FanOutTransferUseCase;
+import dev.haja.buckpal.account.application.port.out.AccountLock;
+import dev.haja.buckpal.account.application.port.out.LoadAccountPort;
+import dev.haja.buckpal.account.application.port.out.UpdateAccountStatePort;
+import dev.haja.buckpal.account.domain.Account;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한 계좌에서 여러 계좌로 보내는 송금.
+ * 출금 계좌는 한 번만 읽고 합계로 한도와 잔액을 한 번만 확인한다.
+ * 입금 계좌는 잔액을 확인하지 않으므로 활동 없이 한 번에 읽고, 모든 활동은 마지막에 한 번에 저장한다.
+ * 요청은 송금 데코레이터 사슬을 거쳐 {@link SendMoneyService}를 통해 들어오므로,
+ * 동시 실행 제한, 빈도 제한과 동시성 모드는 여기서 다루지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional
+public class FanOutTransferService implements FanOutTransferUseCase {
+
+    private final LoadAccountPort loadAccountPort;
+    private final AccountLock accountLock;
+    private final UpdateAccountStatePort updateAccountStatePort;
+    private final MoneyTransferProperties moneyTransferProperties;
+    private final BuckPalConfigurationProperties buckPalConfigurationProperties;
+
+    @Override
+    public boolean sendMoneyToMany(FanOutTransferCommand command) {
+        Money total = command.totalMoney();
+        if (total.isGreaterThan(moneyTransferProperties.getMaximumTransferThreshold())) {
+            throw new ThresholdExceededException(moneyTransferProperties.getMaximumTransferThreshold(), total);
+        }
+        LocalDateTime baselineDate = TransferTransactions.baselineDate(buckPalConfigurationProperties);
+        Map<AccountId, Money> amountsByTarget = command.amountsByTarget();
+        Set<AccountId> accountIds = new LinkedHashSet<>();
+        accountIds.add(command.getSourceAccountId());
+        accountIds.addAll(amountsByTarget.keySet());
+
+        // 입금 계좌도 잠가, 그 계좌에서 동시에 진행 중인 출금의 버전 비교가 이 입금 때문에 실패하지 않게 한다.
+        accountLock.lockAccounts(accountIds);
+        try {
+            Account sourceAccount = loadAccountPort.loadAccount(command.getSourceAccountId(), baselineDate);
+            Map<AccountId, Account> targetAccounts = loadAccountPort.loadAccountsForDeposit(amountsByTarget.keySet());
+            if (!sourceAccount.withdrawAll(amountsByTarget)) {
+                return false;
+            }
+            List<Account> changedAccounts = new ArrayList<>(amountsByTarget.size() + 1);
+            changedAccounts.add(sourceAccount);
+            amountsByTarget.forEach((targetAccountId, money) -> {
+                Account targetAccount = targetAccounts.get(targetAccountId);
+                targetAccount.deposit(money, command.getSourceAccountId());
+                changedAccounts.add(targetAccount);
+            });
+            updateAccountStatePort.updateActivities(changedAccounts);
+            return true;
+        } finally {
+            TransferTransactions.releaseAfterCompletion(() -> accountLock.releaseAccounts(accountIds));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package dev.haja.buckpal.account.application.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 비동기 결과를 동기 호출자에게 돌려줄 때 쓰는 도우미.
+ */
+final class Futures {
+
+    private Futures() {
+    }
+
+    /**
+     * 결과를 기다리고, 실패했다면 원래 예외를 그대로 다시 던진다.
+     */
+    static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.account.application.port.in.ActivityCursor;
+import dev.haja.buckpal.account.application.port.in.ActivityPage;
+import dev.haja.buckpal.account.application.port.in.GetActivityHistoryQuery;
+import dev.haja.buckpal.account.application.port.out.LoadAccountVersionPort;
+import dev.haja.buckpal.account.application.port.out.LoadActivityHistoryPort;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Activity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 활동 이력 조회.
+ * 페이지 크기보다 하나 더 읽어 다음 페이지가 있는지 판단하고, 마지막 활동의 (timestamp, id)를 다음 위치로 돌려준다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GetActivityHistoryService implements GetActivityHistoryQuery {
+
+    private final LoadAccountVersionPort loadAccountVersionPort;
+    private final LoadActivityHistoryPort loadActivityHistoryPort;
+
+    @Override
+    public Optional<ActivityPage> getActivities(AccountId accountId, Optional<ActivityCursor> after, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive, but was: " + size);
+        }
+        if (loadAccountVersionPort.loadVersion(accountId).isEmpty()) {
+            return Optional.empty();
+        }
+        List<Activity> activities = after
+                .map(cursor -> loadActivityHistoryPort.loadActivitiesBefore(
+                        accountId, cursor.timestamp(), cursor.activityId(), size + 1))
+                .orElseGet(() -> loadActivityHistoryPort.loadLatestActivities(accountId, size + 1));
+        if (activities.size() <= size) {
+            return Optional.of(new ActivityPage(activities, Optional.empty()));
+        }
+        List<Activity> page = activities.subList(0, size);
+        Activity last = page.getLast();
+        return Optional.of(new ActivityPage(
+                List.copyOf(page),
+                Optional.of(new ActivityCursor(last.getTimestamp(), last.getId().getValue()))));
+    }
+}
@@ -0,0 +1,36 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.account.application.port.in.GetAccountBalanceQuery;
+import dev.haja.buckpal.account.application.port.in.GetVersionedAccountBalanceQuery;
+import dev.haja.buckpal.account.application.port.in.VersionedBalance;
+import dev.haja.buckpal.account.application.port.out.LoadAccountVersionPort;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 버전이 붙은 잔액 조회.
+ * 잔액은 {@link GetAccountBalanceQuery}를 거쳐 읽으므로, 같은 계좌의 동시 조회는 하나의 로드로 합쳐진다.
+ * 합쳐진 로드는 다른 스레드에서 커넥션을 쓸 수 있으므로 잔액 조회는 트랜잭션으로 감싸지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GetVersionedAccountBalanceService implements GetVersionedAccountBalanceQuery {
+
+    private final LoadAccountVersionPort loadAccountVersionPort;
+    private final GetAccountBalanceQuery getAccountBalanceQuery;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> getAccountVersion(AccountId accountId) {
+        return loadAccountVersionPort.loadVersion(accountId);
+    }
+
+    @Override
+    public VersionedBalance getVersionedAccountBalance(AccountId accountId, long version) {
+        return new VersionedBalance(getAccountBalanceQuery.getAccountBalance(accountId), version);
+    }
+}
@@ -0,0 +1,124 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.account.application.port.in.FanOutTransferCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyResult;
+import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+import dev.haja.buckpal.account.application.service.MicroBatcher.BatchedCall;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 동시에 들어온 송금을 모아 한 트랜잭션에서 커밋하는 사용 사례.
+ * 짧은 시간 창 안에 들어온 송금을 {@link SendMoneyUseCase#sendMoneyBatch(List)}로 한 번에 실행하므로,
+ * 커밋(디스크 동기화) 비용을 묶음의 송금들이 나눠 낸다. 호출한 쪽은 자기 송금의 결과만 받는다.
+ *
+ * <p>잔액 부족처럼 송금 한 건만의 실패는 묶음 안에서 그 건만 건너뛴다.
+ * 잠금 대기 시간 초과나 버전 충돌처럼 트랜잭션 전체가 실패하면 아무것도 커밋되지 않았으므로,
+ * 묶음의 송금을 하나씩 다시 실행해 실패가 다른 송금에 번지지 않게 한다.
+ * 한도 검사는 묶음에 넣기 전에 호출한 스레드에서 한다.
+ * 커밋을 기다리는 묶음이 너무 많이 쌓이면 송금을 {@link TransferRejectedException}으로 거절한다.
+ */
+@Slf4j
+public class GroupCommitSendMoneyService implements SendMoneyUseCase, AutoCloseable {
+
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final SendMoneyUseCase delegate;
+    private final MoneyTransferProperties moneyTransferProperties;
+    private final MicroBatcher<SendMoneyCommand, Boolean> batcher;
+
+    public GroupCommitSendMoneyService(
+            SendMoneyUseCase delegate,
+            MoneyTransferProperties moneyTransferProperties,
+            Duration window,
+            int maxBatchSize,
+            int maxConcurrentBatches,
+            ThreadFactory commitThreadFactory) {
+        this.delegate = delegate;
+        this.moneyTransferProperties = moneyTransferProperties;
+        this.batcher = new MicroBatcher<>(
+                "transfer-group-commit", window, maxBatchSize, maxConcurrentBatches, this::commit, commitThreadFactory);
+    }
+
+    @Override
+    public boolean sendMoney(SendMoneyCommand command) {
+        return Futures.join(sendMoneyAsync(command));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> sendMoneyAsync(SendMoneyCommand command) {
+        if (command.getMoney().isGreaterThan(moneyTransferProperties.getMaximumTransferThreshold())) {
+            return CompletableFuture.failedFuture(
+                    new ThresholdExceededException(moneyTransferProperties.getMaximumTransferThreshold(), command.getMoney()));
+        }
+        return batcher.submit(command).exceptionallyCompose(e -> CompletableFuture.failedFuture(
+                e instanceof RejectedExecutionException
+                        ? new TransferRejectedException("묶음 커밋 대기열이 가득 차 요청을 받지 않았습니다.", RETRY_AFTER)
+                        : e));
+    }
+
+    /**
+     * 이미 묶여 들어온 송금은 그대로 한 트랜잭션으로 실행한다.
+     */
+    @Override
+    public List<SendMoneyResult> sendMoneyBatch(List<SendMoneyCommand> commands) {
+        return delegate.sendMoneyBatch(commands);
+    }
+
+    /**
+     * 여러 계좌로 보내는 송금은 이미 한 트랜잭션이므로 모으지 않는다.
+     */
+    @Override
+    public boolean sendMoneyToMany(FanOutTransferCommand command) {
+        return delegate.sendMoneyToMany(command);
+    }
+
+    private void commit(List<BatchedCall<SendMoneyCommand, Boolean>> batch) {
+        List<SendMoneyResult> results;
+        try {
+            results = delegate.sendMoneyBatch(batch.stream().map(BatchedCall::request).toList());
+        } catch (RuntimeException e) {
+            if (batch.size() == 1 || e instanceof TransferRejectedException) {
+                batch.forEach(call -> call.result().completeExceptionally(e));
+                return;
+            }
+            log.debug("묶음 커밋이 실패해 송금 {}건을 하나씩 다시 실행합니다.", batch.size(), e);
+            batch.forEach(this::commitAlone);
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            complete(batch.get(i), results.get(i));
+        }
+    }
+
+    private void commitAlone(BatchedCall<SendMoneyCommand, Boolean> call) {
+        try {
+            call.result().complete(delegate.sendMoney(call.request()));
+        } catch (RuntimeException e) {
+            call.result().completeExceptionally(e);
+        }
+    }
+
+    private void complete(BatchedCall<SendMoneyCommand, Boolean> call, SendMoneyResult result) {
+        switch (result) {
+            case COMPLETED -> call.result().complete(true);
+            case INSUFFICIENT_BALANCE -> call.result().complete(false);
+            case THRESHOLD_EXCEEDED -> call.result().completeExceptionally(new ThresholdExceededException(
+                    moneyTransferProperties.getMaximumTransferThreshold(), call.request().getMoney()));
+        }
+    }
+
+    /**
+     * 모아 둔 송금을 마저 커밋하고 스레드를 정리한다.
+     */
+    @Override
+    public void close() {
+        batcher.close();
+    }
+}
@@ -0,0 +1,173 @@
+package dev.haja.buckpal.account.application.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 짧은 시간 창 안에 들어온 요청을 모아 한 번에 처리하는 배처.
+ * 첫 요청이 들어오면 {@code window} 뒤에 배치를 처리하고, 그 전에 {@code maxBatchSize}개가 모이면 바로 처리한다.
+ * 처리기는 배치의 모든 결과를 완료해야 하며, 완료하지 않은 결과는 실패로 처리된다.
+ * 배치는 많아야 {@code maxConcurrentBatches}개가 동시에 처리되고 같은 수만큼 차례를 기다린다.
+ * 그보다 많이 쌓이면 배치의 결과를 {@link RejectedExecutionException}으로 실패시킨다.
+ *
+ * @param <T> 요청 타입
+ * @param <R> 결과 타입
+ */
+public final class MicroBatcher<T, R> implements AutoCloseable {
+
+    /**
+     * 배치에 포함된 하나의 호출.
+     *
+     * @param request 요청
+     * @param result  처리기가 완료해야 하는 결과
+     */
+    public record BatchedCall<T, R>(T request, CompletableFuture<R> result) {}
+
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Consumer<List<BatchedCall<T, R>>> batchHandler;
+    private final ScheduledExecutorService timer;
+    private final ThreadPoolExecutor handlerExecutor;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private List<BatchedCall<T, R>> pending = new ArrayList<>();
+    private boolean closed;
+
+    public MicroBatcher(
+            String name,
+            Duration window,
+            int maxBatchSize,
+            int maxConcurrentBatches,
+            Consumer<List<BatchedCall<T, R>>> batchHandler,
+            ThreadFactory handlerThreadFactory) {
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("window must be positive, but was: " + window);
+        }
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be positive, but was: " + maxBatchSize);
+        }
+        if (maxConcurrentBatches <= 0) {
+            throw new IllegalArgumentException("maxConcurrentBatches must be positive, but was: " + maxConcurrentBatches);
+        }
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.batchHandler = batchHandler;
+        this.timer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name(name + "-timer").daemon().factory());
+        this.handlerExecutor = new ThreadPoolExecutor(
+                maxConcurrentBatches, maxConcurrentBatches,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxConcurrentBatches),
+                handlerThreadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 요청을 현재 배치에 추가한다.
+     *
+     * @param request 요청
+     * @return 배치가 처리되면 완료되는 결과
+     */
+    public CompletableFuture<R> submit(T request) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        List<BatchedCall<T, R>> fullBatch = null;
+        lock.lock();
+        try {
+            if (closed) {
+                throw new RejectedExecutionException("배처가 이미 종료되었습니다.");
+            }
+            pending.add(new BatchedCall<>(request, result));
+            if (pending.size() >= maxBatchSize) {
+                fullBatch = pending;
+                pending = new ArrayList<>();
+            } else if (pending.size() == 1) {
+                List<BatchedCall<T, R>> batch = pending;
+                timer.schedule(() -> flush(batch), windowNanos, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (fullBatch != null) {
+            dispatch(fullBatch);
+        }
+        return result;
+    }
+
+    private void flush(List<BatchedCall<T, R>> batch) {
+        lock.lock();
+        try {
+            if (pending != batch) {
+                // 크기 초과로 이미 처리된 배치
+                return;
+            }
+            pending = new ArrayList<>();
+        } finally {
+            lock.unlock();
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(List<BatchedCall<T, R>> batch) {
+        try {
+            handlerExecutor.execute(() -> handle(batch));
+        } catch (RejectedExecutionException e) {
+            failAll(batch, e);
+        }
+    }
+
+    private void handle(List<BatchedCall<T, R>> batch) {
+        try {
+            batchHandler.accept(batch);
+        } catch (Throwable e) {
+            failAll(batch, e);
+            return;
+        }
+        failAll(batch, new IllegalStateException("배치 처리기가 결과를 완료하지 않았습니다."));
+    }
+
+    private void failAll(List<BatchedCall<T, R>> batch, Throwable cause) {
+        for (BatchedCall<T, R> call : batch) {
+            call.result().completeExceptionally(cause);
+        }
+    }
+
+    /**
+     * 남은 요청을 처리하고 스레드를 정리한다.
+     */
+    @Override
+    public void close() {
+        List<BatchedCall<T, R>> remaining;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            remaining = pending;
+            pending = new ArrayList<>();
+        } finally {
+            lock.unlock();
+        }
+        timer.shutdownNow();
+        if (!remaining.isEmpty()) {
+            try {
+                handlerExecutor.execute(() -> handle(remaining));
+            } catch (RejectedExecutionException e) {
+                // 종료할 때는 남은 요청을 거절하지 않고 닫는 스레드에서 처리한다.
+                handle(remaining);
+            }
+        }
+        handlerExecutor.close();
+    }
+}
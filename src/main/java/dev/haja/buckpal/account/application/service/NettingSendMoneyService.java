@@ -0,0 +1,325 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.account.application.port.in.FanOutTransferCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyResult;
+import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+import dev.haja.buckpal.account.application.port.out.LoadAccountBalancesPort;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 같은 계좌 쌍 사이의 송금을 모아 한 번의 이체로 정산하는 사용 사례.
+ * 출금 계좌마다 장부를 열고, 정산 주기 동안 들어온 송금을 입금 계좌별로 합산해 두었다가
+ * 주기가 끝나면 쌍마다 합계 금액으로 한 번 이체한다. 활동 행은 송금 수와 무관하게 쌍마다 두 개만 생긴다.
+ *
+ * <p>장부는 처음 열 때 읽은 출금 계좌 잔액에서 이미 받아 둔 송금 합계를 뺀 만큼만 새 송금을 받고,
+ * 넘는 송금은 바로 잔액 부족으로 돌려준다. 받은 송금의 결과는 정산이 커밋된 뒤에 완료된다.
+ * 합계가 송금 한도를 넘게 되면 그 쌍은 주기를 기다리지 않고 정산 스레드에서 먼저 정산한다.
+ * 정산 이체는 장부 잠금 밖에서 하고, 정산이 끝날 때까지 같은 출금 계좌의 새 송금은 모으지 않고 바로 넘긴다.
+ * 다른 경로의 출금으로 정산이 실패하면 그 쌍의 송금을 하나씩 다시 실행해 각자의 결과를 돌려준다.
+ *
+ * <p>개별 송금은 정산 ID, 호출자가 받은 송금 ID와 함께 {@code buckpal.transfer.netting} 로거에 한 줄씩 남는다.
+ */
+@Slf4j
+public class NettingSendMoneyService implements SendMoneyUseCase, AutoCloseable {
+
+    private static final Logger detailLog = LoggerFactory.getLogger("buckpal.transfer.netting");
+
+    private final SendMoneyUseCase delegate;
+    private final LoadAccountBalancesPort loadAccountBalancesPort;
+    private final MoneyTransferProperties moneyTransferProperties;
+    private final long settlementIntervalNanos;
+    private final ScheduledExecutorService timer;
+    private final ExecutorService settlementExecutor;
+    private final Map<AccountId, SourceLedger> ledgers = new ConcurrentHashMap<>();
+
+    public NettingSendMoneyService(
+            SendMoneyUseCase delegate,
+            LoadAccountBalancesPort loadAccountBalancesPort,
+            MoneyTransferProperties moneyTransferProperties,
+            Duration settlementInterval,
+            ThreadFactory settlementThreadFactory) {
+        if (settlementInterval.isNegative() || settlementInterval.isZero()) {
+            throw new IllegalArgumentException("settlementInterval must be positive, but was: " + settlementInterval);
+        }
+        this.delegate = delegate;
+        this.loadAccountBalancesPort = loadAccountBalancesPort;
+        this.moneyTransferProperties = moneyTransferProperties;
+        this.settlementIntervalNanos = settlementInterval.toNanos();
+        this.timer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("transfer-netting-timer").daemon().factory());
+        this.settlementExecutor = Executors.newThreadPerTaskExecutor(settlementThreadFactory);
+    }
+
+    @Override
+    public boolean sendMoney(SendMoneyCommand command) {
+        return Futures.join(sendMoneyAsync(command));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> sendMoneyAsync(SendMoneyCommand command) {
+        Money threshold = moneyTransferProperties.getMaximumTransferThreshold();
+        if (command.getMoney().isGreaterThan(threshold)) {
+            return CompletableFuture.failedFuture(new ThresholdExceededException(threshold, command.getMoney()));
+        }
+        if (command.getSourceAccountId().equals(command.getTargetAccountId())) {
+            return delegate.sendMoneyAsync(command);
+        }
+        while (true) {
+            SourceLedger ledger = ledgers.computeIfAbsent(command.getSourceAccountId(), SourceLedger::new);
+            PairBucket full;
+            CompletableFuture<Boolean> result;
+            ledger.lock.lock();
+            try {
+                if (ledger.closed) {
+                    // 정산을 마치고 닫힌 장부. 새 장부를 연다.
+                    continue;
+                }
+                if (ledger.settling) {
+                    // 정산 이체가 커밋되기 전이라 잔액을 새로 읽어도 믿을 수 없으므로 모으지 않는다.
+                    break;
+                }
+                if (ledger.balance == null) {
+                    Money balance = loadAccountBalancesPort.loadBalances(List.of(ledger.sourceAccountId))
+                            .get(ledger.sourceAccountId);
+                    if (balance == null) {
+                        // 없는 계좌는 모으지 않고 그대로 넘겨 평소와 같은 예외를 받게 한다.
+                        retire(ledger);
+                        break;
+                    }
+                    ledger.balance = balance;
+                }
+                if (command.getMoney().isGreaterThan(ledger.balance.minus(ledger.reserved))) {
+                    if (!ledger.scheduled) {
+                        // 받아 둔 송금이 없으면 읽은 잔액을 남겨 두지 않는다.
+                        retire(ledger);
+                    }
+                    return CompletableFuture.completedFuture(false);
+                }
+                full = takeFullBucket(ledger, command);
+                result = reserve(ledger, command);
+            } finally {
+                ledger.lock.unlock();
+            }
+            if (full != null) {
+                dispatch(() -> settleEarly(ledger, full));
+            }
+            return result;
+        }
+        return delegate.sendMoneyAsync(command);
+    }
+
+    /**
+     * 명시적으로 묶인 송금은 이미 한 트랜잭션이므로 모으지 않는다.
+     */
+    @Override
+    public List<SendMoneyResult> sendMoneyBatch(List<SendMoneyCommand> commands) {
+        return delegate.sendMoneyBatch(commands);
+    }
+
+    /**
+     * 여러 계좌로 보내는 송금은 이미 한 트랜잭션이므로 모으지 않는다.
+     * 이 출금은 장부에 반영되지 않으므로, 장부가 읽어 둔 잔액이 모자라게 되면 정산이 실패해 송금을 하나씩 다시 실행한다.
+     */
+    @Override
+    public boolean sendMoneyToMany(FanOutTransferCommand command) {
+        return delegate.sendMoneyToMany(command);
+    }
+
+    /**
+     * 합계가 송금 한도를 넘게 되는 쌍을 장부에서 떼어 낸다. 떼어 낸 쌍은 장부 잠금을 놓은 뒤 정산한다.
+     */
+    private PairBucket takeFullBucket(SourceLedger ledger, SendMoneyCommand command) {
+        PairBucket bucket = ledger.buckets.get(command.getTargetAccountId());
+        if (bucket == null
+                || !bucket.total.plus(command.getMoney()).isGreaterThan(moneyTransferProperties.getMaximumTransferThreshold())) {
+            return null;
+        }
+        ledger.buckets.remove(command.getTargetAccountId());
+        ledger.settlementsInFlight++;
+        return bucket;
+    }
+
+    private CompletableFuture<Boolean> reserve(SourceLedger ledger, SendMoneyCommand command) {
+        PairBucket bucket = ledger.buckets.computeIfAbsent(command.getTargetAccountId(), PairBucket::new);
+        PendingTransfer pending = new PendingTransfer(command, new CompletableFuture<>());
+        bucket.transfers.add(pending);
+        bucket.total = bucket.total.plus(command.getMoney());
+        ledger.reserved = ledger.reserved.plus(command.getMoney());
+        if (!ledger.scheduled) {
+            ledger.scheduled = true;
+            schedule(ledger);
+        }
+        return pending.result;
+    }
+
+    private void schedule(SourceLedger ledger) {
+        try {
+            timer.schedule(() -> dispatch(() -> settle(ledger)), settlementIntervalNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중에는 close()가 남은 장부를 정산한다.
+        }
+    }
+
+    private void dispatch(Runnable settlement) {
+        try {
+            settlementExecutor.execute(settlement);
+        } catch (RejectedExecutionException e) {
+            settlement.run();
+        }
+    }
+
+    /**
+     * 장부의 모든 쌍을 정산하고 장부를 닫는다.
+     * 장부 잠금은 쌍을 떼어 내는 동안만 잡고 이체는 잠금 밖에서 하므로, 정산하는 동안 같은 출금 계좌의 새 송금은
+     * 기다리지 않고 모으지 않은 채 바로 넘어간다.
+     */
+    private void settle(SourceLedger ledger) {
+        List<PairBucket> buckets;
+        ledger.lock.lock();
+        try {
+            if (ledger.closed || ledger.settling) {
+                return;
+            }
+            ledger.settling = true;
+            ledger.settlementsInFlight++;
+            buckets = List.copyOf(ledger.buckets.values());
+            ledger.buckets.clear();
+        } finally {
+            ledger.lock.unlock();
+        }
+        try {
+            for (PairBucket bucket : buckets) {
+                settle(ledger.sourceAccountId, bucket);
+            }
+        } finally {
+            finishSettlement(ledger);
+        }
+    }
+
+    private void settleEarly(SourceLedger ledger, PairBucket bucket) {
+        try {
+            settle(ledger.sourceAccountId, bucket);
+        } finally {
+            finishSettlement(ledger);
+        }
+    }
+
+    /**
+     * 장부의 정산이 모두 끝났으면 장부를 닫는다.
+     * 먼저 떼어 낸 쌍의 정산이 남아 있는 동안 닫으면, 새 장부가 그 출금이 빠지기 전의 잔액을 읽게 된다.
+     */
+    private void finishSettlement(SourceLedger ledger) {
+        ledger.lock.lock();
+        try {
+            ledger.settlementsInFlight--;
+            if (ledger.settling && ledger.settlementsInFlight == 0) {
+                retire(ledger);
+            }
+        } finally {
+            ledger.lock.unlock();
+        }
+    }
+
+    private void retire(SourceLedger ledger) {
+        ledger.closed = true;
+        ledgers.remove(ledger.sourceAccountId, ledger);
+    }
+
+    private void settle(AccountId sourceAccountId, PairBucket bucket) {
+        UUID settlementId = UUID.randomUUID();
+        boolean settled;
+        try {
+            settled = delegate.sendMoney(new SendMoneyCommand(sourceAccountId, bucket.targetAccountId, bucket.total));
+        } catch (RuntimeException e) {
+            log.debug("정산 {}이 실패해 송금 {}건을 하나씩 실행합니다.", settlementId, bucket.transfers.size(), e);
+            settled = false;
+        }
+        if (!settled) {
+            bucket.transfers.forEach(this::sendAlone);
+            return;
+        }
+        for (PendingTransfer pending : bucket.transfers) {
+            detailLog.info("settlement={} transfer={} source={} target={} amount={}",
+                    settlementId, transferId(pending.command),
+                    sourceAccountId.getValue(), bucket.targetAccountId.getValue(),
+                    pending.command.getMoney().getAmount());
+            pending.result.complete(true);
+        }
+    }
+
+    /**
+     * 호출자가 받은 송금 ID. 동기 송금처럼 호출자에게 ID를 돌려주지 않은 송금은 {@code -}로 남긴다.
+     */
+    private static Object transferId(SendMoneyCommand command) {
+        return command.getTransferId() == null ? "-" : command.getTransferId();
+    }
+
+    private void sendAlone(PendingTransfer pending) {
+        try {
+            pending.result.complete(delegate.sendMoney(pending.command));
+        } catch (RuntimeException e) {
+            pending.result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 받아 둔 송금을 모두 정산하고 스레드를 정리한다.
+     */
+    @Override
+    public void close() {
+        timer.shutdownNow();
+        for (SourceLedger ledger : List.copyOf(ledgers.values())) {
+            settle(ledger);
+        }
+        settlementExecutor.close();
+    }
+
+    private static final class SourceLedger {
+        private final AccountId sourceAccountId;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<AccountId, PairBucket> buckets = new LinkedHashMap<>();
+        private Money balance;
+        private Money reserved = Money.ZERO;
+        private boolean scheduled;
+        private boolean settling;
+        private int settlementsInFlight;
+        private boolean closed;
+
+        private SourceLedger(AccountId sourceAccountId) {
+            this.sourceAccountId = sourceAccountId;
+        }
+    }
+
+    private static final class PairBucket {
+        private final AccountId targetAccountId;
+        private final List<PendingTransfer> transfers = new ArrayList<>();
+        private Money total = Money.ZERO;
+
+        private PairBucket(AccountId targetAccountId) {
+            this.targetAccountId = targetAccountId;
+        }
+    }
+
+    private record PendingTransfer(SendMoneyCommand command, CompletableFuture<Boolean> result) {}
+}
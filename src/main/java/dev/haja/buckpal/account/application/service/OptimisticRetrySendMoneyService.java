@@ -0,0 +1,94 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.account.application.port.in.FanOutTransferCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyResult;
+import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 동시성 모드의 송금 사용 사례.
+ * 잠금 없이 이체를 실행하고, 계좌 버전이 충돌하면 트랜잭션 전체를 다시 실행한다.
+ * 계좌 행 잠금을 기다리다 시간이 지나거나 교착으로 중단된 경우도 같은 충돌로 보고 다시 실행한다.
+ * 재시도 간격은 시도마다 두 배로 늘어나되 {@code maxBackoff}를 넘지 않으며,
+ * 같은 계좌를 두고 충돌한 이체들이 다시 부딪히지 않도록 0부터 그 간격 사이에서 무작위로 고른다.
+ * 트랜잭션 경계 밖에서 감싸야 재시도마다 새 트랜잭션이 시작된다.
+ */
+@Slf4j
+public class OptimisticRetrySendMoneyService implements SendMoneyUseCase {
+
+    private final SendMoneyUseCase delegate;
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+
+    public OptimisticRetrySendMoneyService(
+            SendMoneyUseCase delegate,
+            int maxAttempts,
+            Duration initialBackoff,
+            Duration maxBackoff) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("maxAttempts must be positive, but was: " + maxAttempts);
+        }
+        this.delegate = delegate;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffNanos = initialBackoff.toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+    }
+
+    @Override
+    public boolean sendMoney(SendMoneyCommand command) {
+        return retry(() -> delegate.sendMoney(command));
+    }
+
+    /**
+     * 일괄 송금은 한 트랜잭션이므로, 어느 계좌에서든 충돌하면 전체를 다시 실행한다.
+     */
+    @Override
+    public List<SendMoneyResult> sendMoneyBatch(List<SendMoneyCommand> commands) {
+        return retry(() -> delegate.sendMoneyBatch(commands));
+    }
+
+    /**
+     * 출금 계좌의 버전이 바뀌었으면 여러 계좌로 보내는 송금 전체를 다시 실행한다.
+     */
+    @Override
+    public boolean sendMoneyToMany(FanOutTransferCommand command) {
+        return retry(() -> delegate.sendMoneyToMany(command));
+    }
+
+    private <T> T retry(Supplier<T> transfer) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transfer.get();
+            } catch (OptimisticLockingFailureException | PessimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.debug("계좌 버전 또는 잠금 충돌로 송금을 다시 시도합니다. attempt={}/{}", attempt, maxAttempts);
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffNanos, initialBackoffNanos << Math.min(attempt - 1, 30));
+        if (ceiling <= 0) {
+            return;
+        }
+        long sleepNanos = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        try {
+            Thread.sleep(Duration.ofNanos(sleepNanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("송금 재시도 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+import dev.haja.buckpal.account.application.port.in.SubmitTransferUseCase;
+import dev.haja.buckpal.account.application.port.in.SubmittedTransfer;
+import dev.haja.buckpal.account.application.port.in.TransferStatus;
+import dev.haja.buckpal.account.application.port.in.TransferStatus.State;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 송금을 크기가 정해진 대기열에 넣고 작업 스레드에서 실행하는 {@link SubmitTransferUseCase}.
+ * 대기열이 가득 차면 {@link TransferRejectedException}으로 접수를 거절해, 밀린 요청이 메모리를 채우지 않게 한다.
+ * 끝난 송금의 상태는 보관 기간 동안 최대 {@code maxRetainedStatuses}개까지 남겨 두고,
+ * 접수, 완료, 조회 때마다 보관 기간이 지났거나 개수를 넘는 것을 오래된 것부터 지운다.
+ * 실패한 송금의 상태에는 예외 메시지 대신 정해 둔 오류 코드를 남긴다.
+ * 송금은 접수와 다른 스레드에서 실행되므로 접수한 요청의 트랜잭션에 참여하지 않는다.
+ */
+public class QueuedTransferService implements SubmitTransferUseCase, AutoCloseable {
+
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final SendMoneyUseCase delegate;
+    private final ThreadPoolExecutor executor;
+    private final long retentionNanos;
+    private final int maxRetainedStatuses;
+    private final Map<UUID, TrackedTransfer> transfers = new ConcurrentHashMap<>();
+    private final Queue<TrackedTransfer> finished = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger finishedCount = new AtomicInteger();
+
+    public QueuedTransferService(
+            SendMoneyUseCase delegate,
+            int workers,
+            int queueCapacity,
+            Duration statusRetention,
+            int maxRetainedStatuses,
+            ThreadFactory workerThreadFactory) {
+        if (workers <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException(
+                    "workers and queueCapacity must be positive, but were: " + workers + ", " + queueCapacity);
+        }
+        if (maxRetainedStatuses <= 0) {
+            throw new IllegalArgumentException("maxRetainedStatuses must be positive, but was: " + maxRetainedStatuses);
+        }
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(
+                workers, workers,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                workerThreadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+        this.retentionNanos = statusRetention.toNanos();
+        this.maxRetainedStatuses = maxRetainedStatuses;
+    }
+
+    @Override
+    public SubmittedTransfer submit(SendMoneyCommand command) {
+        evictExpired();
+        TrackedTransfer transfer = new TrackedTransfer(UUID.randomUUID());
+        transfers.put(transfer.transferId, transfer);
+        try {
+            SendMoneyCommand tracked = command.withTransferId(transfer.transferId);
+            executor.execute(() -> run(transfer, tracked));
+        } catch (RejectedExecutionException e) {
+            transfers.remove(transfer.transferId);
+            throw new TransferRejectedException("송금 대기열이 가득 차 요청을 받지 않았습니다.", RETRY_AFTER);
+        }
+        return new SubmittedTransfer(transfer.transferId, transfer.completion);
+    }
+
+    @Override
+    public Optional<TransferStatus> findStatus(UUID transferId) {
+        evictExpired();
+        return Optional.ofNullable(transfers.get(transferId))
+                .map(transfer -> transfer.status);
+    }
+
+    /**
+     * 실행을 기다리는 송금 수.
+     */
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    private void run(TrackedTransfer transfer, SendMoneyCommand command) {
+        transfer.status = new TransferStatus(transfer.transferId, State.RUNNING);
+        TransferStatus result;
+        try {
+            result = new TransferStatus(
+                    transfer.transferId,
+                    delegate.sendMoney(command) ? State.COMPLETED : State.INSUFFICIENT_BALANCE);
+        } catch (RuntimeException e) {
+            result = new TransferStatus(transfer.transferId, State.FAILED, errorCode(e));
+        }
+        transfer.status = result;
+        transfer.finishedAt = System.nanoTime();
+        finished.add(transfer);
+        finishedCount.incrementAndGet();
+        evictExpired();
+        transfer.completion.complete(result);
+    }
+
+    /**
+     * 예외 메시지는 내부 구현을 드러낼 수 있으므로 상태에는 예외 종류별 오류 코드만 남긴다.
+     */
+    private static String errorCode(RuntimeException e) {
+        if (e instanceof TransferRejectedException) {
+            return TransferStatus.REJECTED;
+        }
+        if (e instanceof ThresholdExceededException) {
+            return TransferStatus.THRESHOLD_EXCEEDED;
+        }
+        return TransferStatus.TRANSFER_FAILED;
+    }
+
+    private void evictExpired() {
+        long now = System.nanoTime();
+        TrackedTransfer oldest;
+        while ((oldest = finished.peek()) != null
+                && (now - oldest.finishedAt > retentionNanos || finishedCount.get() > maxRetainedStatuses)) {
+            if (finished.remove(oldest)) {
+                finishedCount.decrementAndGet();
+                transfers.remove(oldest.transferId);
+            }
+        }
+    }
+
+    /**
+     * 더 이상 접수하지 않고, 이미 접수한 송금이 모두 끝날 때까지 기다린다.
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    private static final class TrackedTransfer {
+        private final UUID transferId;
+        private final CompletableFuture<TransferStatus> completion = new CompletableFuture<>();
+        private volatile TransferStatus status;
+        private volatile long finishedAt;
+
+        private TrackedTransfer(UUID transferId) {
+            this.transferId = transferId;
+            this.status = new TransferStatus(transferId, State.QUEUED);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package dev.haja.buckpal.account.application.service;
+
+import java.time.Duration;
+
+/**
+ * 허용된 빈도보다 많은 송금을 요청해 거절했음을 나타낸다.
+ * 처리 여유가 없어서가 아니라 요청한 쪽이 한도를 넘은 것이므로, 다른 요청은 그대로 받는다.
+ */
+public class RateLimitExceededException extends TransferRejectedException {
+
+    public RateLimitExceededException(String reason, Duration retryAfter) {
+        super(reason, retryAfter);
+    }
+}
@@ -0,0 +1,73 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.account.application.port.in.FanOutTransferCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyResult;
+import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.common.RateLimiter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 출금 계좌별로 송금 빈도를 제한하는 사용 사례.
+ * 한 계좌로 몰리는 요청이 커넥션 풀을 차지하지 않도록, 계좌를 읽기 전에 {@link RateLimiter}로 판정해
+ * 한도를 넘는 요청은 {@link RateLimitExceededException}으로 바로 거절한다.
+ */
+public class RateLimitedSendMoneyService implements SendMoneyUseCase {
+
+    private final SendMoneyUseCase delegate;
+    private final RateLimiter<AccountId> rateLimiter;
+
+    public RateLimitedSendMoneyService(SendMoneyUseCase delegate, RateLimiter<AccountId> rateLimiter) {
+        this.delegate = delegate;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public boolean sendMoney(SendMoneyCommand command) {
+        admit(command.getSourceAccountId());
+        return delegate.sendMoney(command);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> sendMoneyAsync(SendMoneyCommand command) {
+        try {
+            admit(command.getSourceAccountId());
+        } catch (RateLimitExceededException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return delegate.sendMoneyAsync(command);
+    }
+
+    /**
+     * 일괄 송금은 트랜잭션 하나로 실행되므로 출금 계좌마다 한 번씩만 센다.
+     */
+    @Override
+    public List<SendMoneyResult> sendMoneyBatch(List<SendMoneyCommand> commands) {
+        commands.stream()
+                .map(SendMoneyCommand::getSourceAccountId)
+                .distinct()
+                .forEach(this::admit);
+        return delegate.sendMoneyBatch(commands);
+    }
+
+    /**
+     * 여러 계좌로 보내는 송금은 출금 계좌에서 한 번으로 센다.
+     */
+    @Override
+    public boolean sendMoneyToMany(FanOutTransferCommand command) {
+        admit(command.getSourceAccountId());
+        return delegate.sendMoneyToMany(command);
+    }
+
+    private void admit(AccountId sourceAccountId) {
+        Duration retryAfter = rateLimiter.tryAcquire(sourceAccountId);
+        if (!retryAfter.isZero()) {
+            throw new RateLimitExceededException(
+                    "출금 계좌 " + sourceAccountId.getValue() + "의 송금 요청이 너무 많습니다.", retryAfter);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package dev.haja.buckpal.account.application.service;
 
+import dev.haja.buckpal.account.application.port.in.FanOutTransferCommand;
 import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyResult;
 import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
 import dev.haja.buckpal.account.application.port.out.AccountLock;
 import dev.haja.buckpal.account.application.port.out.LoadAccountPort;
@@ -10,8 +12,17 @@ import dev.haja.buckpal.BuckPalConfigurationProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static dev.haja.buckpal.account.domain.Account.AccountId;
 
@@ -25,66 +36,156 @@ public class SendMoneyService implements SendMoneyUseCase {
     private final UpdateAccountStatePort updateAccountStatePort;
     private final MoneyTransferProperties moneyTransferProperties;
     private final BuckPalConfigurationProperties buckPalConfigurationProperties;
+    private final FanOutTransferService fanOutTransferService;
 
     @Override
     public boolean sendMoney(SendMoneyCommand command) {
         checkThreshold(command);
+        LocalDateTime baselineDate = baselineDate();
 
-        int historyLookbackDays = buckPalConfigurationProperties.getAccount().getHistoryLookbackDays();
-        if (historyLookbackDays <= 0) {
-            throw new IllegalArgumentException("historyLookbackDays must be positive, but was: " + historyLookbackDays);
+        // 잔액을 읽기 전에 두 계좌를 정해진 순서로 잠가, 동시 이체가 같은 잔액을 보고 출금하지 못하게 한다.
+        accountLock.lockAccounts(command.getSourceAccountId(), command.getTargetAccountId());
+        try {
+            Account sourceAccount;
+            Account targetAccount;
+            // 자기 자신에게 보내는 이체는 출금과 입금을 서로 다른 객체에 기록해야 하므로 따로 읽는다.
+            if (buckPalConfigurationProperties.getAccount().isConcurrentLoading()
+                    && !command.getSourceAccountId().equals(command.getTargetAccountId())) {
+                Map<AccountId, Account> accounts = loadAccountPort.loadAccounts(
+                        List.of(command.getSourceAccountId(), command.getTargetAccountId()), baselineDate);
+                sourceAccount = accounts.get(command.getSourceAccountId());
+                targetAccount = accounts.get(command.getTargetAccountId());
+            } else {
+                sourceAccount = loadAccount(command.getSourceAccountId(), baselineDate);
+                targetAccount = loadAccount(command.getTargetAccountId(), baselineDate);
+            }
+            AccountId sourceAccountId = getAccountId(sourceAccount, "source account");
+            AccountId targetAccountId = getAccountId(targetAccount, "target account");
+
+            return executeMoneyTransfer(command, sourceAccountId, sourceAccount, targetAccountId, targetAccount);
+        } finally {
+            releaseLocksAfterCompletion(command.getSourceAccountId(), command.getTargetAccountId());
+        }
+    }
+
+    /**
+     * 송금을 호출한 스레드에서 트랜잭션 하나로 실행하고 완료된 결과를 돌려준다.
+     * 인터페이스의 기본 구현은 클래스의 {@code @Transactional}이 적용되지 않아 트랜잭션 없이 송금하게 되므로 여기서 다시 선언한다.
+     * 예외는 실패한 결과로 돌려주되, 트랜잭션은 롤백되도록 표시한다.
+     */
+    @Override
+    public CompletableFuture<Boolean> sendMoneyAsync(SendMoneyCommand command) {
+        try {
+            return CompletableFuture.completedFuture(sendMoney(command));
+        } catch (RuntimeException e) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            }
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 여러 송금을 한 트랜잭션에서 실행한다.
+     * 관련된 계좌를 모두 정해진 순서로 잠그고 한 번에 읽은 뒤, 송금을 주어진 순서대로 메모리에서 적용한다.
+     * 앞선 송금의 입금은 뒤따르는 송금의 잔액 검사에 반영된다.
+     * 한도를 넘거나 잔액이 부족한 건은 건너뛰고 결과에 남기며, 나머지 새 활동은 마지막에 한 번에 저장한다.
+     * 계좌가 하나라도 없으면 아무것도 기록하지 않고 실패한다.
+     */
+    @Override
+    public List<SendMoneyResult> sendMoneyBatch(List<SendMoneyCommand> commands) {
+        if (commands.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime baselineDate = baselineDate();
+        Set<AccountId> accountIds = new LinkedHashSet<>();
+        for (SendMoneyCommand command : commands) {
+            accountIds.add(command.getSourceAccountId());
+            accountIds.add(command.getTargetAccountId());
         }
-        LocalDateTime baselineDate = LocalDateTime.now().minusDays(historyLookbackDays);
-        Account sourceAccount = loadAccount(command.getSourceAccountId(), baselineDate);
-        Account targetAccount = loadAccount(command.getTargetAccountId(), baselineDate);
-        AccountId sourceAccountId = getAccountId(sourceAccount, "source account");
-        AccountId targetAccountId = getAccountId(targetAccount, "target account");
 
-        return executeMoneyTransfer(command, sourceAccountId, sourceAccount, targetAccountId, targetAccount);
+        accountLock.lockAccounts(accountIds);
+        try {
+            Map<AccountId, Account> accounts = loadAccountPort.loadAccounts(accountIds, baselineDate);
+            Map<AccountId, Account> changedAccounts = new LinkedHashMap<>();
+            List<SendMoneyResult> results = new ArrayList<>(commands.size());
+            for (SendMoneyCommand command : commands) {
+                results.add(applyMoneyTransfer(command, accounts, changedAccounts));
+            }
+            if (!changedAccounts.isEmpty()) {
+                updateAccountStatePort.updateActivities(changedAccounts.values());
+            }
+            return results;
+        } finally {
+            releaseLocksAfterCompletion(accountIds);
+        }
+    }
+
+    /**
+     * 여러 계좌로 보내는 송금은 {@link FanOutTransferService}가 같은 트랜잭션에서 실행한다.
+     */
+    @Override
+    public boolean sendMoneyToMany(FanOutTransferCommand command) {
+        return fanOutTransferService.sendMoneyToMany(command);
+    }
+
+    private SendMoneyResult applyMoneyTransfer(
+        SendMoneyCommand command,
+        Map<AccountId, Account> accounts,
+        Map<AccountId, Account> changedAccounts) {
+        if (command.getMoney().isGreaterThan(moneyTransferProperties.getMaximumTransferThreshold())) {
+            return SendMoneyResult.THRESHOLD_EXCEEDED;
+        }
+        Account sourceAccount = accounts.get(command.getSourceAccountId());
+        Account targetAccount = accounts.get(command.getTargetAccountId());
+        if (!sourceAccount.withdraw(command.getMoney(), command.getTargetAccountId())) {
+            return SendMoneyResult.INSUFFICIENT_BALANCE;
+        }
+        targetAccount.deposit(command.getMoney(), command.getSourceAccountId());
+        changedAccounts.put(command.getSourceAccountId(), sourceAccount);
+        changedAccounts.put(command.getTargetAccountId(), targetAccount);
+        return SendMoneyResult.COMPLETED;
+    }
+
+    private LocalDateTime baselineDate() {
+        return TransferTransactions.baselineDate(buckPalConfigurationProperties);
     }
 
     private boolean executeMoneyTransfer(
         SendMoneyCommand command,
         AccountId sourceAccountId, Account sourceAccount,
         AccountId targetAccountId, Account targetAccount) {
-        if (!withdrawFromSourceAccount(command, sourceAccountId, sourceAccount, targetAccountId)) {
+        if (!sourceAccount.withdraw(command.getMoney(), targetAccountId)) {
             return false;
         }
-        if (!depositToTargetAccount(command, targetAccountId, targetAccount, sourceAccountId)) {
+        if (!targetAccount.deposit(command.getMoney(), sourceAccountId)) {
             return false;
         }
-        updateAccountStates(sourceAccount, targetAccount);
-        releaseLock(sourceAccountId, targetAccountId);
+        updateAccountStates(sourceAccountId, sourceAccount, targetAccountId, targetAccount);
         return true;
     }
 
-    private void releaseLock(AccountId sourceAccountId, AccountId targetAccountId) {
-        accountLock.releaseAccount(sourceAccountId);
-        accountLock.releaseAccount(targetAccountId);
+    private void releaseLocksAfterCompletion(AccountId sourceAccountId, AccountId targetAccountId) {
+        TransferTransactions.releaseAfterCompletion(() -> accountLock.releaseAccounts(sourceAccountId, targetAccountId));
     }
 
-    private void updateAccountStates(Account sourceAccount, Account targetAccount) {
-        updateAccountStatePort.updateActivities(sourceAccount);
-        updateAccountStatePort.updateActivities(targetAccount);
+    private void releaseLocksAfterCompletion(Set<AccountId> accountIds) {
+        TransferTransactions.releaseAfterCompletion(() -> accountLock.releaseAccounts(accountIds));
     }
 
-    private boolean depositToTargetAccount(SendMoneyCommand command, AccountId targetAccountId, Account targetAccount, AccountId sourceAccountId) {
-        accountLock.lockAccount(targetAccountId);
-        if (!targetAccount.deposit(command.getMoney(), sourceAccountId)) {
-            accountLock.releaseAccount(sourceAccountId);
-            accountLock.releaseAccount(targetAccountId);
-            return false;
-        }
-        return true;
-    }
-
-    private boolean withdrawFromSourceAccount(SendMoneyCommand command, AccountId sourceAccountId, Account sourceAccount, AccountId targetAccountId) {
-        accountLock.lockAccount(sourceAccountId);
-        if (!sourceAccount.withdraw(command.getMoney(), targetAccountId)) {
-            accountLock.releaseAccount(sourceAccountId);
-            return false;
+    /**
+     * 계좌를 저장하면 계좌 행이 커밋까지 잠기므로, 반대 방향의 송금끼리 교착되지 않도록 ID가 작은 계좌부터 저장한다.
+     */
+    private void updateAccountStates(
+        AccountId sourceAccountId, Account sourceAccount,
+        AccountId targetAccountId, Account targetAccount) {
+        if (targetAccountId.getValue() < sourceAccountId.getValue()) {
+            updateAccountStatePort.updateActivities(targetAccount);
+            updateAccountStatePort.updateActivities(sourceAccount);
+            return;
         }
-        return true;
+        updateAccountStatePort.updateActivities(sourceAccount);
+        updateAccountStatePort.updateActivities(targetAccount);
     }
 
     private void checkThreshold(SendMoneyCommand command) {
@@ -99,4 +200,4 @@ public class SendMoneyService implements SendMoneyUseCase {
         return account.getId().orElseThrow(() ->
                 new IllegalStateException(String.format("%s ID가 비어있습니다.", accountDescription)));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,279 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.account.application.port.in.FanOutTransferCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyResult;
+import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 계좌별 단일 작성자 송금 사용 사례.
+ * 계좌 ID를 해시해 N개의 레인 중 하나에 대응시키고, 한 계좌에 대한 이체는 한 번에 하나씩 그 레인의 차례에 실행한다.
+ * 잠금을 기다리는 스레드가 줄지어 서는 대신 레인의 큐에서 차례를 기다리므로, 경합이 심한 계좌가 다른 레인을 막지 않는다.
+ * 레인의 큐는 크기가 정해져 있으며, 가득 차면 이체를 {@link TransferRejectedException}으로 거절한다.
+ *
+ * <p>출금 계좌와 입금 계좌가 서로 다른 레인에 있으면 관련된 레인을 모두 번호 순서로 넘겨받는다.
+ * 레인은 차례가 되면 이체를 다음 레인의 큐에 넘기고, 스레드는 돌려준 채 이체가 끝날 때까지 다음 차례를 미룬다.
+ * 가장 높은 레인이 이체를 실행한 뒤 넘겨받은 레인을 모두 놓아준다. 여러 계좌로 보내는 송금도 같은 방식으로 모든 계좌의 레인을 넘겨받는다.
+ * 레인은 자신보다 높은 레인만 기다리므로 기다림이 순환하지 않는다.
+ * 이 보장은 한 JVM 안에서만 유효하다.
+ */
+public class ShardedSendMoneyService implements SendMoneyUseCase, AutoCloseable {
+
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+    private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final SendMoneyUseCase delegate;
+    private final Lane[] lanes;
+    private final ThreadPoolExecutor workers;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock closeLock = new ReentrantLock();
+    private final Condition drained = closeLock.newCondition();
+    private volatile boolean closed;
+
+    public ShardedSendMoneyService(SendMoneyUseCase delegate, int lanes, ThreadFactory laneThreadFactory) {
+        this(delegate, lanes, DEFAULT_QUEUE_CAPACITY, laneThreadFactory);
+    }
+
+    public ShardedSendMoneyService(
+            SendMoneyUseCase delegate, int lanes, int queueCapacity, ThreadFactory laneThreadFactory) {
+        if (lanes <= 0) {
+            throw new IllegalArgumentException("lanes must be positive, but was: " + lanes);
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("queueCapacity must be positive, but was: " + queueCapacity);
+        }
+        this.delegate = delegate;
+        // 레인마다 실행을 기다리는 작업은 많아야 하나이므로, 스레드 풀의 큐에는 레인 수보다 많은 작업이 쌓이지 않는다.
+        this.workers = new ThreadPoolExecutor(
+                lanes, lanes, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), laneThreadFactory);
+        this.lanes = new Lane[lanes];
+        for (int i = 0; i < lanes; i++) {
+            this.lanes[i] = new Lane(queueCapacity);
+        }
+    }
+
+    @Override
+    public boolean sendMoney(SendMoneyCommand command) {
+        return Futures.join(sendMoneyAsync(command));
+    }
+
+    /**
+     * 한 묶음의 계좌가 여러 레인에 흩어지므로, 송금을 주어진 순서대로 하나씩 각자의 레인에서 실행한다.
+     * 건마다 별도로 커밋되며, 한도를 넘은 건은 결과에 남기고 다음 건으로 넘어간다.
+     */
+    @Override
+    public List<SendMoneyResult> sendMoneyBatch(List<SendMoneyCommand> commands) {
+        List<SendMoneyResult> results = new ArrayList<>(commands.size());
+        for (SendMoneyCommand command : commands) {
+            try {
+                results.add(sendMoney(command) ? SendMoneyResult.COMPLETED : SendMoneyResult.INSUFFICIENT_BALANCE);
+            } catch (ThresholdExceededException e) {
+                results.add(SendMoneyResult.THRESHOLD_EXCEEDED);
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> sendMoneyAsync(SendMoneyCommand command) {
+        return runOnLanes(
+                List.of(command.getSourceAccountId(), command.getTargetAccountId()),
+                () -> delegate.sendMoney(command));
+    }
+
+    /**
+     * 출금 계좌와 모든 입금 계좌의 레인을 넘겨받은 뒤 가장 높은 레인에서 실행한다.
+     */
+    @Override
+    public boolean sendMoneyToMany(FanOutTransferCommand command) {
+        List<AccountId> accountIds = new ArrayList<>(command.getLegs().size() + 1);
+        accountIds.add(command.getSourceAccountId());
+        command.getLegs().forEach(leg -> accountIds.add(leg.getTargetAccountId()));
+        return Futures.join(runOnLanes(accountIds, () -> delegate.sendMoneyToMany(command)));
+    }
+
+    /**
+     * 계좌들이 속한 레인을 번호 순서로 넘겨받은 뒤, 가장 높은 레인에서 이체를 실행한다.
+     */
+    private <T> CompletableFuture<T> runOnLanes(List<AccountId> accountIds, Supplier<T> transfer) {
+        int[] ordered = accountIds.stream()
+                .mapToInt(this::laneOf)
+                .distinct()
+                .sorted()
+                .toArray();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        inFlight.incrementAndGet();
+        if (closed) {
+            finish();
+            return CompletableFuture.failedFuture(new RejectedExecutionException("sharded transfer service is closed"));
+        }
+        handOff(ordered, 0, transfer, result);
+        return result;
+    }
+
+    /**
+     * 이체를 {@code lanes[index]}의 큐에 넣는다. 앞선 레인들은 이미 넘겨받은 상태다.
+     * 차례가 오면 마지막 레인이면 이체를 실행하고, 아니면 레인을 놓지 않은 채 다음 레인에 넘긴다.
+     * 큐가 가득 차면 넘겨받은 레인을 놓아주고 이체를 거절한다.
+     */
+    private <T> void handOff(int[] lanes, int index, Supplier<T> transfer, CompletableFuture<T> result) {
+        Runnable turn = index == lanes.length - 1
+                ? () -> execute(lanes, transfer, result)
+                : () -> handOff(lanes, index + 1, transfer, result);
+        if (!this.lanes[lanes[index]].offer(turn)) {
+            release(lanes, index);
+            finish();
+            result.completeExceptionally(new TransferRejectedException(
+                    "송금 레인 대기열이 가득 차 요청을 받지 않았습니다.", RETRY_AFTER));
+        }
+    }
+
+    private <T> void execute(int[] lanes, Supplier<T> transfer, CompletableFuture<T> result) {
+        T value = null;
+        Throwable failure = null;
+        try {
+            value = transfer.get();
+        } catch (Throwable e) {
+            failure = e;
+        }
+        release(lanes, lanes.length);
+        finish();
+        if (failure == null) {
+            result.complete(value);
+        } else {
+            result.completeExceptionally(failure);
+        }
+    }
+
+    /**
+     * 넘겨받은 {@code lanes[0..held)}를 놓아준다.
+     */
+    private void release(int[] lanes, int held) {
+        for (int i = 0; i < held; i++) {
+            this.lanes[lanes[i]].release();
+        }
+    }
+
+    private void finish() {
+        if (inFlight.decrementAndGet() == 0 && closed) {
+            closeLock.lock();
+            try {
+                drained.signalAll();
+            } finally {
+                closeLock.unlock();
+            }
+        }
+    }
+
+    int activeThreads() {
+        return workers.getActiveCount();
+    }
+
+    long completedTurns() {
+        return workers.getCompletedTaskCount();
+    }
+
+    int laneCount() {
+        return lanes.length;
+    }
+
+    int laneOf(AccountId accountId) {
+        long hash = accountId.getValue() * GOLDEN_RATIO;
+        return (int) Long.remainderUnsigned(hash ^ (hash >>> 32), lanes.length);
+    }
+
+    /**
+     * 더 이상 요청을 받지 않고, 이미 받은 이체가 모두 끝날 때까지 기다린 뒤 스레드를 정리한다.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        closeLock.lock();
+        try {
+            while (inFlight.get() > 0) {
+                drained.awaitUninterruptibly();
+            }
+        } finally {
+            closeLock.unlock();
+        }
+        workers.close();
+    }
+
+    /**
+     * 크기가 정해진 큐를 가진 레인.
+     * 차례가 된 작업이 레인을 넘겨받으며, {@link #release()}가 불릴 때까지 다음 작업은 실행되지 않는다.
+     * 작업은 레인마다 따로 스레드를 두지 않고 공유 스레드 풀에서 실행한다.
+     */
+    private final class Lane {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ArrayDeque<Runnable> queue = new ArrayDeque<>();
+        private final int capacity;
+        private boolean held;
+
+        private Lane(int capacity) {
+            this.capacity = capacity;
+        }
+
+        boolean offer(Runnable turn) {
+            lock.lock();
+            try {
+                if (queue.size() >= capacity) {
+                    return false;
+                }
+                queue.add(turn);
+                if (held) {
+                    return true;
+                }
+                held = true;
+            } finally {
+                lock.unlock();
+            }
+            dispatch();
+            return true;
+        }
+
+        void release() {
+            lock.lock();
+            try {
+                if (queue.isEmpty()) {
+                    held = false;
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            dispatch();
+        }
+
+        private void dispatch() {
+            workers.execute(() -> {
+                Runnable turn;
+                lock.lock();
+                try {
+                    turn = queue.poll();
+                } finally {
+                    lock.unlock();
+                }
+                turn.run();
+            });
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.BuckPalConfigurationProperties;
+import dev.haja.buckpal.account.application.port.in.AccountBalance;
+import dev.haja.buckpal.account.application.port.in.StreamAccountBalancesQuery;
+import dev.haja.buckpal.account.application.port.out.LoadAccountBalancesPort;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 대량 잔액 조회.
+ * 계좌를 {@code buckpal.balance.bulk-chunk-size}개씩 나눠 묶음마다 한 번의 집계 쿼리로 읽고 바로 넘긴다.
+ * 묶음마다 짧은 읽기로 끝나므로, 조회가 오래 걸려도 트랜잭션이나 커넥션을 붙잡고 있지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StreamAccountBalancesService implements StreamAccountBalancesQuery {
+
+    private final LoadAccountBalancesPort loadAccountBalancesPort;
+    private final BuckPalConfigurationProperties buckPalConfigurationProperties;
+
+    @Override
+    public void streamBalances(List<AccountId> accountIds, Consumer<AccountBalance> sink) {
+        List<AccountId> distinct = List.copyOf(new LinkedHashSet<>(accountIds));
+        int chunkSize = chunkSize();
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            List<AccountId> chunk = distinct.subList(from, Math.min(from + chunkSize, distinct.size()));
+            Map<AccountId, Money> balances = loadAccountBalancesPort.loadBalances(chunk);
+            for (AccountId accountId : chunk) {
+                Money balance = balances.get(accountId);
+                if (balance != null) {
+                    sink.accept(new AccountBalance(accountId, balance));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void streamBalances(AccountId firstId, AccountId lastId, Consumer<AccountBalance> sink) {
+        int chunkSize = chunkSize();
+        AccountId afterId = new AccountId(firstId.getValue() - 1);
+        while (true) {
+            Map<AccountId, Money> balances = loadAccountBalancesPort.loadBalancesInRange(afterId, lastId, chunkSize);
+            for (Map.Entry<AccountId, Money> entry : balances.entrySet()) {
+                sink.accept(new AccountBalance(entry.getKey(), entry.getValue()));
+                afterId = entry.getKey();
+            }
+            if (balances.size() < chunkSize) {
+                return;
+            }
+        }
+    }
+
+    private int chunkSize() {
+        return buckPalConfigurationProperties.getBalance().getBulkChunkSize();
+    }
+}
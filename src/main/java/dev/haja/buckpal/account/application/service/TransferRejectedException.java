@@ -0,0 +1,20 @@
+package dev.haja.buckpal.account.application.service;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 처리할 여유가 없어 송금 요청을 받지 않았음을 나타낸다.
+ * 요청은 실행되지 않았으므로 클라이언트는 {@link #getRetryAfter()} 뒤에 안전하게 다시 시도할 수 있다.
+ */
+@Getter
+public class TransferRejectedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public TransferRejectedException(String reason, Duration retryAfter) {
+        super(reason);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,45 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.BuckPalConfigurationProperties;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * 송금 서비스들이 함께 쓰는 트랜잭션 보조 기능.
+ */
+final class TransferTransactions {
+
+    private TransferTransactions() {
+    }
+
+    /**
+     * 잔액 계산에 쓸 활동을 읽기 시작하는 시각.
+     */
+    static LocalDateTime baselineDate(BuckPalConfigurationProperties buckPalConfigurationProperties) {
+        int historyLookbackDays = buckPalConfigurationProperties.getAccount().getHistoryLookbackDays();
+        if (historyLookbackDays <= 0) {
+            throw new IllegalArgumentException("historyLookbackDays must be positive, but was: " + historyLookbackDays);
+        }
+        return LocalDateTime.now().minusDays(historyLookbackDays);
+    }
+
+    /**
+     * 트랜잭션이 끝난 뒤에 잠금을 해제한다.
+     * 커밋 전에 해제하면 다음 이체가 아직 커밋되지 않은 활동을 보지 못한 채 잔액을 읽게 된다.
+     * 트랜잭션 밖이면 바로 해제한다.
+     */
+    static void releaseAfterCompletion(Runnable release) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                release.run();
+            }
+        });
+    }
+}
@@ -3,6 +3,7 @@ package dev.haja.buckpal.account.domain;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -91,6 +92,27 @@ public class Account {
         return true;
     }
 
+    /**
+     * 여러 계좌로 한 번에 출금: 출금 합계로 잔액을 한 번만 확인하고, 성공하면 대상 계좌마다 출금 활동을 추가
+     * 잔액이 모자라면 어떤 활동도 추가하지 않는다.
+     *
+     * @param amountsByTarget 대상 계좌 id별 출금 금액
+     * @return 출금 성공 여부
+     */
+    public boolean withdrawAll(Map<AccountId, Money> amountsByTarget) {
+        Money total = amountsByTarget.values().stream().reduce(Money.ZERO, Money::add);
+        if (!mayWithdraw(total)) return false;
+
+        LocalDateTime timestamp = LocalDateTime.now();
+        amountsByTarget.forEach((targetAccountId, money) -> this.activityWindow.addActivity(new Activity(
+                this.id,
+                this.id,
+                targetAccountId,
+                timestamp,
+                money)));
+        return true;
+    }
+
     /**
      * 출금 가능 여부를 확인한다.
      *
@@ -3,6 +3,11 @@ package dev.haja.buckpal.common;
 import java.util.HashMap;
 import java.util.Map;
 
+import dev.haja.buckpal.account.application.port.out.AccountLockTimeoutException;
+import dev.haja.buckpal.account.application.service.RateLimitExceededException;
+import dev.haja.buckpal.account.application.service.TransferRejectedException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -37,4 +42,70 @@ public class GlobalExceptionHandler {
         });
         return ResponseEntity.badRequest().body(errors);
     }
+
+    /**
+     * 계좌 잠금 대기 시간 초과 처리.
+     * 같은 계좌에 대한 이체가 몰려 잠금을 얻지 못한 경우로, 클라이언트는 다시 시도할 수 있습니다.
+     *
+     * @param ex 잠금 대기 시간 초과 예외
+     * @return 에러 메시지
+     */
+    @ExceptionHandler(AccountLockTimeoutException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<Map<String, String>> handleAccountLockTimeout(
+            AccountLockTimeoutException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("message", ex.getMessage()));
+    }
+
+    /**
+     * 계좌 버전 충돌 처리.
+     * 낙관적 모드에서 재시도를 모두 소진할 만큼 같은 계좌에 이체가 몰린 경우로, 클라이언트는 다시 시도할 수 있습니다.
+     *
+     * @param ex 낙관적 잠금 실패 예외
+     * @return 에러 메시지
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<Map<String, String>> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("message", "동시에 처리된 이체와 충돌했습니다. 다시 시도해 주세요."));
+    }
+
+    /**
+     * 송금 거절 처리.
+     * 처리할 여유가 없어 실행하지 않은 요청이므로, {@code Retry-After} 헤더로 다시 시도할 시점을 알려줍니다.
+     *
+     * @param ex 송금 거절 예외
+     * @return 에러 메시지
+     */
+    @ExceptionHandler(TransferRejectedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseEntity<Map<String, String>> handleTransferRejected(
+            TransferRejectedException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(ex))
+                .body(Map.of("message", ex.getMessage()));
+    }
+
+    /**
+     * 송금 빈도 초과 처리.
+     * 요청한 쪽이 한도를 넘은 경우이므로 503 대신 429로 응답하고, {@code Retry-After} 헤더로 다시 시도할 시점을 알려줍니다.
+     *
+     * @param ex 송금 빈도 초과 예외
+     * @return 에러 메시지
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ResponseEntity<Map<String, String>> handleRateLimitExceeded(
+            RateLimitExceededException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds(ex))
+                .body(Map.of("message", ex.getMessage()));
+    }
+
+    private static String retryAfterSeconds(TransferRejectedException ex) {
+        return String.valueOf(Math.max(1L, (ex.getRetryAfter().toMillis() + 999) / 1000));
+    }
 }
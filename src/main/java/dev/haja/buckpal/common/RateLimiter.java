@@ -0,0 +1,96 @@
+package dev.haja.buckpal.common;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 요청 빈도 제한기.
+ * 토큰 버킷과 같은 결과를 내는 GCRA(Generic Cell Rate Algorithm)로, 키마다 다음 요청의 이론상 도착 시각 하나만 보관한다.
+ * 요청이 오면 그 시각을 배출 간격만큼 미루고, 미룬 시각이 허용 폭보다 멀면 거절한다.
+ * 시각은 {@link AtomicLong}의 비교 후 교환으로 바꾸므로 잠금 없이 판정하고, 거절에 드는 비용은 맵 조회 한 번이다.
+ *
+ * <p>기억하는 키 수가 {@code maxTrackedKeys}에 이르면 이론상 도착 시각이 이미 지난 키부터 잊는다.
+ * 그런 키는 버킷이 가득 찬 것과 같아 잊어도 판정이 달라지지 않는다.
+ * 그래도 모자라면 임의의 키를 잊으며, 잊힌 키는 다음 요청에서 버킷이 가득 찬 상태로 다시 시작한다.
+ */
+public class RateLimiter<K> {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxTrackedKeys;
+    private final int evictionTarget;
+    private final LongSupplier nanoClock;
+    private final Map<K, AtomicLong> arrivals = new ConcurrentHashMap<>();
+
+    public RateLimiter(int permitsPerSecond, int burst, int maxTrackedKeys) {
+        this(permitsPerSecond, burst, maxTrackedKeys, System::nanoTime);
+    }
+
+    RateLimiter(int permitsPerSecond, int burst, int maxTrackedKeys, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive, but was: " + permitsPerSecond);
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("burst must be positive, but was: " + burst);
+        }
+        if (maxTrackedKeys <= 0) {
+            throw new IllegalArgumentException("maxTrackedKeys must be positive, but was: " + maxTrackedKeys);
+        }
+        this.emissionIntervalNanos = Duration.ofSeconds(1).toNanos() / permitsPerSecond;
+        this.burstToleranceNanos = emissionIntervalNanos * burst;
+        this.maxTrackedKeys = maxTrackedKeys;
+        // 한 번 정리할 때 여유를 남겨 두어, 바쁜 키로 가득 찬 동안 요청마다 정리하지 않게 한다.
+        this.evictionTarget = maxTrackedKeys - Math.max(1, maxTrackedKeys / 4);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 키의 요청 하나를 허용할지 판정한다. 허용하면 그 몫을 바로 차감한다.
+     *
+     * @return 허용하면 {@link Duration#ZERO}, 아니면 다음 요청이 허용될 때까지 남은 시간
+     */
+    public Duration tryAcquire(K key) {
+        long now = nanoClock.getAsLong();
+        AtomicLong arrival = arrivals.get(key);
+        if (arrival == null) {
+            arrival = track(key, now);
+        }
+        while (true) {
+            long theoretical = arrival.get();
+            long next = Math.max(theoretical, now) + emissionIntervalNanos;
+            long waitNanos = next - now - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return Duration.ofNanos(waitNanos);
+            }
+            if (arrival.compareAndSet(theoretical, next)) {
+                return Duration.ZERO;
+            }
+        }
+    }
+
+    int trackedKeys() {
+        return arrivals.size();
+    }
+
+    private AtomicLong track(K key, long now) {
+        if (arrivals.size() >= maxTrackedKeys) {
+            evict(now);
+        }
+        AtomicLong created = new AtomicLong(now);
+        AtomicLong existing = arrivals.putIfAbsent(key, created);
+        return existing != null ? existing : created;
+    }
+
+    private void evict(long now) {
+        arrivals.values().removeIf(arrival -> arrival.get() - now <= 0);
+        Iterator<K> keys = arrivals.keySet().iterator();
+        while (arrivals.size() > evictionTarget && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+-- 운영 PostgreSQL 스키마 변경 (prod 프로필은 ddl-auto: validate로 스키마를 만들지 않는다).
+-- 이 버전을 배포하기 전에 한 번 실행한다. 여러 번 실행해도 결과는 같다.
+
+-- 계좌 임대 잠금: buckpal.lock.type=lease일 때 여러 인스턴스가 같은 계좌를 동시에 이체하지 않게 한다.
+-- AccountLeaseJpaEntity
+create table if not exists account_lease (
+    account_id bigint not null primary key,
+    owner_id varchar(64) not null,
+    expires_at timestamp(6) not null
+);
+create index if not exists idx_account_lease_expires_at on account_lease (expires_at);
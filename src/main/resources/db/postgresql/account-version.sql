@@ -0,0 +1,6 @@
+-- 운영 PostgreSQL 스키마 변경 (prod 프로필은 ddl-auto: validate로 스키마를 만들지 않는다).
+-- 이 버전을 배포하기 전에 한 번 실행한다. 여러 번 실행해도 결과는 같다.
+
+-- 계좌 버전: 새 활동이 기록될 때마다 올라가며, 낙관적 동시성 모드와 버전 기반 잔액 캐시가 비교한다.
+-- AccountJpaEntity.version (@Version, NOT NULL)
+alter table account add column if not exists version bigint not null default 0;
@@ -0,0 +1,6 @@
+-- 운영 PostgreSQL 스키마 변경 (prod 프로필은 ddl-auto: validate로 스키마를 만들지 않는다).
+-- 이 버전을 배포하기 전에 한 번 실행한다. 여러 번 실행해도 결과는 같다.
+
+-- 계좌별 활동 조회와 활동 이력 페이지 조회용 인덱스 (ActivityJpaEntity).
+-- 큰 테이블에서는 트랜잭션 밖에서 create index concurrently로 바꿔 실행한다.
+create index if not exists idx_activity_owner_timestamp_id on activity (owner_account_id, timestamp, id);
@@ -0,0 +1,141 @@
+package dev.haja.buckpal;
+
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+import dev.haja.buckpal.account.application.service.TransferRejectedException;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 과부하에서 고정 동시 실행 제한과 적응형 제한의 지연 시간 비교.
+ * {@code ./gradlew benchmark}로 실행하며, 커넥션 풀보다 훨씬 많은 가상 스레드가 동시에 송금해 과부하를 만든다.
+ * 실행된 송금의 지연 백분위수와 거절된 수를 로그로 남기고, 전체 잔액이 보존되는지 검증한다.
+ */
+@Slf4j
+@Tag("benchmark")
+class AdaptiveConcurrencyBenchmark {
+
+    private static final int TRANSFERS_PER_THREAD = 50;
+    private static final int ACCOUNTS = 1000;
+    private static final long INITIAL_BALANCE = 1_000_000L;
+    private static final long SEED_ACTIVITY_ID = 1_000_000_000L;
+
+    @ParameterizedTest(name = "adaptive={0}, threads={1}")
+    @CsvSource({"false, 64", "true, 64", "false, 512", "true, 512"})
+    @DisplayName("과부하에서의 송금 지연 시간")
+    void measureLatencyUnderOverload(boolean adaptive, int threads) throws Exception {
+        try (ConfigurableApplicationContext context = start(adaptive)) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            seedAccounts(jdbcTemplate);
+            SendMoneyUseCase sendMoneyUseCase = context.getBean(SendMoneyUseCase.class);
+
+            LongAdder rejected = new LongAdder();
+            long[][] latencies = new long[threads][TRANSFERS_PER_THREAD];
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> workers = new ArrayList<>();
+            long elapsedNanos;
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int t = 0; t < threads; t++) {
+                    long[] threadLatencies = latencies[t];
+                    long seed = t;
+                    workers.add(executor.submit(() -> {
+                        SplittableRandom random = new SplittableRandom(seed);
+                        start.await();
+                        for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                            long source = 1 + random.nextInt(ACCOUNTS);
+                            long target = 1 + (source + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS;
+                            long startedAt = System.nanoTime();
+                            try {
+                                sendMoneyUseCase.sendMoney(new SendMoneyCommand(
+                                        new AccountId(source), new AccountId(target), Money.of(1L)));
+                                threadLatencies[i] = System.nanoTime() - startedAt;
+                            } catch (TransferRejectedException e) {
+                                rejected.increment();
+                                threadLatencies[i] = -1;
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                long startedAt = System.nanoTime();
+                start.countDown();
+                for (Future<?> worker : workers) {
+                    worker.get(5, TimeUnit.MINUTES);
+                }
+                elapsedNanos = System.nanoTime() - startedAt;
+            }
+
+            long[] executed = Arrays.stream(latencies).flatMapToLong(Arrays::stream)
+                    .filter(latency -> latency >= 0).sorted().toArray();
+            log.info("adaptive={}, threads={}: {} transfers/s, p50={}us, p99={}us, max={}us, rejected={}",
+                    adaptive, threads,
+                    String.format("%,.0f", executed.length / (elapsedNanos / 1_000_000_000.0)),
+                    percentile(executed, 0.50) / 1_000, percentile(executed, 0.99) / 1_000,
+                    executed[executed.length - 1] / 1_000, rejected.sum());
+
+            Long totalBalance = jdbcTemplate.queryForObject(
+                    "select sum(case when target_account_id = owner_account_id then amount else -amount end) from activity",
+                    Long.class);
+            assertThat(totalBalance).isEqualTo(INITIAL_BALANCE * ACCOUNTS);
+        }
+    }
+
+    private ConfigurableApplicationContext start(boolean adaptive) {
+        return new SpringApplicationBuilder(BuckpalApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:adaptive-" + System.nanoTime() + ";LOCK_TIMEOUT=10000",
+                        "spring.datasource.hikari.maximum-pool-size=4",
+                        "buckpal.lock.type=striped",
+                        "buckpal.transfer.bulkhead.max-concurrent=64",
+                        "buckpal.transfer.adaptive-limit.enabled=" + adaptive,
+                        "buckpal.transfer.adaptive-limit.target-latency=20ms")
+                .run();
+    }
+
+    /**
+     * 계좌마다 기준일 이전의 입금 활동 하나로 초기 잔액을 만든다.
+     * 활동 ID는 시퀀스와 겹치지 않도록 큰 값에서 시작한다.
+     */
+    private void seedAccounts(JdbcTemplate jdbcTemplate) {
+        List<Object[]> accountRows = new ArrayList<>();
+        List<Object[]> activityRows = new ArrayList<>();
+        LocalDateTime seededAt = LocalDateTime.now().minusDays(30);
+        for (long id = 1; id <= ACCOUNTS; id++) {
+            accountRows.add(new Object[]{id});
+            activityRows.add(new Object[]{SEED_ACTIVITY_ID + id, seededAt, id, 0L, id, INITIAL_BALANCE});
+        }
+        jdbcTemplate.batchUpdate("insert into account (id, version) values (?, 0)", accountRows);
+        jdbcTemplate.batchUpdate(
+                "insert into activity (id, timestamp, owner_account_id, source_account_id, target_account_id, amount) "
+                        + "values (?, ?, ?, ?, ?, ?)",
+                activityRows);
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)];
+    }
+}
@@ -0,0 +1,106 @@
+package dev.haja.buckpal;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 잔액 조회의 처리량 측정.
+ * {@code ./gradlew benchmark}로 실행하며, 계좌 200,000개와 계좌마다 활동 두 건을 넣은 뒤
+ * 전체 범위를 NDJSON으로 받아 초당 잔액 수와 첫 줄까지 걸린 시간을 묶음 크기별로 로그로 남긴다.
+ */
+@Slf4j
+@Tag("benchmark")
+class BulkBalanceStreamBenchmark {
+
+    private static final int ACCOUNTS = 200_000;
+    private static final long SEED_ACTIVITY_ID = 1_000_000_000L;
+
+    @ParameterizedTest(name = "chunk size={0}")
+    @CsvSource({"100", "1000", "5000"})
+    @DisplayName("계좌 200,000개의 잔액을 NDJSON으로 받기")
+    void measureThroughput(int chunkSize) throws Exception {
+        try (ConfigurableApplicationContext context = start(chunkSize);
+             HttpClient httpClient = HttpClient.newHttpClient()) {
+            seedAccounts(context.getBean(JdbcTemplate.class));
+            URI uri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/accounts/balances?fromId=1&toId=" + ACCOUNTS);
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .timeout(Duration.ofMinutes(5))
+                    .GET()
+                    .build();
+
+            long startedAt = System.nanoTime();
+            long firstLineNanos = -1;
+            long lines = 0;
+            long total = 0;
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (firstLineNanos < 0) {
+                        firstLineNanos = System.nanoTime() - startedAt;
+                    }
+                    lines++;
+                    total += Long.parseLong(line.substring(line.lastIndexOf(':') + 1, line.length() - 1));
+                }
+            }
+            long elapsedNanos = System.nanoTime() - startedAt;
+
+            log.info("chunk size={}: {} balances/s, first line after {}ms, total {}ms",
+                    chunkSize,
+                    String.format("%,.0f", lines / (elapsedNanos / 1_000_000_000.0)),
+                    firstLineNanos / 1_000_000, elapsedNanos / 1_000_000);
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(lines).isEqualTo(ACCOUNTS);
+            assertThat(total).isEqualTo(ACCOUNTS * 900L);
+        }
+    }
+
+    private ConfigurableApplicationContext start(int chunkSize) {
+        return new SpringApplicationBuilder(BuckpalApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:bulk-balance-" + System.nanoTime(),
+                        "spring.mvc.async.request-timeout=5m",
+                        "buckpal.balance.bulk-chunk-size=" + chunkSize)
+                .run();
+    }
+
+    private void seedAccounts(JdbcTemplate jdbcTemplate) {
+        List<Object[]> accountRows = new ArrayList<>(ACCOUNTS);
+        List<Object[]> activityRows = new ArrayList<>(ACCOUNTS * 2);
+        LocalDateTime seededAt = LocalDateTime.now().minusDays(30);
+        for (long id = 1; id <= ACCOUNTS; id++) {
+            accountRows.add(new Object[]{id});
+            activityRows.add(new Object[]{SEED_ACTIVITY_ID + 2 * id, seededAt, id, 0L, id, 1_000L});
+            activityRows.add(new Object[]{SEED_ACTIVITY_ID + 2 * id + 1, seededAt, id, id, 0L, 100L});
+        }
+        jdbcTemplate.batchUpdate("insert into account (id, version) values (?, 0)", accountRows);
+        jdbcTemplate.batchUpdate(
+                "insert into activity (id, timestamp, owner_account_id, source_account_id, target_account_id, amount) "
+                        + "values (?, ?, ?, ?, ?, ?)",
+                activityRows);
+    }
+}
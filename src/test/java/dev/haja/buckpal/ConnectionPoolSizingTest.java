@@ -0,0 +1,84 @@
+package dev.haja.buckpal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 송금 하나가 여러 커넥션을 쓰는 설정에서 동시 실행 한도가 커넥션 풀을 넘으면 시작하지 않는지 확인한다.
+ */
+class ConnectionPoolSizingTest {
+
+    @Test
+    @DisplayName("동시 읽기에서 동시 실행 한도의 세 배가 풀보다 크면 시작하지 않는다")
+    void givenConcurrentLoadingWithBulkheadAsLargeAsPool_thenStartupFails() {
+        assertThatThrownBy(() -> start(
+                "spring.datasource.hikari.maximum-pool-size=10",
+                "buckpal.account.concurrent-loading=true",
+                "buckpal.transfer.bulkhead.max-concurrent=10"))
+                .rootCause()
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("buckpal.transfer.bulkhead.max-concurrent=10");
+    }
+
+    @Test
+    @DisplayName("동시 읽기에서 적응형 제한은 최대 한도로 풀 크기를 확인한다")
+    void givenConcurrentLoadingWithAdaptiveLimit_thenMaxLimitIsChecked() {
+        assertThatThrownBy(() -> start(
+                "spring.datasource.hikari.maximum-pool-size=10",
+                "buckpal.account.concurrent-loading=true",
+                "buckpal.transfer.bulkhead.max-concurrent=3",
+                "buckpal.transfer.adaptive-limit.enabled=true",
+                "buckpal.transfer.adaptive-limit.max-limit=50"))
+                .rootCause()
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("buckpal.transfer.adaptive-limit.max-limit=50");
+    }
+
+    @Test
+    @DisplayName("동시 읽기에서 동시 실행 한도가 풀의 1/3 이하면 시작한다")
+    void givenConcurrentLoadingWithBulkheadWithinPool_thenStartupSucceeds() {
+        try (ConfigurableApplicationContext context = start(
+                "spring.datasource.hikari.maximum-pool-size=10",
+                "buckpal.account.concurrent-loading=true",
+                "buckpal.transfer.bulkhead.max-concurrent=3")) {
+            assertThat(context.isRunning()).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("임대 잠금에서 동시 실행 한도의 두 배가 풀보다 크면 시작하지 않는다")
+    void givenLeaseLockWithBulkheadAsLargeAsPool_thenStartupFails() {
+        assertThatThrownBy(() -> start(
+                "spring.datasource.hikari.maximum-pool-size=10",
+                "buckpal.lock.type=lease",
+                "buckpal.transfer.bulkhead.max-concurrent=10"))
+                .rootCause()
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("buckpal.lock.type=lease");
+    }
+
+    @Test
+    @DisplayName("임대 잠금에서 동시 실행 한도가 풀의 절반 이하면 시작한다")
+    void givenLeaseLockWithBulkheadWithinPool_thenStartupSucceeds() {
+        try (ConfigurableApplicationContext context = start(
+                "spring.datasource.hikari.maximum-pool-size=10",
+                "buckpal.lock.type=lease",
+                "buckpal.transfer.bulkhead.max-concurrent=5")) {
+            assertThat(context.isRunning()).isTrue();
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(BuckpalApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=jdbc:h2:mem:pool-sizing-" + System.nanoTime())
+                .properties(properties)
+                .run();
+    }
+}
@@ -29,6 +29,7 @@ public class DependencyRuleTests {
                 .withAdaptersLayer("adapter")
                     .incoming("in.web")
                     .outgoing("out.persistence")
+                    .outgoing("out.metrics")
                 .and()
 
                 .withApplicationLayer("application")
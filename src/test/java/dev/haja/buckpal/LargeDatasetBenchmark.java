@@ -0,0 +1,121 @@
+package dev.haja.buckpal;
+
+import dev.haja.buckpal.account.application.port.in.GetAccountBalanceQuery;
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import dev.haja.buckpal.common.AccountDataset;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 운영과 비슷한 규모와 모양의 데이터에서 잔액 조회와 송금 지연 시간.
+ * {@code ./gradlew benchmark}로 실행하며, {@link AccountDataset}으로 만든 계좌와 90일치 활동을 인메모리 H2에 넣은 뒤
+ * 데이터와 같은 지프 분포로 고른 계좌에 여러 스레드가 동시에 조회하고 송금한다.
+ * 적재 속도와 연산별 지연 백분위수를 로그로 남기고, 전체 잔액이 보존되는지 검증한다.
+ */
+@Slf4j
+@Tag("benchmark")
+class LargeDatasetBenchmark {
+
+    private static final int THREADS = 16;
+    private static final int OPERATIONS_PER_THREAD = 200;
+
+    @ParameterizedTest(name = "accounts={0}, transfers={1}, zipf={2}")
+    @CsvSource({"10000, 200000, 1.0", "100000, 1000000, 1.0", "100000, 1000000, 1.2"})
+    @DisplayName("대량 데이터에서의 잔액 조회와 송금 지연 시간")
+    void measureLatency(int accounts, long transfers, double zipfExponent) throws Exception {
+        AccountDataset dataset = AccountDataset.defaultDataset()
+                .withAccounts(accounts)
+                .withTransfers(transfers)
+                .withZipfExponent(zipfExponent)
+                .withPeriod(LocalDate.now(), 90)
+                .build();
+        try (ConfigurableApplicationContext context = start()) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            long loadStartedAt = System.nanoTime();
+            dataset.load(jdbcTemplate);
+            double loadSeconds = (System.nanoTime() - loadStartedAt) / 1_000_000_000.0;
+            GetAccountBalanceQuery getAccountBalanceQuery = context.getBean(GetAccountBalanceQuery.class);
+            SendMoneyUseCase sendMoneyUseCase = context.getBean(SendMoneyUseCase.class);
+
+            long[][] balanceLatencies = new long[THREADS][OPERATIONS_PER_THREAD];
+            long[][] transferLatencies = new long[THREADS][OPERATIONS_PER_THREAD];
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> workers = new ArrayList<>();
+            try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+                for (int t = 0; t < THREADS; t++) {
+                    int thread = t;
+                    workers.add(executor.submit(() -> {
+                        SplittableRandom random = new SplittableRandom(thread);
+                        start.await();
+                        for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                            long startedAt = System.nanoTime();
+                            getAccountBalanceQuery.getAccountBalance(new AccountId(dataset.nextAccountId(random)));
+                            balanceLatencies[thread][i] = System.nanoTime() - startedAt;
+
+                            long source = dataset.nextAccountId(random);
+                            long target = dataset.nextAccountId(random);
+                            startedAt = System.nanoTime();
+                            sendMoneyUseCase.sendMoney(new SendMoneyCommand(
+                                    new AccountId(source), new AccountId(target), Money.of(1L)));
+                            transferLatencies[thread][i] = System.nanoTime() - startedAt;
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> worker : workers) {
+                    worker.get(10, TimeUnit.MINUTES);
+                }
+            }
+
+            log.info("accounts={}, transfers={}, zipf={}: loaded {} activity rows at {} rows/s, "
+                            + "balance p50={}us p99={}us, transfer p50={}us p99={}us",
+                    accounts, transfers, zipfExponent, dataset.activityRows(),
+                    String.format("%,.0f", dataset.activityRows() / loadSeconds),
+                    percentile(balanceLatencies, 0.50) / 1_000, percentile(balanceLatencies, 0.99) / 1_000,
+                    percentile(transferLatencies, 0.50) / 1_000, percentile(transferLatencies, 0.99) / 1_000);
+
+            Long totalBalance = jdbcTemplate.queryForObject(
+                    "select sum(case when target_account_id = owner_account_id then amount else -amount end) from activity",
+                    Long.class);
+            assertThat(totalBalance).isEqualTo(dataset.totalBalance());
+        }
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(BuckpalApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-dataset-" + System.nanoTime()
+                                + ";LOCK_TIMEOUT=10000")
+                .run();
+    }
+
+    private static long percentile(long[][] latencies, double quantile) {
+        long[] sorted = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)];
+    }
+}
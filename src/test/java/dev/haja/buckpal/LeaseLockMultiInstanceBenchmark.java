@@ -0,0 +1,127 @@
+package dev.haja.buckpal;
+
+import dev.haja.buckpal.account.application.port.out.AccountLock;
+import dev.haja.buckpal.account.application.port.out.AccountLockTimeoutException;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임대 잠금의 여러 인스턴스 지연 측정.
+ * {@code ./gradlew benchmark}로 실행하며, 같은 H2 데이터베이스를 보는 애플리케이션 컨텍스트 두 개를 띄워
+ * 각 컨텍스트의 스레드가 같은 계좌 집합을 번갈아 잠근다.
+ * 잠금 획득 지연의 백분위수와 시간 초과 수를 로그로 남기고, 두 인스턴스가 같은 계좌를 동시에 잡지 않았는지 검증한다.
+ */
+@Slf4j
+@Tag("benchmark")
+class LeaseLockMultiInstanceBenchmark {
+
+    private static final int LOCKS_PER_THREAD = 500;
+
+    @ParameterizedTest(name = "threads per instance={0}, accounts={1}")
+    @CsvSource({"4, 4", "4, 1000", "16, 1000"})
+    @DisplayName("두 인스턴스에서의 임대 잠금 지연")
+    void measureLatency(int threadsPerInstance, int accounts) throws Exception {
+        String url = "jdbc:h2:mem:lease-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000";
+        try (ConfigurableApplicationContext first = start(url, "create-drop");
+             ConfigurableApplicationContext second = start(url, "none")) {
+            List<AccountLock> instances = List.of(first.getBean(AccountLock.class), second.getBean(AccountLock.class));
+
+            Set<Long> held = ConcurrentHashMap.newKeySet();
+            AtomicInteger overlaps = new AtomicInteger();
+            LongAdder timeouts = new LongAdder();
+            long[][] latencies = new long[instances.size() * threadsPerInstance][LOCKS_PER_THREAD];
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> workers = new ArrayList<>();
+            long elapsedNanos;
+            try (ExecutorService executor = Executors.newFixedThreadPool(instances.size() * threadsPerInstance)) {
+                for (int t = 0; t < instances.size() * threadsPerInstance; t++) {
+                    AccountLock lock = instances.get(t % instances.size());
+                    long[] threadLatencies = latencies[t];
+                    long seed = t;
+                    workers.add(executor.submit(() -> {
+                        SplittableRandom random = new SplittableRandom(seed);
+                        start.await();
+                        for (int i = 0; i < LOCKS_PER_THREAD; i++) {
+                            long source = 1 + random.nextInt(accounts);
+                            long target = 1 + (source + random.nextInt(accounts - 1)) % accounts;
+                            AccountId sourceId = new AccountId(source);
+                            AccountId targetId = new AccountId(target);
+                            long startedAt = System.nanoTime();
+                            try {
+                                lock.lockAccounts(sourceId, targetId);
+                            } catch (AccountLockTimeoutException e) {
+                                timeouts.increment();
+                                threadLatencies[i] = System.nanoTime() - startedAt;
+                                continue;
+                            }
+                            threadLatencies[i] = System.nanoTime() - startedAt;
+                            try {
+                                if (!held.add(source) | !held.add(target)) {
+                                    overlaps.incrementAndGet();
+                                }
+                                held.remove(source);
+                                held.remove(target);
+                            } finally {
+                                lock.releaseAccounts(sourceId, targetId);
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                long startedAt = System.nanoTime();
+                start.countDown();
+                for (Future<?> worker : workers) {
+                    worker.get(5, TimeUnit.MINUTES);
+                }
+                elapsedNanos = System.nanoTime() - startedAt;
+            }
+
+            long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+            log.info("threads per instance={}, accounts={}: {} locks/s, p50={}us, p99={}us, max={}us, timeouts={}",
+                    threadsPerInstance, accounts,
+                    String.format("%,.0f", all.length / (elapsedNanos / 1_000_000_000.0)),
+                    percentile(all, 0.50) / 1_000, percentile(all, 0.99) / 1_000, all[all.length - 1] / 1_000,
+                    timeouts.sum());
+            assertThat(overlaps).hasValue(0);
+        }
+    }
+
+    private ConfigurableApplicationContext start(String url, String ddlAuto) {
+        return new SpringApplicationBuilder(BuckpalApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + url,
+                        "spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                        "buckpal.lock.type=lease",
+                        "buckpal.lock.timeout=10s",
+                        "buckpal.transfer.bulkhead.max-concurrent=5")
+                .run();
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)];
+    }
+}
@@ -0,0 +1,104 @@
+package dev.haja.buckpal;
+
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 낙관적 동시성 모드에서 두 계좌 사이를 서로 반대 방향으로 동시에 송금해도
+ * 계좌 행 잠금이 교착되지 않고 모든 송금이 반영되는지 확인한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:optimistic-cross-transfer;LOCK_TIMEOUT=10000",
+        "buckpal.transfer.concurrency-mode=optimistic",
+        "buckpal.transfer.retry.max-attempts=1000",
+        "buckpal.transfer.retry.initial-backoff=1ms",
+        "buckpal.transfer.retry.max-backoff=5ms"
+})
+@Sql(statements = {
+        "insert into account (id, version) values (201, 0)",
+        "insert into account (id, version) values (202, 0)",
+        "insert into activity (id, timestamp, owner_account_id, source_account_id, target_account_id, amount) "
+                + "values (20101, current_timestamp, 201, 202, 201, 10000)",
+        "insert into activity (id, timestamp, owner_account_id, source_account_id, target_account_id, amount) "
+                + "values (20201, current_timestamp, 202, 201, 202, 10000)"
+})
+class OptimisticCrossTransferTest {
+
+    private static final AccountId FIRST = new AccountId(201L);
+    private static final AccountId SECOND = new AccountId(202L);
+    private static final int TRANSFERS_PER_DIRECTION = 50;
+
+    @Autowired
+    private SendMoneyUseCase sendMoneyUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("반대 방향의 동시 송금은 교착 없이 모두 성공하고 잔액을 보존한다")
+    void givenCrossingTransfers_thenAllSucceedWithoutDeadlock() throws Exception {
+        // given
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> workers = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int t = 0; t < 4; t++) {
+                SendMoneyCommand command = t % 2 == 0
+                        ? new SendMoneyCommand(FIRST, SECOND, Money.of(1L))
+                        : new SendMoneyCommand(SECOND, FIRST, Money.of(1L));
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    int sent = 0;
+                    for (int i = 0; i < TRANSFERS_PER_DIRECTION; i++) {
+                        if (sendMoneyUseCase.sendMoney(command)) {
+                            sent++;
+                        }
+                    }
+                    return sent;
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> worker : workers) {
+                // then
+                assertThat(worker.get(1, TimeUnit.MINUTES)).isEqualTo(TRANSFERS_PER_DIRECTION);
+            }
+        }
+
+        // then
+        assertThat(balance(FIRST)).isEqualTo(10000L);
+        assertThat(balance(SECOND)).isEqualTo(10000L);
+        assertThat(version(FIRST)).isEqualTo(4L * TRANSFERS_PER_DIRECTION);
+        assertThat(version(SECOND)).isEqualTo(4L * TRANSFERS_PER_DIRECTION);
+    }
+
+    private Long balance(AccountId accountId) {
+        return jdbcTemplate.queryForObject(
+                "select sum(case when target_account_id = owner_account_id then amount else -amount end) "
+                        + "from activity where owner_account_id = ?",
+                Long.class, accountId.getValue());
+    }
+
+    private Long version(AccountId accountId) {
+        return jdbcTemplate.queryForObject(
+                "select version from account where id = ?", Long.class, accountId.getValue());
+    }
+}
@@ -0,0 +1,88 @@
+package dev.haja.buckpal;
+
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * 데코레이터가 {@link SendMoneyUseCase#sendMoneyAsync(SendMoneyCommand)}로 넘긴 송금도
+ * {@code SendMoneyService}의 트랜잭션 하나로 실행되는지 확인한다.
+ */
+@SpringBootTest
+@Sql(statements = {
+        "insert into account (id, version) values (101, 0)",
+        "insert into account (id, version) values (102, 0)",
+        "insert into activity (id, timestamp, owner_account_id, source_account_id, target_account_id, amount) "
+                + "values (10101, '2018-08-08 08:00:00.0', 101, 102, 101, 10000)"
+})
+@Sql(executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, statements = {
+        "alter table activity drop constraint if exists reject_test_deposit",
+        "delete from activity where owner_account_id in (101, 102)",
+        "delete from account where id in (101, 102)"
+})
+class SendMoneyAsyncTransactionTest {
+
+    private static final AccountId SOURCE = new AccountId(101L);
+    private static final AccountId TARGET = new AccountId(102L);
+
+    @Autowired
+    private SendMoneyUseCase sendMoneyUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("비동기 송금은 두 계좌의 활동과 버전을 한 트랜잭션에서 기록한다")
+    void givenSendMoneyAsync_thenTransferIsCommittedInTransaction() {
+        // when
+        Boolean sent = sendMoneyUseCase.sendMoneyAsync(new SendMoneyCommand(SOURCE, TARGET, Money.of(500L))).join();
+
+        // then
+        assertThat(sent).isTrue();
+        assertThat(countActivities(500L)).isEqualTo(2);
+        assertThat(version(SOURCE)).isEqualTo(1L);
+        assertThat(version(TARGET)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("비동기 송금의 저장이 중간에 실패하면 아무것도 남기지 않고 잠금도 해제한다")
+    void givenFailureWhilePersisting_thenNothingIsCommitted() {
+        // given
+        // 입금 계좌의 활동 행만 거부해, 출금 활동을 저장한 뒤에 실패하게 한다.
+        jdbcTemplate.execute("alter table activity add constraint reject_test_deposit "
+                + "check (not (owner_account_id = 102 and amount = 777))");
+
+        // when
+        Throwable failure = catchThrowable(() ->
+                sendMoneyUseCase.sendMoneyAsync(new SendMoneyCommand(SOURCE, TARGET, Money.of(777L))).join());
+
+        // then
+        assertThat(failure).isNotNull();
+        assertThat(countActivities(777L)).isZero();
+        assertThat(version(SOURCE)).isZero();
+        assertThat(version(TARGET)).isZero();
+        Boolean sent = sendMoneyUseCase.sendMoneyAsync(new SendMoneyCommand(SOURCE, TARGET, Money.of(500L))).join();
+        assertThat(sent).isTrue();
+    }
+
+    private Integer countActivities(long amount) {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from activity where owner_account_id in (101, 102) and amount = ?",
+                Integer.class, amount);
+    }
+
+    private Long version(AccountId accountId) {
+        return jdbcTemplate.queryForObject(
+                "select version from account where id = ?", Long.class, accountId.getValue());
+    }
+}
@@ -0,0 +1,137 @@
+package dev.haja.buckpal;
+
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 잠금, 낙관적, 샤딩 모드와 묶음 커밋의 송금 처리량 비교.
+ * {@code ./gradlew benchmark}로 실행하며, 모드마다 별도의 인메모리 H2로 애플리케이션을 띄워
+ * 적은 수의 계좌 사이에서 동시에 이체해 경합을 만든다.
+ * 처리량과 함께 실패한 이체 수를 로그로 남기고, 전체 잔액이 보존되는지 검증한다.
+ */
+@Slf4j
+@Tag("benchmark")
+class TransferConcurrencyModeBenchmark {
+
+    private static final int TRANSFERS_PER_THREAD = 200;
+    private static final long INITIAL_BALANCE = 1_000_000L;
+    private static final long SEED_ACTIVITY_ID = 1_000_000_000L;
+
+    @ParameterizedTest(name = "mode={0}, lock={1}, threads={2}, accounts={3}, group commit={4}")
+    @CsvSource({
+            "lock, striped, 16, 4, false", "optimistic, noop, 16, 4, false", "sharded, noop, 16, 4, false",
+            "lock, striped, 16, 1000, false", "optimistic, noop, 16, 1000, false", "sharded, noop, 16, 1000, false",
+            "lock, striped, 16, 1000, true", "optimistic, noop, 16, 1000, true"
+    })
+    @DisplayName("동시성 모드별 송금 처리량")
+    void measureThroughput(String mode, String lockType, int threads, int accounts, boolean groupCommit)
+            throws Exception {
+        try (ConfigurableApplicationContext context = start(mode, lockType, groupCommit)) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            seedAccounts(jdbcTemplate, accounts);
+            SendMoneyUseCase sendMoneyUseCase = context.getBean(SendMoneyUseCase.class);
+
+            AtomicLong succeeded = new AtomicLong();
+            AtomicLong conflicted = new AtomicLong();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> workers = new ArrayList<>();
+            long elapsedNanos;
+            try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+                for (int t = 0; t < threads; t++) {
+                    long seed = t;
+                    workers.add(executor.submit(() -> {
+                        SplittableRandom random = new SplittableRandom(seed);
+                        start.await();
+                        for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                            long source = 1 + random.nextInt(accounts);
+                            long target = 1 + (source + random.nextInt(accounts - 1)) % accounts;
+                            try {
+                                if (sendMoneyUseCase.sendMoney(new SendMoneyCommand(
+                                        new AccountId(source), new AccountId(target), Money.of(1L)))) {
+                                    succeeded.incrementAndGet();
+                                }
+                            } catch (OptimisticLockingFailureException e) {
+                                conflicted.incrementAndGet();
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                long startedAt = System.nanoTime();
+                start.countDown();
+                for (Future<?> worker : workers) {
+                    worker.get(5, TimeUnit.MINUTES);
+                }
+                elapsedNanos = System.nanoTime() - startedAt;
+            }
+
+            long total = (long) threads * TRANSFERS_PER_THREAD;
+            log.info("mode={}, lock={}, threads={}, accounts={}, group commit={}: {} transfers/s, succeeded={}, conflicted={}",
+                    mode, lockType, threads, accounts, groupCommit,
+                    String.format("%,.0f", total / (elapsedNanos / 1_000_000_000.0)),
+                    succeeded.get(), conflicted.get());
+
+            Long totalBalance = jdbcTemplate.queryForObject(
+                    "select sum(case when target_account_id = owner_account_id then amount else -amount end) from activity",
+                    Long.class);
+            assertThat(totalBalance).isEqualTo(INITIAL_BALANCE * accounts);
+        }
+    }
+
+    private ConfigurableApplicationContext start(String mode, String lockType, boolean groupCommit) {
+        return new SpringApplicationBuilder(BuckpalApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark-" + mode + "-" + System.nanoTime()
+                                + ";LOCK_TIMEOUT=10000",
+                        "buckpal.transfer.concurrency-mode=" + mode,
+                        "buckpal.transfer.retry.max-attempts=10",
+                        "buckpal.lock.type=" + lockType,
+                        "buckpal.transfer.group-commit.enabled=" + groupCommit)
+                .run();
+    }
+
+    /**
+     * 계좌마다 기준일 이전의 입금 활동 하나로 초기 잔액을 만든다.
+     * 활동 ID는 시퀀스와 겹치지 않도록 큰 값에서 시작한다.
+     */
+    private void seedAccounts(JdbcTemplate jdbcTemplate, int accounts) {
+        List<Object[]> accountRows = new ArrayList<>();
+        List<Object[]> activityRows = new ArrayList<>();
+        LocalDateTime seededAt = LocalDateTime.now().minusDays(30);
+        for (long id = 1; id <= accounts; id++) {
+            accountRows.add(new Object[]{id});
+            activityRows.add(new Object[]{SEED_ACTIVITY_ID + id, seededAt, id, 0L, id, INITIAL_BALANCE});
+        }
+        jdbcTemplate.batchUpdate("insert into account (id, version) values (?, 0)", accountRows);
+        jdbcTemplate.batchUpdate(
+                "insert into activity (id, timestamp, owner_account_id, source_account_id, target_account_id, amount) "
+                        + "values (?, ?, ?, ?, ?, ?)",
+                activityRows);
+    }
+}
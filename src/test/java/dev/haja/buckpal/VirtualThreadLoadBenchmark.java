@@ -0,0 +1,137 @@
+package dev.haja.buckpal;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 스레드 모드의 동시 요청 부하 측정.
+ * {@code ./gradlew benchmark}로 실행하며, 플랫폼 스레드와 가상 스레드로 각각 애플리케이션을 띄워
+ * 10,000개의 송금 요청을 동시에 보낸다. 처리량, 동시에 처리 중이던 요청 수의 최댓값, 응답 상태별 개수를 로그로 남긴다.
+ * 커넥션을 기다리는 요청은 송금 동시 실행 제한에서 대기하므로, 커넥션 풀이 10개여도 요청이 무한정 쌓이지 않는다.
+ */
+@Slf4j
+@Tag("benchmark")
+class VirtualThreadLoadBenchmark {
+
+    private static final int IN_FLIGHT_REQUESTS = 10_000;
+    private static final int ACCOUNTS = 1_000;
+    private static final long SEED_ACTIVITY_ID = 1_000_000_000L;
+
+    @ParameterizedTest(name = "virtual={0}")
+    @CsvSource({"false", "true"})
+    @DisplayName("스레드 모델별 10,000개 동시 송금 요청 처리")
+    void measureConcurrency(boolean virtual) throws Exception {
+        try (ConfigurableApplicationContext context = start(virtual)) {
+            seedAccounts(context.getBean(JdbcTemplate.class));
+            URI uri = URI.create("http://localhost:"
+                    + context.getEnvironment().getProperty("local.server.port") + "/accounts/send");
+
+            Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+            LongAdder failures = new LongAdder();
+            AtomicInteger inFlight = new AtomicInteger();
+            AtomicInteger maxInFlight = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> requests = new ArrayList<>(IN_FLIGHT_REQUESTS);
+            long elapsedNanos;
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+                 HttpClient httpClient = HttpClient.newBuilder()
+                         .executor(clients)
+                         .connectTimeout(Duration.ofSeconds(30))
+                         .build()) {
+                SplittableRandom random = new SplittableRandom(42);
+                for (int i = 0; i < IN_FLIGHT_REQUESTS; i++) {
+                    long source = 1 + random.nextInt(ACCOUNTS);
+                    long target = 1 + (source + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS;
+                    HttpRequest request = HttpRequest.newBuilder(uri)
+                            .header("Content-Type", "application/json")
+                            .timeout(Duration.ofMinutes(2))
+                            .POST(HttpRequest.BodyPublishers.ofString(
+                                    "{\"sourceAccountId\":%d,\"targetAccountId\":%d,\"amount\":1}".formatted(source, target)))
+                            .build();
+                    requests.add(clients.submit(() -> {
+                        start.await();
+                        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            statuses.computeIfAbsent(response.statusCode(), status -> new LongAdder()).increment();
+                        } catch (Exception e) {
+                            failures.increment();
+                        } finally {
+                            inFlight.decrementAndGet();
+                        }
+                        return null;
+                    }));
+                }
+                long startedAt = System.nanoTime();
+                start.countDown();
+                for (Future<?> request : requests) {
+                    request.get(5, TimeUnit.MINUTES);
+                }
+                elapsedNanos = System.nanoTime() - startedAt;
+            }
+
+            log.info("virtual={}: {} requests/s, max in-flight={}, statuses={}, failures={}",
+                    virtual,
+                    String.format("%,.0f", IN_FLIGHT_REQUESTS / (elapsedNanos / 1_000_000_000.0)),
+                    maxInFlight.get(), statuses, failures.sum());
+            assertThat(maxInFlight.get()).isEqualTo(IN_FLIGHT_REQUESTS);
+        }
+    }
+
+    private ConfigurableApplicationContext start(boolean virtual) {
+        return new SpringApplicationBuilder(BuckpalApplication.class)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.max-connections=" + (IN_FLIGHT_REQUESTS * 2),
+                        "server.tomcat.accept-count=" + IN_FLIGHT_REQUESTS,
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "spring.datasource.url=jdbc:h2:mem:load-" + System.nanoTime() + ";LOCK_TIMEOUT=10000",
+                        "spring.datasource.hikari.maximum-pool-size=10",
+                        "buckpal.lock.type=striped",
+                        "buckpal.transfer.bulkhead.max-concurrent=10",
+                        "buckpal.transfer.bulkhead.max-wait=60s")
+                .run();
+    }
+
+    private void seedAccounts(JdbcTemplate jdbcTemplate) {
+        List<Object[]> accountRows = new ArrayList<>();
+        List<Object[]> activityRows = new ArrayList<>();
+        LocalDateTime seededAt = LocalDateTime.now().minusDays(30);
+        for (long id = 1; id <= ACCOUNTS; id++) {
+            accountRows.add(new Object[]{id});
+            activityRows.add(new Object[]{SEED_ACTIVITY_ID + id, seededAt, id, 0L, id, 1_000_000L});
+        }
+        jdbcTemplate.batchUpdate("insert into account (id, version) values (?, 0)", accountRows);
+        jdbcTemplate.batchUpdate(
+                "insert into activity (id, timestamp, owner_account_id, source_account_id, target_account_id, amount) "
+                        + "values (?, ?, ?, ?, ?, ?)",
+                activityRows);
+    }
+}
@@ -0,0 +1,89 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import dev.haja.buckpal.account.application.port.in.GetVersionedAccountBalanceQuery;
+import dev.haja.buckpal.account.application.port.in.VersionedBalance;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+// Spring Boot 4.0: 패키지 변경
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+
+@WebMvcTest(controllers = AccountBalanceController.class)
+class AccountBalanceControllerTest {
+
+    @Autowired private MockMvc mockMvc;
+
+    @MockitoBean private GetVersionedAccountBalanceQuery getVersionedAccountBalanceQuery;
+
+    @Test
+    void testGetAccountBalance() throws Exception {
+        // given
+        given(getVersionedAccountBalanceQuery.getAccountVersion(new AccountId(1L))).willReturn(Optional.of(7L));
+        given(getVersionedAccountBalanceQuery.getVersionedAccountBalance(new AccountId(1L), 7L))
+            .willReturn(new VersionedBalance(Money.of(500L), 7L));
+
+        // when & then
+        mockMvc.perform(get("/accounts/1/balance"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"7\""))
+            .andExpect(jsonPath("$.accountId").value(1))
+            .andExpect(jsonPath("$.balance").value(500));
+
+        // 버전은 ETag를 확인할 때 한 번만 읽는다.
+        then(getVersionedAccountBalanceQuery).should().getAccountVersion(new AccountId(1L));
+    }
+
+    @Test
+    void testGetAccountBalanceNotModified() throws Exception {
+        // given
+        given(getVersionedAccountBalanceQuery.getAccountVersion(new AccountId(1L))).willReturn(Optional.of(7L));
+
+        // when & then
+        mockMvc.perform(get("/accounts/1/balance").header(HttpHeaders.IF_NONE_MATCH, "\"7\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"7\""));
+
+        // 버전만 보고 응답하므로 잔액은 계산하지 않는다.
+        then(getVersionedAccountBalanceQuery).should(never()).getVersionedAccountBalance(any(), anyLong());
+    }
+
+    @Test
+    void testGetAccountBalanceChangedSinceLastPoll() throws Exception {
+        // given
+        given(getVersionedAccountBalanceQuery.getAccountVersion(new AccountId(1L))).willReturn(Optional.of(8L));
+        given(getVersionedAccountBalanceQuery.getVersionedAccountBalance(new AccountId(1L), 8L))
+            .willReturn(new VersionedBalance(Money.of(400L), 8L));
+
+        // when & then
+        mockMvc.perform(get("/accounts/1/balance").header(HttpHeaders.IF_NONE_MATCH, "\"7\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"8\""))
+            .andExpect(jsonPath("$.balance").value(400));
+    }
+
+    @Test
+    void testGetAccountBalanceNotFound() throws Exception {
+        // given
+        given(getVersionedAccountBalanceQuery.getAccountVersion(new AccountId(1L))).willReturn(Optional.empty());
+
+        // when & then
+        mockMvc.perform(get("/accounts/1/balance"))
+            .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,89 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import dev.haja.buckpal.account.application.port.in.ActivityCursor;
+import dev.haja.buckpal.account.application.port.in.ActivityPage;
+import dev.haja.buckpal.account.application.port.in.GetActivityHistoryQuery;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Activity;
+import dev.haja.buckpal.account.domain.Activity.ActivityId;
+import dev.haja.buckpal.account.domain.Money;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+// Spring Boot 4.0: 패키지 변경
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@WebMvcTest(controllers = ActivityHistoryController.class)
+class ActivityHistoryControllerTest {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Autowired private MockMvc mockMvc;
+
+    @MockitoBean private GetActivityHistoryQuery getActivityHistoryQuery;
+
+    @Test
+    void testGetActivitiesFollowsCursor() throws Exception {
+        // given
+        ActivityCursor cursor = new ActivityCursor(TIMESTAMP, 8L);
+        given(getActivityHistoryQuery.getActivities(new AccountId(1L), Optional.empty(), 1))
+            .willReturn(Optional.of(new ActivityPage(List.of(activity(8L)), Optional.of(cursor))));
+        given(getActivityHistoryQuery.getActivities(new AccountId(1L), Optional.of(cursor), 1))
+            .willReturn(Optional.of(new ActivityPage(List.of(activity(5L)), Optional.empty())));
+
+        // when & then
+        mockMvc.perform(get("/accounts/1/activities").param("size", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.activities[0].activityId").value(8))
+            .andExpect(jsonPath("$.nextCursor").value(ActivityCursorToken.encode(cursor)));
+
+        mockMvc.perform(get("/accounts/1/activities")
+                .param("size", "1")
+                .param("cursor", ActivityCursorToken.encode(cursor)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.activities[0].activityId").value(5))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void testGetActivitiesInvalidCursor() throws Exception {
+        mockMvc.perform(get("/accounts/1/activities").param("cursor", "not-a-cursor"))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(getActivityHistoryQuery);
+    }
+
+    @Test
+    void testGetActivitiesNotFound() throws Exception {
+        // given
+        given(getActivityHistoryQuery.getActivities(eq(new AccountId(1L)), eq(Optional.empty()), anyInt()))
+            .willReturn(Optional.empty());
+
+        // when & then
+        mockMvc.perform(get("/accounts/1/activities"))
+            .andExpect(status().isNotFound());
+    }
+
+    private static Activity activity(long id) {
+        return new Activity(
+            new ActivityId(id),
+            new AccountId(1L),
+            new AccountId(1L),
+            new AccountId(2L),
+            TIMESTAMP,
+            Money.of(1L));
+    }
+}
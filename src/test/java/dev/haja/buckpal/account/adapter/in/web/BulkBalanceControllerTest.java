@@ -0,0 +1,93 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import dev.haja.buckpal.account.application.port.in.AccountBalance;
+import dev.haja.buckpal.account.application.port.in.StreamAccountBalancesQuery;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+// Spring Boot 4.0: 패키지 변경
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+@WebMvcTest(controllers = BulkBalanceController.class)
+class BulkBalanceControllerTest {
+
+    @Autowired private MockMvc mockMvc;
+
+    @MockitoBean private StreamAccountBalancesQuery streamAccountBalancesQuery;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStreamBalancesInRange() throws Exception {
+        // given
+        willAnswer(invocation -> {
+            Consumer<AccountBalance> sink = invocation.getArgument(2);
+            sink.accept(new AccountBalance(new AccountId(1L), Money.of(500L)));
+            sink.accept(new AccountBalance(new AccountId(2L), Money.of(-500L)));
+            return null;
+        }).given(streamAccountBalancesQuery).streamBalances(eq(new AccountId(1L)), eq(new AccountId(2L)), any(Consumer.class));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/accounts/balances").param("fromId", "1").param("toId", "2"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andExpect(content().string("""
+                {"accountId":1,"balance":500}
+                {"accountId":2,"balance":-500}
+                """));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStreamBalancesOfIds() throws Exception {
+        // given
+        willAnswer(invocation -> {
+            Consumer<AccountBalance> sink = invocation.getArgument(1);
+            sink.accept(new AccountBalance(new AccountId(2L), Money.of(7L)));
+            return null;
+        }).given(streamAccountBalancesQuery).streamBalances(eq(List.of(new AccountId(2L), new AccountId(3L))), any(Consumer.class));
+
+        // when
+        MvcResult result = mockMvc.perform(post("/accounts/balances")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"accountIds\":[2,3]}"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().string("{\"accountId\":2,\"balance\":7}\n"));
+    }
+
+    @Test
+    void testStreamBalancesInvalidRange() throws Exception {
+        mockMvc.perform(get("/accounts/balances").param("fromId", "5").param("toId", "1"))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(streamAccountBalancesQuery);
+    }
+}
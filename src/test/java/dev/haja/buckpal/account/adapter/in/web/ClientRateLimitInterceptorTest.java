@@ -0,0 +1,111 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import dev.haja.buckpal.common.RateLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientRateLimitInterceptorTest {
+
+    private static final String PROXY_ADDRESS = "10.0.0.100";
+
+    private final ClientRateLimitInterceptor interceptor = new ClientRateLimitInterceptor(
+            new RateLimiter<>(1, 1, 100), "X-Client-Id", Set.of(PROXY_ADDRESS));
+
+    @Test
+    @DisplayName("한도를 넘은 클라이언트의 요청은 429와 Retry-After로 돌려보낸다")
+    void givenClientOverLimit_whenPreHandle_thenTooManyRequests() throws Exception {
+        // given
+        assertThat(interceptor.preHandle(request("client-a"), new MockHttpServletResponse(), new Object())).isTrue();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        boolean proceed = interceptor.preHandle(request("client-a"), response, new Object());
+
+        // then
+        assertThat(proceed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getContentAsString()).contains("message");
+    }
+
+    @Test
+    @DisplayName("신뢰하는 프록시가 보낸 클라이언트 헤더가 다르면 따로 센다")
+    void givenOtherClientOverLimit_whenPreHandle_thenProceeds() throws Exception {
+        // given
+        interceptor.preHandle(request("client-a"), new MockHttpServletResponse(), new Object());
+
+        // when
+        boolean proceed = interceptor.preHandle(request("client-b"), new MockHttpServletResponse(), new Object());
+
+        // then
+        assertThat(proceed).isTrue();
+    }
+
+    @Test
+    @DisplayName("클라이언트 헤더가 없으면 원격 주소로 구분한다")
+    void givenNoClientHeader_whenPreHandle_thenUsesRemoteAddress() throws Exception {
+        // given
+        MockHttpServletRequest first = request(null);
+        first.setRemoteAddr("10.0.0.1");
+        interceptor.preHandle(first, new MockHttpServletResponse(), new Object());
+        MockHttpServletRequest sameAddress = request(null);
+        sameAddress.setRemoteAddr("10.0.0.1");
+        MockHttpServletRequest otherAddress = request(null);
+        otherAddress.setRemoteAddr("10.0.0.2");
+
+        // when & then
+        assertThat(interceptor.preHandle(sameAddress, new MockHttpServletResponse(), new Object())).isFalse();
+        assertThat(interceptor.preHandle(otherAddress, new MockHttpServletResponse(), new Object())).isTrue();
+    }
+
+    @Test
+    @DisplayName("신뢰하지 않는 주소에서 온 클라이언트 헤더는 무시하고 원격 주소로 센다")
+    void givenClientHeaderFromUntrustedAddress_whenPreHandle_thenUsesRemoteAddress() throws Exception {
+        // given
+        MockHttpServletRequest first = request("client-a");
+        first.setRemoteAddr("10.0.0.1");
+        interceptor.preHandle(first, new MockHttpServletResponse(), new Object());
+        MockHttpServletRequest rotated = request("client-b");
+        rotated.setRemoteAddr("10.0.0.1");
+
+        // when
+        boolean proceed = interceptor.preHandle(rotated, new MockHttpServletResponse(), new Object());
+
+        // then
+        assertThat(proceed).isFalse();
+    }
+
+    @Test
+    @DisplayName("인증된 요청은 헤더와 주소가 달라도 사용자로 센다")
+    void givenAuthenticatedClient_whenPreHandle_thenUsesPrincipal() throws Exception {
+        // given
+        MockHttpServletRequest first = request("client-a");
+        first.setUserPrincipal(() -> "alice");
+        interceptor.preHandle(first, new MockHttpServletResponse(), new Object());
+        MockHttpServletRequest otherHeader = request("client-b");
+        otherHeader.setUserPrincipal(() -> "alice");
+        otherHeader.setRemoteAddr("10.0.0.2");
+
+        // when
+        boolean proceed = interceptor.preHandle(otherHeader, new MockHttpServletResponse(), new Object());
+
+        // then
+        assertThat(proceed).isFalse();
+    }
+
+    private MockHttpServletRequest request(String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/accounts/send");
+        request.setRemoteAddr(PROXY_ADDRESS);
+        if (clientId != null) {
+            request.addHeader("X-Client-Id", clientId);
+        }
+        return request;
+    }
+}
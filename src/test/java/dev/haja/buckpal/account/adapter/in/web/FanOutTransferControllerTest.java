@@ -0,0 +1,88 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import dev.haja.buckpal.account.application.port.in.FanOutTransferCommand;
+import dev.haja.buckpal.account.application.port.in.FanOutTransferUseCase;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+// Spring Boot 4.0: 패키지 변경
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+// Spring Boot 4.0: Jackson 3 패키지 변경
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.List;
+
+@WebMvcTest(controllers = FanOutTransferController.class)
+class FanOutTransferControllerTest {
+
+    @Autowired private MockMvc mockMvc;
+
+    @Autowired private ObjectMapper objectMapper;
+
+    @MockitoBean private FanOutTransferUseCase fanOutTransferUseCase;
+
+    @Test
+    void testSendMoneyToMany() throws Exception {
+        // given
+        FanOutTransferReqDto requestDto = new FanOutTransferReqDto(1L, List.of(
+            new FanOutTransferReqDto.Leg(2L, 300L),
+            new FanOutTransferReqDto.Leg(3L, 200L)));
+        FanOutTransferCommand command = new FanOutTransferCommand(new AccountId(1L), List.of(
+            new FanOutTransferCommand.Leg(new AccountId(2L), Money.of(300L)),
+            new FanOutTransferCommand.Leg(new AccountId(3L), Money.of(200L))));
+        willReturn(true).given(fanOutTransferUseCase).sendMoneyToMany(eq(command));
+
+        // when & then
+        mockMvc.perform(
+                post("/accounts/send/fan-out")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(requestDto)))
+            .andExpect(status().isOk());
+
+        then(fanOutTransferUseCase).should().sendMoneyToMany(eq(command));
+    }
+
+    @Test
+    void testSendMoneyToManyFailure_InsufficientBalance() throws Exception {
+        // given
+        FanOutTransferReqDto requestDto = new FanOutTransferReqDto(1L, List.of(
+            new FanOutTransferReqDto.Leg(2L, 300L)));
+        willReturn(false).given(fanOutTransferUseCase).sendMoneyToMany(any());
+
+        // when & then
+        mockMvc.perform(
+                post("/accounts/send/fan-out")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(requestDto)))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testSendMoneyToManyFailure_DuplicateTarget() throws Exception {
+        // given
+        FanOutTransferReqDto requestDto = new FanOutTransferReqDto(1L, List.of(
+            new FanOutTransferReqDto.Leg(2L, 300L),
+            new FanOutTransferReqDto.Leg(2L, 200L)));
+
+        // when & then
+        mockMvc.perform(
+                post("/accounts/send/fan-out")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(requestDto)))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(fanOutTransferUseCase);
+    }
+}
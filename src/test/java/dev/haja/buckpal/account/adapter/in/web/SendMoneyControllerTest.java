@@ -4,24 +4,33 @@ import static dev.haja.buckpal.account.domain.Account.AccountId;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.then;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
 import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyResult;
 import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+import dev.haja.buckpal.account.application.service.RateLimitExceededException;
 import dev.haja.buckpal.account.domain.Money;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 // Spring Boot 4.0: 패키지 변경
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 // Spring Boot 4.0: Jackson 3 패키지 변경
 import tools.jackson.databind.ObjectMapper;
 import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.verifyNoInteractions;
 
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+
 @WebMvcTest(controllers = SendMoneyController.class)
 class SendMoneyControllerTest {
 
@@ -82,6 +91,27 @@ class SendMoneyControllerTest {
                 new AccountId(2L),
                 Money.of(500L))));
     }
+
+    @Test
+    void testSendMoneyRateLimited() throws Exception {
+        // given
+        SendMoneyReqDto requestDto = new SendMoneyReqDto(1L, 2L, 500L);
+
+        // Mock 행동 정의 - 출금 계좌 빈도 한도 초과
+        willThrow(new RateLimitExceededException("출금 계좌 1의 송금 요청이 너무 많습니다.", Duration.ofMillis(1500)))
+                .given(sendMoneyUseCase).sendMoney(eq(new SendMoneyCommand(
+                        new AccountId(1L),
+                        new AccountId(2L),
+                        Money.of(500L))));
+
+        // when & then
+        mockMvc.perform(
+                post("/accounts/send")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(requestDto)))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"));
+    }
     
     @Test
     void testSendMoneyValidationFailure_NegativeAmount() throws Exception {
@@ -117,4 +147,114 @@ class SendMoneyControllerTest {
         // verify - 유효성 검사 실패로 인해 UseCase가 호출되지 않아야 함
         verifyNoInteractions(sendMoneyUseCase);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSendMoneyBatch() throws Exception {
+        // given
+        SendMoneyBatchReqDto requestDto = new SendMoneyBatchReqDto(List.of(
+                new SendMoneyReqDto(1L, 2L, 500L),
+                new SendMoneyReqDto(2L, 3L, 700L)));
+        List<SendMoneyCommand> commands = List.of(
+                new SendMoneyCommand(new AccountId(1L), new AccountId(2L), Money.of(500L)),
+                new SendMoneyCommand(new AccountId(2L), new AccountId(3L), Money.of(700L)));
+
+        willReturn(List.of(SendMoneyResult.COMPLETED, SendMoneyResult.INSUFFICIENT_BALANCE))
+                .given(sendMoneyUseCase).sendMoneyBatch(eq(commands));
+
+        // when & then
+        mockMvc.perform(
+                post("/accounts/send/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(requestDto)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.completed").value(1))
+            .andExpect(jsonPath("$.results[0]").value("COMPLETED"))
+            .andExpect(jsonPath("$.results[1]").value("INSUFFICIENT_BALANCE"));
+
+        // verify
+        then(sendMoneyUseCase).should().sendMoneyBatch(eq(commands));
+    }
+
+    @Test
+    void testSendMoneyBatchValidationFailure_InvalidItem() throws Exception {
+        // given
+        SendMoneyBatchReqDto requestDto = new SendMoneyBatchReqDto(List.of(
+                new SendMoneyReqDto(1L, 2L, 500L),
+                new SendMoneyReqDto(2L, null, 700L)));
+
+        // when & then
+        mockMvc.perform(
+                post("/accounts/send/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(requestDto)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$['transfers[1].targetAccountId']").exists());
+
+        // verify - 한 건이라도 유효하지 않으면 아무것도 실행하지 않아야 함
+        verifyNoInteractions(sendMoneyUseCase);
+    }
+
+    @Test
+    void testSendMoneyBinary() throws Exception {
+        // given
+        SendMoneyCommand command = new SendMoneyCommand(new AccountId(1L), new AccountId(2L), Money.of(500L));
+        willReturn(true).given(sendMoneyUseCase).sendMoney(eq(command));
+
+        // when & then
+        mockMvc.perform(
+                post("/accounts/send")
+                    .contentType(TransferBinaryHttpMessageConverter.MEDIA_TYPE)
+                    .content(ByteBuffer.allocate(24).putLong(1L).putLong(2L).putLong(500L).array()))
+            .andExpect(status().isOk());
+
+        then(sendMoneyUseCase).should().sendMoney(eq(command));
+    }
+
+    @Test
+    void testSendMoneyBatchBinary() throws Exception {
+        // given
+        List<SendMoneyCommand> commands = List.of(
+                new SendMoneyCommand(new AccountId(1L), new AccountId(2L), Money.of(500L)),
+                new SendMoneyCommand(new AccountId(2L), new AccountId(3L), Money.of(700L)));
+        willReturn(List.of(SendMoneyResult.COMPLETED, SendMoneyResult.COMPLETED))
+                .given(sendMoneyUseCase).sendMoneyBatch(eq(commands));
+        byte[] body = ByteBuffer.allocate(4 + 2 * 24)
+                .putInt(2)
+                .putLong(1L).putLong(2L).putLong(500L)
+                .putLong(2L).putLong(3L).putLong(700L)
+                .array();
+
+        // when & then
+        mockMvc.perform(
+                post("/accounts/send/batch")
+                    .contentType(TransferBinaryHttpMessageConverter.MEDIA_TYPE)
+                    .content(body))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.completed").value(2));
+    }
+
+    @Test
+    void testSendMoneyBinaryFailure_TruncatedBody() throws Exception {
+        // when & then
+        mockMvc.perform(
+                post("/accounts/send")
+                    .contentType(TransferBinaryHttpMessageConverter.MEDIA_TYPE)
+                    .content(ByteBuffer.allocate(16).putLong(1L).putLong(2L).array()))
+            .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(sendMoneyUseCase);
+    }
+
+    @Test
+    void testSendMoneyBinaryValidationFailure_NegativeAmount() throws Exception {
+        // when & then
+        mockMvc.perform(
+                post("/accounts/send")
+                    .contentType(TransferBinaryHttpMessageConverter.MEDIA_TYPE)
+                    .content(ByteBuffer.allocate(24).putLong(1L).putLong(2L).putLong(-500L).array()))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.amount").exists());
+
+        verifyNoInteractions(sendMoneyUseCase);
+    }
+}
@@ -0,0 +1,124 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import dev.haja.buckpal.BuckPalConfigurationProperties;
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SubmitTransferUseCase;
+import dev.haja.buckpal.account.application.port.in.SubmittedTransfer;
+import dev.haja.buckpal.account.application.port.in.TransferStatus;
+import dev.haja.buckpal.account.application.port.in.TransferStatus.State;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+// Spring Boot 4.0: 패키지 변경
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+// Spring Boot 4.0: Jackson 3 패키지 변경
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = SubmitTransferController.class)
+class SubmitTransferControllerTest {
+
+    private static final UUID TRANSFER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    @Autowired private MockMvc mockMvc;
+
+    @Autowired private ObjectMapper objectMapper;
+
+    @MockitoBean private SubmitTransferUseCase submitTransferUseCase;
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        BuckPalConfigurationProperties buckPalConfigurationProperties() {
+            return new BuckPalConfigurationProperties(
+                    Long.MAX_VALUE,
+                    new BuckPalConfigurationProperties.Account(10));
+        }
+    }
+
+    @Test
+    void testSubmit() throws Exception {
+        // given
+        given(submitTransferUseCase.submit(eq(command())))
+                .willReturn(new SubmittedTransfer(TRANSFER_ID, new CompletableFuture<>()));
+
+        // when & then
+        mockMvc.perform(
+                post("/accounts/send/async")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new SendMoneyReqDto(1L, 2L, 500L))))
+            .andExpect(status().isAccepted())
+            .andExpect(header().string("Location", "/accounts/transfers/" + TRANSFER_ID))
+            .andExpect(jsonPath("$.transferId").value(TRANSFER_ID.toString()))
+            .andExpect(jsonPath("$.state").value("QUEUED"));
+    }
+
+    @Test
+    void testSubmitAndWait() throws Exception {
+        // given
+        CompletableFuture<TransferStatus> completion = new CompletableFuture<>();
+        given(submitTransferUseCase.submit(eq(command())))
+                .willReturn(new SubmittedTransfer(TRANSFER_ID, completion));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(
+                post("/accounts/send/deferred")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new SendMoneyReqDto(1L, 2L, 500L))))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        completion.complete(new TransferStatus(TRANSFER_ID, State.COMPLETED));
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.state").value("COMPLETED"));
+    }
+
+    @Test
+    void testGetStatus() throws Exception {
+        // given
+        given(submitTransferUseCase.findStatus(eq(TRANSFER_ID)))
+                .willReturn(Optional.of(new TransferStatus(TRANSFER_ID, State.FAILED, TransferStatus.TRANSFER_FAILED)));
+
+        // when & then
+        mockMvc.perform(get("/accounts/transfers/{transferId}", TRANSFER_ID))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.state").value("FAILED"))
+            .andExpect(jsonPath("$.message").value("TRANSFER_FAILED"));
+    }
+
+    @Test
+    void testGetStatusNotFound() throws Exception {
+        // given
+        given(submitTransferUseCase.findStatus(eq(TRANSFER_ID))).willReturn(Optional.empty());
+
+        // when & then
+        mockMvc.perform(get("/accounts/transfers/{transferId}", TRANSFER_ID))
+            .andExpect(status().isNotFound());
+    }
+
+    private SendMoneyCommand command() {
+        return new SendMoneyCommand(new AccountId(1L), new AccountId(2L), Money.of(500L));
+    }
+}
@@ -0,0 +1,179 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyResult;
+import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+import dev.haja.buckpal.account.application.service.TransferRejectedException;
+import dev.haja.buckpal.account.domain.Money;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+// Spring Boot 4.0: 패키지 변경
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.util.List;
+
+@WebMvcTest(controllers = TransferStreamController.class)
+class TransferStreamControllerTest {
+
+    @Autowired private MockMvc mockMvc;
+
+    @MockitoBean private SendMoneyUseCase sendMoneyUseCase;
+
+    @Test
+    void testSendMoneyStream() throws Exception {
+        // given
+        willAnswer(invocation -> {
+            List<SendMoneyCommand> commands = invocation.getArgument(0);
+            return commands.stream()
+                .map(command -> command.getMoney().equals(Money.of(999L))
+                    ? SendMoneyResult.INSUFFICIENT_BALANCE
+                    : SendMoneyResult.COMPLETED)
+                .toList();
+        }).given(sendMoneyUseCase).sendMoneyBatch(anyList());
+        String body = """
+            {"sourceAccountId":1,"targetAccountId":2,"amount":500}
+            {"sourceAccountId":1,"targetAccountId":2,"amount":-1}
+            not json
+
+            {"sourceAccountId":2,"targetAccountId":1,"amount":999}
+            """;
+
+        // when
+        MvcResult result = mockMvc.perform(post("/accounts/send/stream")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andExpect(content().string("""
+                {"index":0,"result":"COMPLETED"}
+                {"index":1,"result":"INVALID","errors":{"amount":"금액은 양수여야 합니다"}}
+                {"index":2,"result":"INVALID","errors":{"body":"JSON 형식이 아닙니다"}}
+                {"index":3,"result":"INSUFFICIENT_BALANCE"}
+                """));
+    }
+
+    @Test
+    void testSendMoneyStreamBatchFailure() throws Exception {
+        // given
+        willThrow(new IllegalStateException("boom")).given(sendMoneyUseCase).sendMoneyBatch(anyList());
+
+        // when
+        MvcResult result = mockMvc.perform(post("/accounts/send/stream")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"sourceAccountId\":1,\"targetAccountId\":2,\"amount\":500}\n"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().string("{\"index\":0,\"result\":\"FAILED\",\"errors\":{\"code\":\"TRANSFER_FAILED\"}}\n"));
+    }
+
+    @Test
+    void testSendMoneyStreamBatchFailureRetriesEachTransfer() throws Exception {
+        // given
+        willAnswer(invocation -> {
+            List<SendMoneyCommand> commands = invocation.getArgument(0);
+            if (commands.stream().anyMatch(command -> command.getMoney().equals(Money.of(999L)))) {
+                throw new IllegalStateException("boom");
+            }
+            return commands.stream().map(command -> SendMoneyResult.COMPLETED).toList();
+        }).given(sendMoneyUseCase).sendMoneyBatch(anyList());
+        willAnswer(invocation -> {
+            SendMoneyCommand command = invocation.getArgument(0);
+            if (command.getMoney().equals(Money.of(999L))) {
+                throw new IllegalStateException("boom");
+            }
+            return true;
+        }).given(sendMoneyUseCase).sendMoney(any(SendMoneyCommand.class));
+        String body = """
+            {"sourceAccountId":1,"targetAccountId":2,"amount":500}
+            {"sourceAccountId":1,"targetAccountId":2,"amount":999}
+            {"sourceAccountId":2,"targetAccountId":1,"amount":300}
+            """;
+
+        // when
+        MvcResult result = mockMvc.perform(post("/accounts/send/stream")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().string("""
+                {"index":0,"result":"COMPLETED"}
+                {"index":1,"result":"FAILED","errors":{"code":"TRANSFER_FAILED"}}
+                {"index":2,"result":"COMPLETED"}
+                """));
+    }
+
+    @Test
+    void testSendMoneyStreamRejected() throws Exception {
+        // given
+        willThrow(new TransferRejectedException("busy", Duration.ofSeconds(1)))
+            .given(sendMoneyUseCase).sendMoneyBatch(anyList());
+
+        // when
+        MvcResult result = mockMvc.perform(post("/accounts/send/stream")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"sourceAccountId\":1,\"targetAccountId\":2,\"amount\":500}\n"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().string("{\"index\":0,\"result\":\"FAILED\",\"errors\":{\"code\":\"REJECTED\"}}\n"));
+    }
+
+    @Test
+    void testSendMoneyStreamNullLine() throws Exception {
+        // given
+        willAnswer(invocation -> {
+            List<SendMoneyCommand> commands = invocation.getArgument(0);
+            return commands.stream().map(command -> SendMoneyResult.COMPLETED).toList();
+        }).given(sendMoneyUseCase).sendMoneyBatch(anyList());
+        String body = """
+            null
+            {"sourceAccountId":1,"targetAccountId":2,"amount":500}
+            """;
+
+        // when
+        MvcResult result = mockMvc.perform(post("/accounts/send/stream")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().string("""
+                {"index":0,"result":"INVALID","errors":{"body":"송금 요청이 비어 있습니다"}}
+                {"index":1,"result":"COMPLETED"}
+                """));
+    }
+}
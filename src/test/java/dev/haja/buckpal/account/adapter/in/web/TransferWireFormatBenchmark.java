@@ -0,0 +1,117 @@
+package dev.haja.buckpal.account.adapter.in.web;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 송금 요청 본문의 JSON과 바이너리 형식 비교.
+ * {@code ./gradlew benchmark}로 실행하며, 1,000건짜리 일괄 요청을 각 형식으로 반복해 읽고
+ * 송금 한 건을 읽는 데 걸린 시간과 본문 크기를 로그로 남긴다.
+ * 앞의 절반은 JIT 예열로 보고 측정에서 뺀다.
+ */
+@Slf4j
+@Tag("benchmark")
+class TransferWireFormatBenchmark {
+
+    private static final int TRANSFERS = 1_000;
+    private static final int ITERATIONS = 4_000;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final TransferBinaryHttpMessageConverter binaryConverter = new TransferBinaryHttpMessageConverter();
+
+    @Test
+    @DisplayName("1,000건 일괄 요청 본문을 JSON과 바이너리로 읽기")
+    void measureDecoding() throws Exception {
+        SendMoneyBatchReqDto batch = batch();
+        byte[] json = objectMapper.writeValueAsBytes(batch);
+        byte[] binary = encodeBinary(batch);
+        ObjectReader jsonReader = objectMapper.readerFor(SendMoneyBatchReqDto.class);
+
+        long jsonNanos = measure(() -> jsonReader.readValue(json));
+        long binaryNanos = measure(() -> binaryConverter.read(SendMoneyBatchReqDto.class, inputMessage(binary)));
+
+        log.info("json: {} bytes, {} ns/transfer", json.length, String.format("%.1f", (double) jsonNanos / TRANSFERS));
+        log.info("binary: {} bytes, {} ns/transfer", binary.length, String.format("%.1f", (double) binaryNanos / TRANSFERS));
+        assertThat(binaryConverter.read(SendMoneyBatchReqDto.class, inputMessage(binary))).isEqualTo(batch);
+        assertThat(jsonReader.<SendMoneyBatchReqDto>readValue(json)).isEqualTo(batch);
+    }
+
+    private long measure(Decoder decoder) throws Exception {
+        long measuredNanos = 0;
+        Object sink = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long startedAt = System.nanoTime();
+            sink = decoder.decode();
+            if (i >= ITERATIONS / 2) {
+                measuredNanos += System.nanoTime() - startedAt;
+            }
+        }
+        assertThat(sink).isNotNull();
+        return measuredNanos / (ITERATIONS - ITERATIONS / 2);
+    }
+
+    private byte[] encodeBinary(SendMoneyBatchReqDto batch) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        binaryConverter.write(batch, TransferBinaryHttpMessageConverter.MEDIA_TYPE, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return out;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return new HttpHeaders();
+            }
+        });
+        return out.toByteArray();
+    }
+
+    private static HttpInputMessage inputMessage(byte[] body) {
+        return new HttpInputMessage() {
+            @Override
+            public InputStream getBody() {
+                return new ByteArrayInputStream(body);
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return new HttpHeaders();
+            }
+        };
+    }
+
+    private static SendMoneyBatchReqDto batch() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<SendMoneyReqDto> transfers = new ArrayList<>(TRANSFERS);
+        for (int i = 0; i < TRANSFERS; i++) {
+            transfers.add(new SendMoneyReqDto(
+                    1 + random.nextLong(1_000_000L),
+                    1 + random.nextLong(1_000_000L),
+                    1 + random.nextLong(100_000L)));
+        }
+        return new SendMoneyBatchReqDto(transfers);
+    }
+
+    @FunctionalInterface
+    private interface Decoder {
+        Object decode() throws Exception;
+    }
+}
@@ -0,0 +1,80 @@
+package dev.haja.buckpal.account.adapter.out.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentionSketchTest {
+
+    @Test
+    @DisplayName("많이 기다린 계좌가 상위 목록에 남는다")
+    void givenFewHotAccountsAmongMany_whenTop_thenHotAccountsAreRankedFirst() {
+        // given
+        ContentionSketch sketch = new ContentionSketch(1024, 10);
+        SplittableRandom random = new SplittableRandom(7);
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            sketch.add(1_000 + random.nextInt(50_000), 1);
+            if (i % 10 == 0) {
+                sketch.add(1L, 10);
+                sketch.add(2L, 5);
+            }
+        }
+
+        // then
+        assertThat(sketch.top(2)).extracting(Map.Entry::getKey).containsExactly(1L, 2L);
+        assertThat(sketch.estimate(1L)).isGreaterThanOrEqualTo(100_000L);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 더해도 후보 목록은 용량을 넘지 않는다")
+    void givenConcurrentAdds_whenTop_thenCapacityIsNeverExceeded() throws Exception {
+        // given
+        ContentionSketch sketch = new ContentionSketch(1024, 10);
+        List<Future<?>> workers = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                long offset = t * 10_000L;
+                workers.add(executor.submit(() -> {
+                    for (long accountId = 1; accountId <= 10_000; accountId++) {
+                        sketch.add(offset + accountId, accountId);
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get(30, TimeUnit.SECONDS);
+            }
+        }
+
+        // then
+        assertThat(sketch.top(Integer.MAX_VALUE)).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("초기화하면 추정값과 상위 목록이 비워진다")
+    void givenRecordedWaits_whenReset_thenSketchIsEmpty() {
+        // given
+        ContentionSketch sketch = new ContentionSketch(64, 4);
+        sketch.add(1L, 100);
+
+        // when
+        sketch.reset();
+
+        // then
+        assertThat(sketch.estimate(1L)).isZero();
+        assertThat(sketch.top(10)).isEmpty();
+    }
+}
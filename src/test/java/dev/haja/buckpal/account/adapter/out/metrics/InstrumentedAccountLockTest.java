@@ -0,0 +1,82 @@
+package dev.haja.buckpal.account.adapter.out.metrics;
+
+import dev.haja.buckpal.account.application.port.out.AccountLock;
+import dev.haja.buckpal.account.application.port.out.AccountLockTimeoutException;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+
+class InstrumentedAccountLockTest {
+
+    private final AccountLock delegate = Mockito.mock(AccountLock.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ContentionSketch contentionSketch = new ContentionSketch(64, 4);
+    private final InstrumentedAccountLock lock = new InstrumentedAccountLock(delegate, meterRegistry, contentionSketch);
+
+    @Test
+    @DisplayName("잠금과 해제를 위임하고 대기 시간과 보유 시간을 기록한다")
+    void givenLockAndRelease_thenAcquireAndHoldAreRecorded() {
+        // given
+        AccountId source = new AccountId(1L);
+        AccountId target = new AccountId(2L);
+
+        // when
+        lock.lockAccounts(source, target);
+        lock.releaseAccounts(source, target);
+
+        // then
+        then(delegate).should().lockAccounts(source, target);
+        then(delegate).should().releaseAccounts(source, target);
+        assertThat(meterRegistry.get("buckpal.account.lock.acquire").tag("result", "acquired").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("buckpal.account.lock.hold").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("여러 계좌를 잠그면 중복을 빼고 계좌마다 보유 시간을 한 번씩 기록한다")
+    void givenManyAccountsWithDuplicates_whenLockAndRelease_thenHoldIsRecordedOncePerAccount() {
+        // given
+        List<AccountId> accountIds = LongStream.rangeClosed(1, 6)
+                .mapToObj(AccountId::new)
+                .collect(Collectors.toCollection(ArrayList::new));
+        accountIds.add(new AccountId(3L));
+
+        // when
+        lock.lockAccounts(accountIds);
+        lock.releaseAccounts(accountIds);
+
+        // then
+        then(delegate).should().lockAccounts(accountIds);
+        then(delegate).should().releaseAccounts(accountIds);
+        assertThat(meterRegistry.get("buckpal.account.lock.hold").timer().count()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("대기 시간이 초과되면 초과 횟수를 세고 예외를 그대로 던진다")
+    void givenTimeout_thenTimeoutIsCountedAndRethrown() {
+        // given
+        AccountId accountId = new AccountId(1L);
+        willThrow(new AccountLockTimeoutException(accountId, Duration.ofMillis(1)))
+                .given(delegate).lockAccount(accountId);
+
+        // when & then
+        assertThatThrownBy(() -> lock.lockAccount(accountId))
+                .isInstanceOf(AccountLockTimeoutException.class);
+        assertThat(meterRegistry.get("buckpal.account.lock.timeouts").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("buckpal.account.lock.acquire").tag("result", "timeout").timer().count())
+                .isEqualTo(1);
+    }
+}
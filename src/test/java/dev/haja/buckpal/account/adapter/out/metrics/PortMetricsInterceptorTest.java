@@ -0,0 +1,166 @@
+package dev.haja.buckpal.account.adapter.out.metrics;
+
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+import dev.haja.buckpal.account.application.port.out.LoadAccountBalancesPort;
+import dev.haja.buckpal.account.application.port.out.LoadAccountPort;
+import dev.haja.buckpal.account.application.port.out.UpdateAccountStatePort;
+import dev.haja.buckpal.account.domain.Account;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Activity.ActivityId;
+import dev.haja.buckpal.account.domain.ActivityWindow;
+import dev.haja.buckpal.account.domain.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static dev.haja.buckpal.common.AccountTestData.defaultAccount;
+import static dev.haja.buckpal.common.ActivityTestData.defaultActivity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+
+class PortMetricsInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("계좌를 읽으면 호출 시간과 활동 윈도우 크기를 기록한다")
+    void givenLoadAccount_thenCallAndWindowSizeAreRecorded() {
+        // given
+        LoadAccountPort delegate = Mockito.mock(LoadAccountPort.class);
+        AccountId accountId = new AccountId(42L);
+        LocalDateTime baselineDate = LocalDateTime.now();
+        Account account = defaultAccount().build();
+        given(delegate.loadAccount(accountId, baselineDate)).willReturn(account);
+        LoadAccountPort port = (LoadAccountPort) PortMetricsInterceptor.proxy(
+                delegate, Set.of(LoadAccountPort.class), meterRegistry);
+
+        // when
+        Account loaded = port.loadAccount(accountId, baselineDate);
+
+        // then
+        assertThat(loaded).isSameAs(account);
+        assertThat(meterRegistry.get("buckpal.port.calls")
+                .tag("port", "LoadAccountPort").tag("method", "loadAccount").tag("result", "succeeded")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("buckpal.account.window.size").summary().totalAmount()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 활동을 저장하면 호출마다 새 활동 수를 기록한다")
+    void givenUpdateActivitiesWithoutTransaction_thenNewActivitiesAreRecorded() {
+        // given
+        UpdateAccountStatePort delegate = Mockito.mock(UpdateAccountStatePort.class);
+        Account account = defaultAccount()
+                .withActivityWindow(new ActivityWindow(
+                        defaultActivity().withId(new ActivityId(1L)).build(),
+                        defaultActivity().build()))
+                .build();
+        UpdateAccountStatePort port = (UpdateAccountStatePort) PortMetricsInterceptor.proxy(
+                delegate, Set.of(UpdateAccountStatePort.class), meterRegistry);
+
+        // when
+        port.updateActivities(account);
+
+        // then
+        then(delegate).should().updateActivities(account);
+        assertThat(meterRegistry.get("buckpal.transfer.activities.persisted").summary().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("buckpal.transfer.activities.persisted").summary().totalAmount()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 여러 번 저장하면 커밋할 때 합계를 한 번 기록한다")
+    void givenUpdateActivitiesInTransaction_thenTotalIsRecordedOnCommit() {
+        // given
+        UpdateAccountStatePort delegate = Mockito.mock(UpdateAccountStatePort.class);
+        UpdateAccountStatePort port = (UpdateAccountStatePort) PortMetricsInterceptor.proxy(
+                delegate, Set.of(UpdateAccountStatePort.class), meterRegistry);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            port.updateActivities(defaultAccount().build());
+            port.updateActivities(List.of(defaultAccount().build()));
+            assertThat(meterRegistry.get("buckpal.transfer.activities.persisted").summary().count()).isZero();
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertThat(meterRegistry.get("buckpal.transfer.activities.persisted").summary().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("buckpal.transfer.activities.persisted").summary().totalAmount()).isEqualTo(4.0);
+        assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("호출이 실패하면 실패로 기록하고 예외를 그대로 던진다")
+    void givenFailingCall_thenFailureIsRecordedAndRethrown() {
+        // given
+        SendMoneyUseCase delegate = Mockito.mock(SendMoneyUseCase.class);
+        SendMoneyCommand command = new SendMoneyCommand(new AccountId(1L), new AccountId(2L), Money.of(10L));
+        willThrow(new IllegalStateException("실패")).given(delegate).sendMoney(command);
+        SendMoneyUseCase useCase = (SendMoneyUseCase) PortMetricsInterceptor.proxy(
+                delegate, Set.of(SendMoneyUseCase.class), meterRegistry);
+
+        // when & then
+        assertThatThrownBy(() -> useCase.sendMoney(command)).isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get("buckpal.port.calls")
+                .tag("method", "sendMoney").tag("result", "failed")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비동기 송금은 결과가 완료될 때 기록한다")
+    void givenSendMoneyAsync_thenCallIsRecordedOnCompletion() {
+        // given
+        SendMoneyUseCase delegate = Mockito.mock(SendMoneyUseCase.class);
+        SendMoneyCommand command = new SendMoneyCommand(new AccountId(1L), new AccountId(2L), Money.of(10L));
+        CompletableFuture<Boolean> pending = new CompletableFuture<>();
+        given(delegate.sendMoneyAsync(command)).willReturn(pending);
+        SendMoneyUseCase useCase = (SendMoneyUseCase) PortMetricsInterceptor.proxy(
+                delegate, Set.of(SendMoneyUseCase.class), meterRegistry);
+
+        // when
+        CompletableFuture<Boolean> result = useCase.sendMoneyAsync(command);
+        assertThat(meterRegistry.get("buckpal.port.calls")
+                .tag("method", "sendMoneyAsync").tag("result", "succeeded")
+                .timer().count()).isZero();
+        pending.complete(true);
+
+        // then
+        assertThat(result).isCompletedWithValue(true);
+        assertThat(meterRegistry.get("buckpal.port.calls")
+                .tag("method", "sendMoneyAsync").tag("result", "succeeded")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("계측하지 않는 포트의 메서드는 그대로 위임한다")
+    void givenOtherPortMethod_thenCallIsNotRecorded() {
+        // given
+        LoadAccountPort delegate = Mockito.mock(LoadAccountPort.class,
+                Mockito.withSettings().extraInterfaces(LoadAccountBalancesPort.class));
+        Object proxy = PortMetricsInterceptor.proxy(delegate, Set.of(LoadAccountPort.class), meterRegistry);
+
+        // when
+        ((LoadAccountBalancesPort) proxy).loadBalances(List.of(new AccountId(1L)));
+
+        // then
+        then((LoadAccountBalancesPort) delegate).should().loadBalances(List.of(new AccountId(1L)));
+        assertThat(meterRegistry.find("buckpal.port.calls").timers()).isEmpty();
+    }
+}
@@ -0,0 +1,238 @@
+package dev.haja.buckpal.account.adapter.out.persistence;
+
+import dev.haja.buckpal.account.domain.Account;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+// Spring Boot 4.0: 패키지 변경
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 영속성 어댑터의 계좌 읽기, 활동 저장, 매핑 측정.
+ * {@code ./gradlew benchmark}로 실행하며, 영속성 슬라이스만 인메모리 H2로 띄워
+ * 계좌마다 기준일 이전 활동({@code historyDepth})과 활동 윈도우({@code windowSize})를 고정된 시드로 채운다.
+ * 연산마다 별도의 트랜잭션에서 실행해 영속성 컨텍스트에 남은 엔티티를 다시 쓰지 않게 하고,
+ * 지연 시간 백분위수와 처리량, 연산당 SQL 문 수(Hibernate 통계)와 할당량(스레드 할당 바이트)을 로그로 남긴다.
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({AccountPersistenceAdapter.class, AccountMapper.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AccountPersistenceAdapterBenchmark {
+
+    private static final int ACCOUNTS = 20;
+    private static final int WARMUP_OPERATIONS = 100;
+    private static final int OPERATIONS = 500;
+    private static final long SEED_ACTIVITY_ID = 1_000_000_000L;
+    private static final long INITIAL_DEPOSIT = 1_000_000_000L;
+
+    @Autowired private AccountPersistenceAdapter adapter;
+    @Autowired private AccountMapper accountMapper;
+    @Autowired private ActivityRepository activityRepository;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private DataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("delete from activity");
+        jdbcTemplate.update("delete from account");
+    }
+
+    @ParameterizedTest(name = "window={0}, history={1}")
+    @CsvSource({"10, 0", "100, 0", "1000, 0", "100, 1000", "100, 10000", "100, 50000"})
+    @DisplayName("활동 윈도우와 이력 크기별 영속성 어댑터 성능")
+    void measure(int windowSize, int historyDepth) {
+        LocalDateTime baselineDate = LocalDateTime.now().minusDays(10);
+        seed(windowSize, historyDepth, baselineDate);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Account loaded = transaction.execute(status -> adapter.loadAccount(new AccountId(1L), baselineDate));
+        assertThat(loaded.getActivityWindow().getActivities()).hasSize(windowSize);
+
+        Measurement load = measureOperation("loadAccount", statistics, random -> transaction.executeWithoutResult(
+                status -> adapter.loadAccount(randomAccount(random), baselineDate)));
+
+        Measurement update = measureSamples("updateActivities", random -> {
+            AccountId accountId = randomAccount(random);
+            AccountId targetAccountId = new AccountId(1L + (accountId.getValue() % ACCOUNTS));
+            // 계좌를 읽고 출금하는 데 든 비용은 빼고, 저장부터 커밋까지만 잰다.
+            // 출금한 계좌의 버전은 커밋 직전에 올라가므로 flush만으로는 모든 SQL 문이 나가지 않는다.
+            TransactionStatus status = transactionManager.getTransaction(transaction);
+            try {
+                Account account = adapter.loadAccount(accountId, baselineDate);
+                account.withdraw(Money.of(1L), targetAccountId);
+                long startedAt = System.nanoTime();
+                long statementsBefore = statistics.getPrepareStatementCount();
+                long allocatedBefore = allocatedBytes();
+                adapter.updateActivities(account);
+                transactionManager.commit(status);
+                return new Sample(System.nanoTime() - startedAt,
+                        statistics.getPrepareStatementCount() - statementsBefore,
+                        allocatedBytes() - allocatedBefore);
+            } catch (RuntimeException e) {
+                if (!status.isCompleted()) {
+                    transactionManager.rollback(status);
+                }
+                throw e;
+            }
+        });
+
+        AccountJpaEntity mappedAccount = accountRepository.findById(1L).orElseThrow();
+        List<ActivityJpaEntity> mappedActivities = activityRepository.findByOwnerSince(1L, baselineDate);
+        assertThat(accountMapper.mapToDomainEntity(mappedAccount, mappedActivities, 0L, 0L)
+                .getActivityWindow().getActivities()).hasSize(mappedActivities.size());
+        Measurement mapping = measureOperation("mapToDomainEntity", statistics,
+                random -> accountMapper.mapToDomainEntity(mappedAccount, mappedActivities, 0L, 0L));
+
+        log.info("window={}, history={}, accounts={}:\n  {}\n  {}\n  {}",
+                windowSize, historyDepth, ACCOUNTS, load, update, mapping);
+        // 계좌 하나를 읽는 데 계좌, 활동, 출금 합계, 입금 합계 조회 네 번으로 끝나야 한다.
+        assertThat(load.statementsPerOperation()).isEqualTo(4.0);
+        assertThat(mapping.statementsPerOperation()).isZero();
+    }
+
+    /**
+     * 연산 전체를 잰다.
+     */
+    private Measurement measureOperation(String name, Statistics statistics, Operation operation) {
+        return measureSamples(name, random -> {
+            long startedAt = System.nanoTime();
+            long statementsBefore = statistics.getPrepareStatementCount();
+            long allocatedBefore = allocatedBytes();
+            operation.run(random);
+            return new Sample(System.nanoTime() - startedAt,
+                    statistics.getPrepareStatementCount() - statementsBefore,
+                    allocatedBytes() - allocatedBefore);
+        });
+    }
+
+    /**
+     * 연산이 스스로 잰 구간을 모은다.
+     */
+    private Measurement measureSamples(String name, SampledOperation operation) {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < WARMUP_OPERATIONS; i++) {
+            operation.run(random);
+        }
+        long[] latencies = new long[OPERATIONS];
+        long statements = 0;
+        long allocated = 0;
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            Sample sample = operation.run(random);
+            latencies[i] = sample.nanos();
+            statements += sample.statements();
+            allocated += sample.allocatedBytes();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        Arrays.sort(latencies);
+        return new Measurement(name, OPERATIONS / (elapsedNanos / 1_000_000_000.0),
+                percentile(latencies, 0.50), percentile(latencies, 0.99),
+                (double) statements / OPERATIONS, allocated / OPERATIONS);
+    }
+
+    /**
+     * 계좌마다 기준일 이전의 이력과 기준일 이후의 활동 윈도우를 만든다.
+     * 활동 ID는 시퀀스와 겹치지 않도록 큰 값에서 시작한다.
+     */
+    private void seed(int windowSize, int historyDepth, LocalDateTime baselineDate) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        SplittableRandom random = new SplittableRandom(7);
+        List<Object[]> accountRows = new ArrayList<>();
+        List<Object[]> activityRows = new ArrayList<>();
+        long activityId = SEED_ACTIVITY_ID;
+        for (long owner = 1; owner <= ACCOUNTS; owner++) {
+            accountRows.add(new Object[]{owner});
+            for (int i = 0; i < historyDepth + windowSize; i++) {
+                boolean history = i < historyDepth;
+                long other = 1 + (owner + random.nextInt(ACCOUNTS - 1)) % ACCOUNTS;
+                boolean deposit = i == 0 || random.nextBoolean();
+                LocalDateTime timestamp = history
+                        ? baselineDate.minusMinutes(1 + random.nextInt(60 * 24 * 365))
+                        : baselineDate.plusMinutes(1 + random.nextInt(60 * 24 * 9));
+                // 첫 활동은 큰 입금으로 두어, 측정 중의 출금이 잔액 부족으로 건너뛰어지지 않게 한다.
+                long amount = i == 0 ? INITIAL_DEPOSIT : 1L + random.nextInt(1_000);
+                activityRows.add(new Object[]{activityId++, timestamp, owner,
+                        deposit ? other : owner, deposit ? owner : other, amount});
+            }
+        }
+        jdbcTemplate.batchUpdate("insert into account (id, version) values (?, 0)", accountRows);
+        for (int from = 0; from < activityRows.size(); from += 10_000) {
+            jdbcTemplate.batchUpdate(
+                    "insert into activity (id, timestamp, owner_account_id, source_account_id, target_account_id, amount) "
+                            + "values (?, ?, ?, ?, ?, ?)",
+                    activityRows.subList(from, Math.min(activityRows.size(), from + 10_000)));
+        }
+    }
+
+    private static AccountId randomAccount(SplittableRandom random) {
+        return new AccountId(1L + random.nextInt(ACCOUNTS));
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)];
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void run(SplittableRandom random);
+    }
+
+    @FunctionalInterface
+    private interface SampledOperation {
+        Sample run(SplittableRandom random);
+    }
+
+    private record Sample(long nanos, long statements, long allocatedBytes) {}
+
+    private record Measurement(
+            String name,
+            double operationsPerSecond,
+            long p50Nanos,
+            long p99Nanos,
+            double statementsPerOperation,
+            long allocatedBytesPerOperation) {
+
+        @Override
+        public String toString() {
+            return String.format("%-18s %,10.0f ops/s, p50=%,dus, p99=%,dus, %.1f statements/op, %,d bytes/op",
+                    name, operationsPerSecond, p50Nanos / 1_000, p99Nanos / 1_000,
+                    statementsPerOperation, allocatedBytesPerOperation);
+        }
+    }
+}
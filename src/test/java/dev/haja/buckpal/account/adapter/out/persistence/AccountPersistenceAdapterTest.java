@@ -2,8 +2,10 @@ package dev.haja.buckpal.account.adapter.out.persistence;
 
 import dev.haja.buckpal.account.domain.Account;
 import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Activity;
 import dev.haja.buckpal.account.domain.ActivityWindow;
 import dev.haja.buckpal.account.domain.Money;
+import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 // Spring Boot 4.0: 패키지 변경
@@ -12,10 +14,13 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.jdbc.Sql;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 import static dev.haja.buckpal.common.AccountTestData.defaultAccount;
 import static dev.haja.buckpal.common.ActivityTestData.defaultActivity;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @Import({AccountPersistenceAdapter.class, AccountMapper.class})
@@ -23,6 +28,7 @@ class AccountPersistenceAdapterTest {
 
     @Autowired private AccountPersistenceAdapter adapterUnderTest;
     @Autowired private ActivityRepository activityRepository;
+    @Autowired private AccountRepository accountRepository;
 
     @Test
     @Sql("AccountPersistenceAdapterTest.sql")
@@ -35,6 +41,85 @@ class AccountPersistenceAdapterTest {
         assertThat(account.calculateBalance()).isEqualTo(Money.of(500));
     }
 
+    @Test
+    @Sql("AccountPersistenceAdapterTest.sql")
+    void loadAccountsTest(){
+        Map<AccountId, Account> accounts = adapterUnderTest.loadAccounts(
+                List.of(new AccountId(2L), new AccountId(1L)),
+                LocalDateTime.of(2018, 8, 10, 0, 0));
+        assertThat(accounts.keySet()).containsExactly(new AccountId(2L), new AccountId(1L));
+        assertThat(accounts.get(new AccountId(1L)).calculateBalance()).isEqualTo(Money.of(500));
+        assertThat(accounts.get(new AccountId(2L)).calculateBalance()).isEqualTo(Money.of(-500));
+    }
+
+    @Test
+    @Sql("AccountPersistenceAdapterTest.sql")
+    void loadAccountsForDepositTest(){
+        Map<AccountId, Account> accounts = adapterUnderTest.loadAccountsForDeposit(
+                List.of(new AccountId(2L), new AccountId(1L)));
+        assertThat(accounts.keySet()).containsExactly(new AccountId(2L), new AccountId(1L));
+        assertThat(accounts.values())
+                .allSatisfy(account -> assertThat(account.getActivityWindow().getActivities()).isEmpty());
+    }
+
+    @Test
+    void loadAccountsForDepositFailsForMissingAccountTest(){
+        assertThatThrownBy(() -> adapterUnderTest.loadAccountsForDeposit(List.of(new AccountId(-1L))))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void loadBalancesInRangeTest(){
+        Long first = accountRepository.save(new AccountJpaEntity(null, null)).getId();
+        Long second = accountRepository.save(new AccountJpaEntity(null, null)).getId();
+        Long third = accountRepository.save(new AccountJpaEntity(null, null)).getId();
+        activityRepository.save(new ActivityJpaEntity(null, LocalDateTime.now(), second, first, second, 300L));
+        activityRepository.save(new ActivityJpaEntity(null, LocalDateTime.now(), second, second, third, 100L));
+
+        Map<AccountId, Money> balances = adapterUnderTest.loadBalancesInRange(
+                new AccountId(first - 1), new AccountId(third), 2);
+
+        assertThat(balances).containsExactly(
+                Map.entry(new AccountId(first), Money.ZERO),
+                Map.entry(new AccountId(second), Money.of(200L)));
+        assertThat(adapterUnderTest.loadBalancesInRange(new AccountId(second), new AccountId(third), 2))
+                .containsOnlyKeys(new AccountId(third));
+    }
+
+    @Test
+    void loadActivitiesBeforeTest(){
+        Long owner = accountRepository.save(new AccountJpaEntity(null, null)).getId();
+        LocalDateTime timestamp = LocalDateTime.of(2025, 1, 1, 12, 0);
+        Long older = activityRepository.save(new ActivityJpaEntity(null, timestamp.minusSeconds(1), owner, owner, 99L, 1L)).getId();
+        Long first = activityRepository.save(new ActivityJpaEntity(null, timestamp, owner, owner, 99L, 1L)).getId();
+        Long second = activityRepository.save(new ActivityJpaEntity(null, timestamp, owner, owner, 99L, 1L)).getId();
+
+        List<Activity> latest = adapterUnderTest.loadLatestActivities(new AccountId(owner), 2);
+        List<Activity> next = adapterUnderTest.loadActivitiesBefore(new AccountId(owner), timestamp, first, 2);
+
+        assertThat(latest).extracting(activity -> activity.getId().getValue()).containsExactly(second, first);
+        assertThat(next).extracting(activity -> activity.getId().getValue()).containsExactly(older);
+    }
+
+    @Test
+    @Sql("AccountPersistenceAdapterTest.sql")
+    void loadVersionTest(){
+        assertThat(adapterUnderTest.loadVersion(new AccountId(1L))).contains(0L);
+        assertThat(adapterUnderTest.loadVersion(new AccountId(-1L))).isEmpty();
+    }
+
+    @Test
+    @Sql("AccountPersistenceAdapterTest.sql")
+    void loadBalancesTest(){
+        Map<AccountId, Money> balances = adapterUnderTest.loadBalances(List.of(
+                new AccountId(1L),
+                new AccountId(2L),
+                new AccountId(3L)));
+        assertThat(balances).containsOnly(
+                Map.entry(new AccountId(1L), Money.of(500L)),
+                Map.entry(new AccountId(2L), Money.of(-500L)));
+    }
+
     @Test
     void updatesActivitiesTest(){
         Account account = defaultAccount()
@@ -50,4 +135,55 @@ class AccountPersistenceAdapterTest {
         ActivityJpaEntity savedActivityJpaEntity = activityRepository.findAll().getFirst();
         assertThat(savedActivityJpaEntity.getAmount()).isEqualTo(1L);
     }
-}
\ No newline at end of file
+
+    @Test
+    @Sql("AccountPersistenceAdapterTest.sql")
+    void updateActivitiesIncrementsVersionOfDepositOnlyAccountTest(){
+        Account account = defaultAccount()
+                .withAccountId(new AccountId(2L))
+                .withActivityWindow(new ActivityWindow(
+                        defaultActivity()
+                                .withId(null)
+                                .withOwnerAccount(new AccountId(2L))
+                                .withSourceAccount(new AccountId(1L))
+                                .withTargetAccount(new AccountId(2L))
+                                .withMoney(Money.of(1L)).build()))
+                .build();
+        adapterUnderTest.updateActivities(account);
+
+        assertThat(accountRepository.findById(2L))
+                .hasValueSatisfying(entity -> assertThat(entity.getVersion()).isEqualTo(1L));
+    }
+
+    @Test
+    void updateActivitiesOfAccountsTest(){
+        Long sourceId = accountRepository.save(new AccountJpaEntity(null, null)).getId();
+        Long targetId = accountRepository.save(new AccountJpaEntity(null, null)).getId();
+        Account source = defaultAccount()
+                .withAccountId(new AccountId(sourceId))
+                .withActivityWindow(new ActivityWindow(
+                        defaultActivity()
+                                .withId(null)
+                                .withOwnerAccount(new AccountId(sourceId))
+                                .withSourceAccount(new AccountId(sourceId))
+                                .withTargetAccount(new AccountId(targetId))
+                                .withMoney(Money.of(1L)).build()))
+                .build();
+        Account target = defaultAccount()
+                .withAccountId(new AccountId(targetId))
+                .withActivityWindow(new ActivityWindow(
+                        defaultActivity()
+                                .withId(null)
+                                .withOwnerAccount(new AccountId(targetId))
+                                .withSourceAccount(new AccountId(sourceId))
+                                .withTargetAccount(new AccountId(targetId))
+                                .withMoney(Money.of(1L)).build()))
+                .build();
+
+        adapterUnderTest.updateActivities(List.of(source, target));
+
+        assertThat(activityRepository.count()).isEqualTo(2);
+        assertThat(accountRepository.findById(targetId))
+                .hasValueSatisfying(entity -> assertThat(entity.getVersion()).isEqualTo(1L));
+    }
+}
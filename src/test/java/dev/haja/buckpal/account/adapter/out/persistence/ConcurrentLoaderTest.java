@@ -0,0 +1,75 @@
+package dev.haja.buckpal.account.adapter.out.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+class ConcurrentLoaderTest {
+
+    private final PlatformTransactionManager transactionManager = Mockito.mock(PlatformTransactionManager.class);
+    private final ConcurrentLoader loader;
+
+    ConcurrentLoaderTest() {
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        loader = new ConcurrentLoader(transactionManager);
+    }
+
+    @Test
+    @DisplayName("각 읽기를 동시에 실행하고 요청한 순서대로 돌려준다")
+    void givenKeys_whenLoadAll_thenLoadsConcurrentlyInRequestedOrder() {
+        // given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        // when
+        Map<Long, String> results = loader.loadAll(List.of(2L, 1L), key -> {
+            bothStarted.countDown();
+            try {
+                // 두 읽기가 동시에 실행되지 않으면 여기서 풀리지 않는다.
+                assertThat(bothStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return "account-" + key;
+        });
+
+        // then
+        assertThat(results.keySet()).containsExactly(2L, 1L);
+        assertThat(results).containsEntry(1L, "account-1").containsEntry(2L, "account-2");
+    }
+
+    @Test
+    @DisplayName("하나가 실패하면 나머지를 취소하고 그 예외를 던진다")
+    void givenOneLoadFails_whenLoadAll_thenCancelsOthersAndRethrows() {
+        // given
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        // when & then
+        assertThatThrownBy(() -> loader.loadAll(List.of(1L, 2L), key -> {
+            if (key == 1L) {
+                throw new IllegalArgumentException("not found: " + key);
+            }
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+            return "account-" + key;
+        }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("not found: 1");
+        assertThat(interrupted).isTrue();
+    }
+}
@@ -0,0 +1,159 @@
+package dev.haja.buckpal.account.adapter.out.persistence;
+
+import dev.haja.buckpal.account.application.port.out.AccountLockTimeoutException;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+// Spring Boot 4.0: 패키지 변경
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 임대 행은 잠금마다 별도 커넥션에서 바로 커밋되므로, 테스트 트랜잭션 없이 실행한다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LeaseAccountLockTest {
+
+    @Autowired private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private LeaseAccountLock nodeA;
+    private LeaseAccountLock nodeB;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        jdbcTemplate.update("delete from account_lease");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 잡고 있는 계좌는 해제될 때까지 잠글 수 없다")
+    void givenAccountLeasedByOtherNode_whenLock_thenWaitsUntilReleased() {
+        // given
+        nodeA = lease("node-a", Duration.ofMillis(50));
+        nodeB = lease("node-b", Duration.ofMillis(50));
+        AccountId accountId = new AccountId(1L);
+        nodeA.lockAccount(accountId);
+
+        // when & then
+        assertThatThrownBy(() -> nodeB.lockAccount(accountId))
+                .isInstanceOf(AccountLockTimeoutException.class);
+
+        nodeA.releaseAccount(accountId);
+        nodeB.lockAccount(accountId);
+        assertThat(ownerOf(1L)).isEqualTo("node-b");
+        nodeB.releaseAccount(accountId);
+        assertThat(leaseCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("두 계좌를 잠그면 두 임대 행을 모두 가진다")
+    void givenTwoAccounts_whenLockAccounts_thenBothLeasesAreOwned() {
+        // given
+        nodeA = lease("node-a", Duration.ofMillis(50));
+
+        // when
+        nodeA.lockAccounts(new AccountId(2L), new AccountId(1L));
+
+        // then
+        assertThat(ownerOf(1L)).isEqualTo("node-a");
+        assertThat(ownerOf(2L)).isEqualTo("node-a");
+        nodeA.releaseAccounts(new AccountId(2L), new AccountId(1L));
+        assertThat(leaseCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료된 임대는 바로 넘겨받는다")
+    void givenExpiredLeaseOfCrashedNode_whenLock_thenTakesOver() {
+        // given
+        insertLease(1L, "crashed-node", Instant.now().minusSeconds(1));
+        nodeA = lease("node-a", Duration.ofMillis(50));
+
+        // when
+        nodeA.lockAccount(new AccountId(1L));
+
+        // then
+        assertThat(ownerOf(1L)).isEqualTo("node-a");
+        nodeA.releaseAccount(new AccountId(1L));
+    }
+
+    @Test
+    @DisplayName("만료된 임대만 정리한다")
+    void givenExpiredAndLiveLeases_whenReap_thenOnlyExpiredAreDeleted() {
+        // given
+        insertLease(1L, "crashed-node", Instant.now().minusSeconds(1));
+        insertLease(2L, "live-node", Instant.now().plusSeconds(60));
+        nodeA = lease("node-a", Duration.ofMillis(50));
+
+        // when
+        int reaped = nodeA.reap();
+
+        // then
+        assertThat(reaped).isEqualTo(1);
+        assertThat(ownerOf(2L)).isEqualTo("live-node");
+    }
+
+    @Test
+    @DisplayName("잡고 있는 임대는 만료 시각이 늦춰진다")
+    void givenHeldLease_whenRenew_thenExpiryIsExtended() {
+        // given
+        nodeA = lease("node-a", Duration.ofMillis(50));
+        nodeA.lockAccount(new AccountId(1L));
+        Timestamp before = expiryOf(1L);
+
+        // when
+        nodeA.renew();
+
+        // then
+        assertThat(expiryOf(1L)).isAfterOrEqualTo(before);
+        nodeA.releaseAccount(new AccountId(1L));
+    }
+
+    private LeaseAccountLock lease(String ownerId, Duration timeout) {
+        return new LeaseAccountLock(dataSource, ownerId, 16, timeout, Duration.ofSeconds(30), Duration.ofMillis(1));
+    }
+
+    private void insertLease(long accountId, String ownerId, Instant expiresAt) {
+        jdbcTemplate.update("insert into account_lease (account_id, owner_id, expires_at) values (?, ?, ?)",
+                accountId, ownerId, Timestamp.from(expiresAt));
+    }
+
+    private String ownerOf(long accountId) {
+        return jdbcTemplate.queryForObject(
+                "select owner_id from account_lease where account_id = ?", String.class, accountId);
+    }
+
+    private Timestamp expiryOf(long accountId) {
+        return jdbcTemplate.queryForObject(
+                "select expires_at from account_lease where account_id = ?", Timestamp.class, accountId);
+    }
+
+    private int leaseCount() {
+        Integer count = jdbcTemplate.queryForObject("select count(*) from account_lease", Integer.class);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,90 @@
+package dev.haja.buckpal.account.adapter.out.persistence;
+
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link StripedAccountLock}의 경합 측정.
+ * {@code ./gradlew benchmark}로 실행하며, 스레드 수와 계좌 수(핫 계좌 집중도)별 처리량을 로그로 남긴다.
+ * 잠금 안에서 계좌별 카운터를 증가시켜 상호 배제도 함께 검증한다.
+ */
+@Slf4j
+@Tag("benchmark")
+class StripedAccountLockContentionBenchmark {
+
+    private static final int TRANSFERS_PER_THREAD = 200_000;
+
+    @ParameterizedTest(name = "threads={0}, accounts={1}")
+    @CsvSource({
+            "1, 10", "8, 10", "64, 10",
+            "1, 100000", "8, 100000", "64, 100000"
+    })
+    @DisplayName("스레드 수별 스트라이프 잠금 처리량")
+    void measureThroughput(int threads, int accounts) throws Exception {
+        StripedAccountLock lock = new StripedAccountLock(1024, Duration.ofSeconds(10));
+        AccountId[] accountIds = new AccountId[accounts];
+        for (int i = 0; i < accounts; i++) {
+            accountIds[i] = new AccountId((long) i);
+        }
+        long[] balances = new long[accounts];
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<?>> workers = new ArrayList<>();
+        long elapsedNanos;
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                long seed = t;
+                workers.add(executor.submit(() -> {
+                    SplittableRandom random = new SplittableRandom(seed);
+                    start.await();
+                    for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                        int source = random.nextInt(accounts);
+                        int target = random.nextInt(accounts);
+                        lock.lockAccounts(accountIds[source], accountIds[target]);
+                        try {
+                            balances[source]--;
+                            balances[target]++;
+                        } finally {
+                            lock.releaseAccounts(accountIds[source], accountIds[target]);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(5, TimeUnit.MINUTES);
+            }
+            elapsedNanos = System.nanoTime() - startedAt;
+        }
+
+        long total = 0;
+        for (long balance : balances) {
+            total += balance;
+        }
+        assertThat(total).as("잠금이 상호 배제를 보장하면 잔액 합계는 0이다").isZero();
+
+        long transfers = (long) threads * TRANSFERS_PER_THREAD;
+        log.info("striped lock: threads={}, accounts={}, transfers={}, throughput={} ops/s, avg={} ns/op",
+                threads, accounts, transfers,
+                transfers * 1_000_000_000L / elapsedNanos,
+                elapsedNanos / transfers);
+    }
+}
@@ -0,0 +1,94 @@
+package dev.haja.buckpal.account.adapter.out.persistence;
+
+import dev.haja.buckpal.account.application.port.out.AccountLockTimeoutException;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StripedAccountLockTest {
+
+    @Test
+    @DisplayName("스트라이프 수는 2의 거듭제곱으로 올림된다")
+    void givenNonPowerOfTwo_whenCreated_thenStripeCountIsRoundedUp() {
+        assertThat(new StripedAccountLock(1000, Duration.ofSeconds(1)).stripeCount()).isEqualTo(1024);
+        assertThat(new StripedAccountLock(1, Duration.ofSeconds(1)).stripeCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 스레드가 잡은 계좌는 대기 시간이 지나면 AccountLockTimeoutException이 발생한다")
+    void givenLockedAccount_whenOtherThreadLocks_thenTimesOut() throws Exception {
+        // given
+        StripedAccountLock lock = new StripedAccountLock(16, Duration.ofMillis(50));
+        AccountId accountId = new AccountId(1L);
+        lock.lockAccount(accountId);
+
+        try {
+            // when
+            CompletableFuture<Void> other = CompletableFuture.runAsync(() -> lock.lockAccount(accountId));
+
+            // then
+            assertThatThrownBy(() -> other.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(AccountLockTimeoutException.class);
+        } finally {
+            lock.releaseAccount(accountId);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 스트라이프에 속한 두 계좌도 잠그고 해제할 수 있다")
+    void givenSingleStripe_whenLockingTwoAccounts_thenBothAreReleased() throws Exception {
+        // given
+        StripedAccountLock lock = new StripedAccountLock(1, Duration.ofMillis(50));
+        AccountId first = new AccountId(1L);
+        AccountId second = new AccountId(2L);
+
+        // when
+        lock.lockAccounts(first, second);
+        lock.releaseAccounts(first, second);
+
+        // then
+        CompletableFuture.runAsync(() -> {
+            lock.lockAccount(first);
+            lock.releaseAccount(first);
+        }).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("반대 순서로 두 계좌를 잠그는 이체가 동시에 실행되어도 교착 상태에 빠지지 않는다")
+    void givenOppositeLockOrder_whenRunConcurrently_thenNoDeadlock() throws Exception {
+        // given
+        StripedAccountLock lock = new StripedAccountLock(64, Duration.ofSeconds(2));
+        AccountId first = new AccountId(1L);
+        AccountId second = new AccountId(2L);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        CompletableFuture<Void> forward = CompletableFuture.runAsync(() -> transferRepeatedly(lock, start, first, second));
+        CompletableFuture<Void> backward = CompletableFuture.runAsync(() -> transferRepeatedly(lock, start, second, first));
+        start.countDown();
+
+        // then
+        CompletableFuture.allOf(forward, backward).get(10, TimeUnit.SECONDS);
+    }
+
+    private void transferRepeatedly(StripedAccountLock lock, CountDownLatch start, AccountId source, AccountId target) {
+        try {
+            start.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        for (int i = 0; i < 10_000; i++) {
+            lock.lockAccounts(source, target);
+            lock.releaseAccounts(source, target);
+        }
+    }
+}
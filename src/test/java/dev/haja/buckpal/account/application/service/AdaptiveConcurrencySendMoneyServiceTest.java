@@ -0,0 +1,129 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+class AdaptiveConcurrencySendMoneyServiceTest {
+
+    private static final Duration TARGET_LATENCY = Duration.ofMillis(100);
+
+    private final SendMoneyUseCase delegate = Mockito.mock(SendMoneyUseCase.class);
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private final AtomicInteger pendingConnections = new AtomicInteger();
+
+    @Test
+    @DisplayName("한도만큼 실행 중이면 기다리지 않고 바로 거절한다")
+    void givenLimitReached_whenSendMoney_thenRejectsImmediately() {
+        // given
+        AdaptiveConcurrencySendMoneyService service = service(2, 2, 10);
+        given(delegate.sendMoneyAsync(any())).willReturn(new CompletableFuture<>());
+        service.sendMoneyAsync(command());
+        service.sendMoneyAsync(command());
+
+        // when & then
+        assertThatThrownBy(() -> service.sendMoney(command()))
+                .isInstanceOf(TransferRejectedException.class);
+        then(delegate).should(times(0)).sendMoney(any());
+        assertThat(service.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("목표 지연 시간을 넘긴 송금이 끝나면 한도를 줄인다")
+    void givenSlowTransfer_whenCompleted_thenLimitDecreases() {
+        // given
+        AdaptiveConcurrencySendMoneyService service = service(10, 2, 20);
+        given(delegate.sendMoney(any())).willAnswer(invocation -> {
+            now.addAndGet(Duration.ofMillis(200).toNanos());
+            return true;
+        });
+
+        // when
+        service.sendMoney(command());
+
+        // then
+        assertThat(service.limit()).isEqualTo(9);
+        assertThat(service.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("커넥션을 기다리는 스레드가 있으면 빠르게 끝나도 한도를 줄이고, 그 전에 시작한 송금으로는 다시 줄이지 않는다")
+    void givenPendingConnections_whenConcurrentTransfersComplete_thenLimitDecreasesOnce() {
+        // given
+        AdaptiveConcurrencySendMoneyService service = service(10, 2, 20);
+        CompletableFuture<Boolean> first = new CompletableFuture<>();
+        CompletableFuture<Boolean> second = new CompletableFuture<>();
+        given(delegate.sendMoneyAsync(any())).willReturn(first, second);
+        service.sendMoneyAsync(command());
+        service.sendMoneyAsync(command());
+        pendingConnections.set(3);
+        now.addAndGet(Duration.ofMillis(1).toNanos());
+
+        // when
+        first.complete(true);
+        second.complete(true);
+
+        // then
+        assertThat(service.limit()).isEqualTo(9);
+        assertThat(service.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("여유가 있는 동안 한도의 절반 이상이 쓰이면 최대 한도까지 하나씩 늘린다")
+    void givenFastTransfersUnderLoad_whenCompleted_thenLimitIncreasesUpToMax() {
+        // given
+        AdaptiveConcurrencySendMoneyService service = service(2, 1, 3);
+        given(delegate.sendMoney(any())).willReturn(true);
+
+        // when
+        service.sendMoney(command());
+        service.sendMoney(command());
+
+        // then
+        assertThat(service.limit()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("한도는 최소 한도 밑으로 내려가지 않는다")
+    void givenRepeatedOverload_whenCompleted_thenLimitStaysAtMin() {
+        // given
+        AdaptiveConcurrencySendMoneyService service = service(3, 2, 10);
+        given(delegate.sendMoney(any())).willAnswer(invocation -> {
+            now.addAndGet(Duration.ofMillis(200).toNanos());
+            return true;
+        });
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            service.sendMoney(command());
+        }
+
+        // then
+        assertThat(service.limit()).isEqualTo(2);
+    }
+
+    private AdaptiveConcurrencySendMoneyService service(int initialLimit, int minLimit, int maxLimit) {
+        return new AdaptiveConcurrencySendMoneyService(
+                delegate, pendingConnections::get, initialLimit, minLimit, maxLimit, TARGET_LATENCY, 0.9, now::get);
+    }
+
+    private SendMoneyCommand command() {
+        return new SendMoneyCommand(new AccountId(1L), new AccountId(2L), Money.of(10L));
+    }
+}
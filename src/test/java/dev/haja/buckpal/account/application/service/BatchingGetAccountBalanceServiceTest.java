@@ -0,0 +1,105 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.account.application.port.out.LoadAccountBalancesPort;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+class BatchingGetAccountBalanceServiceTest {
+
+    private final LoadAccountBalancesPort loadAccountBalancesPort = Mockito.mock(LoadAccountBalancesPort.class);
+    private BatchingGetAccountBalanceService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.close();
+        }
+    }
+
+    @Test
+    @DisplayName("배치 크기만큼 모인 조회는 한 번의 포트 호출로 처리된다")
+    void givenConcurrentRequestsForDifferentAccounts_whenBatchIsFull_thenBalancesAreLoadedOnce() throws Exception {
+        // given
+        given(loadAccountBalancesPort.loadBalances(anyCollection())).willReturn(Map.of(
+                new AccountId(1L), Money.of(100L),
+                new AccountId(2L), Money.of(200L),
+                new AccountId(3L), Money.of(300L)));
+        service = batchingService(Duration.ofMinutes(1), 3);
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(3)) {
+            List<CompletableFuture<Money>> results = List.of(1L, 2L, 3L).stream()
+                    .map(id -> CompletableFuture.supplyAsync(
+                            () -> service.getAccountBalance(new AccountId(id)), executor))
+                    .toList();
+
+            // then
+            assertThat(results.get(0).get(5, TimeUnit.SECONDS)).isEqualTo(Money.of(100L));
+            assertThat(results.get(1).get(5, TimeUnit.SECONDS)).isEqualTo(Money.of(200L));
+            assertThat(results.get(2).get(5, TimeUnit.SECONDS)).isEqualTo(Money.of(300L));
+        }
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<AccountId>> accountIdsCaptor = ArgumentCaptor.forClass(Collection.class);
+        then(loadAccountBalancesPort).should(times(1)).loadBalances(accountIdsCaptor.capture());
+        assertThat(accountIdsCaptor.getValue()).containsExactlyInAnyOrder(
+                new AccountId(1L), new AccountId(2L), new AccountId(3L));
+    }
+
+    @Test
+    @DisplayName("배치가 차지 않아도 시간 창이 지나면 조회된다")
+    void givenSingleRequest_whenWindowElapses_thenBalanceIsLoaded() {
+        // given
+        given(loadAccountBalancesPort.loadBalances(anyCollection()))
+                .willReturn(Map.of(new AccountId(1L), Money.of(100L)));
+        service = batchingService(Duration.ofMillis(5), 100);
+
+        // when
+        Money balance = service.getAccountBalance(new AccountId(1L));
+
+        // then
+        assertThat(balance).isEqualTo(Money.of(100L));
+    }
+
+    @Test
+    @DisplayName("조회 결과에 없는 계좌는 AccountNotFoundException으로 실패한다")
+    void givenUnknownAccount_whenGetAccountBalance_thenThrowsAccountNotFoundException() {
+        // given
+        given(loadAccountBalancesPort.loadBalances(anyCollection())).willReturn(Map.of());
+        service = batchingService(Duration.ofMillis(5), 100);
+
+        // when & then
+        assertThatThrownBy(() -> service.getAccountBalance(new AccountId(99L)))
+                .isInstanceOf(AccountNotFoundException.class)
+                .hasMessageContaining("99");
+    }
+
+    private BatchingGetAccountBalanceService batchingService(Duration batchWindow, int maxBatchSize) {
+        return new BatchingGetAccountBalanceService(
+                loadAccountBalancesPort,
+                batchWindow,
+                maxBatchSize,
+                4,
+                Thread.ofPlatform().daemon().factory());
+    }
+}
@@ -0,0 +1,74 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static dev.haja.buckpal.account.application.service.SendMoneyUseCases.transferring;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadSendMoneyServiceTest {
+
+    @Test
+    @DisplayName("허용 수만큼 실행 중이면 대기 시간 뒤 거절한다")
+    void givenAllPermitsInUse_whenSendMoney_thenRejectsAfterMaxWait() throws Exception {
+        // given
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BulkheadSendMoneyService service = new BulkheadSendMoneyService(transferring(command -> {
+            entered.countDown();
+            await(release);
+            return true;
+        }), 1, Duration.ofMillis(10));
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(
+                () -> service.sendMoney(command()), runnable -> Thread.ofVirtual().start(runnable));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> service.sendMoney(command()))
+                .isInstanceOf(TransferRejectedException.class)
+                .satisfies(e -> assertThat(((TransferRejectedException) e).getRetryAfter())
+                        .isEqualTo(Duration.ofMillis(10)));
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(service.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실행이 실패해도 허용 수를 돌려준다")
+    void givenDelegateFails_whenSendMoney_thenPermitIsReleased() {
+        // given
+        BulkheadSendMoneyService service = new BulkheadSendMoneyService(transferring(command -> {
+            throw new IllegalStateException("boom");
+        }), 2, Duration.ofMillis(10));
+
+        // when
+        assertThatThrownBy(() -> service.sendMoney(command()))
+                .isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(service.availablePermits()).isEqualTo(2);
+    }
+
+    private SendMoneyCommand command() {
+        return new SendMoneyCommand(new AccountId(1L), new AccountId(2L), Money.of(10L));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.account.application.port.in.GetAccountBalanceQuery;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+class CoalescingGetAccountBalanceServiceTest {
+
+    private static final AccountId ACCOUNT_ID = new AccountId(1L);
+
+    private final GetAccountBalanceQuery delegate = Mockito.mock(GetAccountBalanceQuery.class);
+
+    @Test
+    @DisplayName("같은 계좌에 대한 동시 조회는 하나의 로드를 공유한다")
+    void givenConcurrentRequests_whenGetAccountBalance_thenDelegateIsCalledOnce() throws Exception {
+        // given
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        given(delegate.getAccountBalance(eq(ACCOUNT_ID))).willAnswer(invocation -> {
+            loadStarted.countDown();
+            assertThat(releaseLoad.await(5, TimeUnit.SECONDS)).isTrue();
+            return Money.of(500L);
+        });
+        CoalescingGetAccountBalanceService service = coalescingService(Duration.ZERO);
+        int followers = 8;
+        List<Thread> followerThreads = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(followers + 1, runnable -> {
+            Thread thread = new Thread(runnable);
+            followerThreads.add(thread);
+            return thread;
+        })) {
+            // when
+            Future<Money> leader = executor.submit(() -> service.getAccountBalance(ACCOUNT_ID));
+            assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            List<Future<Money>> results = new ArrayList<>();
+            for (int i = 0; i < followers; i++) {
+                results.add(executor.submit(() -> service.getAccountBalance(ACCOUNT_ID)));
+            }
+            awaitAllWaiting(followerThreads, followers);
+            releaseLoad.countDown();
+            results.add(leader);
+
+            // then
+            for (Future<Money> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(Money.of(500L));
+            }
+        }
+        then(delegate).should(times(1)).getAccountBalance(eq(ACCOUNT_ID));
+    }
+
+    @Test
+    @DisplayName("허용 지연이 0이면 순차 조회는 매번 새로 로드한다")
+    void givenZeroStalenessTolerance_whenSequentialRequests_thenEachRequestLoads() {
+        // given
+        given(delegate.getAccountBalance(eq(ACCOUNT_ID)))
+                .willReturn(Money.of(500L), Money.of(700L));
+        CoalescingGetAccountBalanceService service = coalescingService(Duration.ZERO);
+
+        // when
+        Money first = service.getAccountBalance(ACCOUNT_ID);
+        Money second = service.getAccountBalance(ACCOUNT_ID);
+
+        // then
+        assertThat(first).isEqualTo(Money.of(500L));
+        assertThat(second).isEqualTo(Money.of(700L));
+        then(delegate).should(times(2)).getAccountBalance(eq(ACCOUNT_ID));
+    }
+
+    @Test
+    @DisplayName("허용 지연 안의 순차 조회는 완료된 결과를 재사용한다")
+    void givenStalenessTolerance_whenSequentialRequests_thenCompletedResultIsReused() {
+        // given
+        given(delegate.getAccountBalance(eq(ACCOUNT_ID)))
+                .willReturn(Money.of(500L), Money.of(700L));
+        CoalescingGetAccountBalanceService service = coalescingService(Duration.ofMinutes(1));
+
+        // when
+        Money first = service.getAccountBalance(ACCOUNT_ID);
+        Money second = service.getAccountBalance(ACCOUNT_ID);
+
+        // then
+        assertThat(first).isEqualTo(Money.of(500L));
+        assertThat(second).isEqualTo(Money.of(500L));
+        then(delegate).should(times(1)).getAccountBalance(eq(ACCOUNT_ID));
+    }
+
+    @Test
+    @DisplayName("실패한 로드는 재사용하지 않고 다음 조회가 다시 로드한다")
+    void givenFailedLoad_whenNextRequest_thenBalanceIsLoadedAgain() {
+        // given
+        given(delegate.getAccountBalance(eq(ACCOUNT_ID)))
+                .willThrow(new IllegalStateException("boom"))
+                .willReturn(Money.of(500L));
+        CoalescingGetAccountBalanceService service = coalescingService(Duration.ofMinutes(1));
+
+        // when & then
+        assertThatThrownBy(() -> service.getAccountBalance(ACCOUNT_ID))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+        assertThat(service.getAccountBalance(ACCOUNT_ID)).isEqualTo(Money.of(500L));
+        then(delegate).should(times(2)).getAccountBalance(eq(ACCOUNT_ID));
+    }
+
+    @Test
+    @DisplayName("남은 결과가 모두 허용 지연 안이어도 상한을 넘는 결과는 남기지 않는다")
+    void givenCacheFullOfFreshResults_whenAnotherAccountLoaded_thenResultIsNotCached() {
+        // given
+        AccountId otherAccountId = new AccountId(2L);
+        given(delegate.getAccountBalance(eq(ACCOUNT_ID))).willReturn(Money.of(500L));
+        given(delegate.getAccountBalance(eq(otherAccountId))).willReturn(Money.of(300L), Money.of(400L));
+        CoalescingGetAccountBalanceService service =
+                new CoalescingGetAccountBalanceService(delegate, Duration.ofMinutes(1), 1);
+        service.getAccountBalance(ACCOUNT_ID);
+
+        // when
+        Money first = service.getAccountBalance(otherAccountId);
+        Money second = service.getAccountBalance(otherAccountId);
+
+        // then
+        assertThat(first).isEqualTo(Money.of(300L));
+        assertThat(second).isEqualTo(Money.of(400L));
+        assertThat(service.getAccountBalance(ACCOUNT_ID)).isEqualTo(Money.of(500L));
+        then(delegate).should(times(1)).getAccountBalance(eq(ACCOUNT_ID));
+    }
+
+    private CoalescingGetAccountBalanceService coalescingService(Duration stalenessTolerance) {
+        return new CoalescingGetAccountBalanceService(delegate, stalenessTolerance, 100);
+    }
+
+    private void awaitAllWaiting(List<Thread> threads, int expectedWaiting) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            long waiting = threads.stream()
+                    .filter(thread -> thread.getState() == Thread.State.WAITING)
+                    .count();
+            if (waiting >= expectedWaiting) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("후속 조회가 진행 중인 로드를 기다리지 않았습니다.");
+    }
+}
@@ -0,0 +1,120 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.BuckPalConfigurationProperties;
+import dev.haja.buckpal.account.application.port.in.FanOutTransferCommand;
+import dev.haja.buckpal.account.application.port.in.FanOutTransferCommand.Leg;
+import dev.haja.buckpal.account.application.port.out.AccountLock;
+import dev.haja.buckpal.account.application.port.out.LoadAccountPort;
+import dev.haja.buckpal.account.application.port.out.UpdateAccountStatePort;
+import dev.haja.buckpal.account.domain.Account;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.ActivityWindow;
+import dev.haja.buckpal.account.domain.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static dev.haja.buckpal.common.AccountTestData.defaultAccount;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+class FanOutTransferServiceTest {
+
+    private static final AccountId SOURCE = new AccountId(41L);
+    private static final AccountId FIRST_TARGET = new AccountId(42L);
+    private static final AccountId SECOND_TARGET = new AccountId(43L);
+
+    private final LoadAccountPort loadAccountPort = Mockito.mock(LoadAccountPort.class);
+    private final AccountLock accountLock = Mockito.mock(AccountLock.class);
+    private final UpdateAccountStatePort updateAccountStatePort = Mockito.mock(UpdateAccountStatePort.class);
+    private final FanOutTransferService fanOutTransferService = new FanOutTransferService(
+            loadAccountPort,
+            accountLock,
+            updateAccountStatePort,
+            new MoneyTransferProperties(Money.of(1_000L)),
+            new BuckPalConfigurationProperties(
+                    Long.MAX_VALUE,
+                    new BuckPalConfigurationProperties.Account(10)));
+
+    @Test
+    @DisplayName("출금 계좌는 한 번만 읽고, 입금 계좌는 활동 없이 한 번에 읽어 모든 활동을 한 번에 저장한다")
+    @SuppressWarnings("unchecked")
+    void givenFanOut_whenSendMoneyToMany_thenSourceLoadedOnceAndActivitiesPersistedTogether() {
+        // given
+        Account source = accountWithBalance(SOURCE, 500L);
+        given(loadAccountPort.loadAccount(eq(SOURCE), any(LocalDateTime.class))).willReturn(source);
+        given(loadAccountPort.loadAccountsForDeposit(Set.of(FIRST_TARGET, SECOND_TARGET))).willReturn(Map.of(
+                FIRST_TARGET, accountWithBalance(FIRST_TARGET, 0L),
+                SECOND_TARGET, accountWithBalance(SECOND_TARGET, 0L)));
+
+        // when
+        boolean success = fanOutTransferService.sendMoneyToMany(command(300L, 200L));
+
+        // then
+        assertThat(success).isTrue();
+        assertThat(source.calculateBalance()).isEqualTo(Money.ZERO);
+        then(loadAccountPort).should(times(1)).loadAccount(any(AccountId.class), any(LocalDateTime.class));
+        then(accountLock).should().lockAccounts(eq(Set.of(SOURCE, FIRST_TARGET, SECOND_TARGET)));
+        ArgumentCaptor<Collection<Account>> updated = ArgumentCaptor.forClass(Collection.class);
+        then(updateAccountStatePort).should().updateActivities(updated.capture());
+        assertThat(updated.getValue())
+                .extracting(account -> account.getId().orElseThrow())
+                .containsExactly(SOURCE, FIRST_TARGET, SECOND_TARGET);
+        then(accountLock).should().releaseAccounts(eq(Set.of(SOURCE, FIRST_TARGET, SECOND_TARGET)));
+    }
+
+    @Test
+    @DisplayName("합계가 잔액보다 크면 아무것도 저장하지 않고 잠금을 해제한다")
+    void givenTotalExceedsBalance_whenSendMoneyToMany_thenNothingIsPersisted() {
+        // given
+        given(loadAccountPort.loadAccount(eq(SOURCE), any(LocalDateTime.class)))
+                .willReturn(accountWithBalance(SOURCE, 499L));
+        given(loadAccountPort.loadAccountsForDeposit(Set.of(FIRST_TARGET, SECOND_TARGET))).willReturn(Map.of(
+                FIRST_TARGET, accountWithBalance(FIRST_TARGET, 0L),
+                SECOND_TARGET, accountWithBalance(SECOND_TARGET, 0L)));
+
+        // when
+        boolean success = fanOutTransferService.sendMoneyToMany(command(300L, 200L));
+
+        // then
+        assertThat(success).isFalse();
+        then(updateAccountStatePort).shouldHaveNoInteractions();
+        then(accountLock).should().releaseAccounts(eq(Set.of(SOURCE, FIRST_TARGET, SECOND_TARGET)));
+    }
+
+    @Test
+    @DisplayName("합계가 송금 한도를 넘으면 계좌를 잠그거나 읽지 않고 실패한다")
+    void givenTotalExceedsThreshold_whenSendMoneyToMany_thenThrows() {
+        assertThatThrownBy(() -> fanOutTransferService.sendMoneyToMany(command(600L, 500L)))
+                .isInstanceOf(ThresholdExceededException.class);
+
+        then(accountLock).shouldHaveNoInteractions();
+        then(loadAccountPort).shouldHaveNoInteractions();
+    }
+
+    private static FanOutTransferCommand command(long firstAmount, long secondAmount) {
+        return new FanOutTransferCommand(SOURCE, List.of(
+                new Leg(FIRST_TARGET, Money.of(firstAmount)),
+                new Leg(SECOND_TARGET, Money.of(secondAmount))));
+    }
+
+    private static Account accountWithBalance(AccountId accountId, long balance) {
+        return defaultAccount()
+                .withAccountId(accountId)
+                .withBaselineBalance(Money.of(balance))
+                .withActivityWindow(new ActivityWindow())
+                .build();
+    }
+}
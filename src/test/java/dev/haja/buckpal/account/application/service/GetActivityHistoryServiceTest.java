@@ -0,0 +1,93 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.account.application.port.in.ActivityCursor;
+import dev.haja.buckpal.account.application.port.in.ActivityPage;
+import dev.haja.buckpal.account.application.port.out.LoadAccountVersionPort;
+import dev.haja.buckpal.account.application.port.out.LoadActivityHistoryPort;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Activity;
+import dev.haja.buckpal.account.domain.Activity.ActivityId;
+import dev.haja.buckpal.account.domain.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+class GetActivityHistoryServiceTest {
+
+    private static final AccountId ACCOUNT_ID = new AccountId(1L);
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private final LoadAccountVersionPort loadAccountVersionPort = Mockito.mock(LoadAccountVersionPort.class);
+    private final LoadActivityHistoryPort loadActivityHistoryPort = Mockito.mock(LoadActivityHistoryPort.class);
+    private final GetActivityHistoryService service =
+            new GetActivityHistoryService(loadAccountVersionPort, loadActivityHistoryPort);
+
+    @Test
+    @DisplayName("한 개를 더 읽어 다음 페이지가 있으면 페이지의 마지막 활동을 다음 위치로 돌려준다")
+    void givenMoreActivitiesThanPageSize_whenGetActivities_thenNextCursorPointsAtLastOfPage() {
+        // given
+        given(loadAccountVersionPort.loadVersion(ACCOUNT_ID)).willReturn(Optional.of(0L));
+        given(loadActivityHistoryPort.loadLatestActivities(ACCOUNT_ID, 3))
+                .willReturn(List.of(activity(9L, NOW), activity(8L, NOW), activity(5L, NOW.minusSeconds(1))));
+
+        // when
+        Optional<ActivityPage> page = service.getActivities(ACCOUNT_ID, Optional.empty(), 2);
+
+        // then
+        assertThat(page).hasValueSatisfying(activityPage -> {
+            assertThat(activityPage.activities()).extracting(activity -> activity.getId().getValue())
+                    .containsExactly(9L, 8L);
+            assertThat(activityPage.next()).contains(new ActivityCursor(NOW, 8L));
+        });
+    }
+
+    @Test
+    @DisplayName("위치가 주어지면 그 위치 이전부터 읽고, 마지막 페이지는 다음 위치가 없다")
+    void givenCursor_whenGetActivities_thenReadsBeforeCursor() {
+        // given
+        given(loadAccountVersionPort.loadVersion(ACCOUNT_ID)).willReturn(Optional.of(0L));
+        given(loadActivityHistoryPort.loadActivitiesBefore(ACCOUNT_ID, NOW, 8L, 3))
+                .willReturn(List.of(activity(5L, NOW.minusSeconds(1))));
+
+        // when
+        Optional<ActivityPage> page = service.getActivities(ACCOUNT_ID, Optional.of(new ActivityCursor(NOW, 8L)), 2);
+
+        // then
+        assertThat(page).hasValueSatisfying(activityPage -> {
+            assertThat(activityPage.activities()).hasSize(1);
+            assertThat(activityPage.next()).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("없는 계좌는 활동을 읽지 않는다")
+    void givenMissingAccount_whenGetActivities_thenEmpty() {
+        // given
+        given(loadAccountVersionPort.loadVersion(ACCOUNT_ID)).willReturn(Optional.empty());
+
+        // when
+        Optional<ActivityPage> page = service.getActivities(ACCOUNT_ID, Optional.empty(), 2);
+
+        // then
+        assertThat(page).isEmpty();
+        then(loadActivityHistoryPort).shouldHaveNoInteractions();
+    }
+
+    private static Activity activity(long id, LocalDateTime timestamp) {
+        return new Activity(
+                new ActivityId(id),
+                ACCOUNT_ID,
+                ACCOUNT_ID,
+                new AccountId(2L),
+                timestamp,
+                Money.of(1L));
+    }
+}
@@ -0,0 +1,55 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.account.application.port.in.GetAccountBalanceQuery;
+import dev.haja.buckpal.account.application.port.in.VersionedBalance;
+import dev.haja.buckpal.account.application.port.out.LoadAccountVersionPort;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+class GetVersionedAccountBalanceServiceTest {
+
+    private static final AccountId ACCOUNT_ID = new AccountId(1L);
+
+    private final LoadAccountVersionPort loadAccountVersionPort = Mockito.mock(LoadAccountVersionPort.class);
+    private final GetAccountBalanceQuery getAccountBalanceQuery = Mockito.mock(GetAccountBalanceQuery.class);
+    private final GetVersionedAccountBalanceService service =
+            new GetVersionedAccountBalanceService(loadAccountVersionPort, getAccountBalanceQuery);
+
+    @Test
+    @DisplayName("잔액은 잔액 조회 사용 사례로 읽고, 이미 읽은 버전을 다시 읽지 않고 붙인다")
+    void givenVersion_whenGetVersionedBalance_thenBalanceIsReadThroughQueryWithoutRereadingVersion() {
+        // given
+        given(getAccountBalanceQuery.getAccountBalance(ACCOUNT_ID)).willReturn(Money.of(500L));
+
+        // when
+        VersionedBalance balance = service.getVersionedAccountBalance(ACCOUNT_ID, 3L);
+
+        // then
+        assertThat(balance).isEqualTo(new VersionedBalance(Money.of(500L), 3L));
+        then(getAccountBalanceQuery).should().getAccountBalance(ACCOUNT_ID);
+        then(loadAccountVersionPort).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("버전만 조회하면 잔액을 계산하지 않는다")
+    void givenAccount_whenGetAccountVersion_thenBalanceIsNotRead() {
+        // given
+        given(loadAccountVersionPort.loadVersion(ACCOUNT_ID)).willReturn(Optional.of(3L));
+
+        // when
+        Optional<Long> version = service.getAccountVersion(ACCOUNT_ID);
+
+        // then
+        assertThat(version).contains(3L);
+        then(getAccountBalanceQuery).shouldHaveNoInteractions();
+    }
+}
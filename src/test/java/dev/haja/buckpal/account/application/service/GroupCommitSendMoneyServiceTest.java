@@ -0,0 +1,129 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyResult;
+import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+import dev.haja.buckpal.account.application.port.out.AccountLockTimeoutException;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+class GroupCommitSendMoneyServiceTest {
+
+    private final SendMoneyUseCase delegate = Mockito.mock(SendMoneyUseCase.class);
+    private final GroupCommitSendMoneyService service = new GroupCommitSendMoneyService(
+            delegate,
+            new MoneyTransferProperties(Money.of(1_000L)),
+            Duration.ofSeconds(5),
+            2,
+            4,
+            Thread.ofVirtual().factory());
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    @Test
+    @DisplayName("함께 들어온 송금은 한 번에 실행되고 호출마다 자기 결과를 받는다")
+    void givenConcurrentTransfers_whenBatchIsFull_thenCommittedTogether() throws Exception {
+        // given
+        SendMoneyCommand first = command(1L, 2L);
+        SendMoneyCommand second = command(3L, 4L);
+        given(delegate.sendMoneyBatch(List.of(first, second)))
+                .willReturn(List.of(SendMoneyResult.COMPLETED, SendMoneyResult.INSUFFICIENT_BALANCE));
+
+        // when
+        CompletableFuture<Boolean> firstResult = service.sendMoneyAsync(first);
+        CompletableFuture<Boolean> secondResult = service.sendMoneyAsync(second);
+
+        // then
+        assertThat(firstResult.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(secondResult.get(5, TimeUnit.SECONDS)).isFalse();
+        then(delegate).should().sendMoneyBatch(List.of(first, second));
+        then(delegate).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("묶음 트랜잭션이 실패하면 송금을 하나씩 다시 실행해 실패가 번지지 않는다")
+    void givenBatchFails_whenCommit_thenEachTransferRunsAlone() throws Exception {
+        // given
+        SendMoneyCommand first = command(1L, 2L);
+        SendMoneyCommand second = command(3L, 4L);
+        AccountLockTimeoutException timeout = new AccountLockTimeoutException(new AccountId(3L), Duration.ofMillis(1));
+        given(delegate.sendMoneyBatch(anyList())).willThrow(timeout);
+        given(delegate.sendMoney(first)).willReturn(true);
+        given(delegate.sendMoney(second)).willThrow(timeout);
+
+        // when
+        CompletableFuture<Boolean> firstResult = service.sendMoneyAsync(first);
+        CompletableFuture<Boolean> secondResult = service.sendMoneyAsync(second);
+
+        // then
+        assertThat(firstResult.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThatThrownBy(() -> secondResult.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCause(timeout);
+    }
+
+    @Test
+    @DisplayName("한도를 넘는 송금은 묶음에 넣지 않고 바로 거절한다")
+    void givenAmountOverThreshold_whenSendMoney_thenRejectedWithoutBatching() {
+        // when & then
+        assertThatThrownBy(() -> service.sendMoney(new SendMoneyCommand(
+                new AccountId(1L), new AccountId(2L), Money.of(1_001L))))
+                .isInstanceOf(ThresholdExceededException.class);
+        then(delegate).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("커밋을 기다리는 묶음이 가득 차면 송금을 거절한다")
+    void givenCommitsBackedUp_whenSendMoneyAsync_thenTransferIsRejected() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        given(delegate.sendMoneyBatch(anyList())).willAnswer(invocation -> {
+            started.countDown();
+            proceed.await();
+            return List.of(SendMoneyResult.COMPLETED);
+        });
+        try (GroupCommitSendMoneyService saturated = new GroupCommitSendMoneyService(
+                delegate, new MoneyTransferProperties(Money.of(1_000L)), Duration.ofSeconds(5), 1, 1,
+                Thread.ofVirtual().factory())) {
+            CompletableFuture<Boolean> committing = saturated.sendMoneyAsync(command(1L, 2L));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<Boolean> waiting = saturated.sendMoneyAsync(command(3L, 4L));
+
+            // when
+            CompletableFuture<Boolean> rejected = saturated.sendMoneyAsync(command(5L, 6L));
+
+            // then
+            assertThatThrownBy(() -> rejected.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(TransferRejectedException.class);
+            proceed.countDown();
+            assertThat(committing.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(waiting.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    private SendMoneyCommand command(long source, long target) {
+        return new SendMoneyCommand(new AccountId(source), new AccountId(target), Money.of(10L));
+    }
+}
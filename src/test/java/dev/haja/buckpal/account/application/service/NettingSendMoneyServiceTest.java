@@ -0,0 +1,162 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+import dev.haja.buckpal.account.application.port.out.LoadAccountBalancesPort;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+class NettingSendMoneyServiceTest {
+
+    private static final AccountId SOURCE = new AccountId(1L);
+    private static final AccountId TARGET = new AccountId(2L);
+
+    private final SendMoneyUseCase delegate = Mockito.mock(SendMoneyUseCase.class);
+    private final LoadAccountBalancesPort loadAccountBalancesPort = Mockito.mock(LoadAccountBalancesPort.class);
+    private final NettingSendMoneyService service = new NettingSendMoneyService(
+            delegate,
+            loadAccountBalancesPort,
+            new MoneyTransferProperties(Money.of(1_000L)),
+            Duration.ofMillis(200),
+            Thread.ofVirtual().factory());
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    @Test
+    @DisplayName("주기 안에 들어온 같은 쌍의 송금은 합계로 한 번만 이체된다")
+    void givenTransfersOfSamePair_whenSettled_thenDelegateCalledOnceWithTotal() throws Exception {
+        // given
+        givenBalance(Money.of(500L));
+        given(delegate.sendMoney(any())).willReturn(true);
+
+        // when
+        CompletableFuture<Boolean> first = service.sendMoneyAsync(command(100L));
+        CompletableFuture<Boolean> second = service.sendMoneyAsync(command(200L));
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+        then(delegate).should().sendMoney(command(300L));
+        then(delegate).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("받아 둔 송금을 빼고 남은 잔액을 넘는 송금은 바로 거절된다")
+    void givenReservedTransfers_whenNextExceedsAvailableBalance_thenRejectedImmediately() throws Exception {
+        // given
+        givenBalance(Money.of(250L));
+        given(delegate.sendMoney(any())).willReturn(true);
+        CompletableFuture<Boolean> first = service.sendMoneyAsync(command(200L));
+
+        // when
+        CompletableFuture<Boolean> second = service.sendMoneyAsync(command(100L));
+
+        // then
+        assertThat(second).isCompletedWithValue(false);
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+        then(delegate).should().sendMoney(command(200L));
+        then(delegate).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("합계 이체가 실패하면 송금을 하나씩 다시 실행해 각자의 결과를 돌려준다")
+    void givenSettlementFails_whenSettled_thenEachTransferRunsAlone() throws Exception {
+        // given
+        givenBalance(Money.of(500L));
+        given(delegate.sendMoney(command(300L))).willReturn(false);
+        given(delegate.sendMoney(command(100L))).willReturn(true);
+        given(delegate.sendMoney(command(200L))).willReturn(false);
+
+        // when
+        CompletableFuture<Boolean> first = service.sendMoneyAsync(command(100L));
+        CompletableFuture<Boolean> second = service.sendMoneyAsync(command(200L));
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isFalse();
+        then(delegate).should().sendMoney(command(300L));
+        then(delegate).should().sendMoney(command(100L));
+        then(delegate).should().sendMoney(command(200L));
+    }
+
+    @Test
+    @DisplayName("정산하는 동안 들어온 같은 출금 계좌의 송금은 기다리지 않고 모으지 않은 채 바로 넘긴다")
+    void givenSettlementInProgress_whenSendMoneyAsync_thenPassesThroughWithoutWaiting() throws Exception {
+        // given
+        givenBalance(Money.of(500L));
+        CountDownLatch settling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(delegate.sendMoney(command(100L))).willAnswer(invocation -> {
+            settling.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+        given(delegate.sendMoneyAsync(command(50L))).willReturn(CompletableFuture.completedFuture(true));
+        CompletableFuture<Boolean> first = service.sendMoneyAsync(command(100L));
+        assertThat(settling.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(() -> service.sendMoneyAsync(command(50L)))
+                .get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(second).isCompletedWithValue(true);
+        assertThat(first).isNotDone();
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("합계가 한도를 넘어 먼저 정산하는 쌍은 호출한 스레드가 아닌 정산 스레드에서 이체된다")
+    void givenPairExceedsThreshold_whenSendMoneyAsync_thenSettlesOffCallerThread() throws Exception {
+        // given
+        givenBalance(Money.of(2_000L));
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Thread> settlementThread = new AtomicReference<>();
+        given(delegate.sendMoney(command(600L))).willAnswer(invocation -> {
+            settlementThread.set(Thread.currentThread());
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+        given(delegate.sendMoney(command(500L))).willReturn(true);
+        CompletableFuture<Boolean> first = service.sendMoneyAsync(command(600L));
+
+        // when
+        CompletableFuture<Boolean> second = service.sendMoneyAsync(command(500L));
+
+        // then
+        assertThat(first).isNotDone();
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(settlementThread.get()).isNotSameAs(Thread.currentThread());
+    }
+
+    private void givenBalance(Money balance) {
+        given(loadAccountBalancesPort.loadBalances(List.of(SOURCE))).willReturn(Map.of(SOURCE, balance));
+    }
+
+    private static SendMoneyCommand command(long amount) {
+        return new SendMoneyCommand(SOURCE, TARGET, Money.of(amount));
+    }
+}
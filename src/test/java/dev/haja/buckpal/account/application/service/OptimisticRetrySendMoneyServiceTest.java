@@ -0,0 +1,116 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.account.application.port.in.FanOutTransferCommand;
+import dev.haja.buckpal.account.application.port.in.FanOutTransferCommand.Leg;
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+class OptimisticRetrySendMoneyServiceTest {
+
+    private final SendMoneyUseCase delegate = Mockito.mock(SendMoneyUseCase.class);
+    private final OptimisticRetrySendMoneyService service = new OptimisticRetrySendMoneyService(
+            delegate, 3, Duration.ofMillis(1), Duration.ofMillis(2));
+
+    @Test
+    @DisplayName("버전 충돌이 나면 다시 실행해 성공한 결과를 돌려준다")
+    void givenConflictThenSuccess_whenSendMoney_thenRetriesAndSucceeds() {
+        // given
+        SendMoneyCommand command = command();
+        given(delegate.sendMoney(command))
+                .willThrow(conflict())
+                .willReturn(true);
+
+        // when
+        boolean success = service.sendMoney(command);
+
+        // then
+        assertThat(success).isTrue();
+        then(delegate).should(times(2)).sendMoney(command);
+    }
+
+    @Test
+    @DisplayName("계좌 행 잠금을 얻지 못해 실패해도 다시 실행한다")
+    void givenLockFailureThenSuccess_whenSendMoney_thenRetriesAndSucceeds() {
+        // given
+        SendMoneyCommand command = command();
+        given(delegate.sendMoney(command))
+                .willThrow(new CannotAcquireLockException("deadlock"))
+                .willReturn(true);
+
+        // when
+        boolean success = service.sendMoney(command);
+
+        // then
+        assertThat(success).isTrue();
+        then(delegate).should(times(2)).sendMoney(command);
+    }
+
+    @Test
+    @DisplayName("여러 계좌로 보내는 송금도 버전 충돌이 나면 다시 실행한다")
+    void givenConflictThenSuccess_whenSendMoneyToMany_thenRetriesAndSucceeds() {
+        // given
+        FanOutTransferCommand command = new FanOutTransferCommand(new AccountId(1L), List.of(
+                new Leg(new AccountId(2L), Money.of(100L)),
+                new Leg(new AccountId(3L), Money.of(100L))));
+        given(delegate.sendMoneyToMany(command))
+                .willThrow(conflict())
+                .willReturn(true);
+
+        // when
+        boolean success = service.sendMoneyToMany(command);
+
+        // then
+        assertThat(success).isTrue();
+        then(delegate).should(times(2)).sendMoneyToMany(command);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수까지 충돌하면 마지막 충돌 예외를 던진다")
+    void givenConflictOnEveryAttempt_whenSendMoney_thenThrowsAfterMaxAttempts() {
+        // given
+        SendMoneyCommand command = command();
+        given(delegate.sendMoney(command)).willThrow(conflict());
+
+        // when & then
+        assertThatThrownBy(() -> service.sendMoney(command))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        then(delegate).should(times(3)).sendMoney(command);
+    }
+
+    @Test
+    @DisplayName("충돌이 아닌 예외는 재시도하지 않는다")
+    void givenOtherFailure_whenSendMoney_thenDoesNotRetry() {
+        // given
+        SendMoneyCommand command = command();
+        given(delegate.sendMoney(command)).willThrow(new IllegalStateException("boom"));
+
+        // when & then
+        assertThatThrownBy(() -> service.sendMoney(command))
+                .isInstanceOf(IllegalStateException.class);
+        then(delegate).should(times(1)).sendMoney(command);
+    }
+
+    private SendMoneyCommand command() {
+        return new SendMoneyCommand(new AccountId(1L), new AccountId(2L), Money.of(100L));
+    }
+
+    private ObjectOptimisticLockingFailureException conflict() {
+        return new ObjectOptimisticLockingFailureException("AccountJpaEntity", 1L);
+    }
+}
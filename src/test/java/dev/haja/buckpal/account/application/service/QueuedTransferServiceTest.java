@@ -0,0 +1,179 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SubmittedTransfer;
+import dev.haja.buckpal.account.application.port.in.TransferStatus;
+import dev.haja.buckpal.account.application.port.in.TransferStatus.State;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static dev.haja.buckpal.account.application.service.SendMoneyUseCases.transferring;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueuedTransferServiceTest {
+
+    @Test
+    @DisplayName("접수한 송금은 작업 스레드에서 실행되고 끝난 상태를 조회할 수 있다")
+    void givenSubmittedTransfer_whenFinished_thenStatusIsCompleted() throws Exception {
+        // given
+        try (QueuedTransferService service = new QueuedTransferService(
+                transferring(command -> true), 1, 10, Duration.ofMinutes(1), 100, Thread.ofVirtual().factory())) {
+
+            // when
+            SubmittedTransfer submitted = service.submit(command());
+            TransferStatus finished = submitted.completion().get(5, TimeUnit.SECONDS);
+
+            // then
+            assertThat(finished.state()).isEqualTo(State.COMPLETED);
+            assertThat(service.findStatus(submitted.transferId())).contains(finished);
+        }
+    }
+
+    @Test
+    @DisplayName("실행하는 송금에는 호출자에게 돌려준 송금 ID가 실린다")
+    void givenSubmittedTransfer_whenRun_thenCommandCarriesTransferId() throws Exception {
+        // given
+        AtomicReference<UUID> executedTransferId = new AtomicReference<>();
+        try (QueuedTransferService service = new QueuedTransferService(
+                transferring(command -> {
+                    executedTransferId.set(command.getTransferId());
+                    return true;
+                }), 1, 10, Duration.ofMinutes(1), 100, Thread.ofVirtual().factory())) {
+
+            // when
+            SubmittedTransfer submitted = service.submit(command());
+            submitted.completion().get(5, TimeUnit.SECONDS);
+
+            // then
+            assertThat(executedTransferId.get()).isEqualTo(submitted.transferId());
+        }
+    }
+
+    @Test
+    @DisplayName("송금이 예외로 끝나면 예외 메시지 대신 오류 코드와 함께 실패 상태가 된다")
+    void givenDelegateFails_whenFinished_thenStatusIsFailed() throws Exception {
+        // given
+        try (QueuedTransferService service = new QueuedTransferService(
+                transferring(command -> {
+                    throw new IllegalStateException("boom");
+                }), 1, 10, Duration.ofMinutes(1), 100, Thread.ofVirtual().factory())) {
+
+            // when
+            TransferStatus finished = service.submit(command()).completion().get(5, TimeUnit.SECONDS);
+
+            // then
+            assertThat(finished.state()).isEqualTo(State.FAILED);
+            assertThat(finished.message()).isEqualTo(TransferStatus.TRANSFER_FAILED);
+        }
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 접수를 거절한다")
+    void givenFullQueue_whenSubmit_thenRejects() throws Exception {
+        // given
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (QueuedTransferService service = new QueuedTransferService(transferring(command -> {
+            entered.countDown();
+            await(release);
+            return true;
+        }), 1, 1, Duration.ofMinutes(1), 100, Thread.ofVirtual().factory())) {
+            SubmittedTransfer running = service.submit(command());
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+            SubmittedTransfer queued = service.submit(command());
+            assertThat(service.queueDepth()).isEqualTo(1);
+            assertThat(service.findStatus(queued.transferId()))
+                    .hasValueSatisfying(status -> assertThat(status.state()).isEqualTo(State.QUEUED));
+
+            // when & then
+            assertThatThrownBy(() -> service.submit(command()))
+                    .isInstanceOf(TransferRejectedException.class);
+
+            release.countDown();
+            assertThat(running.completion().get(5, TimeUnit.SECONDS).state()).isEqualTo(State.COMPLETED);
+            assertThat(queued.completion().get(5, TimeUnit.SECONDS).state()).isEqualTo(State.COMPLETED);
+        }
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 상태는 다음 접수 때 지운다")
+    void givenExpiredStatus_whenSubmit_thenStatusIsEvicted() throws Exception {
+        // given
+        try (QueuedTransferService service = new QueuedTransferService(
+                transferring(command -> false), 1, 10, Duration.ZERO, 100, Thread.ofVirtual().factory())) {
+            SubmittedTransfer first = service.submit(command());
+            assertThat(first.completion().get(5, TimeUnit.SECONDS).state()).isEqualTo(State.INSUFFICIENT_BALANCE);
+            Thread.sleep(1);
+
+            // when
+            service.submit(command());
+
+            // then
+            assertThat(service.findStatus(first.transferId())).isEmpty();
+            assertThat(service.findStatus(UUID.randomUUID())).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("끝난 상태가 최대 수를 넘으면 보관 기간 안이라도 오래된 것부터 지운다")
+    void givenMoreFinishedStatusesThanMax_whenFinished_thenOldestIsEvicted() throws Exception {
+        // given
+        try (QueuedTransferService service = new QueuedTransferService(
+                transferring(command -> true), 1, 10, Duration.ofMinutes(1), 2, Thread.ofVirtual().factory())) {
+            SubmittedTransfer first = service.submit(command());
+            first.completion().get(5, TimeUnit.SECONDS);
+            SubmittedTransfer second = service.submit(command());
+            second.completion().get(5, TimeUnit.SECONDS);
+
+            // when
+            SubmittedTransfer third = service.submit(command());
+            third.completion().get(5, TimeUnit.SECONDS);
+
+            // then
+            assertThat(service.findStatus(first.transferId())).isEmpty();
+            assertThat(service.findStatus(second.transferId())).isPresent();
+            assertThat(service.findStatus(third.transferId())).isPresent();
+        }
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 상태는 접수가 없어도 조회 때 지운다")
+    void givenExpiredStatus_whenFindStatus_thenStatusIsEvicted() throws Exception {
+        // given
+        try (QueuedTransferService service = new QueuedTransferService(
+                transferring(command -> true), 1, 10, Duration.ofMillis(50), 100, Thread.ofVirtual().factory())) {
+            SubmittedTransfer first = service.submit(command());
+            first.completion().get(5, TimeUnit.SECONDS);
+            Thread.sleep(100);
+
+            // when
+            Optional<TransferStatus> status = service.findStatus(first.transferId());
+
+            // then
+            assertThat(status).isEmpty();
+        }
+    }
+
+    private SendMoneyCommand command() {
+        return new SendMoneyCommand(new AccountId(1L), new AccountId(2L), Money.of(10L));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.account.application.port.in.FanOutTransferCommand;
+import dev.haja.buckpal.account.application.port.in.FanOutTransferCommand.Leg;
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyResult;
+import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import dev.haja.buckpal.common.RateLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+class RateLimitedSendMoneyServiceTest {
+
+    private final SendMoneyUseCase delegate = Mockito.mock(SendMoneyUseCase.class);
+    private final RateLimitedSendMoneyService service = new RateLimitedSendMoneyService(
+            delegate, new RateLimiter<>(1, 1, 100));
+
+    @Test
+    @DisplayName("한도를 넘은 출금 계좌의 송금은 실행하지 않고 거절한다")
+    void givenSourceAccountOverLimit_whenSendMoney_thenRejectsWithoutCallingDelegate() {
+        // given
+        given(delegate.sendMoney(any())).willReturn(true);
+        assertThat(service.sendMoney(command(1L, 2L))).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> service.sendMoney(command(1L, 3L)))
+                .isInstanceOf(RateLimitExceededException.class)
+                .satisfies(e -> assertThat(((RateLimitExceededException) e).getRetryAfter()).isPositive());
+        then(delegate).should(times(1)).sendMoney(any());
+    }
+
+    @Test
+    @DisplayName("다른 출금 계좌의 송금은 그대로 실행한다")
+    void givenOtherSourceAccountOverLimit_whenSendMoney_thenExecutes() {
+        // given
+        given(delegate.sendMoney(any())).willReturn(true);
+        service.sendMoney(command(1L, 2L));
+
+        // when
+        boolean success = service.sendMoney(command(2L, 1L));
+
+        // then
+        assertThat(success).isTrue();
+    }
+
+    @Test
+    @DisplayName("비동기 송금의 거절은 실패한 결과로 돌려준다")
+    void givenSourceAccountOverLimit_whenSendMoneyAsync_thenFailedFuture() {
+        // given
+        given(delegate.sendMoney(any())).willReturn(true);
+        service.sendMoney(command(1L, 2L));
+
+        // when & then
+        assertThatThrownBy(() -> service.sendMoneyAsync(command(1L, 2L)).get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RateLimitExceededException.class);
+        then(delegate).should(times(0)).sendMoneyAsync(any());
+    }
+
+    @Test
+    @DisplayName("여러 계좌로 보내는 송금도 출금 계좌의 한도에서 센다")
+    void givenSourceAccountOverLimit_whenSendMoneyToMany_thenRejectsWithoutCallingDelegate() {
+        // given
+        given(delegate.sendMoney(any())).willReturn(true);
+        service.sendMoney(command(1L, 2L));
+        FanOutTransferCommand fanOut = new FanOutTransferCommand(new AccountId(1L), List.of(
+                new Leg(new AccountId(2L), Money.of(10L)),
+                new Leg(new AccountId(3L), Money.of(10L))));
+
+        // when & then
+        assertThatThrownBy(() -> service.sendMoneyToMany(fanOut))
+                .isInstanceOf(RateLimitExceededException.class);
+        then(delegate).should(times(0)).sendMoneyToMany(any());
+    }
+
+    @Test
+    @DisplayName("일괄 송금은 출금 계좌마다 한 번씩만 센다")
+    void givenBatchWithRepeatedSourceAccount_whenSendMoneyBatch_thenCountsOncePerAccount() {
+        // given
+        List<SendMoneyCommand> commands = List.of(command(1L, 2L), command(1L, 3L), command(2L, 3L));
+        given(delegate.sendMoneyBatch(commands))
+                .willReturn(List.of(SendMoneyResult.COMPLETED, SendMoneyResult.COMPLETED, SendMoneyResult.COMPLETED));
+
+        // when
+        List<SendMoneyResult> results = service.sendMoneyBatch(commands);
+
+        // then
+        assertThat(results).containsOnly(SendMoneyResult.COMPLETED);
+        assertThatThrownBy(() -> service.sendMoney(command(1L, 2L)))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    private SendMoneyCommand command(long sourceAccountId, long targetAccountId) {
+        return new SendMoneyCommand(new AccountId(sourceAccountId), new AccountId(targetAccountId), Money.of(10L));
+    }
+}
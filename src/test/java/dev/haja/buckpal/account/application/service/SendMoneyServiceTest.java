@@ -1,25 +1,33 @@
 package dev.haja.buckpal.account.application.service;
 
 
+import dev.haja.buckpal.account.application.port.in.FanOutTransferCommand;
 import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyResult;
 import dev.haja.buckpal.account.application.port.out.AccountLock;
 import dev.haja.buckpal.account.application.port.out.LoadAccountPort;
 import dev.haja.buckpal.account.application.port.out.UpdateAccountStatePort;
 import dev.haja.buckpal.account.domain.Account;
 import dev.haja.buckpal.BuckPalConfigurationProperties;
 import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.ActivityWindow;
 import dev.haja.buckpal.account.domain.Money;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import static dev.haja.buckpal.common.AccountTestData.defaultAccount;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -34,12 +42,15 @@ class SendMoneyServiceTest {
     private final AccountLock accountLock = Mockito.mock(AccountLock.class);
     private final UpdateAccountStatePort updateAccountStatePort = Mockito.mock(
         UpdateAccountStatePort.class);
+    private final FanOutTransferService fanOutTransferService = Mockito.mock(
+        FanOutTransferService.class);
     private final SendMoneyService sendMoneyService = new SendMoneyService(
         loadAccountPort,
         accountLock,
         updateAccountStatePort,
         moneyTransferProperties(),
-        buckPalConfigurationProperties());
+        buckPalConfigurationProperties(),
+        fanOutTransferService);
 
     @Test
     @DisplayName("샘플 테스트")
@@ -48,8 +59,25 @@ class SendMoneyServiceTest {
     }
 
     @Test
-    @DisplayName("주어진 출금 실패 후 소스 계정만 잠기고 해제됨")
-    void givenWithdrawalFails_thenOnlySourceAccountIsLockedAndReleased() {
+    @DisplayName("여러 계좌로 보내는 송금은 FanOutTransferService에 넘긴다")
+    void givenFanOutCommand_whenSendMoneyToMany_thenDelegatesToFanOutTransferService() {
+        // given
+        FanOutTransferCommand command = new FanOutTransferCommand(
+            new AccountId(41L),
+            List.of(new FanOutTransferCommand.Leg(new AccountId(42L), Money.of(100L))));
+        given(fanOutTransferService.sendMoneyToMany(command)).willReturn(true);
+
+        // when
+        boolean success = sendMoneyService.sendMoneyToMany(command);
+
+        // then
+        assertThat(success).isTrue();
+        then(fanOutTransferService).should().sendMoneyToMany(command);
+    }
+
+    @Test
+    @DisplayName("출금 실패 시 두 계좌의 잠금이 모두 해제되고 상태는 갱신되지 않음")
+    void givenWithdrawalFails_thenBothAccountsAreReleasedWithoutUpdate() {
         // set accounts
         AccountId sourceAccountId = new AccountId(41L);
         Account sourceAccount = givenAnAccountWithId(sourceAccountId);
@@ -67,9 +95,139 @@ class SendMoneyServiceTest {
         boolean success = sendMoneyService.sendMoney(sendMoneyCommand);
         assertThat(success).isFalse();
 
-        then(accountLock).should().lockAccount(eq(sourceAccountId));
-        then(accountLock).should().releaseAccount(eq(sourceAccountId));
-        then(accountLock).should(times(0)).lockAccount(eq(targetAccountId));
+        then(accountLock).should().lockAccounts(eq(sourceAccountId), eq(targetAccountId));
+        then(accountLock).should().releaseAccounts(eq(sourceAccountId), eq(targetAccountId));
+        then(targetAccount).should(times(0)).deposit(any(Money.class), any(AccountId.class));
+        then(updateAccountStatePort).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("계좌를 읽기 전에 두 계좌를 잠근다")
+    void givenTransfer_thenAccountsAreLockedBeforeLoading() {
+        AccountId sourceAccountId = new AccountId(41L);
+        Account sourceAccount = givenAnAccountWithId(sourceAccountId);
+
+        AccountId targetAccountId = new AccountId(42L);
+        Account targetAccount = givenAnAccountWithId(targetAccountId);
+
+        givenWithdrawalWillSucceed(sourceAccount);
+        givenDepositWillSucceed(targetAccount);
+
+        sendMoneyService.sendMoney(new SendMoneyCommand(sourceAccountId, targetAccountId, Money.of(500L)));
+
+        InOrder inOrder = Mockito.inOrder(accountLock, loadAccountPort);
+        inOrder.verify(accountLock).lockAccounts(eq(sourceAccountId), eq(targetAccountId));
+        inOrder.verify(loadAccountPort, times(2)).loadAccount(any(AccountId.class), any(LocalDateTime.class));
+        inOrder.verify(accountLock).releaseAccounts(eq(sourceAccountId), eq(targetAccountId));
+    }
+
+    @Test
+    @DisplayName("동시 읽기가 켜져 있으면 두 계좌를 한 번에 읽는다")
+    void givenConcurrentLoading_thenBothAccountsAreLoadedTogether() {
+        AccountId sourceAccountId = new AccountId(41L);
+        Account sourceAccount = givenAnAccountWithId(sourceAccountId);
+
+        AccountId targetAccountId = new AccountId(42L);
+        Account targetAccount = givenAnAccountWithId(targetAccountId);
+
+        givenWithdrawalWillSucceed(sourceAccount);
+        givenDepositWillSucceed(targetAccount);
+        given(loadAccountPort.loadAccounts(eq(List.of(sourceAccountId, targetAccountId)), any(LocalDateTime.class)))
+            .willReturn(Map.of(sourceAccountId, sourceAccount, targetAccountId, targetAccount));
+
+        SendMoneyService concurrentLoadingService = new SendMoneyService(
+            loadAccountPort,
+            accountLock,
+            updateAccountStatePort,
+            moneyTransferProperties(),
+            new BuckPalConfigurationProperties(
+                Long.MAX_VALUE,
+                new BuckPalConfigurationProperties.Account(10, true)),
+            fanOutTransferService);
+
+        boolean success = concurrentLoadingService.sendMoney(
+            new SendMoneyCommand(sourceAccountId, targetAccountId, Money.of(500L)));
+
+        assertThat(success).isTrue();
+        then(loadAccountPort).should(times(0)).loadAccount(any(AccountId.class), any(LocalDateTime.class));
+        thenAccountsHaveBeenUpdated(sourceAccountId, targetAccountId);
+    }
+
+    @Test
+    @DisplayName("일괄 송금은 계좌를 한 번에 잠그고 읽은 뒤 순서대로 적용하고, 새 활동을 한 번에 저장한다")
+    @SuppressWarnings("unchecked")
+    void givenBatch_thenTransfersAreAppliedInOrderAndPersistedTogether() {
+        // given
+        AccountId firstAccountId = new AccountId(41L);
+        AccountId secondAccountId = new AccountId(42L);
+        AccountId thirdAccountId = new AccountId(43L);
+        Map<AccountId, Account> accounts = Map.of(
+            firstAccountId, accountWithBalance(firstAccountId, 500L),
+            secondAccountId, accountWithBalance(secondAccountId, 0L),
+            thirdAccountId, accountWithBalance(thirdAccountId, 0L));
+        given(loadAccountPort.loadAccounts(any(Collection.class), any(LocalDateTime.class)))
+            .willReturn(accounts);
+        SendMoneyService thresholdService = new SendMoneyService(
+            loadAccountPort,
+            accountLock,
+            updateAccountStatePort,
+            new MoneyTransferProperties(Money.of(1_000L)),
+            buckPalConfigurationProperties(),
+            fanOutTransferService);
+
+        // when
+        List<SendMoneyResult> results = thresholdService.sendMoneyBatch(List.of(
+            new SendMoneyCommand(firstAccountId, secondAccountId, Money.of(500L)),
+            // 앞선 송금의 입금으로 잔액이 생긴다.
+            new SendMoneyCommand(secondAccountId, thirdAccountId, Money.of(500L)),
+            new SendMoneyCommand(firstAccountId, thirdAccountId, Money.of(100L)),
+            new SendMoneyCommand(thirdAccountId, firstAccountId, Money.of(2_000L))));
+
+        // then
+        assertThat(results).containsExactly(
+            SendMoneyResult.COMPLETED,
+            SendMoneyResult.COMPLETED,
+            SendMoneyResult.INSUFFICIENT_BALANCE,
+            SendMoneyResult.THRESHOLD_EXCEEDED);
+        Set<AccountId> accountIds = Set.of(firstAccountId, secondAccountId, thirdAccountId);
+        then(accountLock).should().lockAccounts(eq(accountIds));
+        then(loadAccountPort).should().loadAccounts(eq(accountIds), any(LocalDateTime.class));
+        then(loadAccountPort).should(times(0)).loadAccount(any(AccountId.class), any(LocalDateTime.class));
+        then(updateAccountStatePort).should().updateActivities(any(Collection.class));
+        then(accountLock).should().releaseAccounts(eq(accountIds));
+        assertThat(accounts.get(firstAccountId).calculateBalance()).isEqualTo(Money.ZERO);
+        assertThat(accounts.get(secondAccountId).calculateBalance()).isEqualTo(Money.ZERO);
+        assertThat(accounts.get(thirdAccountId).calculateBalance()).isEqualTo(Money.of(500L));
+    }
+
+    @Test
+    @DisplayName("일괄 송금이 모두 건너뛰어지면 아무것도 저장하지 않는다")
+    @SuppressWarnings("unchecked")
+    void givenBatchWithoutCompletedTransfer_thenNothingIsPersisted() {
+        // given
+        AccountId sourceAccountId = new AccountId(41L);
+        AccountId targetAccountId = new AccountId(42L);
+        given(loadAccountPort.loadAccounts(any(Collection.class), any(LocalDateTime.class)))
+            .willReturn(Map.of(
+                sourceAccountId, accountWithBalance(sourceAccountId, 0L),
+                targetAccountId, accountWithBalance(targetAccountId, 0L)));
+
+        // when
+        List<SendMoneyResult> results = sendMoneyService.sendMoneyBatch(List.of(
+            new SendMoneyCommand(sourceAccountId, targetAccountId, Money.of(100L))));
+
+        // then
+        assertThat(results).containsExactly(SendMoneyResult.INSUFFICIENT_BALANCE);
+        then(updateAccountStatePort).shouldHaveNoInteractions();
+        then(accountLock).should().releaseAccounts(eq(Set.of(sourceAccountId, targetAccountId)));
+    }
+
+    private Account accountWithBalance(AccountId accountId, long balance) {
+        return defaultAccount()
+            .withAccountId(accountId)
+            .withBaselineBalance(Money.of(balance))
+            .withActivityWindow(new ActivityWindow())
+            .build();
     }
 
     private void givenWithdrawalWillFail(Account account) {
@@ -98,13 +256,10 @@ class SendMoneyServiceTest {
         boolean success = sendMoneyService.sendMoney(sendMoneyCommand);
         assertThat(success).isTrue();
 
-        then(accountLock).should().lockAccount(eq(sourceAccountId));
+        then(accountLock).should().lockAccounts(eq(sourceAccountId), eq(targetAccountId));
         then(sourceAccount).should().withdraw(eq(money), eq(targetAccountId));
-        then(accountLock).should().releaseAccount(eq(sourceAccountId));
-
-        then(accountLock).should().lockAccount(eq(targetAccountId));
         then(targetAccount).should().deposit(eq(money), eq(sourceAccountId));
-        then(accountLock).should().releaseAccount(eq(targetAccountId));
+        then(accountLock).should().releaseAccounts(eq(sourceAccountId), eq(targetAccountId));
 
         thenAccountsHaveBeenUpdated(sourceAccountId, targetAccountId);
     }
@@ -184,7 +339,8 @@ class SendMoneyServiceTest {
             accountLock,
             updateAccountStatePort,
             moneyTransferProperties(),
-            createInvalidBuckPalConfiguration(-1));
+            createInvalidBuckPalConfiguration(-1),
+            fanOutTransferService);
 
         SendMoneyCommand command = new SendMoneyCommand(
             new AccountId(1L),
@@ -207,7 +363,8 @@ class SendMoneyServiceTest {
             accountLock,
             updateAccountStatePort,
             moneyTransferProperties(),
-            createBuckPalConfigurationWithCustomDays(5));
+            createBuckPalConfigurationWithCustomDays(5),
+            fanOutTransferService);
 
         AccountId sourceAccountId = new AccountId(41L);
         Account sourceAccount = givenAnAccountWithId(sourceAccountId);
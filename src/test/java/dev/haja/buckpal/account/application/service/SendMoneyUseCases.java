@@ -0,0 +1,33 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.account.application.port.in.FanOutTransferCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+
+import java.util.function.Predicate;
+
+/**
+ * 데코레이터 테스트에 쓰는 송금 유스케이스.
+ */
+final class SendMoneyUseCases {
+
+    private SendMoneyUseCases() {
+    }
+
+    /**
+     * 단건 송금만 주어진 함수로 처리하는 유스케이스를 만든다.
+     */
+    static SendMoneyUseCase transferring(Predicate<SendMoneyCommand> transfer) {
+        return new SendMoneyUseCase() {
+            @Override
+            public boolean sendMoney(SendMoneyCommand command) {
+                return transfer.test(command);
+            }
+
+            @Override
+            public boolean sendMoneyToMany(FanOutTransferCommand command) {
+                throw new UnsupportedOperationException("fan-out transfers are not used in this test");
+            }
+        };
+    }
+}
@@ -0,0 +1,259 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.account.application.port.in.FanOutTransferCommand;
+import dev.haja.buckpal.account.application.port.in.FanOutTransferCommand.Leg;
+import dev.haja.buckpal.account.application.port.in.SendMoneyCommand;
+import dev.haja.buckpal.account.application.port.in.SendMoneyUseCase;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.haja.buckpal.account.application.service.SendMoneyUseCases.transferring;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardedSendMoneyServiceTest {
+
+    private ShardedSendMoneyService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.close();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 계좌가 포함된 이체는 레인이 달라도 동시에 실행되지 않는다")
+    void givenConcurrentTransfers_whenSendMoneyAsync_thenTransfersOfSameAccountNeverOverlap() throws Exception {
+        // given
+        ConcurrentHashMap<AccountId, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+        AtomicInteger overlaps = new AtomicInteger();
+        SendMoneyUseCase delegate = transferring(command -> {
+            List<AccountId> accounts = List.of(command.getSourceAccountId(), command.getTargetAccountId());
+            for (AccountId accountId : accounts) {
+                if (inFlight.computeIfAbsent(accountId, id -> new AtomicInteger()).incrementAndGet() > 1) {
+                    overlaps.incrementAndGet();
+                }
+            }
+            Thread.onSpinWait();
+            for (AccountId accountId : accounts) {
+                inFlight.get(accountId).decrementAndGet();
+            }
+            return true;
+        });
+        service = new ShardedSendMoneyService(delegate, 4, 10_000, Thread.ofPlatform().daemon().factory());
+
+        // when
+        SplittableRandom random = new SplittableRandom(42);
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            long source = random.nextInt(8);
+            long target = (source + 1 + random.nextInt(7)) % 8;
+            results.add(service.sendMoneyAsync(command(source, target)));
+        }
+
+        // then
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        assertThat(results).allSatisfy(result -> assertThat(result.join()).isTrue());
+        assertThat(overlaps).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("여러 계좌로 보내는 송금은 관련된 계좌의 레인을 모두 넘겨받아, 그 계좌들의 이체와 겹치지 않는다")
+    void givenFanOutsAndTransfers_whenRunConcurrently_thenTransfersOfSameAccountNeverOverlap() throws Exception {
+        // given
+        ConcurrentHashMap<AccountId, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+        AtomicInteger overlaps = new AtomicInteger();
+        SendMoneyUseCase delegate = new SendMoneyUseCase() {
+            @Override
+            public boolean sendMoney(SendMoneyCommand command) {
+                occupy(List.of(command.getSourceAccountId(), command.getTargetAccountId()), inFlight, overlaps);
+                return true;
+            }
+
+            @Override
+            public boolean sendMoneyToMany(FanOutTransferCommand command) {
+                List<AccountId> accounts = new ArrayList<>();
+                accounts.add(command.getSourceAccountId());
+                command.getLegs().forEach(leg -> accounts.add(leg.getTargetAccountId()));
+                occupy(accounts, inFlight, overlaps);
+                return true;
+            }
+        };
+        service = new ShardedSendMoneyService(delegate, 4, 10_000, Thread.ofPlatform().daemon().factory());
+
+        // when
+        SplittableRandom random = new SplittableRandom(7);
+        List<CompletableFuture<Boolean>> transfers = new ArrayList<>();
+        List<Future<Boolean>> fanOuts = new ArrayList<>();
+        try (ExecutorService callers = Executors.newFixedThreadPool(4)) {
+            for (int i = 0; i < 200; i++) {
+                long source = random.nextInt(8);
+                fanOuts.add(callers.submit(() -> service.sendMoneyToMany(new FanOutTransferCommand(
+                        new AccountId(source), List.of(
+                                new Leg(new AccountId((source + 1) % 8), Money.of(10L)),
+                                new Leg(new AccountId((source + 3) % 8), Money.of(10L)))))));
+                for (int j = 0; j < 10; j++) {
+                    long transferSource = random.nextInt(8);
+                    long target = (transferSource + 1 + random.nextInt(7)) % 8;
+                    transfers.add(service.sendMoneyAsync(command(transferSource, target)));
+                }
+            }
+            for (Future<Boolean> fanOut : fanOuts) {
+                assertThat(fanOut.get(30, TimeUnit.SECONDS)).isTrue();
+            }
+        }
+
+        // then
+        CompletableFuture.allOf(transfers.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        assertThat(overlaps).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("같은 레인의 계좌끼리 이체하면 그 레인에서 한 번 실행된다")
+    void givenAccountsOnSameLane_whenSendMoney_thenDelegatesOnce() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        service = new ShardedSendMoneyService(transferring(command -> calls.incrementAndGet() > 0), 1,
+                Thread.ofPlatform().daemon().factory());
+
+        // when
+        boolean success = service.sendMoney(command(1L, 2L));
+
+        // then
+        assertThat(success).isTrue();
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("이체 중 발생한 예외는 호출자에게 그대로 전달된다")
+    void givenDelegateFails_whenSendMoney_thenExceptionIsPropagated() {
+        // given
+        service = new ShardedSendMoneyService(transferring(command -> {
+            throw new ThresholdExceededException(Money.of(1L), command.getMoney());
+        }), 4, Thread.ofPlatform().daemon().factory());
+
+        // when & then
+        for (long target = 1; target <= 8; target++) {
+            long targetAccount = target;
+            assertThatThrownBy(() -> service.sendMoney(command(0L, targetAccount)))
+                    .isInstanceOf(ThresholdExceededException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("레인의 대기열이 가득 차면 이체를 거절하고, 먼저 넘겨받은 레인은 놓아준다")
+    void givenFullLane_whenSendMoneyAsync_thenTransferIsRejected() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        service = new ShardedSendMoneyService(transferring(command -> {
+            started.countDown();
+            await(proceed);
+            return true;
+        }), 2, 1, Thread.ofPlatform().daemon().factory());
+        long lower = accountOnLane(0);
+        long higher = accountOnLane(1);
+        // 높은 레인에서 실행 중인 이체 하나와 그 뒤에 기다리는 이체 하나로 높은 레인의 대기열을 채운다.
+        CompletableFuture<Boolean> running = service.sendMoneyAsync(command(higher, higher));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> waiting = service.sendMoneyAsync(command(higher, higher));
+
+        // when
+        CompletableFuture<Boolean> rejected = service.sendMoneyAsync(command(lower, higher));
+
+        // then
+        assertThatThrownBy(() -> rejected.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(TransferRejectedException.class);
+        proceed.countDown();
+        assertThat(service.sendMoneyAsync(command(lower, lower)).get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("높은 레인에 넘긴 이체가 차례를 기다리는 동안 낮은 레인은 스레드를 붙잡지 않는다")
+    void givenHigherLaneBusy_whenTransfersAreHandedOff_thenLowerLanesDoNotHoldThreads() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        service = new ShardedSendMoneyService(transferring(command -> {
+            if (command.getSourceAccountId().equals(command.getTargetAccountId())) {
+                started.countDown();
+                await(proceed);
+            }
+            return true;
+        }), 3, 10, Thread.ofPlatform().daemon().factory());
+        long highest = accountOnLane(2);
+        CompletableFuture<Boolean> blocking = service.sendMoneyAsync(command(highest, highest));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<Boolean> first = service.sendMoneyAsync(command(accountOnLane(0), highest));
+        CompletableFuture<Boolean> second = service.sendMoneyAsync(command(accountOnLane(1), highest));
+
+        // then
+        // 두 레인이 높은 레인에 이체를 넘기는 차례는 끝나고, 스레드는 막힌 이체 하나만 쓰고 있다.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((service.completedTurns() < 2 || service.activeThreads() != 1) && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(service.completedTurns()).isEqualTo(2L);
+        assertThat(service.activeThreads()).isEqualTo(1);
+        assertThat(first).isNotDone();
+        assertThat(second).isNotDone();
+        proceed.countDown();
+        assertThat(blocking.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static void occupy(
+            List<AccountId> accounts, ConcurrentHashMap<AccountId, AtomicInteger> inFlight, AtomicInteger overlaps) {
+        for (AccountId accountId : accounts) {
+            if (inFlight.computeIfAbsent(accountId, id -> new AtomicInteger()).incrementAndGet() > 1) {
+                overlaps.incrementAndGet();
+            }
+        }
+        Thread.onSpinWait();
+        for (AccountId accountId : accounts) {
+            inFlight.get(accountId).decrementAndGet();
+        }
+    }
+
+    private long accountOnLane(int lane) {
+        long accountId = 1L;
+        while (service.laneOf(new AccountId(accountId)) != lane) {
+            accountId++;
+        }
+        return accountId;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private SendMoneyCommand command(long source, long target) {
+        return new SendMoneyCommand(new AccountId(source), new AccountId(target), Money.of(10L));
+    }
+}
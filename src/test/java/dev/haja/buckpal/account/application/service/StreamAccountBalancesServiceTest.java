@@ -0,0 +1,82 @@
+package dev.haja.buckpal.account.application.service;
+
+import dev.haja.buckpal.BuckPalConfigurationProperties;
+import dev.haja.buckpal.account.application.port.in.AccountBalance;
+import dev.haja.buckpal.account.application.port.out.LoadAccountBalancesPort;
+import dev.haja.buckpal.account.domain.Account.AccountId;
+import dev.haja.buckpal.account.domain.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+class StreamAccountBalancesServiceTest {
+
+    private final LoadAccountBalancesPort loadAccountBalancesPort = Mockito.mock(LoadAccountBalancesPort.class);
+    private final StreamAccountBalancesService service = new StreamAccountBalancesService(
+            loadAccountBalancesPort,
+            new BuckPalConfigurationProperties(
+                    null,
+                    null,
+                    new BuckPalConfigurationProperties.Balance(null, null, null, null, null, 2),
+                    null,
+                    null));
+
+    @Test
+    @DisplayName("ID 목록은 묶음 크기로 나눠 읽고, 요청 순서대로 넘기며 없는 계좌는 건너뛴다")
+    void givenAccountIds_whenStreamBalances_thenChunkedInRequestOrder() {
+        // given
+        AccountId first = new AccountId(3L);
+        AccountId second = new AccountId(1L);
+        AccountId missing = new AccountId(9L);
+        given(loadAccountBalancesPort.loadBalances(List.of(first, second)))
+                .willReturn(Map.of(second, Money.of(20L), first, Money.of(10L)));
+        given(loadAccountBalancesPort.loadBalances(List.of(missing))).willReturn(Map.of());
+        List<AccountBalance> received = new ArrayList<>();
+
+        // when
+        service.streamBalances(List.of(first, second, first, missing), received::add);
+
+        // then
+        assertThat(received).containsExactly(
+                new AccountBalance(first, Money.of(10L)),
+                new AccountBalance(second, Money.of(20L)));
+    }
+
+    @Test
+    @DisplayName("ID 범위는 마지막으로 읽은 ID 다음부터 이어 읽고, 묶음이 덜 차면 멈춘다")
+    void givenRange_whenStreamBalances_thenKeysetPaged() {
+        // given
+        AccountId last = new AccountId(100L);
+        given(loadAccountBalancesPort.loadBalancesInRange(new AccountId(0L), last, 2))
+                .willReturn(balances(1L, 4L));
+        given(loadAccountBalancesPort.loadBalancesInRange(new AccountId(4L), last, 2))
+                .willReturn(balances(7L));
+        List<AccountBalance> received = new ArrayList<>();
+
+        // when
+        service.streamBalances(new AccountId(1L), last, received::add);
+
+        // then
+        assertThat(received).extracting(AccountBalance::accountId)
+                .containsExactly(new AccountId(1L), new AccountId(4L), new AccountId(7L));
+        then(loadAccountBalancesPort).should(Mockito.times(2))
+                .loadBalancesInRange(Mockito.any(), Mockito.eq(last), Mockito.eq(2));
+    }
+
+    private static Map<AccountId, Money> balances(long... ids) {
+        Map<AccountId, Money> balances = new LinkedHashMap<>();
+        for (long id : ids) {
+            balances.put(new AccountId(id), Money.of(id));
+        }
+        return balances;
+    }
+}
@@ -4,6 +4,9 @@ import dev.haja.buckpal.account.domain.Account.AccountId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import static dev.haja.buckpal.common.AccountTestData.defaultAccount;
 import static dev.haja.buckpal.common.ActivityTestData.defaultActivity;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -57,4 +60,28 @@ class AccountTest {
         assertThat(testAccount.getActivityWindow().getActivities()).hasSize(3);
         assertThat(testAccount.calculateBalance()).isEqualTo(Money.of(2000L));
     }
-}
\ No newline at end of file
+
+    @Test
+    void withdrawAllSucceedsTest() {
+        Map<AccountId, Money> amountsByTarget = new LinkedHashMap<>();
+        amountsByTarget.put(new AccountId(98L), Money.of(555L));
+        amountsByTarget.put(new AccountId(99L), Money.of(1000L));
+
+        boolean withdrawSuccess = testAccount.withdrawAll(amountsByTarget);
+
+        assertThat(withdrawSuccess).isTrue();
+        assertThat(testAccount.getActivityWindow().getActivities()).hasSize(4);
+        assertThat(testAccount.calculateBalance()).isEqualTo(Money.ZERO);
+    }
+
+    @Test
+    void withdrawAllFailureTest() {
+        boolean withdrawSuccess = testAccount.withdrawAll(Map.of(
+                new AccountId(98L), Money.of(555L),
+                new AccountId(99L), Money.of(1001L)));
+
+        assertThat(withdrawSuccess).isFalse();
+        assertThat(testAccount.getActivityWindow().getActivities()).hasSize(2);
+        assertThat(testAccount.calculateBalance()).isEqualTo(Money.of(1555L));
+    }
+}
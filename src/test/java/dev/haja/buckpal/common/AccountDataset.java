@@ -0,0 +1,349 @@
+package dev.haja.buckpal.common;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 운영과 비슷한 모양의 대량 계좌·활동 데이터.
+ * 같은 설정과 시드면 언제나 같은 행을 같은 순서로 만든다.
+ * <ul>
+ *     <li>계좌마다 기간 시작 시각에 {@code initialBalance}를 입금하는 활동 하나로 시작한다.</li>
+ *     <li>송금의 출금·입금 계좌는 지프(Zipf) 분포로 골라, 일부 계좌에 활동이 몰린다.
+ *     순위와 계좌 ID는 시드로 섞어, 활동이 많은 계좌가 작은 ID에 모이지 않게 한다.</li>
+ *     <li>송금은 기간 안의 날짜에 주말은 평일의 절반만큼 나누고, 하루 안에서는 낮에 몰리게 시각을 고른다.
+ *     활동 ID는 시각 순서대로 늘어난다.</li>
+ *     <li>금액은 중앙값이 {@value #MEDIAN_AMOUNT}인 로그 정규 분포를 따른다.</li>
+ * </ul>
+ * 송금은 출금 계좌와 입금 계좌의 활동 두 행으로 기록되므로 전체 잔액은 계좌 수 × {@code initialBalance}로 보존된다.
+ * 행은 하루치씩 만들어 넘기므로 수백만 행이어도 메모리에 한꺼번에 올리지 않는다.
+ */
+public class AccountDataset {
+
+    public static final long SEED_ACTIVITY_ID = 1_000_000_000L;
+    private static final long MEDIAN_AMOUNT = 50L;
+    private static final double AMOUNT_SIGMA = 1.2;
+    private static final long MAX_AMOUNT = 100_000L;
+    private static final int BATCH_SIZE = 10_000;
+    private static final double WEEKEND_WEIGHT = 0.5;
+    /**
+     * 시간대별 송금 비중. 점심과 퇴근 시간에 가장 많고 새벽에 가장 적다.
+     */
+    private static final int[] HOURLY_WEIGHTS = {
+            2, 1, 1, 1, 1, 2, 4, 7, 9, 10, 10, 11, 13, 11, 10, 10, 10, 11, 13, 12, 10, 7, 5, 3};
+    private static final int[] CUMULATIVE_HOURLY_WEIGHTS = cumulative(HOURLY_WEIGHTS);
+
+    private final int accounts;
+    private final long transfers;
+    private final long seed;
+    private final LocalDate until;
+    private final int days;
+    private final long initialBalance;
+    private final double[] rankCumulativeProbabilities;
+    private final long[] accountIdsByRank;
+
+    private AccountDataset(
+            int accounts,
+            long transfers,
+            double zipfExponent,
+            long seed,
+            LocalDate until,
+            int days,
+            long initialBalance) {
+        if (accounts < 2) {
+            throw new IllegalArgumentException("accounts must be at least 2, but was: " + accounts);
+        }
+        if (transfers < 0) {
+            throw new IllegalArgumentException("transfers must not be negative, but was: " + transfers);
+        }
+        if (days <= 0) {
+            throw new IllegalArgumentException("days must be positive, but was: " + days);
+        }
+        if (zipfExponent < 0) {
+            throw new IllegalArgumentException("zipfExponent must not be negative, but was: " + zipfExponent);
+        }
+        if (initialBalance <= 0) {
+            throw new IllegalArgumentException("initialBalance must be positive, but was: " + initialBalance);
+        }
+        this.accounts = accounts;
+        this.transfers = transfers;
+        this.seed = seed;
+        this.until = until;
+        this.days = days;
+        this.initialBalance = initialBalance;
+        this.rankCumulativeProbabilities = zipfCumulativeProbabilities(accounts, zipfExponent);
+        this.accountIdsByRank = shuffledAccountIds(accounts, new SplittableRandom(seed));
+    }
+
+    public static DatasetBuilder defaultDataset() {
+        return new DatasetBuilder()
+                .withAccounts(10_000)
+                .withTransfers(100_000)
+                .withZipfExponent(1.0)
+                .withSeed(42L)
+                .withPeriod(LocalDate.of(2025, 1, 1), 90)
+                .withInitialBalance(1_000_000_000L);
+    }
+
+    public int accounts() {
+        return accounts;
+    }
+
+    public long transfers() {
+        return transfers;
+    }
+
+    /**
+     * 초기 입금과 송금 활동을 합친 활동 행 수.
+     */
+    public long activityRows() {
+        return accounts + 2 * transfers;
+    }
+
+    public long totalBalance() {
+        return accounts * initialBalance;
+    }
+
+    public LocalDateTime startsAt() {
+        return until.minusDays(days).atStartOfDay();
+    }
+
+    /**
+     * 데이터와 같은 지프 분포로 계좌 ID 하나를 고른다. 부하 테스트가 같은 계좌에 요청을 몰 때 쓴다.
+     */
+    public long nextAccountId(SplittableRandom random) {
+        int rank = Arrays.binarySearch(rankCumulativeProbabilities, random.nextDouble());
+        // 누적 확률이 뽑은 값보다 큰 첫 순위
+        rank = rank >= 0 ? rank + 1 : -rank - 1;
+        return accountIdsByRank[Math.min(accounts - 1, rank)];
+    }
+
+    /**
+     * 계좌 ID를 1부터 차례로 넘긴다.
+     */
+    public void forEachAccount(AccountConsumer consumer) {
+        for (long id = 1; id <= accounts; id++) {
+            consumer.accept(id);
+        }
+    }
+
+    /**
+     * 활동 행을 ID 순서대로 넘긴다. 초기 입금이 먼저 오고, 송금은 시각 순서로 출금, 입금 행이 이어진다.
+     */
+    public void forEachActivity(ActivityConsumer consumer) {
+        SplittableRandom random = new SplittableRandom(seed).split();
+        long activityId = SEED_ACTIVITY_ID;
+        LocalDateTime openedAt = startsAt();
+        for (long id = 1; id <= accounts; id++) {
+            consumer.accept(activityId++, openedAt, id, 0L, id, initialBalance);
+        }
+        long[] transfersPerDay = transfersPerDay();
+        for (int day = 0; day < days; day++) {
+            LocalDateTime midnight = startsAt().plusDays(day);
+            long[] secondsOfDay = new long[Math.toIntExact(transfersPerDay[day])];
+            for (int i = 0; i < secondsOfDay.length; i++) {
+                secondsOfDay[i] = nextSecondOfDay(random);
+            }
+            Arrays.sort(secondsOfDay);
+            for (long secondOfDay : secondsOfDay) {
+                LocalDateTime timestamp = midnight.plusSeconds(secondOfDay);
+                long source = nextAccountId(random);
+                long target = nextAccountId(random);
+                while (target == source) {
+                    target = nextAccountId(random);
+                }
+                long amount = nextAmount(random);
+                consumer.accept(activityId++, timestamp, source, source, target, amount);
+                consumer.accept(activityId++, timestamp, target, source, target, amount);
+            }
+        }
+    }
+
+    /**
+     * 계좌와 활동을 JDBC 배치로 나눠 넣는다. 테이블은 비어 있어야 한다.
+     */
+    public void load(JdbcTemplate jdbcTemplate) {
+        List<Object[]> accountRows = new ArrayList<>(BATCH_SIZE);
+        forEachAccount(id -> {
+            accountRows.add(new Object[]{id});
+            if (accountRows.size() == BATCH_SIZE) {
+                insertAccounts(jdbcTemplate, accountRows);
+            }
+        });
+        insertAccounts(jdbcTemplate, accountRows);
+        List<Object[]> activityRows = new ArrayList<>(BATCH_SIZE);
+        forEachActivity((id, timestamp, owner, source, target, amount) -> {
+            activityRows.add(new Object[]{id, timestamp, owner, source, target, amount});
+            if (activityRows.size() == BATCH_SIZE) {
+                insertActivities(jdbcTemplate, activityRows);
+            }
+        });
+        insertActivities(jdbcTemplate, activityRows);
+    }
+
+    private static void insertAccounts(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("insert into account (id, version) values (?, 0)", rows);
+            rows.clear();
+        }
+    }
+
+    private static void insertActivities(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "insert into activity (id, timestamp, owner_account_id, source_account_id, target_account_id, amount) "
+                            + "values (?, ?, ?, ?, ?, ?)",
+                    rows);
+            rows.clear();
+        }
+    }
+
+    /**
+     * 송금 수를 날짜별 비중대로 나눈다. 나머지는 소수 부분이 큰 날부터 하나씩 더한다.
+     */
+    private long[] transfersPerDay() {
+        double[] weights = new double[days];
+        double totalWeight = 0;
+        for (int day = 0; day < days; day++) {
+            DayOfWeek dayOfWeek = startsAt().plusDays(day).getDayOfWeek();
+            weights[day] = dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY ? WEEKEND_WEIGHT : 1.0;
+            totalWeight += weights[day];
+        }
+        long[] counts = new long[days];
+        Integer[] byRemainder = new Integer[days];
+        double[] remainders = new double[days];
+        long assigned = 0;
+        for (int day = 0; day < days; day++) {
+            double exact = transfers * weights[day] / totalWeight;
+            counts[day] = (long) exact;
+            remainders[day] = exact - counts[day];
+            assigned += counts[day];
+            byRemainder[day] = day;
+        }
+        Arrays.sort(byRemainder, (a, b) -> Double.compare(remainders[b], remainders[a]));
+        for (int i = 0; assigned < transfers; i++, assigned++) {
+            counts[byRemainder[i]]++;
+        }
+        return counts;
+    }
+
+    private static long nextSecondOfDay(SplittableRandom random) {
+        int point = random.nextInt(CUMULATIVE_HOURLY_WEIGHTS[CUMULATIVE_HOURLY_WEIGHTS.length - 1]);
+        int hour = Arrays.binarySearch(CUMULATIVE_HOURLY_WEIGHTS, point + 1);
+        hour = hour >= 0 ? hour : -hour - 1;
+        return hour * 3_600L + random.nextInt(3_600);
+    }
+
+    private static long nextAmount(SplittableRandom random) {
+        double amount = MEDIAN_AMOUNT * Math.exp(AMOUNT_SIGMA * random.nextGaussian());
+        return Math.clamp(Math.round(amount), 1L, MAX_AMOUNT);
+    }
+
+    /**
+     * 순위 k(1부터)의 확률이 1/k^s에 비례하는 누적 확률.
+     */
+    private static double[] zipfCumulativeProbabilities(int accounts, double exponent) {
+        double[] cumulative = new double[accounts];
+        double sum = 0;
+        for (int rank = 0; rank < accounts; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < accounts; rank++) {
+            cumulative[rank] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static long[] shuffledAccountIds(int accounts, SplittableRandom random) {
+        long[] ids = new long[accounts];
+        for (int i = 0; i < accounts; i++) {
+            ids[i] = i + 1;
+        }
+        for (int i = accounts - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long swapped = ids[i];
+            ids[i] = ids[j];
+            ids[j] = swapped;
+        }
+        return ids;
+    }
+
+    private static int[] cumulative(int[] weights) {
+        int[] cumulative = new int[weights.length];
+        int sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        return cumulative;
+    }
+
+    @FunctionalInterface
+    public interface AccountConsumer {
+        void accept(long accountId);
+    }
+
+    @FunctionalInterface
+    public interface ActivityConsumer {
+        void accept(long id, LocalDateTime timestamp, long ownerAccountId, long sourceAccountId, long targetAccountId,
+                    long amount);
+    }
+
+    public static class DatasetBuilder {
+        private int accounts;
+        private long transfers;
+        private double zipfExponent;
+        private long seed;
+        private LocalDate until;
+        private int days;
+        private long initialBalance;
+
+        public DatasetBuilder withAccounts(int accounts) {
+            this.accounts = accounts;
+            return this;
+        }
+
+        public DatasetBuilder withTransfers(long transfers) {
+            this.transfers = transfers;
+            return this;
+        }
+
+        /**
+         * 0이면 계좌를 고르게 고르고, 클수록 상위 계좌에 더 몰린다.
+         */
+        public DatasetBuilder withZipfExponent(double zipfExponent) {
+            this.zipfExponent = zipfExponent;
+            return this;
+        }
+
+        public DatasetBuilder withSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * {@code until} 전날까지 {@code days}일 동안의 활동을 만든다.
+         */
+        public DatasetBuilder withPeriod(LocalDate until, int days) {
+            this.until = until;
+            this.days = days;
+            return this;
+        }
+
+        public DatasetBuilder withInitialBalance(long initialBalance) {
+            this.initialBalance = initialBalance;
+            return this;
+        }
+
+        public AccountDataset build() {
+            return new AccountDataset(accounts, transfers, zipfExponent, seed, until, days, initialBalance);
+        }
+    }
+}
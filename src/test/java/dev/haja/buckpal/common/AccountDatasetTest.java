@@ -0,0 +1,120 @@
+package dev.haja.buckpal.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccountDatasetTest {
+
+    @Test
+    @DisplayName("같은 설정과 시드면 같은 행을 만들고, 시드가 다르면 다른 행을 만든다")
+    void givenSameSeed_thenSameRowsAreGenerated() {
+        // given
+        AccountDataset first = AccountDataset.defaultDataset().withAccounts(1_000).withTransfers(10_000).build();
+        AccountDataset second = AccountDataset.defaultDataset().withAccounts(1_000).withTransfers(10_000).build();
+        AccountDataset otherSeed = AccountDataset.defaultDataset().withAccounts(1_000).withTransfers(10_000)
+                .withSeed(7L).build();
+
+        // when
+        long firstHash = hashActivities(first);
+        long secondHash = hashActivities(second);
+        long otherSeedHash = hashActivities(otherSeed);
+
+        // then
+        assertThat(secondHash).isEqualTo(firstHash);
+        assertThat(otherSeedHash).isNotEqualTo(firstHash);
+    }
+
+    @Test
+    @DisplayName("활동 ID는 시각 순서대로 이어지고 모든 활동이 기간 안에 있다")
+    void givenDataset_thenActivitiesAreOrderedWithinPeriod() {
+        // given
+        AccountDataset dataset = AccountDataset.defaultDataset().withAccounts(1_000).withTransfers(20_000)
+                .withPeriod(LocalDate.of(2025, 1, 1), 30).build();
+        LocalDateTime until = LocalDate.of(2025, 1, 1).atStartOfDay();
+        long[] expectedId = {AccountDataset.SEED_ACTIVITY_ID};
+        LocalDateTime[] previous = {dataset.startsAt()};
+
+        // when
+        dataset.forEachActivity((id, timestamp, owner, source, target, amount) -> {
+            // then
+            assertThat(id).isEqualTo(expectedId[0]++);
+            assertThat(timestamp).isAfterOrEqualTo(previous[0]).isBefore(until);
+            assertThat(owner).isIn(source, target);
+            assertThat(amount).isPositive();
+            previous[0] = timestamp;
+        });
+        assertThat(expectedId[0] - AccountDataset.SEED_ACTIVITY_ID).isEqualTo(dataset.activityRows());
+    }
+
+    @Test
+    @DisplayName("송금은 상위 계좌에 몰리고 낮과 평일에 많다")
+    void givenDataset_thenTransfersFollowHotAccountsAndDailyPattern() {
+        // given
+        AccountDataset dataset = AccountDataset.defaultDataset().withAccounts(10_000).withTransfers(100_000).build();
+        long[] activitiesPerAccount = new long[dataset.accounts() + 1];
+        long[] transfersByHour = new long[24];
+        long[] weekdayTransfers = {0};
+        long[] weekendTransfers = {0};
+
+        // when
+        dataset.forEachActivity((id, timestamp, owner, source, target, amount) -> {
+            if (source == 0L) {
+                return;
+            }
+            activitiesPerAccount[Math.toIntExact(owner)]++;
+            if (owner == source) {
+                transfersByHour[timestamp.getHour()]++;
+                DayOfWeek dayOfWeek = timestamp.getDayOfWeek();
+                if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+                    weekendTransfers[0]++;
+                } else {
+                    weekdayTransfers[0]++;
+                }
+            }
+        });
+
+        // then
+        // 지수 1에서 상위 1%(100개)의 몫은 H(100)/H(10000), 약 53%다.
+        long[] sorted = Arrays.stream(activitiesPerAccount).sorted().toArray();
+        long top = Arrays.stream(sorted, sorted.length - 100, sorted.length).sum();
+        assertThat((double) top / (2 * dataset.transfers())).isBetween(0.48, 0.58);
+        assertThat(transfersByHour[12]).isGreaterThan(5 * transfersByHour[3]);
+        // 평일과 주말의 하루 송금 비는 2:1이다.
+        long weekendDays = dataset.startsAt().toLocalDate().datesUntil(LocalDate.of(2025, 1, 1))
+                .filter(date -> date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY)
+                .count();
+        long weekdays = 90 - weekendDays;
+        assertThat((double) weekdayTransfers[0] / weekdays / ((double) weekendTransfers[0] / weekendDays))
+                .isBetween(1.9, 2.1);
+    }
+
+    @Test
+    @DisplayName("송금은 전체 잔액을 바꾸지 않는다")
+    void givenDataset_thenTotalBalanceIsPreserved() {
+        // given
+        AccountDataset dataset = AccountDataset.defaultDataset().withAccounts(1_000).withTransfers(10_000).build();
+        long[] total = {0};
+
+        // when
+        dataset.forEachActivity((id, timestamp, owner, source, target, amount) ->
+                total[0] += owner == target ? amount : -amount);
+
+        // then
+        assertThat(total[0]).isEqualTo(dataset.totalBalance());
+    }
+
+    private static long hashActivities(AccountDataset dataset) {
+        long[] hash = {17};
+        dataset.forEachActivity((id, timestamp, owner, source, target, amount) ->
+                hash[0] = 31 * hash[0] + Objects.hash(id, timestamp, owner, source, target, amount));
+        return hash[0];
+    }
+}
@@ -0,0 +1,64 @@
+package dev.haja.buckpal.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    @Test
+    @DisplayName("쉬고 있던 키는 허용 폭만큼 한꺼번에 허용하고, 그 다음은 배출 간격 뒤에 허용한다")
+    void givenIdleKey_whenBurst_thenAllowsBurstAndRejectsUntilNextEmission() {
+        // given
+        RateLimiter<String> rateLimiter = new RateLimiter<>(10, 3, 100, now::get);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire("client")).isZero();
+        }
+        Duration retryAfter = rateLimiter.tryAcquire("client");
+
+        // then
+        assertThat(retryAfter).isEqualTo(Duration.ofMillis(100));
+        now.addAndGet(Duration.ofMillis(100).toNanos());
+        assertThat(rateLimiter.tryAcquire("client")).isZero();
+        assertThat(rateLimiter.tryAcquire("client")).isPositive();
+    }
+
+    @Test
+    @DisplayName("한 키가 한도를 넘어도 다른 키는 허용한다")
+    void givenExhaustedKey_whenOtherKeyAcquires_thenAllowed() {
+        // given
+        RateLimiter<String> rateLimiter = new RateLimiter<>(1, 1, 100, now::get);
+        rateLimiter.tryAcquire("noisy");
+
+        // when & then
+        assertThat(rateLimiter.tryAcquire("noisy")).isPositive();
+        assertThat(rateLimiter.tryAcquire("quiet")).isZero();
+    }
+
+    @Test
+    @DisplayName("기억하는 키 수는 한도를 넘지 않고, 쉬고 있는 키부터 잊는다")
+    void givenManyKeys_whenAcquire_thenTrackedKeysStayBounded() {
+        // given
+        RateLimiter<Integer> rateLimiter = new RateLimiter<>(1, 1, 8, now::get);
+        rateLimiter.tryAcquire(-1);
+
+        // when
+        for (int key = 0; key < 100; key++) {
+            now.addAndGet(Duration.ofSeconds(2).toNanos());
+            rateLimiter.tryAcquire(-1);
+            assertThat(rateLimiter.tryAcquire(key)).isZero();
+        }
+
+        // then
+        assertThat(rateLimiter.trackedKeys()).isLessThanOrEqualTo(8);
+        assertThat(rateLimiter.tryAcquire(-1)).isPositive();
+    }
+}
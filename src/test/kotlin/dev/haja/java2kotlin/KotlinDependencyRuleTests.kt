@@ -33,6 +33,7 @@ class KotlinDependencyRuleTests {
             adapters("adapter") {
                 incoming("in.web")
                 outgoing("out.persistence")
+                outgoing("out.metrics")
             }
 
             application("application") {
@@ -1,5 +1,5 @@
-insert into account (id) values (1);
-insert into account (id) values (2);
+insert into account (id, version) values (1, 0);
+insert into account (id, version) values (2, 0);
 
 insert into activity (id, timestamp, owner_account_id, source_account_id, target_account_id, amount)
 values (1, '2018-08-08 08:00:00.0', 1, 1, 2, 500);